@@ -1,6 +1,7 @@
 package io.quarkus.deployment.pkg;
 
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -211,6 +212,37 @@ interface AppcdsConfig {
             boolean useAot();
         }
 
+        /**
+         * Class loading profile sub-configuration.
+         * This configuration only applies to the {@linkplain JarType#FAST_JAR fast JAR} output type.
+         */
+        ClassLoadingProfileConfig classLoadingProfile();
+
+        /**
+         * Configuration for the class loading profile.
+         */
+        @ConfigGroup
+        interface ClassLoadingProfileConfig {
+            /**
+             * Whether to record the classes and resources loaded while the application starts, by launching the
+             * application once at the end of the build.
+             * The bytes of the recorded classes are copied, in the order in which they were loaded, into a single file
+             * which is memory mapped at runtime: the classes are defined from this file rather than from the jars, and
+             * they are preloaded in parallel while the application starts.
+             * <p>
+             * The application needs to be able to start in the build environment.
+             */
+            @WithDefault("false")
+            boolean enabled();
+
+            /**
+             * The maximum time the training run may take. If the application has not exited by then, it is killed and
+             * no profile is recorded.
+             */
+            @WithDefault("5m")
+            Duration trainingRunTimeout();
+        }
+
         /**
          * This is an advanced option that only takes effect for development mode.
          * <p>
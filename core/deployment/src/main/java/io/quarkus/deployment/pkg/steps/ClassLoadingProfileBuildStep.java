@@ -0,0 +1,120 @@
+package io.quarkus.deployment.pkg.steps;
+
+import static io.quarkus.deployment.pkg.PackageConfig.JarConfig.JarType.FAST_JAR;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.bootstrap.runner.ClassLoadingProfile;
+import io.quarkus.bootstrap.runner.QuarkusEntryPoint;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.pkg.PackageConfig;
+import io.quarkus.deployment.pkg.builditem.ArtifactResultBuildItem;
+import io.quarkus.deployment.pkg.builditem.JarBuildItem;
+import io.quarkus.runtime.LaunchMode;
+import io.quarkus.utilities.JavaBinFinder;
+
+/**
+ * Records the class loading profile of the application in a training run.
+ *
+ * @see ClassLoadingProfile
+ */
+public class ClassLoadingProfileBuildStep {
+
+    private static final Logger log = Logger.getLogger(ClassLoadingProfileBuildStep.class);
+
+    private static final String TRACE_FILE_NAME = "class-loading-profile.trace";
+
+    @BuildStep(onlyIf = ClassLoadingProfileRequired.class, onlyIfNot = NativeOrNativeSourcesBuild.class)
+    public void build(PackageConfig packageConfig, JarBuildItem jarResult,
+            BuildProducer<ArtifactResultBuildItem> artifactResult) throws Exception {
+        String javaBinPath = System.getProperty("java.home") + File.separator + "bin" + File.separator
+                + JavaBinFinder.simpleBinaryName();
+        if (!new File(javaBinPath).canExecute()) {
+            log.warnf(
+                    "In order to record the class loading profile the JDK used to build the Quarkus application must contain an executable named '%s' in its 'bin' directory.",
+                    javaBinPath);
+            return;
+        }
+
+        Path appRoot = jarResult.getLibraryDir().getParent();
+        Path profile = appRoot.resolve(QuarkusEntryPoint.QUARKUS_CLASS_LOADING_PROFILE_DAT);
+        Files.deleteIfExists(profile);
+        Path trace = appRoot.resolve(TRACE_FILE_NAME);
+        Files.deleteIfExists(trace);
+
+        log.info("Launching the training run recording the class loading profile.");
+        List<String> command = List.of(javaBinPath,
+                String.format("-D%s=%s", ClassLoadingProfile.RECORD_PROPERTY, TRACE_FILE_NAME),
+                "-jar", JarResultBuildStep.QUARKUS_RUN_JAR);
+        if (log.isDebugEnabled()) {
+            log.debugf("Launching command: '%s'", String.join(" ", command));
+        }
+        int exitCode;
+        try {
+            ProcessBuilder processBuilder = new ProcessBuilder(command)
+                    .directory(appRoot.toFile());
+            if (log.isDebugEnabled()) {
+                processBuilder.inheritIO();
+            } else {
+                processBuilder.redirectError(ProcessBuilder.Redirect.DISCARD).redirectOutput(ProcessBuilder.Redirect.DISCARD);
+            }
+            Process process = processBuilder.start();
+            long timeout = packageConfig.jar().classLoadingProfile().trainingRunTimeout().toMillis();
+            if (!process.waitFor(timeout, TimeUnit.MILLISECONDS)) {
+                process.destroyForcibly();
+                Files.deleteIfExists(trace);
+                log.warnf("The training run did not exit within %d ms. Unable to record the class loading profile.",
+                        timeout);
+                return;
+            }
+            exitCode = process.exitValue();
+        } catch (Exception e) {
+            log.debug("Failed to launch the training run.", e);
+            log.warn("Unable to record the class loading profile.");
+            return;
+        }
+        if (exitCode != 0 || !Files.exists(trace)) {
+            log.debugf("The training run exited with error code: %d.", exitCode);
+            log.warn("Unable to record the class loading profile.");
+            return;
+        }
+
+        try (OutputStream out = Files.newOutputStream(profile)) {
+            ClassLoadingProfile.write(trace, appRoot, out);
+        } finally {
+            Files.delete(trace);
+        }
+        log.infof("Class loading profile successfully created at: '%s'.", profile.toAbsolutePath().toString());
+        artifactResult.produce(new ArtifactResultBuildItem(profile, "classLoadingProfile", Collections.emptyMap()));
+    }
+
+    static class ClassLoadingProfileRequired implements BooleanSupplier {
+
+        private final PackageConfig packageConfig;
+        private final LaunchMode launchMode;
+
+        ClassLoadingProfileRequired(PackageConfig packageConfig, LaunchMode launchMode) {
+            this.packageConfig = packageConfig;
+            this.launchMode = launchMode;
+        }
+
+        @Override
+        public boolean getAsBoolean() {
+            if (launchMode != LaunchMode.NORMAL) {
+                return false;
+            }
+            return packageConfig.jar().classLoadingProfile().enabled() && packageConfig.jar().enabled()
+                    && packageConfig.jar().type() == FAST_JAR;
+        }
+    }
+}
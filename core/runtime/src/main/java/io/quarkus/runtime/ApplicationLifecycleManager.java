@@ -22,6 +22,7 @@
 import org.wildfly.common.lock.Locks;
 
 import io.quarkus.bootstrap.logging.InitialConfigurator;
+import io.quarkus.bootstrap.runner.ClassLoadingProfile;
 import io.quarkus.bootstrap.runner.RunnerClassLoader;
 import io.quarkus.runtime.configuration.ConfigurationException;
 import io.quarkus.runtime.graal.DiagnosticPrinter;
@@ -156,6 +157,10 @@ public static void run(Application application, Class<? extends QuarkusApplicati
                 }
             } else {
                 longLivedPostBootCleanup();
+                if (ClassLoadingProfile.isRecording()) {
+                    // a training run only records the startup of the application
+                    exit();
+                }
                 stateLock.lock();
                 try {
                     while (!shutdownRequested) {
@@ -0,0 +1,82 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class BulkLoadingTest {
+
+    private static final String CACHE_NAME = "test-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest();
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @Test
+    public void testGetAll() {
+        List<Set<String>> invocations = new CopyOnWriteArrayList<>();
+
+        // STEP 1
+        // Action: bulk lookup on an empty cache.
+        // Expected effect: a single loader invocation with all the keys, the values are cached.
+        Map<String, String> values = cache.<String, String> getAll(List.of("a", "b", "c"), keys -> {
+            invocations.add(keys);
+            return upperCase(keys);
+        }).await().indefinitely();
+        assertEquals(Map.of("a", "A", "b", "B", "c", "C"), values);
+        assertEquals(List.of(Set.of("a", "b", "c")), invocations);
+        assertTrue(cache.as(CaffeineCache.class).keySet().containsAll(Set.of("a", "b", "c")));
+
+        // STEP 2
+        // Action: bulk lookup mixing cached and missing keys.
+        // Expected effect: the loader is only invoked with the missing keys.
+        values = cache.<String, String> getAllAsync(List.of("a", "d", "e"), keys -> {
+            invocations.add(keys);
+            return Uni.createFrom().item(upperCase(keys));
+        }).await().indefinitely();
+        assertEquals(Map.of("a", "A", "d", "D", "e", "E"), values);
+        assertEquals(Set.of("d", "e"), invocations.get(1));
+
+        // STEP 3
+        // Action: the loader doesn't return a value for one of the keys.
+        // Expected effect: the key is absent from the result and is not cached.
+        values = cache.<String, String> getAll(List.of("f", "g"), keys -> Map.of("f", "F")).await().indefinitely();
+        assertEquals(Map.of("f", "F"), values);
+        assertFalse(cache.as(CaffeineCache.class).keySet().contains("g"));
+
+        // STEP 4
+        // Action: bulk lookup of cached keys only.
+        // Expected effect: the loader is not invoked.
+        values = cache.<String, String> getAll(List.of("a", "b", "f"), keys -> {
+            invocations.add(keys);
+            return upperCase(keys);
+        }).await().indefinitely();
+        assertEquals(Map.of("a", "A", "b", "B", "f", "F"), values);
+        assertEquals(2, invocations.size());
+    }
+
+    private static Map<String, String> upperCase(Set<String> keys) {
+        Map<String, String> result = new HashMap<>();
+        for (String key : keys) {
+            result.put(key, key.toUpperCase());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,179 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheInvalidateAll;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the stale-while-revalidate behavior of the {@code refresh-after-write} configuration.
+ */
+public class RefreshAfterWriteTest {
+
+    private static final String CACHE_NAME = "refresh-cache";
+    private static final String KEY = "key";
+    private static final String UNI_KEY = "uni-key";
+    private static final String PUT_KEY = "put-key";
+    private static final String REQUEST_KEY = "request-key";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(CachedService.class, RequestState.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".refresh-after-write", "PT0.1S");
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @Test
+    public void testRefreshAfterWrite() throws InterruptedException {
+        cachedService.invalidateAll();
+
+        // STEP 1
+        // Action: @CacheResult-annotated method call.
+        // Expected effect: method invoked and result cached.
+        assertEquals("value-1", cachedService.cachedMethod(KEY));
+        assertEquals(1, cachedService.getInvocations());
+
+        // STEP 2
+        // Action: same call as STEP 1 once the entry is eligible for a refresh.
+        // Expected effect: the current value is returned while it is reloaded in the background.
+        Thread.sleep(200L);
+        assertEquals("value-1", cachedService.cachedMethod(KEY));
+
+        // STEP 3
+        // Action: same call as STEP 1 once the reload is done.
+        // Expected effect: the reloaded value is returned.
+        awaitValue("value-2", () -> cachedService.cachedMethod(KEY));
+        assertEquals(2, cachedService.getInvocations());
+    }
+
+    @Test
+    public void testRefreshAfterWriteWithUni() throws InterruptedException {
+        cachedService.invalidateAll();
+
+        assertEquals("uni-1", cachedService.cachedUniMethod(UNI_KEY).await().indefinitely());
+
+        Thread.sleep(200L);
+        assertEquals("uni-1", cachedService.cachedUniMethod(UNI_KEY).await().indefinitely());
+
+        awaitValue("uni-2", () -> cachedService.cachedUniMethod(UNI_KEY).await().indefinitely());
+    }
+
+    @Test
+    public void testPutValueIsNotReloaded() throws InterruptedException {
+        cachedService.invalidateAll();
+
+        assertEquals("value-1", cachedService.cachedMethod(PUT_KEY));
+        cache.as(CaffeineCache.class).put(PUT_KEY, CompletableFuture.completedFuture("put"));
+
+        // The entry is eligible for a refresh but it was not computed by a value loader
+        Thread.sleep(200L);
+        assertEquals("put", cachedService.cachedMethod(PUT_KEY));
+        assertEquals("put", cachedService.cachedMethod(PUT_KEY));
+        assertEquals(1, cachedService.getInvocations());
+    }
+
+    @Test
+    public void testReloadInNewRequestContext() throws InterruptedException {
+        cachedService.invalidateAll();
+
+        ManagedContext requestContext = Arc.container().requestContext();
+        requestContext.activate();
+        String first;
+        try {
+            first = cachedService.cachedRequestMethod(REQUEST_KEY);
+        } finally {
+            requestContext.terminate();
+        }
+
+        // The method is invoked again through the bean, i.e. with the request context of the reload
+        Thread.sleep(200L);
+        assertEquals(first, cachedService.cachedRequestMethod(REQUEST_KEY));
+        String reloaded = first;
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (reloaded.equals(first) && System.nanoTime() < deadline) {
+            Thread.sleep(20L);
+            reloaded = cachedService.cachedRequestMethod(REQUEST_KEY);
+        }
+        assertNotEquals(first, reloaded);
+    }
+
+    private static void awaitValue(String expected, Supplier<String> supplier) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        String value = supplier.get();
+        while (!expected.equals(value) && System.nanoTime() < deadline) {
+            Thread.sleep(20L);
+            value = supplier.get();
+        }
+        assertEquals(expected, value);
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+        private final AtomicInteger uniInvocations = new AtomicInteger();
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String cachedMethod(String key) {
+            return "value-" + invocations.incrementAndGet();
+        }
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public Uni<String> cachedUniMethod(Object key) {
+            return Uni.createFrom().item(() -> "uni-" + uniInvocations.incrementAndGet());
+        }
+
+        @Inject
+        RequestState requestState;
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String cachedRequestMethod(String key) {
+            return requestState.getId();
+        }
+
+        @CacheInvalidateAll(cacheName = CACHE_NAME)
+        public void invalidateAll() {
+            invocations.set(0);
+            uniInvocations.set(0);
+        }
+
+        public int getInvocations() {
+            return invocations.get();
+        }
+    }
+
+    @RequestScoped
+    static class RequestState {
+
+        private final String id = UUID.randomUUID().toString();
+
+        public String getId() {
+            return id;
+        }
+    }
+}
@@ -1,7 +1,15 @@
 package io.quarkus.cache;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import io.smallrye.mutiny.Uni;
 
@@ -55,6 +63,83 @@ public interface Cache {
      */
     <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader);
 
+    /**
+     * Returns a lazy asynchronous action that will emit the cache values identified by {@code keys}, obtaining the values
+     * that are not cached yet from {@code bulkLoader} with a single invocation.
+     * <p>
+     * The {@code bulkLoader} receives the set of keys missing from the cache and returns the values it was able to
+     * compute. Keys absent from the map returned by the loader are neither cached nor present in the emitted map.
+     * <p>
+     * The default implementation looks the keys up one at a time and may invoke the loader once per missing key. Cache
+     * implementations supporting bulk operations override it.
+     *
+     * @param <K> cache key type
+     * @param <V> cache value type
+     * @param keys cache keys
+     * @param bulkLoader function used to compute the cache values of the keys not already associated with a value
+     * @return a lazy asynchronous action that will emit the cache values, keyed by cache key
+     * @throws NullPointerException if one of the keys is {@code null}
+     */
+    default <K, V> Uni<Map<K, V>> getAllAsync(Collection<? extends K> keys, Function<Set<K>, Uni<Map<K, V>>> bulkLoader) {
+        Set<K> distinctKeys = new LinkedHashSet<>(keys);
+        if (distinctKeys.isEmpty()) {
+            return Uni.createFrom().item(new HashMap<>());
+        }
+        List<K> orderedKeys = new ArrayList<>(distinctKeys);
+        List<Uni<V>> values = new ArrayList<>(orderedKeys.size());
+        for (K key : orderedKeys) {
+            values.add(getAsync(key, new Function<K, Uni<V>>() {
+                @Override
+                public Uni<V> apply(K k) {
+                    return bulkLoader.apply(Set.of(k)).map(new Function<Map<K, V>, V>() {
+                        @Override
+                        public V apply(Map<K, V> loaded) {
+                            return loaded.get(k);
+                        }
+                    });
+                }
+            }));
+        }
+        return Uni.join().all(values).andFailFast().map(new Function<List<V>, Map<K, V>>() {
+            @Override
+            public Map<K, V> apply(List<V> list) {
+                Map<K, V> result = new HashMap<>(orderedKeys.size());
+                for (int i = 0; i < orderedKeys.size(); i++) {
+                    if (list.get(i) != null) {
+                        result.put(orderedKeys.get(i), list.get(i));
+                    }
+                }
+                return result;
+            }
+        });
+    }
+
+    /**
+     * Returns a lazy asynchronous action that will emit the cache values identified by {@code keys}, obtaining the values
+     * that are not cached yet from {@code bulkLoader} with a single invocation.
+     *
+     * @param <K> cache key type
+     * @param <V> cache value type
+     * @param keys cache keys
+     * @param bulkLoader function used to compute the cache values of the keys not already associated with a value
+     * @return a lazy asynchronous action that will emit the cache values, keyed by cache key
+     * @throws NullPointerException if one of the keys is {@code null}
+     * @see #getAllAsync(Collection, Function)
+     */
+    default <K, V> Uni<Map<K, V>> getAll(Collection<? extends K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        return getAllAsync(keys, new Function<Set<K>, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(Set<K> missingKeys) {
+                return Uni.createFrom().item(new Supplier<Map<K, V>>() {
+                    @Override
+                    public Map<K, V> get() {
+                        return bulkLoader.apply(missingKeys);
+                    }
+                });
+            }
+        });
+    }
+
     /**
      * Removes the cache entry identified by {@code key} from the cache. If the key does not identify any cache entry, nothing
      * will happen.
@@ -75,6 +75,19 @@ interface CaffeineCacheConfig {
              */
             Optional<Duration> expireAfterAccess();
 
+            /**
+             * Specifies that each entry should be eligible for a refresh once a fixed duration has elapsed after the
+             * entry's creation, or the most recent replacement of its value. The first read of an eligible entry triggers
+             * an asynchronous reload with the value loader that computed it, while the current value keeps being returned
+             * until the reload completes. If the reload fails, the current value is kept.
+             * <p>
+             * This value should be lower than {@code expire-after-write}, otherwise entries expire before being
+             * refreshed. A reload of an entry computed by a {@code @CacheResult} method invokes the method again with the
+             * target and parameters of the invocation that computed the entry, outside of its request context. Entries
+             * put directly into the cache are never reloaded.
+             */
+            Optional<Duration> refreshAfterWrite();
+
             /**
              * Whether or not metrics are recorded if the application depends on the Micrometer extension. Setting this
              * value to {@code true} will enable the accumulation of cache stats inside Caffeine.
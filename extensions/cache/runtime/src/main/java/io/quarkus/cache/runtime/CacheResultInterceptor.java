@@ -5,12 +5,15 @@
 import java.util.function.Supplier;
 
 import jakarta.annotation.Priority;
+import jakarta.enterprise.inject.Intercepted;
+import jakarta.inject.Inject;
 import jakarta.interceptor.AroundInvoke;
 import jakarta.interceptor.Interceptor;
 import jakarta.interceptor.InvocationContext;
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.InjectableBean;
 import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CacheResult;
 import io.smallrye.mutiny.Multi;
@@ -25,6 +28,10 @@ public class CacheResultInterceptor extends CacheInterceptor {
     private static final Logger LOGGER = Logger.getLogger(CacheResultInterceptor.class);
     private static final String INTERCEPTOR_BINDING_ERROR_MSG = "The Quarkus cache extension is not working properly (CacheResult interceptor binding retrieval failed), please create a GitHub issue in the Quarkus repository to help the maintainers fix this bug";
 
+    @Inject
+    @Intercepted
+    InjectableBean<?> bean;
+
     @AroundInvoke
     public Object intercept(InvocationContext invocationContext) throws Throwable {
         /*
@@ -35,6 +42,11 @@ public Object intercept(InvocationContext invocationContext) throws Throwable {
             return invocationContext.proceed();
         }
 
+        if (CacheResultReloader.isReloading(invocationContext.getMethod())) {
+            // The entry is reloaded by the cache, the method must be invoked
+            return invocationContext.proceed();
+        }
+
         CacheInterceptionContext<CacheResult> interceptionContext = getInterceptionContext(invocationContext,
                 CacheResult.class, true);
 
@@ -53,24 +65,13 @@ public Object intercept(InvocationContext invocationContext) throws Throwable {
         try {
             ReturnType returnType = determineReturnType(invocationContext.getMethod().getReturnType());
             if (returnType != ReturnType.NonAsync) {
-                Uni<Object> cacheValue = cache.getAsync(key, new Function<Object, Uni<Object>>() {
-                    @SuppressWarnings("unchecked")
-                    @Override
-                    public Uni<Object> apply(Object key) {
-                        try {
-                            return (Uni<Object>) asyncInvocationResultToUni(invocationContext.proceed(), returnType);
-                        } catch (CacheException e) {
-                            throw e;
-                        } catch (Exception e) {
-                            throw new CacheException(e);
-                        }
-                    }
-                }).onFailure().call(new Function<>() {
-                    @Override
-                    public Uni<?> apply(Throwable throwable) {
-                        return cache.invalidate(key).replaceWith(throwable);
-                    }
-                });
+                Uni<Object> cacheValue = cache.getAsync(key, new AsyncValueLoader(invocationContext, returnType))
+                        .onFailure().call(new Function<>() {
+                            @Override
+                            public Uni<?> apply(Throwable throwable) {
+                                return cache.invalidate(key).replaceWith(throwable);
+                            }
+                        });
 
                 if (binding.lockTimeout() <= 0) {
                     return createAsyncResult(cacheValue, returnType);
@@ -91,20 +92,7 @@ public Uni<?> get() {
                         });
                 return createAsyncResult(cacheValue, returnType);
             } else {
-                Uni<Object> cacheValue = cache.get(key, new Function<Object, Object>() {
-                    @Override
-                    public Object apply(Object k) {
-                        try {
-                            LOGGER.debugf("Adding entry with key [%s] into cache [%s]",
-                                    key, binding.cacheName());
-                            return invocationContext.proceed();
-                        } catch (CacheException e) {
-                            throw e;
-                        } catch (Throwable e) {
-                            throw new CacheException(e);
-                        }
-                    }
-                });
+                Uni<Object> cacheValue = cache.get(key, new ValueLoader(invocationContext, binding.cacheName()));
                 Object value;
                 if (binding.lockTimeout() <= 0) {
                     value = cacheValue.await().indefinitely();
@@ -133,4 +121,89 @@ public Object apply(Object k) {
         }
     }
 
+    /**
+     * Proceeds with the intercepted invocation, which is invoked again through a {@link CacheResultReloader} to reload the
+     * entry.
+     */
+    private class ValueLoader implements Function<Object, Object>, ReloadableValueLoader<Function<Object, Object>> {
+
+        private final InvocationContext invocationContext;
+        private final String cacheName;
+
+        ValueLoader(InvocationContext invocationContext, String cacheName) {
+            this.invocationContext = invocationContext;
+            this.cacheName = cacheName;
+        }
+
+        @Override
+        public Object apply(Object key) {
+            try {
+                LOGGER.debugf("Adding entry with key [%s] into cache [%s]", key, cacheName);
+                return invocationContext.proceed();
+            } catch (CacheException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new CacheException(e);
+            }
+        }
+
+        @Override
+        public Function<Object, Object> reloader() {
+            CacheResultReloader reloader = CacheResultReloader.of(invocationContext, bean);
+            if (reloader == null) {
+                return null;
+            }
+            return new Function<Object, Object>() {
+                @Override
+                public Object apply(Object key) {
+                    return reloader.load();
+                }
+            };
+        }
+    }
+
+    private class AsyncValueLoader
+            implements Function<Object, Uni<Object>>, ReloadableValueLoader<Function<Object, Uni<Object>>> {
+
+        private final InvocationContext invocationContext;
+        private final ReturnType returnType;
+
+        AsyncValueLoader(InvocationContext invocationContext, ReturnType returnType) {
+            this.invocationContext = invocationContext;
+            this.returnType = returnType;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Uni<Object> apply(Object key) {
+            try {
+                return (Uni<Object>) asyncInvocationResultToUni(invocationContext.proceed(), returnType);
+            } catch (CacheException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CacheException(e);
+            }
+        }
+
+        @Override
+        public Function<Object, Uni<Object>> reloader() {
+            CacheResultReloader reloader = CacheResultReloader.of(invocationContext, bean);
+            if (reloader == null) {
+                return null;
+            }
+            return new Function<Object, Uni<Object>>() {
+                @Override
+                public Uni<Object> apply(Object key) {
+                    return reloader.loadAsync(new Function<Object, Uni<Object>>() {
+                        @SuppressWarnings("unchecked")
+                        @Override
+                        public Uni<Object> apply(Object invocationResult) {
+                            return (Uni<Object>) asyncInvocationResultToUni(invocationResult, returnType);
+                        }
+                    });
+                }
+            };
+        }
+    }
+
 }
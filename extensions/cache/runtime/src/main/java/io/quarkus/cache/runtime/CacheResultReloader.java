@@ -0,0 +1,164 @@
+package io.quarkus.cache.runtime;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import jakarta.interceptor.InvocationContext;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.cache.CacheException;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+
+/**
+ * Reloads an entry computed by a {@code @CacheResult} method, e.g. when the entry is refreshed after write.
+ * <p>
+ * The intercepted invocation can't proceed again once it returned, so the method is invoked again with the same
+ * arguments on a new reference to the intercepted bean, i.e. through all its interceptors, and within a new request
+ * context. The cache lookup is skipped for this invocation. An asynchronous method is invoked on a new duplicated context
+ * of the Vert.x context of the original invocation, if any.
+ */
+final class CacheResultReloader {
+
+    private static final ThreadLocal<Method> RELOADING = new ThreadLocal<>();
+
+    private final InjectableBean<?> bean;
+    private final Method method;
+    private final Object[] parameters;
+    private final Context context;
+
+    private CacheResultReloader(InjectableBean<?> bean, Method method, Object[] parameters, Context context) {
+        this.bean = bean;
+        this.method = method;
+        this.parameters = parameters;
+        this.context = context;
+    }
+
+    /**
+     * @return the reloader of the given invocation, or {@code null} if the method can't be invoked again
+     */
+    static CacheResultReloader of(InvocationContext invocationContext, InjectableBean<?> bean) {
+        Method method = invocationContext.getMethod();
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        if ((bean == null && !isStatic) || !method.trySetAccessible()) {
+            return null;
+        }
+        return new CacheResultReloader(isStatic ? null : bean, method, invocationContext.getParameters().clone(),
+                Vertx.currentContext());
+    }
+
+    /**
+     * @return {@code true} if the given method is invoked by a reloader, i.e. the cache must not be looked up
+     */
+    static boolean isReloading(Method method) {
+        if (RELOADING.get() == method) {
+            // only the outermost invocation of the method is a reload
+            RELOADING.remove();
+            return true;
+        }
+        return false;
+    }
+
+    Object load() {
+        ManagedContext requestContext = Arc.container().requestContext();
+        boolean activate = !requestContext.isActive();
+        if (activate) {
+            requestContext.activate();
+        }
+        InstanceHandle<?> instance = bean != null ? Arc.container().instance(bean) : null;
+        try {
+            return invoke(instance);
+        } catch (CacheException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new CacheException(e);
+        } finally {
+            if (instance != null) {
+                instance.close();
+            }
+            if (activate) {
+                requestContext.terminate();
+            }
+        }
+    }
+
+    Uni<Object> loadAsync(Function<Object, Uni<Object>> toUni) {
+        Uni<Object> reload = Uni.createFrom().deferred(new Supplier<Uni<?>>() {
+            @Override
+            public Uni<?> get() {
+                ManagedContext requestContext = Arc.container().requestContext();
+                if (requestContext.isActive()) {
+                    return invokeAsync(toUni, null);
+                }
+                requestContext.activate();
+                InjectableContext.ContextState state = requestContext.getState();
+                return invokeAsync(toUni, new Runnable() {
+                    @Override
+                    public void run() {
+                        requestContext.destroy(state);
+                        requestContext.deactivate();
+                    }
+                });
+            }
+        });
+        if (context != null) {
+            // duplicate() does not duplicate the duplicated context, but the root context
+            Context duplicate = ((ContextInternal) context).duplicate();
+            reload = reload.runSubscriptionOn(new Executor() {
+                @Override
+                public void execute(Runnable command) {
+                    duplicate.runOnContext(new Handler<Void>() {
+                        @Override
+                        public void handle(Void ignored) {
+                            command.run();
+                        }
+                    });
+                }
+            });
+        }
+        return reload;
+    }
+
+    private Uni<Object> invokeAsync(Function<Object, Uni<Object>> toUni, Runnable onTermination) {
+        InstanceHandle<?> instance = bean != null ? Arc.container().instance(bean) : null;
+        Uni<Object> result;
+        try {
+            result = toUni.apply(invoke(instance));
+        } catch (Throwable e) {
+            result = Uni.createFrom().failure(e);
+        }
+        return result.eventually(new Runnable() {
+            @Override
+            public void run() {
+                if (instance != null) {
+                    instance.close();
+                }
+                if (onTermination != null) {
+                    onTermination.run();
+                }
+            }
+        });
+    }
+
+    private Object invoke(InstanceHandle<?> instance) throws Throwable {
+        RELOADING.set(method);
+        try {
+            return method.invoke(instance != null ? instance.get() : null, parameters);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        } finally {
+            RELOADING.remove();
+        }
+    }
+}
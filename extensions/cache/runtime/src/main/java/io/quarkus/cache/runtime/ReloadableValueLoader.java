@@ -0,0 +1,18 @@
+package io.quarkus.cache.runtime;
+
+/**
+ * A value loader that must not be called again once the cache operation that used it completed, e.g. because it
+ * proceeds with an intercepted invocation. The cache implementations that reload entries use the loader it provides
+ * instead.
+ *
+ * @param <L> the type of the value loader
+ */
+public interface ReloadableValueLoader<L> {
+
+    /**
+     * @return the loader used to reload the entry once the cache operation completed, or {@code null} if the entry can't
+     *         be reloaded
+     */
+    L reloader();
+
+}
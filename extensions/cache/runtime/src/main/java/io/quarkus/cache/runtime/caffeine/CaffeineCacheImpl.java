@@ -1,14 +1,21 @@
 package io.quarkus.cache.runtime.caffeine;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -16,9 +23,12 @@
 import org.jboss.logging.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Policy;
 import com.github.benmanes.caffeine.cache.Policy.FixedExpiration;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
 import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
 import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
@@ -26,6 +36,7 @@
 import io.quarkus.cache.CaffeineCache;
 import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.cache.runtime.NullValueConverter;
+import io.quarkus.cache.runtime.ReloadableValueLoader;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
@@ -47,6 +58,15 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
     private final StatsCounter statsCounter;
     private final boolean recordStats;
 
+    /**
+     * The loaders used to refresh the entries, only set if refresh-after-write is configured.
+     * <p>
+     * A reloader keeps a reference to the value loader passed to the cache operation that computed the entry, or to the
+     * loader it provides if it's a {@link ReloadableValueLoader}. For a {@code @CacheResult} method, the latter invokes
+     * the method again on a new reference to the bean. A reloader is removed with its entry, whatever the cause.
+     */
+    private final ConcurrentMap<Object, ValueReloader> reloaders;
+
     public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         this.cacheInfo = cacheInfo;
         Caffeine<Object, Object> builder = Caffeine.newBuilder();
@@ -62,6 +82,28 @@ public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         if (cacheInfo.expireAfterAccess != null) {
             builder.expireAfterAccess(cacheInfo.expireAfterAccess);
         }
+        if (cacheInfo.refreshAfterWrite != null) {
+            builder.refreshAfterWrite(cacheInfo.refreshAfterWrite);
+            reloaders = new ConcurrentHashMap<>();
+            builder.removalListener(new RemovalListener<Object, Object>() {
+                @Override
+                public void onRemoval(Object key, Object value, RemovalCause cause) {
+                    if (cause == RemovalCause.REPLACED) {
+                        // A refreshed entry keeps its reloader, put() removes it
+                        return;
+                    }
+                    // The listener is notified asynchronously, the key may have been loaded again in the meantime
+                    reloaders.computeIfPresent(key, new BiFunction<Object, ValueReloader, ValueReloader>() {
+                        @Override
+                        public ValueReloader apply(Object key, ValueReloader reloader) {
+                            return cache.asMap().containsKey(key) ? reloader : null;
+                        }
+                    });
+                }
+            });
+        } else {
+            reloaders = null;
+        }
         this.recordStats = recordStats;
         if (recordStats) {
             LOGGER.tracef("Recording Caffeine stats for cache [%s]", cacheInfo.name);
@@ -76,7 +118,12 @@ public StatsCounter get() {
             LOGGER.tracef("Caffeine stats recording is disabled for cache [%s]", cacheInfo.name);
             statsCounter = StatsCounter.disabledStatsCounter();
         }
-        cache = builder.buildAsync();
+        if (reloaders == null) {
+            cache = builder.buildAsync();
+        } else {
+            // Caffeine only supports refresh-after-write with a loading cache
+            cache = builder.buildAsync(new RefreshingCacheLoader());
+        }
     }
 
     @Override
@@ -118,6 +165,12 @@ public CompletionStage<V> get() {
                                     public CompletableFuture<Object> apply(Object key) {
                                         recorder.onValueAbsent();
                                         return valueLoader.apply((K) key)
+                                                .invoke(new Runnable() {
+                                                    @Override
+                                                    public void run() {
+                                                        registerReloader(key, asyncReloader(valueLoader));
+                                                    }
+                                                })
                                                 .map(TO_CACHE_VALUE)
                                                 .subscribeAsCompletionStage();
                                     }
@@ -127,49 +180,66 @@ public CompletableFuture<Object> apply(Object key) {
                     }
                 })
                 .map(fromCacheValue())
-                .emitOn(new Executor() {
-                    // We need make sure we go back to the original context when the cache value is computed.
-                    // Otherwise, we would always emit on the context having computed the value, which could
-                    // break the duplicated context isolation.
+                .emitOn(new CapturedContextExecutor(context));
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<? extends K> keys, Function<Set<K>, Uni<Map<K, V>>> bulkLoader) {
+        for (K key : keys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        Context context = Vertx.currentContext();
+        return Uni.createFrom()
+                .completionStage(new Supplier<CompletionStage<Map<Object, Object>>>() {
                     @Override
-                    public void execute(Runnable command) {
-                        Context ctx = Vertx.currentContext();
-                        if (context == null) {
-                            // We didn't capture a context
-                            if (ctx == null) {
-                                // We are not on a context => we can execute immediately.
-                                command.run();
-                            } else {
-                                // We are on a context.
-                                // We cannot continue on the current context as we may share a duplicated context.
-                                // We need a new one. Note that duplicate() does not duplicate the duplicated context,
-                                // but the root context.
-                                ((ContextInternal) ctx).duplicate()
-                                        .runOnContext(new Handler<Void>() {
-                                            @Override
-                                            public void handle(Void ignored) {
-                                                command.run();
-                                            }
-                                        });
-                            }
-                        } else {
-                            // We captured a context.
-                            if (ctx == context) {
-                                // We are on the same context => we can execute immediately
-                                command.run();
-                            } else {
-                                // 1) We are not on a context (ctx == null) => we need to switch to the captured context.
-                                // 2) We are on a different context (ctx != null) => we need to switch to the captured context.
-                                context.runOnContext(new Handler<Void>() {
+                    public CompletionStage<Map<Object, Object>> get() {
+                        // Caffeine deduplicates the in-flight loads and records the stats
+                        return cache.getAll(keys,
+                                new BiFunction<Set<? extends Object>, Executor, CompletableFuture<Map<Object, Object>>>() {
+                                    @SuppressWarnings("unchecked")
                                     @Override
-                                    public void handle(Void ignored) {
-                                        command.run();
+                                    public CompletableFuture<Map<Object, Object>> apply(Set<? extends Object> missingKeys,
+                                            Executor executor) {
+                                        return bulkLoader.apply((Set<K>) missingKeys)
+                                                .invoke(new Consumer<Map<K, V>>() {
+                                                    @Override
+                                                    public void accept(Map<K, V> loaded) {
+                                                        if (reloaders != null) {
+                                                            ValueReloader reloader = bulkReloader(bulkLoader);
+                                                            for (K key : loaded.keySet()) {
+                                                                registerReloader(key, reloader);
+                                                            }
+                                                        }
+                                                    }
+                                                })
+                                                .map(TO_CACHE_VALUES)
+                                                .subscribeAsCompletionStage();
                                     }
                                 });
+                    }
+                })
+                .map(new Function<Map<Object, Object>, Map<K, V>>() {
+                    @SuppressWarnings("unchecked")
+                    @Override
+                    public Map<K, V> apply(Map<Object, Object> cached) {
+                        Map<K, V> result = new HashMap<>(cached.size());
+                        for (Map.Entry<Object, Object> entry : cached.entrySet()) {
+                            Object value = entry.getValue();
+                            // A concurrent single-key computation may have failed
+                            if (value instanceof CaffeineComputationThrowable) {
+                                Throwable cause = ((CaffeineComputationThrowable) value).getCause();
+                                if (cause instanceof RuntimeException) {
+                                    throw (RuntimeException) cause;
+                                } else {
+                                    throw new CacheException(cause);
+                                }
                             }
+                            result.put((K) entry.getKey(), cast(NullValueConverter.fromCacheValue(value)));
                         }
+                        return result;
                     }
-                });
+                })
+                .emitOn(new CapturedContextExecutor(context));
     }
 
     @Override
@@ -216,6 +286,7 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
             statsCounter.recordMisses(1);
             try {
                 Object value = valueLoader.apply(key);
+                registerReloader(key, syncReloader(valueLoader));
                 newCacheValue.complete(NullValueConverter.toCacheValue(value));
             } catch (Throwable t) {
                 cache.asMap().remove(key, newCacheValue);
@@ -291,6 +362,10 @@ public Set<Object> keySet() {
     @Override
     public <V> void put(Object key, CompletableFuture<V> valueFuture) {
         cache.put(key, (CompletableFuture<Object>) valueFuture);
+        if (reloaders != null) {
+            // The value was not computed by a value loader, a refresh must not replace it
+            reloaders.remove(key);
+        }
     }
 
     @Override
@@ -329,6 +404,88 @@ public void setMaximumSize(long maximumSize) {
         }
     }
 
+    private void registerReloader(Object key, ValueReloader reloader) {
+        if (reloaders != null && reloader != null) {
+            reloaders.put(key, reloader);
+            if (!cache.asMap().containsKey(key)) {
+                // The entry was removed before its reloader was registered
+                reloaders.remove(key, reloader);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K, V> ValueReloader syncReloader(Function<K, V> valueLoader) {
+        if (reloaders == null) {
+            return null;
+        }
+        Function<K, V> reloadingLoader = valueLoader instanceof ReloadableValueLoader
+                ? ((ReloadableValueLoader<Function<K, V>>) valueLoader).reloader()
+                : valueLoader;
+        if (reloadingLoader == null) {
+            return null;
+        }
+        return new ValueReloader() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public CompletableFuture<Object> reload(Object key, Executor executor) {
+                // The value loader may block, it must not run on the thread reading the entry
+                return CompletableFuture.supplyAsync(new Supplier<Object>() {
+                    @Override
+                    public Object get() {
+                        return NullValueConverter.toCacheValue(reloadingLoader.apply((K) key));
+                    }
+                }, executor);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K, V> ValueReloader asyncReloader(Function<K, Uni<V>> valueLoader) {
+        if (reloaders == null) {
+            return null;
+        }
+        Function<K, Uni<V>> reloadingLoader = valueLoader instanceof ReloadableValueLoader
+                ? ((ReloadableValueLoader<Function<K, Uni<V>>>) valueLoader).reloader()
+                : valueLoader;
+        if (reloadingLoader == null) {
+            return null;
+        }
+        return new ValueReloader() {
+            @Override
+            public CompletableFuture<Object> reload(Object key, Executor executor) {
+                // The value loader must not run on the thread reading the entry either
+                return Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+                    @Override
+                    public Uni<? extends V> get() {
+                        return reloadingLoader.apply((K) key);
+                    }
+                })
+                        .runSubscriptionOn(executor)
+                        .map(TO_CACHE_VALUE)
+                        .subscribeAsCompletionStage();
+            }
+        };
+    }
+
+    private <K, V> ValueReloader bulkReloader(Function<Set<K>, Uni<Map<K, V>>> bulkLoader) {
+        return new ValueReloader() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public CompletableFuture<Object> reload(Object key, Executor executor) {
+                return bulkLoader.apply(Set.of((K) key))
+                        .map(new Function<Map<K, V>, Object>() {
+                            @Override
+                            public Object apply(Map<K, V> loaded) {
+                                // A null value removes the entry from the cache
+                                return loaded.get(key);
+                            }
+                        })
+                        .subscribeAsCompletionStage();
+            }
+        };
+    }
+
     // For testing purposes only.
     public CaffeineCacheInfo getCacheInfo() {
         return cacheInfo;
@@ -398,6 +555,95 @@ public <K> void doRecord(K key) {
 
     }
 
+    private interface ValueReloader {
+
+        CompletableFuture<Object> reload(Object key, Executor executor);
+
+    }
+
+    /**
+     * Reloads the entries eligible for a refresh with the value loader that computed them. The current value is returned
+     * to the callers until the reload completes, and is kept if the reload fails.
+     */
+    private class RefreshingCacheLoader implements AsyncCacheLoader<Object, Object> {
+
+        @Override
+        public CompletableFuture<Object> asyncLoad(Object key, Executor executor) {
+            // The values are computed with the value loader passed to the cache operations, the cache itself never
+            // loads an absent entry unless it's refreshed explicitly
+            ValueReloader reloader = reloaders.get(key);
+            if (reloader == null) {
+                return CompletableFuture.failedFuture(new CacheException(
+                        "Unable to load entry with key [" + key + "] in cache [" + cacheInfo.name + "]: no value loader",
+                        null));
+            }
+            return reloader.reload(key, executor);
+        }
+
+        @Override
+        public CompletableFuture<Object> asyncReload(Object key, Object oldValue, Executor executor) {
+            ValueReloader reloader = reloaders.get(key);
+            if (reloader == null) {
+                // The value was put directly into the cache, there's no way to reload it.
+                return CompletableFuture.completedFuture(oldValue);
+            }
+            LOGGER.tracef("Refreshing entry with key [%s] in cache [%s]", key, cacheInfo.name);
+            return reloader.reload(key, executor);
+        }
+    }
+
+    /**
+     * Makes sure we go back to the original context when the cache value is computed. Otherwise, we would always emit on
+     * the context having computed the value, which could break the duplicated context isolation.
+     */
+    private static class CapturedContextExecutor implements Executor {
+
+        private final Context context;
+
+        CapturedContextExecutor(Context context) {
+            this.context = context;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            Context ctx = Vertx.currentContext();
+            if (context == null) {
+                // We didn't capture a context
+                if (ctx == null) {
+                    // We are not on a context => we can execute immediately.
+                    command.run();
+                } else {
+                    // We are on a context.
+                    // We cannot continue on the current context as we may share a duplicated context.
+                    // We need a new one. Note that duplicate() does not duplicate the duplicated context,
+                    // but the root context.
+                    ((ContextInternal) ctx).duplicate()
+                            .runOnContext(new Handler<Void>() {
+                                @Override
+                                public void handle(Void ignored) {
+                                    command.run();
+                                }
+                            });
+                }
+            } else {
+                // We captured a context.
+                if (ctx == context) {
+                    // We are on the same context => we can execute immediately
+                    command.run();
+                } else {
+                    // 1) We are not on a context (ctx == null) => we need to switch to the captured context.
+                    // 2) We are on a different context (ctx != null) => we need to switch to the captured context.
+                    context.runOnContext(new Handler<Void>() {
+                        @Override
+                        public void handle(Void ignored) {
+                            command.run();
+                        }
+                    });
+                }
+            }
+        }
+    }
+
     private static final Function<Object, Object> FROM_CACHE_VALUE = new Function<Object, Object>() {
 
         @Override
@@ -414,4 +660,19 @@ public Object apply(Object value) {
         }
     };
 
+    private static final Function<Map<?, ?>, Map<Object, Object>> TO_CACHE_VALUES = new Function<>() {
+
+        @Override
+        public Map<Object, Object> apply(Map<?, ?> values) {
+            Map<Object, Object> result = new HashMap<>(values.size());
+            for (Map.Entry<?, ?> entry : values.entrySet()) {
+                // Caffeine treats null values as absent, the loader didn't compute these keys
+                if (entry.getValue() != null) {
+                    result.put(entry.getKey(), entry.getValue());
+                }
+            }
+            return result;
+        }
+    };
+
 }
@@ -1,5 +1,9 @@
 package io.quarkus.cache.runtime.noop;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -35,6 +39,11 @@ public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
         return valueLoader.apply(key);
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<? extends K> keys, Function<Set<K>, Uni<Map<K, V>>> bulkLoader) {
+        return bulkLoader.apply(new LinkedHashSet<>(keys));
+    }
+
     @Override
     public Uni<Void> invalidate(Object key) {
         return Uni.createFrom().voidItem();
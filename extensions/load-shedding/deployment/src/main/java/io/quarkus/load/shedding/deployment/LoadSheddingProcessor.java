@@ -2,15 +2,22 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 import io.quarkus.load.shedding.runtime.HttpLoadShedding;
 import io.quarkus.load.shedding.runtime.HttpRequestClassifier;
+import io.quarkus.load.shedding.runtime.HttpRequestPartitioner;
+import io.quarkus.load.shedding.runtime.LoadSheddingMetrics;
+import io.quarkus.load.shedding.runtime.LoadSheddingPartitions;
 import io.quarkus.load.shedding.runtime.ManagementRequestPrioritizer;
 import io.quarkus.load.shedding.runtime.OverloadDetector;
 import io.quarkus.load.shedding.runtime.PriorityLoadShedding;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 public class LoadSheddingProcessor {
     private static final String FEATURE = "load-shedding";
@@ -28,7 +35,16 @@ AdditionalBeanBuildItem beans() {
         beans.add(PriorityLoadShedding.class.getName());
         beans.add(ManagementRequestPrioritizer.class.getName());
         beans.add(HttpRequestClassifier.class.getName());
+        beans.add(LoadSheddingPartitions.class.getName());
+        beans.add(HttpRequestPartitioner.class.getName());
 
         return AdditionalBeanBuildItem.builder().addBeanClasses(beans).build();
     }
+
+    @BuildStep
+    void metrics(Optional<MetricsCapabilityBuildItem> metricsCapability, BuildProducer<AdditionalBeanBuildItem> beans) {
+        if (metricsCapability.isPresent() && metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER)) {
+            beans.produce(AdditionalBeanBuildItem.unremovableOf(LoadSheddingMetrics.class));
+        }
+    }
 }
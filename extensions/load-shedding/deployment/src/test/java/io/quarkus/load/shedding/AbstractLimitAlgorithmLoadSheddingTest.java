@@ -0,0 +1,69 @@
+package io.quarkus.load.shedding;
+
+import static io.restassured.RestAssured.when;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.load.shedding.runtime.OverloadDetector;
+
+/**
+ * Overloads the application with requests slower than the service can handle, for each limit algorithm. The subclasses
+ * select the algorithm and check the state of the limit after the load.
+ */
+public abstract class AbstractLimitAlgorithmLoadSheddingTest {
+    private static final int NUM_THREADS = 20;
+    private static final int NUM_REQUESTS = 10;
+
+    @Inject
+    OverloadDetector detector;
+
+    @Test
+    public void test() throws InterruptedException {
+        AtomicInteger numErrors = new AtomicInteger();
+        CountDownLatch begin = new CountDownLatch(1);
+        CountDownLatch end = new CountDownLatch(NUM_THREADS);
+        for (int i = 0; i < NUM_THREADS; i++) {
+            new Thread(() -> {
+                try {
+                    begin.await();
+                    for (int j = 0; j < NUM_REQUESTS; j++) {
+                        int statusCode = when().get("/").then().extract().statusCode();
+                        if (statusCode == 503) {
+                            numErrors.incrementAndGet();
+                        }
+                    }
+                    end.countDown();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }).start();
+        }
+
+        begin.countDown();
+        end.await();
+
+        // at least 1/2 of all requests failed
+        assertThat(numErrors).hasValueGreaterThanOrEqualTo(100);
+        assertThat(detector.currentRequests()).isEqualTo(0);
+        assertLimitAfterLoad(detector);
+    }
+
+    abstract void assertLimitAfterLoad(OverloadDetector detector);
+
+    @Path("/")
+    public static class MyResource {
+        @GET
+        public String hello() throws InterruptedException {
+            Thread.sleep(100);
+            return "Hello, world!";
+        }
+    }
+}
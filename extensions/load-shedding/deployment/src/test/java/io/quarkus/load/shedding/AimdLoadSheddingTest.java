@@ -0,0 +1,29 @@
+package io.quarkus.load.shedding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.load.shedding.runtime.OverloadDetector;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class AimdLoadSheddingTest extends AbstractLimitAlgorithmLoadSheddingTest {
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(AbstractLimitAlgorithmLoadSheddingTest.class, MyResource.class))
+            .overrideConfigKey("quarkus.load-shedding.algorithm", "aimd")
+            .overrideConfigKey("quarkus.load-shedding.aimd.timeout", "50ms")
+            .overrideConfigKey("quarkus.load-shedding.initial-limit", "10")
+            .overrideConfigKey("quarkus.load-shedding.max-limit", "10")
+            .overrideConfigKey("quarkus.load-shedding.priority.enabled", "false");
+
+    @Override
+    void assertLimitAfterLoad(OverloadDetector detector) {
+        // every request is slower than the timeout, so each one multiplied the limit by the backoff ratio:
+        // 10 -> 9 -> 8 -> ... -> 1, where it stays
+        assertThat(detector.currentLimit()).isEqualTo(1);
+        assertThat(detector.lastRequestTime()).isGreaterThanOrEqualTo(100_000);
+        // never known with AIMD
+        assertThat(detector.noLoadRequestTime()).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,27 @@
+package io.quarkus.load.shedding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.load.shedding.runtime.OverloadDetector;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class Gradient2LoadSheddingTest extends AbstractLimitAlgorithmLoadSheddingTest {
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(AbstractLimitAlgorithmLoadSheddingTest.class, MyResource.class))
+            .overrideConfigKey("quarkus.load-shedding.algorithm", "gradient2")
+            .overrideConfigKey("quarkus.load-shedding.initial-limit", "5")
+            .overrideConfigKey("quarkus.load-shedding.max-limit", "10")
+            .overrideConfigKey("quarkus.load-shedding.priority.enabled", "false");
+
+    @Override
+    void assertLimitAfterLoad(OverloadDetector detector) {
+        // the request times are stable and the limit is fully used, so the limit grew from the initial one
+        assertThat(detector.currentLimit()).isGreaterThan(5).isLessThanOrEqualTo(10);
+        // the long-term request time tracks the request time of the resource
+        assertThat(detector.noLoadRequestTime()).isGreaterThanOrEqualTo(100_000);
+        assertThat(detector.lastRequestTime()).isGreaterThanOrEqualTo(100_000);
+    }
+}
@@ -0,0 +1,173 @@
+package io.quarkus.load.shedding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.load.shedding.runtime.LoadSheddingRuntimeConfig;
+import io.quarkus.load.shedding.runtime.OverloadDetector;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+public class LimitAlgorithmTest {
+    @Test
+    public void aimd() {
+        OverloadDetector detector = new OverloadDetector(config(Map.of(
+                "quarkus.load-shedding.algorithm", "aimd",
+                "quarkus.load-shedding.aimd.timeout", "50ms",
+                "quarkus.load-shedding.initial-limit", "10",
+                "quarkus.load-shedding.max-limit", "20")));
+        assertThat(detector.currentLimit()).isEqualTo(10);
+        assertThat(detector.noLoadRequestTime()).isEqualTo(-1);
+
+        // at least half of the limit is used, a fast request increases the limit by 1
+        begin(detector, 6);
+        detector.requestEnd(1_000);
+        assertThat(detector.currentLimit()).isEqualTo(11);
+        assertThat(detector.lastRequestTime()).isEqualTo(1_000);
+
+        // a request slower than the timeout multiplies the limit by the backoff ratio
+        detector.requestEnd(100_000);
+        assertThat(detector.currentLimit()).isEqualTo(9);
+        assertThat(detector.lastRequestTime()).isEqualTo(100_000);
+
+        // less than half of the limit is used, the limit doesn't change
+        detector.requestEnd(1_000);
+        assertThat(detector.currentLimit()).isEqualTo(9);
+        assertThat(detector.isOverloaded()).isFalse();
+
+        // the limit never goes below the minimum
+        for (int i = 0; i < 100; i++) {
+            detector.requestBegin();
+            detector.requestEnd(100_000);
+        }
+        assertThat(detector.currentLimit()).isEqualTo(1);
+        assertThat(detector.isOverloaded()).isTrue();
+    }
+
+    @Test
+    public void gradient2() {
+        OverloadDetector detector = new OverloadDetector(config(Map.of(
+                "quarkus.load-shedding.algorithm", "gradient2",
+                "quarkus.load-shedding.initial-limit", "10",
+                "quarkus.load-shedding.max-limit", "20")));
+        assertThat(detector.currentLimit()).isEqualTo(10);
+        assertThat(detector.noLoadRequestTime()).isEqualTo(-1);
+
+        // stable request times and enough requests in flight, the limit grows up to the maximum
+        begin(detector, 10);
+        for (int i = 0; i < 100; i++) {
+            detector.requestBegin();
+            detector.requestEnd(1_000);
+        }
+        assertThat(detector.currentLimit()).isEqualTo(20);
+        assertThat(detector.noLoadRequestTime()).isBetween(999L, 1_000L);
+
+        // request times grow way past the long-term request time, the limit goes down
+        for (int i = 0; i < 30; i++) {
+            detector.requestBegin();
+            detector.requestEnd(10_000);
+        }
+        assertThat(detector.currentLimit()).isLessThan(10);
+        assertThat(detector.noLoadRequestTime()).isLessThan(5_000);
+        assertThat(detector.lastRequestTime()).isEqualTo(10_000);
+        assertThat(detector.isOverloaded()).isTrue();
+    }
+
+    @Test
+    public void aimdMultiplicativeDecrease() {
+        OverloadDetector detector = new OverloadDetector(config(Map.of(
+                "quarkus.load-shedding.algorithm", "aimd",
+                "quarkus.load-shedding.aimd.timeout", "50ms",
+                "quarkus.load-shedding.aimd.backoff-ratio", "0.5",
+                "quarkus.load-shedding.initial-limit", "16",
+                "quarkus.load-shedding.max-limit", "20")));
+
+        // each slow request halves the limit, regardless of the number of requests in flight
+        long[] expected = { 8, 4, 2, 1, 1 };
+        for (long limit : expected) {
+            detector.requestBegin();
+            detector.requestEnd(100_000);
+            assertThat(detector.currentLimit()).isEqualTo(limit);
+        }
+
+        // while a fast request only adds 1
+        detector.requestBegin();
+        detector.requestEnd(1_000);
+        assertThat(detector.currentLimit()).isEqualTo(2);
+    }
+
+    @Test
+    public void gradient2Smoothing() {
+        // no smoothing, the limit is the new estimate: 10 * gradient + queue size
+        OverloadDetector detector = gradient2("1.0", "600");
+        begin(detector, 10);
+        detector.requestEnd(1_000);
+        assertThat(detector.currentLimit()).isEqualTo(14);
+
+        // the new estimate is weighted by the smoothing factor: 10 * 0.5 + 14 * 0.5
+        detector = gradient2("0.5", "600");
+        begin(detector, 10);
+        detector.requestEnd(1_000);
+        assertThat(detector.currentLimit()).isEqualTo(12);
+
+        // 10 * 0.8 + 14 * 0.2 = 10.8, then 10.8 * 0.8 + 14.8 * 0.2 = 11.6
+        detector = gradient2("0.2", "600");
+        begin(detector, 10);
+        detector.requestEnd(1_000);
+        assertThat(detector.currentLimit()).isEqualTo(10);
+        detector.requestEnd(1_000);
+        assertThat(detector.currentLimit()).isEqualTo(11);
+    }
+
+    @Test
+    public void gradient2LongWindow() {
+        // a short window: a single slow request moves the long-term request time by 2 / (9 + 1) of the difference
+        OverloadDetector detector = gradient2("0.2", "9");
+        warmUp(detector);
+        detector.requestBegin();
+        detector.requestEnd(10_000);
+        assertThat(detector.noLoadRequestTime()).isBetween(2_799L, 2_800L);
+
+        // the default long window barely moves: 1_000 + 9_000 * 2 / 601
+        detector = gradient2("0.2", "600");
+        warmUp(detector);
+        detector.requestBegin();
+        detector.requestEnd(10_000);
+        assertThat(detector.noLoadRequestTime()).isEqualTo(1_029);
+    }
+
+    private static OverloadDetector gradient2(String smoothing, String longWindow) {
+        return new OverloadDetector(config(Map.of(
+                "quarkus.load-shedding.algorithm", "gradient2",
+                "quarkus.load-shedding.gradient2.smoothing", smoothing,
+                "quarkus.load-shedding.gradient2.long-window", longWindow,
+                "quarkus.load-shedding.initial-limit", "10",
+                "quarkus.load-shedding.max-limit", "20")));
+    }
+
+    // the long-term request time is a plain average of the first 10 samples
+    private static void warmUp(OverloadDetector detector) {
+        for (int i = 0; i < 10; i++) {
+            detector.requestBegin();
+            detector.requestEnd(1_000);
+        }
+        assertThat(detector.noLoadRequestTime()).isEqualTo(1_000);
+    }
+
+    private static void begin(OverloadDetector detector, int requests) {
+        for (int i = 0; i < requests; i++) {
+            detector.requestBegin();
+        }
+    }
+
+    private static LoadSheddingRuntimeConfig config(Map<String, String> properties) {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withMapping(LoadSheddingRuntimeConfig.class)
+                .withDefaultValues(properties)
+                .build();
+        return config.getConfigMapping(LoadSheddingRuntimeConfig.class);
+    }
+}
@@ -0,0 +1,63 @@
+package io.quarkus.load.shedding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.quarkus.load.shedding.runtime.OverloadDetector;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class LoadSheddingMetricsTest {
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withEmptyApplication()
+            .overrideConfigKey("quarkus.load-shedding.algorithm", "aimd")
+            .overrideConfigKey("quarkus.load-shedding.initial-limit", "10")
+            .overrideConfigKey("quarkus.load-shedding.max-limit", "20");
+
+    @Inject
+    MeterRegistry registry;
+
+    @Inject
+    OverloadDetector detector;
+
+    @Test
+    public void test() {
+        Gauge limit = registry.get("load.shedding.limit").tag("algorithm", "aimd").gauge();
+        Gauge inFlight = registry.get("load.shedding.requests.in.flight").tag("algorithm", "aimd").gauge();
+        TimeGauge noLoadRequestTime = registry.get("load.shedding.rtt.no.load").tag("algorithm", "aimd").timeGauge();
+        TimeGauge lastRequestTime = registry.get("load.shedding.rtt.last").tag("algorithm", "aimd").timeGauge();
+
+        assertThat(limit.value()).isEqualTo(10.0);
+        assertThat(inFlight.value()).isEqualTo(0.0);
+        // not known yet
+        assertThat(lastRequestTime.value()).isNaN();
+        // never known with AIMD
+        assertThat(noLoadRequestTime.value()).isNaN();
+
+        for (int i = 0; i < 6; i++) {
+            detector.requestBegin();
+        }
+        assertThat(inFlight.value()).isEqualTo(6.0);
+
+        detector.requestEnd(2_000);
+        assertThat(inFlight.value()).isEqualTo(5.0);
+        assertThat(limit.value()).isEqualTo(11.0);
+        assertThat(lastRequestTime.value(TimeUnit.MICROSECONDS)).isCloseTo(2_000.0, within(0.001));
+        assertThat(noLoadRequestTime.value()).isNaN();
+
+        for (int i = 0; i < 5; i++) {
+            detector.requestEnd(1_000);
+        }
+        assertThat(inFlight.value()).isEqualTo(0.0);
+    }
+}
@@ -0,0 +1,92 @@
+package io.quarkus.load.shedding;
+
+import static io.restassured.RestAssured.when;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class PartitionedLoadSheddingTest {
+    private static final int NUM_THREADS = 20;
+    private static final int NUM_REQUESTS = 10;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(MyResource.class))
+            .overrideConfigKey("quarkus.load-shedding.initial-limit", "5")
+            .overrideConfigKey("quarkus.load-shedding.max-limit", "10")
+            .overrideConfigKey("quarkus.load-shedding.priority.enabled", "false")
+            .overrideConfigKey("quarkus.load-shedding.partitions.slow.paths", "/slow/*")
+            .overrideConfigKey("quarkus.load-shedding.partitions.fast.paths", "/fast")
+            .overrideConfigKey("quarkus.load-shedding.partitions.fast.min-share", "0.5");
+
+    @Test
+    public void test() throws InterruptedException {
+        AtomicInteger numSlowErrors = new AtomicInteger();
+        AtomicInteger numFastErrors = new AtomicInteger();
+        CountDownLatch begin = new CountDownLatch(1);
+        CountDownLatch end = new CountDownLatch(NUM_THREADS + 1);
+        for (int i = 0; i < NUM_THREADS; i++) {
+            new Thread(() -> {
+                try {
+                    begin.await();
+                    for (int j = 0; j < NUM_REQUESTS; j++) {
+                        int statusCode = when().get("/slow/hello").then().extract().statusCode();
+                        if (statusCode == 503) {
+                            numSlowErrors.incrementAndGet();
+                        }
+                    }
+                    end.countDown();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }).start();
+        }
+        new Thread(() -> {
+            try {
+                begin.await();
+                for (int j = 0; j < NUM_THREADS * NUM_REQUESTS / 2; j++) {
+                    int statusCode = when().get("/fast").then().extract().statusCode();
+                    if (statusCode == 503) {
+                        numFastErrors.incrementAndGet();
+                    }
+                }
+                end.countDown();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }).start();
+
+        begin.countDown();
+        end.await();
+
+        // the slow partition is overloaded, but it doesn't affect the fast partition,
+        // which is guaranteed a share of the global limit
+        assertThat(numSlowErrors).hasValueGreaterThanOrEqualTo(100);
+        assertThat(numFastErrors).hasValue(0);
+    }
+
+    @Path("/")
+    public static class MyResource {
+        @GET
+        @Path("/slow/hello")
+        public String slow() throws InterruptedException {
+            Thread.sleep(100);
+            return "Hello, world!";
+        }
+
+        @GET
+        @Path("/fast")
+        public String fast() {
+            return "Hello, world!";
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package io.quarkus.load.shedding;
+
+/**
+ * Assigns a partition to a request. Each partition has its own concurrency limit, so that
+ * an overload of one partition doesn't lead to rejecting requests of other partitions.
+ * All partitioners are inspected and the first one that returns {@code true}
+ * for {@link #appliesTo(Object)} is taken.
+ * <p>
+ * If no partitioner applies to a given request, or if the partitioner returns {@code null},
+ * the request is only subject to the global concurrency limit. By default, a partitioner for
+ * HTTP requests is present, which assigns partitions based on the request path, as configured
+ * by {@code quarkus.load-shedding.partitions."partition-name".paths}.
+ * <p>
+ * Partitions that are not configured are created on first use, without a guaranteed share
+ * of the global limit. The number of distinct partition names should therefore be bounded.
+ * <p>
+ * An implementation must be a CDI bean, otherwise it is ignored. CDI typesafe resolution
+ * rules must be followed. That is, if multiple implementations are provided with different
+ * {@link jakarta.annotation.Priority} values, only the implementations with the highest
+ * priority are retained.
+ *
+ * @param <R> type of the request
+ */
+public interface RequestPartitioner<R> {
+    /**
+     * Returns whether this request partitioner applies to given {@code request}.
+     *
+     * @param request the request, never {@code null}
+     * @return whether this request partitioner applies to given {@code request}
+     */
+    boolean appliesTo(Object request);
+
+    /**
+     * Returns the name of the partition to which the given {@code request} belongs.
+     *
+     * @param request the request, never {@code null}
+     * @return the name of the partition, or {@code null} if the request doesn't belong to any partition
+     */
+    String partition(R request);
+}
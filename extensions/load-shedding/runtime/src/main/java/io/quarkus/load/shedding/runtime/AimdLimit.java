@@ -0,0 +1,59 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * A limit algorithm based on additive increase and multiplicative decrease, as implemented
+ * by the {@code AIMDLimit} of <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * The limit is increased by 1 for each successful request while the service uses at least half of it,
+ * and multiplied by the backoff ratio for each request that takes longer than the configured timeout.
+ */
+final class AimdLimit implements LimitAlgorithm {
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long timeout;
+
+    private volatile long currentLimit;
+    private volatile long lastRequestTime = -1;
+
+    AimdLimit(LoadSheddingRuntimeConfig config) {
+        LoadSheddingRuntimeConfig.Aimd aimd = config.aimd();
+        minLimit = config.minLimit();
+        maxLimit = config.maxLimit();
+        backoffRatio = aimd.backoffRatio();
+        timeout = aimd.timeout().toNanos() / 1_000;
+        currentLimit = config.initialLimit();
+    }
+
+    @Override
+    public long limit() {
+        return currentLimit;
+    }
+
+    @Override
+    public void update(long requestTime, int currentRequests) {
+        lastRequestTime = requestTime;
+
+        long currentLimit = this.currentLimit;
+        long newLimit;
+        if (requestTime > timeout) {
+            newLimit = (long) (currentLimit * backoffRatio);
+        } else if (2L * currentRequests >= currentLimit) {
+            newLimit = currentLimit + 1;
+        } else {
+            return;
+        }
+
+        this.currentLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    @Override
+    public long noLoadRoundTripTime() {
+        return -1;
+    }
+
+    @Override
+    public long lastRoundTripTime() {
+        return lastRequestTime;
+    }
+}
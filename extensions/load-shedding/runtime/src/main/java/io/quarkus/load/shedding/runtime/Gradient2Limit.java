@@ -0,0 +1,86 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * A limit algorithm based on the gradient of the short-term and long-term request times, as implemented
+ * by the {@code Gradient2Limit} of <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * The long-term request time is an exponential moving average that tracks the request time when the service
+ * is not overloaded. When the short-term request time (the last sample) grows past the long-term request time
+ * (multiplied by a tolerance), the limit is reduced proportionally, otherwise it grows by the queue size.
+ */
+final class Gradient2Limit implements LimitAlgorithm {
+    private static final int WARMUP_SAMPLES = 10;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int queueSize;
+    private final double smoothing;
+    private final double rttTolerance;
+    private final double longWindowFactor;
+
+    private volatile double estimatedLimit;
+    private volatile double longRtt;
+    private volatile long lastRtt = -1;
+
+    private int samples;
+
+    Gradient2Limit(LoadSheddingRuntimeConfig config) {
+        LoadSheddingRuntimeConfig.Gradient2 gradient2 = config.gradient2();
+        minLimit = config.minLimit();
+        maxLimit = config.maxLimit();
+        queueSize = gradient2.queueSize();
+        smoothing = gradient2.smoothing();
+        rttTolerance = gradient2.rttTolerance();
+        longWindowFactor = 2.0 / (gradient2.longWindow() + 1);
+        estimatedLimit = config.initialLimit();
+    }
+
+    @Override
+    public long limit() {
+        return (long) estimatedLimit;
+    }
+
+    @Override
+    public void update(long requestTime, int currentRequests) {
+        double shortRtt = Math.max(1, requestTime);
+        lastRtt = requestTime;
+
+        double longRtt;
+        if (samples < WARMUP_SAMPLES) {
+            // plain average until there are enough samples for the moving average to be meaningful
+            samples++;
+            longRtt = this.longRtt + (shortRtt - this.longRtt) / samples;
+        } else {
+            longRtt = this.longRtt * (1 - longWindowFactor) + shortRtt * longWindowFactor;
+        }
+
+        // if the long-term request time is substantially larger than the short-term one, the service
+        // has recovered from an overload and the long-term request time must be brought down faster
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+        this.longRtt = longRtt;
+
+        double estimatedLimit = this.estimatedLimit;
+
+        // don't grow the limit when the service is not using it
+        if (currentRequests < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRtt / shortRtt));
+        double newLimit = estimatedLimit * gradient + queueSize;
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    @Override
+    public long noLoadRoundTripTime() {
+        return samples == 0 ? -1 : (long) longRtt;
+    }
+
+    @Override
+    public long lastRoundTripTime() {
+        return lastRtt;
+    }
+}
@@ -14,14 +14,16 @@
 @Singleton
 public class HttpLoadShedding {
     public void init(@Observes @Priority(-1_000_000_000) Router router, OverloadDetector detector,
-            PriorityLoadShedding priority, LoadSheddingRuntimeConfig config) {
+            PriorityLoadShedding priority, LoadSheddingPartitions partitions, LoadSheddingRuntimeConfig config) {
 
         if (!config.enabled()) {
             return;
         }
 
         router.route().order(-1_000_000_000).handler(ctx -> {
-            if (detector.isOverloaded() && priority.shedLoad(ctx.request())) {
+            LoadSheddingPartitions.Partition partition = partitions.select(ctx.request());
+            boolean overloaded = partition != null ? partition.isOverloaded(detector) : detector.isOverloaded();
+            if (overloaded && priority.shedLoad(ctx.request())) {
                 HttpServerResponse response = ctx.response();
                 response.setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code());
                 response.headers().add(HttpHeaderNames.CONNECTION, "close");
@@ -34,12 +36,19 @@ public void handle(Void ignored) {
                 response.end();
             } else {
                 detector.requestBegin();
+                if (partition != null) {
+                    partition.detector().requestBegin();
+                }
                 long start = System.nanoTime();
                 ctx.addEndHandler(new Handler<AsyncResult<Void>>() {
                     @Override
                     public void handle(AsyncResult<Void> ignored) {
                         long end = System.nanoTime();
-                        detector.requestEnd((end - start) / 1_000);
+                        long timeInMicros = (end - start) / 1_000;
+                        detector.requestEnd(timeInMicros);
+                        if (partition != null) {
+                            partition.detector().requestEnd(timeInMicros);
+                        }
                     }
                 });
                 ctx.next();
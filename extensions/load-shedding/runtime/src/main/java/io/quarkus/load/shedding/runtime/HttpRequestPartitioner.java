@@ -0,0 +1,64 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import io.quarkus.load.shedding.RequestPartitioner;
+import io.vertx.core.http.HttpServerRequest;
+
+@Singleton
+public class HttpRequestPartitioner implements RequestPartitioner<HttpServerRequest> {
+    private final Map<String, String> exactPaths = new HashMap<>();
+    private final Map<String, String> prefixes = new HashMap<>();
+    private final int longestPrefix;
+
+    @Inject
+    HttpRequestPartitioner(LoadSheddingRuntimeConfig config) {
+        int longestPrefix = 0;
+        for (Map.Entry<String, LoadSheddingRuntimeConfig.Partition> entry : config.partitions().entrySet()) {
+            for (String path : entry.getValue().paths().orElse(List.of())) {
+                if (path.endsWith("/*")) {
+                    String prefix = path.substring(0, path.length() - 1);
+                    prefixes.put(prefix, entry.getKey());
+                    longestPrefix = Math.max(longestPrefix, prefix.length());
+                } else {
+                    exactPaths.put(path, entry.getKey());
+                }
+            }
+        }
+        this.longestPrefix = longestPrefix;
+    }
+
+    @Override
+    public boolean appliesTo(Object request) {
+        return request instanceof HttpServerRequest && (!exactPaths.isEmpty() || !prefixes.isEmpty());
+    }
+
+    @Override
+    public String partition(HttpServerRequest request) {
+        String path = request.path();
+        if (path == null) {
+            return null;
+        }
+
+        String partition = exactPaths.get(path);
+        if (partition != null) {
+            return partition;
+        }
+
+        // try the prefixes from the longest to the shortest, each ending with a slash
+        int end = path.lastIndexOf('/', Math.min(path.length() - 1, longestPrefix - 1));
+        while (end >= 0) {
+            partition = prefixes.get(path.substring(0, end + 1));
+            if (partition != null) {
+                return partition;
+            }
+            end = path.lastIndexOf('/', end - 1);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,33 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * An algorithm that computes the concurrency limit from the observed request times.
+ * <p>
+ * The {@link #update(long, int) update} method is always called serially by the {@link OverloadDetector},
+ * while the {@link #limit() limit} and the round-trip time estimates may be read concurrently.
+ */
+interface LimitAlgorithm {
+    /**
+     * @return the current concurrency limit
+     */
+    long limit();
+
+    /**
+     * Updates the concurrency limit after a request has finished.
+     *
+     * @param requestTime the time it took to process the request, in microseconds
+     * @param currentRequests the number of requests in flight when the request finished, including itself
+     */
+    void update(long requestTime, int currentRequests);
+
+    /**
+     * @return the estimated round-trip time of a request when the service is not overloaded,
+     *         in microseconds, or {@code -1} if not known yet
+     */
+    long noLoadRoundTripTime();
+
+    /**
+     * @return the round-trip time of the last sampled request, in microseconds, or {@code -1} if not known yet
+     */
+    long lastRoundTripTime();
+}
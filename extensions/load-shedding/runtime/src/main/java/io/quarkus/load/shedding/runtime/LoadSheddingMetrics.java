@@ -0,0 +1,58 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Singleton;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.quarkus.runtime.StartupEvent;
+
+/**
+ * Exposes the state of the {@link OverloadDetector} as Micrometer gauges.
+ * Only registered as a bean when the Micrometer extension is present.
+ */
+@Singleton
+public class LoadSheddingMetrics {
+    void register(@Observes StartupEvent event, OverloadDetector detector, LoadSheddingRuntimeConfig config) {
+        if (!config.enabled()) {
+            return;
+        }
+
+        MeterRegistry registry = Metrics.globalRegistry;
+        Tags tags = Tags.of("algorithm", config.algorithm().name().toLowerCase(Locale.ROOT));
+
+        Gauge.builder("load.shedding.limit", detector, OverloadDetector::currentLimit)
+                .description("The current limit of concurrent requests")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("load.shedding.requests.in.flight", detector, OverloadDetector::currentRequests)
+                .description("The current number of concurrent requests")
+                .tags(tags)
+                .register(registry);
+        TimeGauge.builder("load.shedding.rtt.no.load", detector, TimeUnit.MICROSECONDS,
+                requestTime(OverloadDetector::noLoadRequestTime))
+                .description("The estimated request time when the service is not overloaded")
+                .tags(tags)
+                .register(registry);
+        TimeGauge.builder("load.shedding.rtt.last", detector, TimeUnit.MICROSECONDS,
+                requestTime(OverloadDetector::lastRequestTime))
+                .description("The time of the last sampled request")
+                .tags(tags)
+                .register(registry);
+    }
+
+    private static ToDoubleFunction<OverloadDetector> requestTime(ToLongFunction<OverloadDetector> getter) {
+        return detector -> {
+            long value = getter.applyAsLong(detector);
+            return value < 0 ? Double.NaN : value;
+        };
+    }
+}
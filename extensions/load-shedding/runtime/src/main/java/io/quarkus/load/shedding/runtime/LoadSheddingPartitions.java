@@ -0,0 +1,104 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import io.quarkus.arc.All;
+import io.quarkus.load.shedding.RequestPartitioner;
+
+/**
+ * Holds the {@linkplain Partition partitions} of the concurrency limit and assigns them to requests
+ * using the {@link RequestPartitioner}s.
+ */
+@Singleton
+public class LoadSheddingPartitions {
+    @Inject
+    @All
+    List<RequestPartitioner<?>> requestPartitioners;
+
+    private final LoadSheddingRuntimeConfig config;
+
+    private final Map<String, Partition> partitions = new ConcurrentHashMap<>();
+
+    @Inject
+    LoadSheddingPartitions(LoadSheddingRuntimeConfig config) {
+        this.config = config;
+        for (Map.Entry<String, LoadSheddingRuntimeConfig.Partition> entry : config.partitions().entrySet()) {
+            partitions.put(entry.getKey(), createPartition(entry.getKey(), entry.getValue().minShare()));
+        }
+    }
+
+    /**
+     * Returns the partition of given {@code request}, or {@code null} if it doesn't belong to any partition.
+     */
+    public Partition select(Object request) {
+        if (requestPartitioners.isEmpty()) {
+            return null;
+        }
+
+        String name = null;
+        for (RequestPartitioner requestPartitioner : requestPartitioners) {
+            if (requestPartitioner.appliesTo(request)) {
+                name = requestPartitioner.partition(request);
+                break;
+            }
+        }
+        if (name == null) {
+            return null;
+        }
+
+        Partition partition = partitions.get(name);
+        if (partition == null) {
+            partition = partitions.computeIfAbsent(name, ignored -> createPartition(name, 0.0));
+        }
+        return partition;
+    }
+
+    private Partition createPartition(String name, double minShare) {
+        if (minShare < 0.0 || minShare > 1.0) {
+            throw new IllegalArgumentException("Invalid min share of load shedding partition " + name
+                    + ", must be between 0.0 and 1.0: " + minShare);
+        }
+        return new Partition(name, minShare, new OverloadDetector(OverloadDetector.createAlgorithm(config)));
+    }
+
+    /**
+     * A partition of the concurrency limit. Its own {@link OverloadDetector} tracks the requests of
+     * the partition only, while the global {@link OverloadDetector} keeps tracking all requests.
+     */
+    public static final class Partition {
+        private final String name;
+        private final double minShare;
+        private final OverloadDetector detector;
+
+        Partition(String name, double minShare, OverloadDetector detector) {
+            this.name = name;
+            this.minShare = minShare;
+            this.detector = detector;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public OverloadDetector detector() {
+            return detector;
+        }
+
+        /**
+         * Returns whether a request of this partition should be considered overloaded. That is the case
+         * when this partition is overloaded, or when the service is globally overloaded and this partition
+         * already uses its guaranteed share of the global limit.
+         */
+        public boolean isOverloaded(OverloadDetector global) {
+            if (detector.isOverloaded()) {
+                return true;
+            }
+            return global.isOverloaded() && detector.currentRequests() >= minShare * global.currentLimit();
+        }
+    }
+}
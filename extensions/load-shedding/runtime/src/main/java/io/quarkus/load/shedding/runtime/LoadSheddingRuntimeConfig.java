@@ -1,5 +1,11 @@
 package io.quarkus.load.shedding.runtime;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -16,12 +22,24 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("true")
     boolean enabled();
 
+    /**
+     * The algorithm used to compute the limit of concurrent requests allowed.
+     */
+    @WithDefault("vegas")
+    Algorithm algorithm();
+
     /**
      * The maximum number of concurrent requests allowed.
      */
     @WithDefault("1000")
     int maxLimit();
 
+    /**
+     * The minimum number of concurrent requests allowed.
+     */
+    @WithDefault("1")
+    int minLimit();
+
     /**
      * The {@code alpha} factor of the Vegas overload detection algorithm.
      */
@@ -46,11 +64,28 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("100")
     int initialLimit();
 
+    /**
+     * Configuration of the Gradient2 overload detection algorithm.
+     */
+    Gradient2 gradient2();
+
+    /**
+     * Configuration of the AIMD overload detection algorithm.
+     */
+    Aimd aimd();
+
     /**
      * Configuration of priority load shedding.
      */
     PriorityLoadShedding priority();
 
+    /**
+     * Partitions of the concurrency limit. Each partition has its own concurrency limit,
+     * computed by the configured algorithm, and may be guaranteed a share of the global limit.
+     */
+    @ConfigDocMapKey("partition-name")
+    Map<String, Partition> partitions();
+
     @ConfigGroup
     interface PriorityLoadShedding {
         /**
@@ -59,4 +94,86 @@ interface PriorityLoadShedding {
         @WithDefault("true")
         boolean enabled();
     }
+
+    @ConfigGroup
+    interface Partition {
+        /**
+         * The HTTP request paths that belong to this partition. A path ending with {@code /*}
+         * matches all paths with the same prefix, otherwise the path must match exactly.
+         * When multiple partitions match a request, the longest path wins.
+         */
+        Optional<List<String>> paths();
+
+        /**
+         * The share of the global concurrency limit that is guaranteed to this partition,
+         * between {@code 0.0} and {@code 1.0}. When the service is globally overloaded,
+         * requests of this partition are not rejected as long as the number of its concurrent
+         * requests is below this share of the global limit. Requests are still rejected
+         * when the partition itself is overloaded.
+         */
+        @WithDefault("0.0")
+        double minShare();
+    }
+
+    enum Algorithm {
+        /**
+         * Adaptation of TCP Vegas, which estimates the queue size from the lowest observed request time.
+         * Configured by {@code alpha-factor}, {@code beta-factor} and {@code probe-factor}.
+         */
+        VEGAS,
+        /**
+         * Gradient of the short-term and long-term request times.
+         * Configured by the {@code gradient2} group.
+         */
+        GRADIENT2,
+        /**
+         * Additive increase, multiplicative decrease, triggered by requests taking longer than a timeout.
+         * Configured by the {@code aimd} group.
+         */
+        AIMD,
+    }
+
+    @ConfigGroup
+    interface Gradient2 {
+        /**
+         * The number of requests the limit may grow by when the service is not overloaded.
+         */
+        @WithDefault("4")
+        int queueSize();
+
+        /**
+         * The smoothing factor applied to limit changes, between {@code 0.0} (no change) and {@code 1.0}
+         * (no smoothing).
+         */
+        @WithDefault("0.2")
+        double smoothing();
+
+        /**
+         * The tolerated ratio of the current request time to the long-term request time before the limit
+         * is reduced.
+         */
+        @WithDefault("1.5")
+        double rttTolerance();
+
+        /**
+         * The number of requests over which the long-term request time is averaged.
+         */
+        @WithDefault("600")
+        int longWindow();
+    }
+
+    @ConfigGroup
+    interface Aimd {
+        /**
+         * The ratio by which the limit is multiplied when a request takes longer than {@code timeout}.
+         */
+        @WithDefault("0.9")
+        double backoffRatio();
+
+        /**
+         * The request time after which the service is considered overloaded.
+         */
+        @WithDefault("5s")
+        Duration timeout();
+    }
 }
@@ -0,0 +1,82 @@
+package io.quarkus.micrometer.deployment.export;
+
+import static org.hamcrest.Matchers.containsString;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+
+public class PrometheusScrapeSnapshotTest {
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setFlatClassPath(true)
+            .withConfigurationResource("test-logging.properties")
+            .overrideConfigKey("quarkus.micrometer.binder-enabled-default", "false")
+            .overrideConfigKey("quarkus.micrometer.export.prometheus.enabled", "true")
+            .overrideConfigKey("quarkus.micrometer.export.prometheus.compression", "true")
+            .overrideConfigKey("quarkus.micrometer.export.prometheus.snapshot-ttl", "1h")
+            .overrideConfigKey("quarkus.micrometer.registry-enabled-default", "false")
+            .overrideConfigKey("quarkus.redis.devservices.enabled", "false")
+            .withEmptyApplication();
+
+    @Inject
+    PrometheusMeterRegistry registry;
+
+    @Test
+    public void metricsEndpoint() {
+        Counter counter = registry.counter("snapshot.test");
+        counter.increment();
+
+        String first = RestAssured.given()
+                .accept("text/plain")
+                .get("/q/metrics")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Vary", "Accept-Encoding")
+                .body(containsString("snapshot_test_total 1.0"))
+                .extract().asString();
+
+        // The snapshot is reused within the TTL
+        counter.increment();
+        String second = RestAssured.given()
+                .accept("text/plain")
+                .get("/q/metrics")
+                .then()
+                .statusCode(200)
+                .extract().asString();
+        Assertions.assertEquals(first, second);
+
+        // Each encoding has its own snapshot
+        String identity = RestAssured.given()
+                .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .accept("text/plain")
+                .get("/q/metrics")
+                .then()
+                .statusCode(200)
+                .body(containsString("snapshot_test_total 2.0"))
+                .extract().header("Content-Encoding");
+        Assertions.assertNull(identity);
+
+        // gzip is explicitly not acceptable
+        String refused = RestAssured.given()
+                .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .accept("text/plain")
+                .header("Accept-Encoding", "gzip;q=0")
+                .get("/q/metrics")
+                .then()
+                .statusCode(200)
+                .header("Vary", "Accept-Encoding")
+                .body(containsString("snapshot_test_total 2.0"))
+                .extract().header("Content-Encoding");
+        Assertions.assertNull(refused);
+    }
+}
@@ -1,5 +1,6 @@
 package io.quarkus.micrometer.runtime.config;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
@@ -44,4 +45,21 @@ public interface PrometheusConfigGroup extends MicrometerConfig.CapabilityEnable
      */
     @WithDefault("true")
     boolean defaultRegistry();
+
+    /**
+     * Whether the scrape output is compressed with gzip when the scraper accepts it.
+     * <p>
+     * The output of a registry with many time series compresses very well, which reduces the size of each scrape
+     * considerably at the expense of some CPU time.
+     */
+    @WithDefault("false")
+    boolean compression();
+
+    /**
+     * The duration for which a serialized scrape output is reused.
+     * <p>
+     * If set, the scrapes that arrive within this duration, e.g. from several Prometheus replicas, share a single
+     * serialization of the registry. By default, the registry is serialized for every scrape.
+     */
+    Optional<Duration> snapshotTtl();
 }
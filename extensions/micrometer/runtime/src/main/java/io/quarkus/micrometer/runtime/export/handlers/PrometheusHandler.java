@@ -1,5 +1,17 @@
 package io.quarkus.micrometer.runtime.export.handlers;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
 import jakarta.enterprise.inject.Default;
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.spi.CDI;
@@ -7,18 +19,30 @@
 import org.jboss.logging.Logger;
 
 import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.netty.buffer.Unpooled;
 import io.prometheus.client.exporter.common.TextFormat;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ManagedContext;
+import io.quarkus.micrometer.runtime.config.MicrometerConfig;
+import io.quarkus.micrometer.runtime.config.PrometheusConfigGroup;
+import io.quarkus.vertx.utils.VertxJavaIoContext;
+import io.quarkus.vertx.utils.VertxOutputStream;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
 
 public class PrometheusHandler implements Handler<RoutingContext> {
     private static final Logger log = Logger.getLogger(PrometheusHandler.class);
 
+    // The output is written in pooled chunks of at least 1 KiB and flushed to the connection every 16 KiB
+    private static final int MIN_CHUNK_SIZE = 1024;
+    private static final int OUTPUT_BUFFER_SIZE = 16 * 1024;
+
     private PrometheusMeterRegistry registry;
+    private boolean compression;
+    private Snapshots snapshots;
 
     private boolean setup = false;
 
@@ -36,11 +60,11 @@ public void handle(RoutingContext routingContext) {
             ManagedContext requestContext = Arc.container().requestContext();
             var acceptHeader = chooseContentType(routingContext.request().getHeader("Accept"));
             if (requestContext.isActive()) {
-                doHandle(response, acceptHeader);
+                doHandle(routingContext, acceptHeader);
             } else {
                 requestContext.activate();
                 try {
-                    doHandle(response, acceptHeader);
+                    doHandle(routingContext, acceptHeader);
                 } finally {
                     requestContext.terminate();
                 }
@@ -58,9 +82,92 @@ private String chooseContentType(String acceptHeader) {
         return TextFormat.CONTENT_TYPE_OPENMETRICS_100;
     }
 
-    private void doHandle(HttpServerResponse response, String acceptHeader) {
-        response.putHeader("Content-Type", acceptHeader)
-                .end(Buffer.buffer(registry.scrape(acceptHeader)));
+    /**
+     * Returns {@code true} if the given {@code Accept-Encoding} header value allows {@code gzip}, either explicitly or
+     * through the {@code *} wildcard. A coding with {@code q=0} is not acceptable.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String coding : acceptEncoding.split(",")) {
+            int paramsIdx = coding.indexOf(';');
+            String name = (paramsIdx < 0 ? coding : coding.substring(0, paramsIdx)).trim();
+            boolean gzip = name.equalsIgnoreCase("gzip");
+            if (gzip || name.equals("*")) {
+                boolean acceptable = paramsIdx < 0 || qValue(coding.substring(paramsIdx + 1)) > 0;
+                if (gzip) {
+                    // An explicit gzip coding takes precedence over the wildcard
+                    return acceptable;
+                }
+                wildcard = acceptable;
+            }
+        }
+        return wildcard;
+    }
+
+    private static float qValue(String params) {
+        for (String param : params.split(";")) {
+            param = param.trim();
+            if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                try {
+                    return Float.parseFloat(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    // An invalid weight is not acceptable
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private void doHandle(RoutingContext routingContext, String acceptHeader) {
+        HttpServerResponse response = routingContext.response();
+        boolean gzip = compression && acceptsGzip(routingContext.request().getHeader(HttpHeaders.ACCEPT_ENCODING));
+        response.putHeader("Content-Type", acceptHeader);
+        if (compression) {
+            // The encoding of the output depends on the Accept-Encoding header of the request
+            response.putHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (gzip) {
+            response.putHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        if (snapshots != null) {
+            byte[] snapshot;
+            try {
+                snapshot = snapshots.get(acceptHeader, gzip);
+            } catch (IOException e) {
+                response.headers().remove(HttpHeaders.CONTENT_ENCODING);
+                routingContext.fail(e);
+                return;
+            }
+            // The snapshot is shared by concurrent scrapes, so it's wrapped rather than copied
+            response.end(Buffer.buffer(Unpooled.wrappedBuffer(snapshot)));
+        } else {
+            // Stream the output in chunks so that the whole exposition is never held in memory
+            VertxOutputStream out = new VertxOutputStream(
+                    new VertxJavaIoContext(routingContext, MIN_CHUNK_SIZE, OUTPUT_BUFFER_SIZE));
+            try {
+                scrape(out, acceptHeader, gzip);
+            } catch (IOException | RuntimeException e) {
+                // Part of the output may have been sent already, the only option is to abort the response
+                log.debugf(e, "Unable to write the Prometheus scrape output");
+                response.reset();
+                // Release the buffered chunks, nothing may be written to the reset response
+                out.discard();
+            }
+        }
+    }
+
+    private void scrape(OutputStream out, String contentType, boolean gzip) throws IOException {
+        if (gzip) {
+            out = new GZIPOutputStream(out, MIN_CHUNK_SIZE);
+        }
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        registry.scrape(writer, contentType);
+        // Not closed if the scrape fails, a partial output must not end the response
+        writer.close();
     }
 
     private void setup() {
@@ -77,6 +184,89 @@ private void setup() {
             registry = registries.get();
         }
 
+        PrometheusConfigGroup config = CDI.current().select(MicrometerConfig.class).get().export().prometheus();
+        compression = config.compression();
+        Duration snapshotTtl = config.snapshotTtl().orElse(null);
+        if (snapshotTtl != null && !snapshotTtl.isZero() && !snapshotTtl.isNegative()) {
+            snapshots = new Snapshots(snapshotTtl.toNanos());
+        }
+
         setup = true;
     }
+
+    /**
+     * Serialized scrape outputs, one for each content type and encoding. A snapshot is reused until it expires. The first
+     * scrape that finds it expired serializes the registry again, while the concurrent scrapes are served the expired
+     * snapshot instead of waiting for the result. If the serialization fails then only the scrape that performed it fails,
+     * the expired snapshot is kept and the next scrape tries again. There is nothing to serve before the first snapshot
+     * exists, so the concurrent first scrapes wait for it.
+     */
+    final class Snapshots {
+
+        private final long ttl;
+        private final ConcurrentMap<String, Slot> slots = new ConcurrentHashMap<>();
+
+        Snapshots(long ttl) {
+            this.ttl = ttl;
+        }
+
+        byte[] get(String contentType, boolean gzip) throws IOException {
+            Slot slot = slots.computeIfAbsent(gzip ? contentType + ";gzip" : contentType, k -> new Slot());
+            Snapshot snapshot = slot.snapshot;
+            if (snapshot != null) {
+                if (snapshot.isValid(ttl) || !slot.refreshing.compareAndSet(false, true)) {
+                    // Valid, or expired and being refreshed by another scrape
+                    return snapshot.bytes;
+                }
+                try {
+                    // Another scrape may have refreshed the snapshot in the meantime
+                    snapshot = slot.snapshot;
+                    return snapshot.isValid(ttl) ? snapshot.bytes : refresh(slot, snapshot, contentType, gzip);
+                } finally {
+                    slot.refreshing.set(false);
+                }
+            }
+            synchronized (slot) {
+                snapshot = slot.snapshot;
+                if (snapshot != null) {
+                    return snapshot.bytes;
+                }
+                return refresh(slot, null, contentType, gzip);
+            }
+        }
+
+        private byte[] refresh(Slot slot, Snapshot previous, String contentType, boolean gzip) throws IOException {
+            // The previous snapshot is a good estimate of the size of the output
+            ByteArrayOutputStream out = new ByteArrayOutputStream(
+                    previous != null ? previous.bytes.length + MIN_CHUNK_SIZE : OUTPUT_BUFFER_SIZE);
+            scrape(out, contentType, gzip);
+            Snapshot snapshot = new Snapshot(out.toByteArray(), System.nanoTime());
+            slot.snapshot = snapshot;
+            return snapshot.bytes;
+        }
+
+    }
+
+    static final class Slot {
+
+        volatile Snapshot snapshot;
+        final AtomicBoolean refreshing = new AtomicBoolean();
+
+    }
+
+    static final class Snapshot {
+
+        final byte[] bytes;
+        final long timestamp;
+
+        Snapshot(byte[] bytes, long timestamp) {
+            this.bytes = bytes;
+            this.timestamp = timestamp;
+        }
+
+        boolean isValid(long ttl) {
+            return System.nanoTime() - timestamp < ttl;
+        }
+
+    }
 }
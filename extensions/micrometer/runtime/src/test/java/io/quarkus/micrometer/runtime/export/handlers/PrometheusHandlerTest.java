@@ -0,0 +1,27 @@
+package io.quarkus.micrometer.runtime.export.handlers;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PrometheusHandlerTest {
+
+    @Test
+    public void testAcceptsGzip() {
+        Assertions.assertTrue(PrometheusHandler.acceptsGzip("gzip"));
+        Assertions.assertTrue(PrometheusHandler.acceptsGzip("deflate, GZIP"));
+        Assertions.assertTrue(PrometheusHandler.acceptsGzip("gzip;q=0.5, deflate"));
+        Assertions.assertTrue(PrometheusHandler.acceptsGzip("deflate, *"));
+        Assertions.assertTrue(PrometheusHandler.acceptsGzip("*;q=0, gzip"));
+
+        Assertions.assertFalse(PrometheusHandler.acceptsGzip(null));
+        Assertions.assertFalse(PrometheusHandler.acceptsGzip(""));
+        Assertions.assertFalse(PrometheusHandler.acceptsGzip("deflate, br"));
+        Assertions.assertFalse(PrometheusHandler.acceptsGzip("x-gzipped"));
+        Assertions.assertFalse(PrometheusHandler.acceptsGzip("gzip;q=0"));
+        Assertions.assertFalse(PrometheusHandler.acceptsGzip("gzip; q=0.000, deflate"));
+        Assertions.assertFalse(PrometheusHandler.acceptsGzip("gzip;q=0, *"));
+        Assertions.assertFalse(PrometheusHandler.acceptsGzip("*;q=0"));
+        Assertions.assertFalse(PrometheusHandler.acceptsGzip("gzip;q=invalid"));
+    }
+
+}
@@ -57,6 +57,8 @@
 import io.quarkus.deployment.builditem.nativeimage.NativeImageProxyDefinitionBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.logging.LogCleanupFilterBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.quartz.Nonconcurrent;
 import io.quarkus.quartz.runtime.QuarkusQuartzConnectionPoolProvider;
 import io.quarkus.quartz.runtime.QuartzBuildTimeConfig;
@@ -69,11 +71,14 @@
 import io.quarkus.quartz.runtime.jdbc.QuarkusHSQLDBDelegate;
 import io.quarkus.quartz.runtime.jdbc.QuarkusMSSQLDelegate;
 import io.quarkus.quartz.runtime.jdbc.QuarkusPostgreSQLDelegate;
+import io.quarkus.quartz.runtime.jdbc.QuarkusPostgreSQLSkipLockedDelegate;
 import io.quarkus.quartz.runtime.jdbc.QuarkusStdJDBCDelegate;
+import io.quarkus.quartz.runtime.jdbc.QuarkusStdJDBCSkipLockedDelegate;
 import io.quarkus.runtime.configuration.ConfigurationException;
 import io.quarkus.scheduler.Scheduled;
 import io.quarkus.scheduler.deployment.ScheduledBusinessMethodItem;
 import io.quarkus.scheduler.deployment.SchedulerImplementationBuildItem;
+import io.quarkus.scheduler.runtime.SchedulerConfig;
 
 public class QuartzProcessor {
 
@@ -174,7 +179,9 @@ QuartzJDBCDriverDialectBuildItem driver(List<JdbcDataSourceBuildItem> jdbcDataSo
                         config.dataSourceName().isPresent() ? config.dataSourceName().get() : "default");
                 throw new ConfigurationException(message);
             }
-            driverDelegate = Optional.of(guessDriver(selectedJdbcDataSourceBuildItem));
+            driverDelegate = Optional.of(config.skipLockedTriggerAcquisition()
+                    ? skipLockedDriver(selectedJdbcDataSourceBuildItem.get())
+                    : guessDriver(selectedJdbcDataSourceBuildItem));
         }
         return new QuartzJDBCDriverDialectBuildItem(driverDelegate);
     }
@@ -201,6 +208,20 @@ private String guessDriver(Optional<JdbcDataSourceBuildItem> jdbcDataSource) {
         return QuarkusStdJDBCDelegate.class.getName();
     }
 
+    private String skipLockedDriver(JdbcDataSourceBuildItem jdbcDataSource) {
+        String dataSourceKind = jdbcDataSource.getDbKind();
+        if (DatabaseKind.isPostgreSQL(dataSourceKind)) {
+            return QuarkusPostgreSQLSkipLockedDelegate.class.getName();
+        }
+        if (DatabaseKind.isMySQL(dataSourceKind) || DatabaseKind.isMariaDB(dataSourceKind)) {
+            return QuarkusStdJDBCSkipLockedDelegate.class.getName();
+        }
+        // Oracle does not support a row limiting clause with FOR UPDATE, so all the due triggers would be locked
+        throw new ConfigurationException(String.format(
+                "The skip locked trigger acquisition is not supported for the '%s' datasource of kind '%s'. Supported databases are PostgreSQL, MySQL and MariaDB.",
+                jdbcDataSource.getName(), dataSourceKind));
+    }
+
     @BuildStep
     List<ReflectiveClassBuildItem> reflectiveClasses(QuartzBuildTimeConfig config,
             QuartzJDBCDriverDialectBuildItem driverDialect) {
@@ -235,7 +256,8 @@ List<ReflectiveClassBuildItem> reflectiveClasses(QuartzBuildTimeConfig config,
                 .add(ReflectiveClassBuildItem.builder(CascadingClassLoadHelper.class, InitThreadContextClassLoadHelper.class)
                         .reason(getClass().getName())
                         .build());
-        reflectiveClasses.add(ReflectiveClassBuildItem.builder(config.storeType().clazz)
+        reflectiveClasses.add(ReflectiveClassBuildItem.builder(
+                config.storeType().jobStoreClass(config.skipLockedTriggerAcquisition()))
                 .reason(getClass().getName())
                 .methods().fields().build());
 
@@ -303,7 +325,8 @@ public List<LogCleanupFilterBuildItem> logCleanup(QuartzBuildTimeConfig config)
                 "Scheduler meta-data:",
                 "Scheduler "));
 
-        logCleanUps.add(new LogCleanupFilterBuildItem(config.storeType().clazz, config.storeType().simpleName
+        String jobStoreClass = config.storeType().jobStoreClass(config.skipLockedTriggerAcquisition());
+        logCleanUps.add(new LogCleanupFilterBuildItem(jobStoreClass, config.storeType().simpleName
                 + " initialized.", "Handling", "Using db table-based data access locking",
                 "JDBCJobStore threads will inherit ContextClassLoader of thread",
                 "Couldn't rollback jdbc connection", "Database connection shutdown unsuccessful"));
@@ -326,6 +349,17 @@ public void start(BuildProducer<ServiceStartBuildItem> serviceStart,
         serviceStart.produce(new ServiceStartBuildItem("quartz"));
     }
 
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    void jobStoreMetrics(QuartzBuildTimeConfig buildTimeConfig, SchedulerConfig schedulerConfig,
+            Optional<MetricsCapabilityBuildItem> metricsCapability, QuartzRecorder recorder,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (buildTimeConfig.storeType().isDbStore() && buildTimeConfig.skipLockedTriggerAcquisition()
+                && schedulerConfig.metricsEnabled() && metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerJobStoreMetrics()));
+        }
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
     public void quartzSupportBean(QuartzRuntimeConfig runtimeConfig, QuartzBuildTimeConfig buildTimeConfig,
@@ -0,0 +1,16 @@
+package io.quarkus.quartz.test.skiplocked;
+
+import java.util.concurrent.CountDownLatch;
+
+import io.quarkus.scheduler.Scheduled;
+
+public class Jobs {
+
+    static final CountDownLatch LATCH = new CountDownLatch(2);
+
+    @Scheduled(every = "1s")
+    void everySecond() {
+        LATCH.countDown();
+    }
+
+}
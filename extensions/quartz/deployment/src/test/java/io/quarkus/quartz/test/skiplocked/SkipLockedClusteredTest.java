@@ -0,0 +1,212 @@
+package io.quarkus.quartz.test.skiplocked;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobKey;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.Trigger.CompletedExecutionInstruction;
+import org.quartz.TriggerBuilder;
+import org.quartz.TriggerKey;
+import org.quartz.simpl.CascadingClassLoadHelper;
+import org.quartz.spi.OperableTrigger;
+import org.quartz.spi.SchedulerSignaler;
+import org.quartz.spi.TriggerFiredResult;
+import org.quartz.utils.ConnectionProvider;
+import org.quartz.utils.DBConnectionManager;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.quartz.runtime.jdbc.QuarkusPostgreSQLSkipLockedDelegate;
+import io.quarkus.quartz.runtime.jdbc.SkipLockedJobStoreTX;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Two nodes of a cluster, i.e. two skip locked job stores of the same scheduler, acquire triggers from the same tables.
+ */
+public class SkipLockedClusteredTest {
+
+    private static final String SCHED_NAME = "skip-locked-cluster";
+    private static final String DATA_SOURCE = "skip-locked-cluster";
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(ConcurrentJob.class, NonconcurrentJob.class)
+                    .addAsResource("quartz-tables-postgres.sql"))
+            .overrideConfigKey("quarkus.datasource.db-kind", "postgresql")
+            .overrideConfigKey("quarkus.datasource.devservices.init-script-path", "quartz-tables-postgres.sql")
+            .overrideConfigKey("quarkus.quartz.store-type", "jdbc-tx")
+            .overrideConfigKey("quarkus.quartz.clustered", "true")
+            .overrideConfigKey("quarkus.quartz.skip-locked-trigger-acquisition", "true");
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Test
+    public void testNodesAcquireDifferentTriggers() throws Exception {
+        DBConnectionManager.getInstance().addConnectionProvider(DATA_SOURCE, new ConnectionProvider() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return dataSource.getConnection();
+            }
+
+            @Override
+            public void shutdown() {
+            }
+
+            @Override
+            public void initialize() {
+            }
+        });
+        SkipLockedJobStoreTX first = createNode("first");
+        SkipLockedJobStoreTX second = createNode("second");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            long now = System.currentTimeMillis();
+            JobDetail job = JobBuilder.newJob(ConcurrentJob.class).withIdentity("concurrent", "test").storeDurably()
+                    .build();
+            first.storeJob(job, false);
+            Set<TriggerKey> expected = new HashSet<>();
+            for (int i = 0; i < 40; i++) {
+                expected.add(storeTrigger(first, job.getKey(), "concurrent-" + i, now));
+            }
+
+            // Both nodes acquire triggers in parallel, each trigger is acquired exactly once
+            Future<List<TriggerKey>> firstTriggers = executor.submit(acquireAll(first, now));
+            Future<List<TriggerKey>> secondTriggers = executor.submit(acquireAll(second, now));
+            List<TriggerKey> acquired = new ArrayList<>(firstTriggers.get(10, TimeUnit.SECONDS));
+            acquired.addAll(secondTriggers.get(10, TimeUnit.SECONDS));
+            assertEquals(expected.size(), acquired.size());
+            assertEquals(expected, new HashSet<>(acquired));
+
+            JobDetail nonconcurrent = JobBuilder.newJob(NonconcurrentJob.class).withIdentity("nonconcurrent", "test")
+                    .storeDurably().build();
+            first.storeJob(nonconcurrent, false);
+            storeTrigger(first, nonconcurrent.getKey(), "nonconcurrent-1", now);
+            storeTrigger(first, nonconcurrent.getKey(), "nonconcurrent-2", now);
+
+            List<OperableTrigger> firstAcquired = first.acquireNextTriggers(now + 1000, 10, 0);
+            assertEquals(1, firstAcquired.size());
+            // The other trigger of the job is released because the job is already acquired by the first node
+            assertEquals(0, second.acquireNextTriggers(now + 1000, 10, 0).size());
+            assertEquals(Trigger.TriggerState.NORMAL, second.getTriggerState(otherTrigger(firstAcquired.get(0))));
+
+            List<TriggerFiredResult> fired = first.triggersFired(firstAcquired);
+            assertEquals(1, fired.size());
+            // The job is executing, its other trigger is blocked
+            assertEquals(Trigger.TriggerState.BLOCKED, second.getTriggerState(otherTrigger(firstAcquired.get(0))));
+            assertEquals(0, second.acquireNextTriggers(now + 1000, 10, 0).size());
+
+            first.triggeredJobComplete(firstAcquired.get(0), fired.get(0).getTriggerFiredBundle().getJobDetail(),
+                    CompletedExecutionInstruction.NOOP);
+            List<OperableTrigger> secondAcquired = second.acquireNextTriggers(now + 1000, 10, 0);
+            assertEquals(1, secondAcquired.size());
+            assertEquals(otherTrigger(firstAcquired.get(0)), secondAcquired.get(0).getKey());
+        } finally {
+            executor.shutdownNow();
+            first.shutdown();
+            second.shutdown();
+        }
+    }
+
+    private static SkipLockedJobStoreTX createNode(String instanceId) throws SchedulerException {
+        SkipLockedJobStoreTX store = new SkipLockedJobStoreTX();
+        store.setInstanceName(SCHED_NAME);
+        store.setInstanceId(instanceId);
+        store.setDataSource(DATA_SOURCE);
+        store.setDriverDelegateClass(QuarkusPostgreSQLSkipLockedDelegate.class.getName());
+        store.setIsClustered(true);
+        CascadingClassLoadHelper loadHelper = new CascadingClassLoadHelper();
+        loadHelper.initialize();
+        store.initialize(loadHelper, new NoopSignaler());
+        return store;
+    }
+
+    private static TriggerKey storeTrigger(SkipLockedJobStoreTX store, JobKey job, String name, long now)
+            throws SchedulerException {
+        OperableTrigger trigger = (OperableTrigger) TriggerBuilder.newTrigger().withIdentity(name, "test").forJob(job)
+                .startAt(new Date(now - 1000)).build();
+        trigger.computeFirstFireTime(null);
+        store.storeTrigger(trigger, false);
+        return trigger.getKey();
+    }
+
+    private static Callable<List<TriggerKey>> acquireAll(SkipLockedJobStoreTX store, long now) {
+        return () -> {
+            List<TriggerKey> acquired = new ArrayList<>();
+            List<OperableTrigger> triggers;
+            do {
+                triggers = store.acquireNextTriggers(now + 1000, 3, 0);
+                for (OperableTrigger trigger : triggers) {
+                    acquired.add(trigger.getKey());
+                }
+            } while (!triggers.isEmpty());
+            return acquired;
+        };
+    }
+
+    private static TriggerKey otherTrigger(OperableTrigger trigger) {
+        return TriggerKey.triggerKey(trigger.getKey().getName().equals("nonconcurrent-1") ? "nonconcurrent-2"
+                : "nonconcurrent-1", "test");
+    }
+
+    public static class ConcurrentJob implements Job {
+
+        @Override
+        public void execute(JobExecutionContext context) {
+        }
+    }
+
+    @DisallowConcurrentExecution
+    public static class NonconcurrentJob implements Job {
+
+        @Override
+        public void execute(JobExecutionContext context) {
+        }
+    }
+
+    static class NoopSignaler implements SchedulerSignaler {
+
+        @Override
+        public void notifyTriggerListenersMisfired(Trigger trigger) {
+        }
+
+        @Override
+        public void notifySchedulerListenersFinalized(Trigger trigger) {
+        }
+
+        @Override
+        public void notifySchedulerListenersJobDeleted(JobKey jobKey) {
+        }
+
+        @Override
+        public void signalSchedulingChange(long candidateNewNextFireTime) {
+        }
+
+        @Override
+        public void notifySchedulerListenersError(String string, SchedulerException jpe) {
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package io.quarkus.quartz.test.skiplocked;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.SimpleTimer;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.quartz.TriggerKey;
+import org.slf4j.LoggerFactory;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.quartz.QuartzScheduler;
+import io.quarkus.quartz.runtime.jdbc.QuarkusPostgreSQLSkipLockedDelegate;
+import io.quarkus.quartz.runtime.jdbc.SkipLockedJobStoreTX;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class SkipLockedTriggerAcquisitionTest {
+
+    private static final String SCHED_NAME = "skip-locked-test";
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class)
+                    .addAsResource("quartz-tables-postgres.sql"))
+            .overrideConfigKey("quarkus.datasource.db-kind", "postgresql")
+            .overrideConfigKey("quarkus.datasource.devservices.init-script-path", "quartz-tables-postgres.sql")
+            .overrideConfigKey("quarkus.quartz.store-type", "jdbc-tx")
+            .overrideConfigKey("quarkus.quartz.skip-locked-trigger-acquisition", "true")
+            .overrideConfigKey("quarkus.scheduler.metrics.enabled", "true");
+
+    @Inject
+    QuartzScheduler scheduler;
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Inject
+    @RegistryType(type = MetricRegistry.Type.VENDOR)
+    MetricRegistry metricRegistry;
+
+    @Test
+    public void testJobStore() throws Exception {
+        assertEquals(SkipLockedJobStoreTX.class, scheduler.getScheduler().getMetaData().getJobStoreClass());
+        // The triggers are acquired by the skip locked job store
+        assertTrue(Jobs.LATCH.await(10, TimeUnit.SECONDS));
+
+        // The metrics are tagged with the name of the scheduler
+        Tag scheduler = new Tag("scheduler", "QuarkusQuartzScheduler");
+        Counter acquired = metricRegistry.getCounter(new MetricID("quartz.triggers.acquired", scheduler));
+        assertNotNull(acquired);
+        assertTrue(acquired.getCount() >= 2);
+        SimpleTimer acquisition = metricRegistry.getSimpleTimer(new MetricID("quartz.triggers.acquisition", scheduler));
+        assertNotNull(acquisition);
+        assertTrue(acquisition.getCount() > 0);
+        assertNotNull(metricRegistry.getCounter(new MetricID("quartz.triggers.misfired", scheduler)));
+    }
+
+    @Test
+    public void testSelectTriggerToAcquire() throws Exception {
+        long now = System.currentTimeMillis();
+        try (Connection conn = dataSource.getConnection()) {
+            insertTriggers(conn, now, "t1", "t2", "t3");
+        }
+        QuarkusPostgreSQLSkipLockedDelegate delegate = new QuarkusPostgreSQLSkipLockedDelegate();
+        delegate.initialize(LoggerFactory.getLogger(SkipLockedTriggerAcquisitionTest.class), "QRTZ_", SCHED_NAME,
+                "test", null, false, null);
+
+        try (Connection first = dataSource.getConnection(); Connection second = dataSource.getConnection()) {
+            first.setAutoCommit(false);
+            second.setAutoCommit(false);
+            try {
+                List<TriggerKey> firstTriggers = delegate.selectTriggerToAcquire(first, now + 1000, 0, 1);
+                assertEquals(1, firstTriggers.size());
+                // Only the selected row is locked, the other node gets the remaining triggers
+                List<TriggerKey> secondTriggers = delegate.selectTriggerToAcquire(second, now + 1000, 0, 10);
+                assertEquals(2, secondTriggers.size());
+                assertFalse(secondTriggers.contains(firstTriggers.get(0)));
+                Set<TriggerKey> all = new HashSet<>(firstTriggers);
+                all.addAll(secondTriggers);
+                assertEquals(3, all.size());
+            } finally {
+                first.rollback();
+                second.rollback();
+            }
+        }
+    }
+
+    private static void insertTriggers(Connection conn, long now, String... names) throws SQLException {
+        try (Statement statement = conn.createStatement()) {
+            statement.executeUpdate("INSERT INTO qrtz_job_details (sched_name, job_name, job_group, job_class_name,"
+                    + " is_durable, is_nonconcurrent, is_update_data, requests_recovery)"
+                    + " VALUES ('" + SCHED_NAME + "', 'job', 'test', 'org.quartz.Job', true, false, false, false)");
+        }
+        try (PreparedStatement ps = conn.prepareStatement("INSERT INTO qrtz_triggers (sched_name, trigger_name,"
+                + " trigger_group, job_name, job_group, next_fire_time, priority, trigger_state, trigger_type, start_time,"
+                + " misfire_instr) VALUES (?, ?, 'test', 'job', 'test', ?, 5, 'WAITING', 'SIMPLE', ?, -1)")) {
+            for (String name : names) {
+                ps.setString(1, SCHED_NAME);
+                ps.setString(2, name);
+                ps.setLong(3, now - 1000);
+                ps.setLong(4, now - 1000);
+                ps.executeUpdate();
+            }
+        }
+    }
+}
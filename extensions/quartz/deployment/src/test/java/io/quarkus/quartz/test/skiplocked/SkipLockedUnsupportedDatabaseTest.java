@@ -0,0 +1,24 @@
+package io.quarkus.quartz.test.skiplocked;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class SkipLockedUnsupportedDatabaseTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setExpectedException(ConfigurationException.class)
+            .withApplicationRoot((jar) -> jar.addClasses(Jobs.class))
+            .overrideConfigKey("quarkus.datasource.db-kind", "h2")
+            .overrideConfigKey("quarkus.quartz.store-type", "jdbc-tx")
+            .overrideConfigKey("quarkus.quartz.skip-locked-trigger-acquisition", "true");
+
+    @Test
+    public void shouldFailAndNotReachHere() {
+        Assertions.fail();
+    }
+}
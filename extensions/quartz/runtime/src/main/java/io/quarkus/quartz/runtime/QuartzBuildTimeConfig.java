@@ -30,6 +30,19 @@ public interface QuartzBuildTimeConfig {
     @WithDefault("15000")
     long clusterCheckinInterval();
 
+    /**
+     * If set to true, the JDBC job store claims the due triggers with {@code SELECT ... FOR UPDATE SKIP LOCKED} instead of
+     * acquiring them under the {@code TRIGGER_ACCESS} lock, so that the nodes of a cluster acquire triggers in parallel.
+     * <p>
+     * Only supported with PostgreSQL, MySQL 8+ and MariaDB 10.6+. Ignored if using a `ram` store i.e
+     * {@link StoreType#RAM}.
+     * <p>
+     * If metrics are enabled, the trigger acquisition time and the number of acquired and misfired triggers are
+     * recorded.
+     */
+    @WithDefault("false")
+    boolean skipLockedTriggerAcquisition();
+
     /**
      * The type of store to use.
      * <p>
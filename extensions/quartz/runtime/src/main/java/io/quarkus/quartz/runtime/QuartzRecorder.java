@@ -2,9 +2,12 @@
 
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import io.quarkus.quartz.runtime.jdbc.JobStoreMetrics;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 @Recorder
 public class QuartzRecorder {
@@ -19,4 +22,13 @@ public QuartzSupport get() {
         };
     }
 
+    public Consumer<MetricsFactory> registerJobStoreMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                JobStoreMetrics.setMetricsFactory(metricsFactory);
+            }
+        };
+    }
+
 }
@@ -585,7 +585,8 @@ private Properties getSchedulerConfigurationProperties(QuartzSupport quartzSuppo
         props.put(StdSchedulerFactory.PROP_THREAD_POOL_PREFIX + ".threadPriority", "" + runtimeConfig.threadPriority());
         props.put(StdSchedulerFactory.PROP_SCHED_RMI_EXPORT, "false");
         props.put(StdSchedulerFactory.PROP_SCHED_RMI_PROXY, "false");
-        props.put(StdSchedulerFactory.PROP_JOB_STORE_CLASS, buildTimeConfig.storeType().clazz);
+        props.put(StdSchedulerFactory.PROP_JOB_STORE_CLASS,
+                buildTimeConfig.storeType().jobStoreClass(buildTimeConfig.skipLockedTriggerAcquisition()));
 
         // The org.quartz.jobStore.misfireThreshold can be used for all supported job stores
         props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".misfireThreshold",
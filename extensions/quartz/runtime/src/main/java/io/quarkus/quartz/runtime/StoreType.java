@@ -1,16 +1,28 @@
 package io.quarkus.quartz.runtime;
 
 public enum StoreType {
-    RAM("org.quartz.simpl.RAMJobStore", "RAMJobStore"),
-    JDBC_TX("org.quartz.impl.jdbcjobstore.JobStoreTX", "JobStoreTX"),
-    JDBC_CMT("org.quartz.impl.jdbcjobstore.JobStoreCMT", "JobStoreCMT");
+    RAM("org.quartz.simpl.RAMJobStore", "RAMJobStore", null),
+    JDBC_TX("org.quartz.impl.jdbcjobstore.JobStoreTX", "JobStoreTX",
+            "io.quarkus.quartz.runtime.jdbc.SkipLockedJobStoreTX"),
+    JDBC_CMT("org.quartz.impl.jdbcjobstore.JobStoreCMT", "JobStoreCMT",
+            "io.quarkus.quartz.runtime.jdbc.SkipLockedJobStoreCMT");
 
     public final String clazz;
     public final String simpleName;
+    public final String skipLockedClazz;
 
-    StoreType(String clazz, String simpleName) {
+    StoreType(String clazz, String simpleName, String skipLockedClazz) {
         this.clazz = clazz;
         this.simpleName = simpleName;
+        this.skipLockedClazz = skipLockedClazz;
+    }
+
+    /**
+     * @return the job store class to use
+     * @see QuartzBuildTimeConfig#skipLockedTriggerAcquisition()
+     */
+    public String jobStoreClass(boolean skipLockedTriggerAcquisition) {
+        return skipLockedTriggerAcquisition && skipLockedClazz != null ? skipLockedClazz : clazz;
     }
 
     public boolean isDbStore() {
@@ -3,8 +3,24 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.quartz.TriggerKey;
+import org.quartz.impl.jdbcjobstore.Constants;
 
 class DBDelegateUtils {
+    /**
+     * Appended to the {@code SELECT_NEXT_TRIGGER_TO_ACQUIRE} statement, which ends with an {@code ORDER BY} clause. The
+     * syntax is supported by PostgreSQL, MySQL 8+ and MariaDB 10.6+.
+     */
+    static final String SKIP_LOCKED_LIMIT = " LIMIT ? FOR UPDATE SKIP LOCKED";
+
     /**
      * A method to deserialize a marshalled object in an input stream.
      * This implementation uses {@link QuarkusObjectInputStream} instead of {@link ObjectInputStream} to workaround
@@ -23,4 +39,36 @@ static Object getObjectFromInput(InputStream binaryInput) throws ClassNotFoundEx
             in.close();
         }
     }
+
+    /**
+     * Same as {@link org.quartz.impl.jdbcjobstore.StdJDBCDelegate#selectTriggerToAcquire(Connection, long, long, int)},
+     * except that the selected rows are locked, and rows locked by another node are skipped. The number of rows is limited
+     * in the statement itself so that only the returned rows are locked. The rows stay locked until the acquisition
+     * transaction completes, so that the nodes of a cluster acquire different triggers in parallel.
+     *
+     * @param selectSql The {@code SELECT_NEXT_TRIGGER_TO_ACQUIRE} statement with the table prefix and scheduler name
+     *        replaced
+     * @see #SKIP_LOCKED_LIMIT
+     */
+    static List<TriggerKey> selectTriggerToAcquireSkipLocked(Connection conn, String selectSql, long noLaterThan,
+            long noEarlierThan, int maxCount) throws SQLException {
+        if (maxCount < 1) {
+            maxCount = 1;
+        }
+        try (PreparedStatement ps = conn.prepareStatement(selectSql + SKIP_LOCKED_LIMIT)) {
+            ps.setFetchSize(maxCount);
+            ps.setString(1, Constants.STATE_WAITING);
+            ps.setBigDecimal(2, new BigDecimal(String.valueOf(noLaterThan)));
+            ps.setBigDecimal(3, new BigDecimal(String.valueOf(noEarlierThan)));
+            ps.setInt(4, maxCount);
+            List<TriggerKey> nextTriggers = new ArrayList<>(maxCount);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    nextTriggers.add(TriggerKey.triggerKey(rs.getString(Constants.COL_TRIGGER_NAME),
+                            rs.getString(Constants.COL_TRIGGER_GROUP)));
+                }
+            }
+            return nextTriggers;
+        }
+    }
 }
@@ -0,0 +1,69 @@
+package io.quarkus.quartz.runtime.jdbc;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+
+/**
+ * Trigger acquisition and misfire statistics of a skip locked job store, tagged with the name of its scheduler.
+ * <p>
+ * The job stores are instantiated by Quartz, hence the metrics factory is set statically when the application starts.
+ *
+ * @see SkipLockedJobStoreTX
+ * @see SkipLockedJobStoreCMT
+ */
+public final class JobStoreMetrics {
+
+    private static volatile MetricsFactory metricsFactory;
+
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder misfired = new LongAdder();
+    private final TimeRecorder acquisitionTimer;
+
+    private JobStoreMetrics(String schedulerName) {
+        MetricsFactory metricsFactory = JobStoreMetrics.metricsFactory;
+        if (metricsFactory == null) {
+            acquisitionTimer = null;
+            return;
+        }
+        acquisitionTimer = metricsFactory.builder("quartz.triggers.acquisition")
+                .description("Time spent acquiring the next triggers to fire")
+                .tag("scheduler", schedulerName)
+                .buildTimer();
+        metricsFactory.builder("quartz.triggers.acquired")
+                .description("Number of triggers acquired by this node")
+                .tag("scheduler", schedulerName)
+                .buildCounter(acquired::sum);
+        metricsFactory.builder("quartz.triggers.misfired")
+                .description("Number of misfired triggers handled by this node")
+                .tag("scheduler", schedulerName)
+                .buildCounter(misfired::sum);
+    }
+
+    public static void setMetricsFactory(MetricsFactory metricsFactory) {
+        JobStoreMetrics.metricsFactory = metricsFactory;
+    }
+
+    /**
+     * @param schedulerName
+     * @return the metrics of the job store of the given scheduler, registered if the metrics are enabled
+     */
+    static JobStoreMetrics create(String schedulerName) {
+        return new JobStoreMetrics(schedulerName);
+    }
+
+    void acquisition(long nanos, int triggers) {
+        acquired.add(triggers);
+        if (acquisitionTimer != null) {
+            acquisitionTimer.update(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    void misfires(int triggers) {
+        if (triggers > 0) {
+            misfired.add(triggers);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package io.quarkus.quartz.runtime.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.quartz.TriggerKey;
+
+/**
+ * Claims due triggers with {@code SELECT ... FOR UPDATE SKIP LOCKED}, see
+ * {@link DBDelegateUtils#selectTriggerToAcquireSkipLocked(Connection, String, long, long, int)}.
+ */
+public class QuarkusPostgreSQLSkipLockedDelegate extends QuarkusPostgreSQLDelegate {
+
+    @Override
+    public List<TriggerKey> selectTriggerToAcquire(Connection conn, long noLaterThan, long noEarlierThan, int maxCount)
+            throws SQLException {
+        return DBDelegateUtils.selectTriggerToAcquireSkipLocked(conn, rtp(SELECT_NEXT_TRIGGER_TO_ACQUIRE), noLaterThan,
+                noEarlierThan, maxCount);
+    }
+}
@@ -0,0 +1,43 @@
+package io.quarkus.quartz.runtime.jdbc;
+
+import java.util.List;
+
+import org.quartz.JobPersistenceException;
+import org.quartz.SchedulerConfigException;
+import org.quartz.impl.jdbcjobstore.JobStoreCMT;
+import org.quartz.spi.ClassLoadHelper;
+import org.quartz.spi.OperableTrigger;
+import org.quartz.spi.SchedulerSignaler;
+
+/**
+ * The {@link JobStoreCMT} variant of {@link SkipLockedJobStoreTX}.
+ */
+public class SkipLockedJobStoreCMT extends JobStoreCMT {
+
+    private JobStoreMetrics metrics;
+
+    @Override
+    public void initialize(ClassLoadHelper loadHelper, SchedulerSignaler signaler) throws SchedulerConfigException {
+        super.initialize(loadHelper, signaler);
+        metrics = JobStoreMetrics.create(getInstanceName());
+    }
+
+    @Override
+    public List<OperableTrigger> acquireNextTriggers(long noLaterThan, int maxCount, long timeWindow)
+            throws JobPersistenceException {
+        long start = System.nanoTime();
+        List<OperableTrigger> triggers = executeInNonManagedTXLock(null,
+                conn -> SkipLockedTriggerAcquisition.releaseBlocked(conn, getDelegate(),
+                        acquireNextTrigger(conn, noLaterThan, maxCount, timeWindow), key -> retrieveJob(conn, key)),
+                (conn, result) -> SkipLockedTriggerAcquisition.isAcquired(conn, getDelegate(), getInstanceId(), result));
+        metrics.acquisition(System.nanoTime() - start, triggers.size());
+        return triggers;
+    }
+
+    @Override
+    protected RecoverMisfiredJobsResult doRecoverMisfires() throws JobPersistenceException {
+        RecoverMisfiredJobsResult result = super.doRecoverMisfires();
+        metrics.misfires(result.getProcessedMisfiredTriggerCount());
+        return result;
+    }
+}
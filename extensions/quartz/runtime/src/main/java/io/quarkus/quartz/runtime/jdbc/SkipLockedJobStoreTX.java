@@ -0,0 +1,48 @@
+package io.quarkus.quartz.runtime.jdbc;
+
+import java.util.List;
+
+import org.quartz.JobPersistenceException;
+import org.quartz.SchedulerConfigException;
+import org.quartz.impl.jdbcjobstore.JobStoreTX;
+import org.quartz.spi.ClassLoadHelper;
+import org.quartz.spi.OperableTrigger;
+import org.quartz.spi.SchedulerSignaler;
+
+/**
+ * A {@link JobStoreTX} that acquires triggers without the {@code TRIGGER_ACCESS} lock.
+ * <p>
+ * The driver delegate claims the due triggers with {@code SELECT ... FOR UPDATE SKIP LOCKED} and the state of each trigger
+ * is then updated from {@code WAITING} to {@code ACQUIRED} conditionally, so a trigger can't be acquired twice. An acquired
+ * trigger of a {@code @DisallowConcurrentExecution} job is released if another trigger of the job is acquired or executing.
+ * Firing and releasing triggers still happens under the lock.
+ */
+public class SkipLockedJobStoreTX extends JobStoreTX {
+
+    private JobStoreMetrics metrics;
+
+    @Override
+    public void initialize(ClassLoadHelper loadHelper, SchedulerSignaler signaler) throws SchedulerConfigException {
+        super.initialize(loadHelper, signaler);
+        metrics = JobStoreMetrics.create(getInstanceName());
+    }
+
+    @Override
+    public List<OperableTrigger> acquireNextTriggers(long noLaterThan, int maxCount, long timeWindow)
+            throws JobPersistenceException {
+        long start = System.nanoTime();
+        List<OperableTrigger> triggers = executeInNonManagedTXLock(null,
+                conn -> SkipLockedTriggerAcquisition.releaseBlocked(conn, getDelegate(),
+                        acquireNextTrigger(conn, noLaterThan, maxCount, timeWindow), key -> retrieveJob(conn, key)),
+                (conn, result) -> SkipLockedTriggerAcquisition.isAcquired(conn, getDelegate(), getInstanceId(), result));
+        metrics.acquisition(System.nanoTime() - start, triggers.size());
+        return triggers;
+    }
+
+    @Override
+    protected RecoverMisfiredJobsResult doRecoverMisfires() throws JobPersistenceException {
+        RecoverMisfiredJobsResult result = super.doRecoverMisfires();
+        metrics.misfires(result.getProcessedMisfiredTriggerCount());
+        return result;
+    }
+}
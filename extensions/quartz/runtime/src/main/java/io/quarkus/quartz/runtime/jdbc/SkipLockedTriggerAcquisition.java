@@ -0,0 +1,102 @@
+package io.quarkus.quartz.runtime.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.JobPersistenceException;
+import org.quartz.impl.jdbcjobstore.Constants;
+import org.quartz.impl.jdbcjobstore.DriverDelegate;
+import org.quartz.impl.jdbcjobstore.FiredTriggerRecord;
+import org.quartz.spi.OperableTrigger;
+
+/**
+ * The parts of the trigger acquisition of {@link SkipLockedJobStoreTX} and {@link SkipLockedJobStoreCMT} that run without
+ * the {@code TRIGGER_ACCESS} lock.
+ */
+final class SkipLockedTriggerAcquisition {
+
+    private SkipLockedTriggerAcquisition() {
+    }
+
+    /**
+     * Without the lock, another node may acquire or fire a trigger of a {@code @DisallowConcurrentExecution} job while the
+     * triggers of this node are acquired. The acquired triggers of such jobs that have another fired trigger record, i.e.
+     * another trigger that is acquired or executing, are released so that they are acquired again once the job is no
+     * longer blocked.
+     *
+     * @return the triggers that remain acquired
+     */
+    static List<OperableTrigger> releaseBlocked(Connection conn, DriverDelegate delegate, List<OperableTrigger> triggers,
+            JobLoader jobLoader) throws JobPersistenceException {
+        List<OperableTrigger> acquired = null;
+        for (int i = 0; i < triggers.size(); i++) {
+            OperableTrigger trigger = triggers.get(i);
+            JobDetail job = jobLoader.load(trigger.getJobKey());
+            if (job != null && job.isConcurrentExectionDisallowed() && isBlocked(conn, delegate, trigger)) {
+                try {
+                    delegate.updateTriggerStateFromOtherState(conn, trigger.getKey(), Constants.STATE_WAITING,
+                            Constants.STATE_ACQUIRED);
+                    delegate.deleteFiredTrigger(conn, trigger.getFireInstanceId());
+                } catch (SQLException e) {
+                    throw new JobPersistenceException("Couldn't release acquired trigger: " + e.getMessage(), e);
+                }
+                if (acquired == null) {
+                    acquired = new ArrayList<>(triggers.subList(0, i));
+                }
+            } else if (acquired != null) {
+                acquired.add(trigger);
+            }
+        }
+        return acquired == null ? triggers : acquired;
+    }
+
+    private static boolean isBlocked(Connection conn, DriverDelegate delegate, OperableTrigger trigger)
+            throws JobPersistenceException {
+        try {
+            for (FiredTriggerRecord record : delegate.selectFiredTriggerRecordsByJob(conn, trigger.getJobKey().getName(),
+                    trigger.getJobKey().getGroup())) {
+                if (!record.getFireInstanceId().equals(trigger.getFireInstanceId())) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (SQLException e) {
+            throw new JobPersistenceException("Couldn't select fired triggers of job: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Same as the transaction validator of
+     * {@link org.quartz.impl.jdbcjobstore.JobStoreSupport#acquireNextTriggers(long, int, long)}: if the commit of the
+     * acquisition failed, the triggers are still acquired if their fired trigger records exist.
+     */
+    static boolean isAcquired(Connection conn, DriverDelegate delegate, String instanceId, List<OperableTrigger> triggers)
+            throws JobPersistenceException {
+        try {
+            Set<String> fireInstanceIds = new HashSet<>();
+            for (FiredTriggerRecord record : delegate.selectInstancesFiredTriggerRecords(conn, instanceId)) {
+                fireInstanceIds.add(record.getFireInstanceId());
+            }
+            for (OperableTrigger trigger : triggers) {
+                if (fireInstanceIds.contains(trigger.getFireInstanceId())) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (SQLException e) {
+            throw new JobPersistenceException("Error validating trigger acquisition", e);
+        }
+    }
+
+    interface JobLoader {
+
+        JobDetail load(JobKey key) throws JobPersistenceException;
+
+    }
+}
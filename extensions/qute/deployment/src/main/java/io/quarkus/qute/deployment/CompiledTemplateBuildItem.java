@@ -0,0 +1,27 @@
+package io.quarkus.qute.deployment;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * Holds a name of a generated {@link io.quarkus.qute.CompiledTemplate} class and the path of the template it was compiled
+ * from.
+ */
+public final class CompiledTemplateBuildItem extends MultiBuildItem {
+
+    private final String path;
+    private final String className;
+
+    public CompiledTemplateBuildItem(String path, String className) {
+        this.path = path;
+        this.className = className;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+}
@@ -0,0 +1,532 @@
+package io.quarkus.qute.deployment;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+import org.jboss.jandex.Type.Kind;
+import org.jboss.logging.Logger;
+
+import io.quarkus.gizmo.BranchResult;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.gizmo.WhileLoop;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Expression;
+import io.quarkus.qute.Expressions;
+import io.quarkus.qute.IfSectionHelper;
+import io.quarkus.qute.LoopSectionHelper;
+import io.quarkus.qute.Parameter;
+import io.quarkus.qute.ParameterDeclarationNode;
+import io.quarkus.qute.SectionBlock;
+import io.quarkus.qute.SectionNode;
+import io.quarkus.qute.TemplateNode;
+import io.quarkus.qute.deployment.TemplatesAnalysisBuildItem.TemplateAnalysis;
+import io.quarkus.qute.generator.ValueResolverGenerator;
+
+/**
+ * Generates {@link CompiledTemplate} implementations for type-safe templates.
+ * <p>
+ * Only a subset of templates is compiled: text, output expressions that consist of a type-safe root and properties, i.e.
+ * no-args methods and fields, {@code #if} sections with a single operand and an optional {@code #else} block, and
+ * {@code #for}/{@code #each} sections that iterate over a parameterized {@link Iterable}. If a template contains anything
+ * else, no class is generated and the template is always interpreted.
+ */
+final class CompiledTemplateGenerator {
+
+    private static final Logger LOGGER = Logger.getLogger(CompiledTemplateGenerator.class);
+
+    static final String SUFFIX = "_CompiledTemplate";
+
+    // Large templates could exceed the method size limit
+    private static final int MAX_NODES = 1000;
+    // A string constant may not exceed 65535 bytes in the modified UTF-8 encoding
+    private static final int MAX_TEXT_LENGTH = 16 * 1024;
+
+    private static final MethodDescriptor CONTEXT_DATA = MethodDescriptor.ofMethod(CompiledTemplate.Context.class, "data",
+            Object.class, String.class);
+    private static final MethodDescriptor CONTEXT_FALLBACK = MethodDescriptor.ofMethod(CompiledTemplate.Context.class,
+            "fallback", void.class);
+    private static final MethodDescriptor CONTEXT_APPEND_TEXT = MethodDescriptor.ofMethod(CompiledTemplate.Context.class,
+            "append", void.class, String.class);
+    private static final MethodDescriptor CONTEXT_APPEND_VALUE = MethodDescriptor.ofMethod(CompiledTemplate.Context.class,
+            "append", void.class, Object.class, int.class);
+    private static final MethodDescriptor CONTEXT_IS_TRUTHY = MethodDescriptor.ofMethod(CompiledTemplate.Context.class,
+            "isTruthy", boolean.class, Object.class);
+    private static final MethodDescriptor ITERABLE_ITERATOR = MethodDescriptor.ofMethod(Iterable.class, "iterator",
+            Iterator.class);
+    private static final MethodDescriptor ITERATOR_HAS_NEXT = MethodDescriptor.ofMethod(Iterator.class, "hasNext",
+            boolean.class);
+    private static final MethodDescriptor ITERATOR_NEXT = MethodDescriptor.ofMethod(Iterator.class, "next", Object.class);
+
+    private static final DotName OBJECT = DotName.createSimple(Object.class);
+
+    private static final Set<DotName> ITERABLES = Set.of(DotName.createSimple(Iterable.class),
+            DotName.createSimple(java.util.Collection.class), DotName.createSimple(List.class),
+            DotName.createSimple(Set.class));
+
+    // Built-in value resolvers apply to these types
+    private static final Set<DotName> BUILTIN_TYPES = Set.of(DotName.createSimple(Iterable.class),
+            DotName.createSimple(Map.class), DotName.createSimple(Map.Entry.class));
+
+    private static final Set<DotName> ASYNC_TYPES = Set.of(Names.COMPLETION_STAGE,
+            DotName.createSimple(CompletableFuture.class), Names.UNI, DotName.createSimple("io.smallrye.mutiny.Multi"));
+
+    private final IndexView index;
+    private final ClassOutput classOutput;
+    private final Predicate<String> extensionMethodName;
+    private final Set<DotName> excludedClasses;
+    private final Set<String> generatedTypes;
+
+    /**
+     *
+     * @param index
+     * @param classOutput
+     * @param extensionMethodName matches the names of properties that could be resolved by a template extension method
+     * @param excludedClasses the classes whose members cannot be accessed directly, e.g. {@code @TemplateData#ignore()} is
+     *        used
+     */
+    CompiledTemplateGenerator(IndexView index, ClassOutput classOutput, Predicate<String> extensionMethodName,
+            Set<DotName> excludedClasses) {
+        this.index = index;
+        this.classOutput = classOutput;
+        this.extensionMethodName = extensionMethodName;
+        this.excludedClasses = excludedClasses;
+        this.generatedTypes = new HashSet<>();
+    }
+
+    /**
+     *
+     * @param analysis
+     * @param checkedTemplate
+     * @return the name of the generated class or {@code null} if the template cannot be compiled
+     */
+    String generate(TemplateAnalysis analysis, CheckedTemplateBuildItem checkedTemplate) {
+        if (analysis.findNodes(n -> true).size() > MAX_NODES) {
+            LOGGER.debugf("Template %s not compiled: too many nodes", analysis.path);
+            return null;
+        }
+        ClassInfo declaringClass = checkedTemplate.isRecord() ? checkedTemplate.recordClass
+                : checkedTemplate.method.declaringClass();
+        String packageName = declaringClass.name().packagePrefix();
+        String baseName = declaringClass.name().withoutPackagePrefix().replace("$",
+                ValueResolverGenerator.NESTED_SEPARATOR) + "_" + sanitize(analysis.path);
+        if (packageName != null) {
+            baseName = packageName.replace('.', '/') + "/" + baseName;
+        }
+        String generatedName = baseName + SUFFIX;
+        for (int idx = 1; !generatedTypes.add(generatedName); idx++) {
+            generatedName = baseName + idx + SUFFIX;
+        }
+
+        ClassCreator compiledTemplate = ClassCreator.builder().classOutput(classOutput).className(generatedName)
+                .interfaces(CompiledTemplate.class).build();
+
+        MethodCreator getFingerprint = compiledTemplate.getMethodCreator("getFingerprint", String.class);
+        getFingerprint.returnValue(getFingerprint.load(CompiledTemplate.fingerprint(analysis.getNodes())));
+
+        MethodCreator render = compiledTemplate.getMethodCreator("render", void.class, CompiledTemplate.Context.class);
+        try {
+            Compilation compilation = new Compilation(analysis, packageName, render.getMethodParam(0));
+            // Load the data used by the template first
+            Scope root = new Scope(null);
+            Set<String> usedNames = new HashSet<>();
+            for (Expression expression : analysis.expressions) {
+                if (!expression.hasNamespace() && !expression.isLiteral()) {
+                    usedNames.add(expression.getParts().get(0).getName());
+                }
+            }
+            for (Map.Entry<String, String> binding : checkedTemplate.bindings.entrySet()) {
+                if (usedNames.contains(binding.getKey())) {
+                    ResultHandle value = render.invokeInterfaceMethod(CONTEXT_DATA, compilation.context,
+                            render.load(binding.getKey()));
+                    root.put(binding.getKey(), new Value(value,
+                            TypeInfos.resolveTypeFromTypeInfo(Expressions.typeInfoFrom(binding.getValue())), false));
+                }
+            }
+            compilation.compileNodes(render, analysis.getNodes(), root);
+        } catch (Unsupported e) {
+            LOGGER.debugf("Template %s not compiled: %s", analysis.path, e.getMessage());
+            return null;
+        }
+        render.returnValue(null);
+        compiledTemplate.close();
+        return generatedName.replace('/', '.');
+    }
+
+    private static String sanitize(String path) {
+        StringBuilder builder = new StringBuilder(path.length());
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            builder.append(Character.isJavaIdentifierPart(c) ? c : '_');
+        }
+        return builder.toString();
+    }
+
+    private class Compilation {
+
+        private final TemplateAnalysis analysis;
+        private final String packageName;
+        private final ResultHandle context;
+
+        Compilation(TemplateAnalysis analysis, String packageName, ResultHandle context) {
+            this.analysis = analysis;
+            this.packageName = packageName;
+            this.context = context;
+        }
+
+        void compileNodes(BytecodeCreator bc, List<TemplateNode> nodes, Scope scope) {
+            StringBuilder text = new StringBuilder();
+            for (TemplateNode node : nodes) {
+                if (node.isText()) {
+                    text.append(node.asText().getValue());
+                    continue;
+                }
+                appendText(bc, text);
+                if (node.isExpression()) {
+                    Expression expression = node.asExpression().expression;
+                    Value value = evaluate(bc, expression, scope);
+                    bc.invokeInterfaceMethod(CONTEXT_APPEND_VALUE, context, value.handle,
+                            bc.load(indexOf(expression)));
+                } else if (node.isSection()) {
+                    SectionNode section = node.asSection();
+                    if (section.getHelper() instanceof IfSectionHelper) {
+                        compileIf(bc, section, scope);
+                    } else if (section.getHelper() instanceof LoopSectionHelper) {
+                        compileLoop(bc, section, scope);
+                    } else {
+                        throw new Unsupported("section " + section.getName());
+                    }
+                } else if (node instanceof ParameterDeclarationNode) {
+                    if (((ParameterDeclarationNode) node).getDefaultValue() != null) {
+                        throw new Unsupported("parameter declaration with default value");
+                    }
+                } else {
+                    throw new Unsupported("node " + node);
+                }
+            }
+            appendText(bc, text);
+        }
+
+        private void appendText(BytecodeCreator bc, StringBuilder text) {
+            for (int start = 0; start < text.length(); start += MAX_TEXT_LENGTH) {
+                bc.invokeInterfaceMethod(CONTEXT_APPEND_TEXT, context,
+                        bc.load(text.substring(start, Math.min(text.length(), start + MAX_TEXT_LENGTH))));
+            }
+            text.setLength(0);
+        }
+
+        private void compileIf(BytecodeCreator bc, SectionNode section, Scope scope) {
+            List<SectionBlock> blocks = section.getBlocks();
+            SectionBlock main = blocks.get(0);
+            if (main.parameters.size() != 1 || main.expressions.size() != 1) {
+                throw new Unsupported("#if with operators");
+            }
+            Expression condition = main.expressions.values().iterator().next();
+            if (!condition.toOriginalString().equals(main.parameters.values().iterator().next())) {
+                throw new Unsupported("#if with operators");
+            }
+            SectionBlock elseBlock = elseBlock(blocks);
+            Value value = evaluate(bc, condition, scope);
+            ResultHandle truthy;
+            if (value.type != null && value.type.kind() == Kind.PRIMITIVE
+                    && value.type.asPrimitiveType().primitive() == PrimitiveType.Primitive.BOOLEAN) {
+                truthy = value.handle;
+            } else {
+                truthy = bc.invokeInterfaceMethod(CONTEXT_IS_TRUTHY, context, value.handle);
+            }
+            BranchResult branch = bc.ifTrue(truthy);
+            compileNodes(branch.trueBranch(), main.nodes, scope);
+            if (elseBlock != null) {
+                compileNodes(branch.falseBranch(), elseBlock.nodes, scope);
+            }
+        }
+
+        private void compileLoop(BytecodeCreator bc, SectionNode section, Scope scope) {
+            List<SectionBlock> blocks = section.getBlocks();
+            SectionBlock main = blocks.get(0);
+            Expression iterable = main.expressions.get("iterable");
+            if (iterable == null) {
+                throw new Unsupported("#for without iterable");
+            }
+            String alias = main.parameters.get("alias");
+            if (alias == null || alias.equals(Parameter.EMPTY)) {
+                alias = "it";
+            }
+            SectionBlock elseBlock = elseBlock(blocks);
+            Value value = evaluate(bc, iterable, scope);
+            Type elementType = null;
+            if (value.type != null && value.type.kind() == Kind.PARAMETERIZED_TYPE && ITERABLES.contains(value.type.name())) {
+                Type argument = value.type.asParameterizedType().arguments().get(0);
+                if (argument.kind() == Kind.CLASS || argument.kind() == Kind.PARAMETERIZED_TYPE) {
+                    elementType = argument;
+                }
+            }
+            if (elementType == null) {
+                throw new Unsupported("iteration over " + value.type);
+            }
+            // Null is a no-op
+            BytecodeCreator notNull = bc.ifNotNull(value.handle).trueBranch();
+            ResultHandle iterableHandle = value.handle;
+            if (!value.checked) {
+                notNull.ifFalse(notNull.instanceOf(iterableHandle, Iterable.class)).trueBranch()
+                        .invokeInterfaceMethod(CONTEXT_FALLBACK, context);
+                iterableHandle = notNull.checkCast(iterableHandle, Iterable.class);
+            }
+            ResultHandle iterator = notNull.invokeInterfaceMethod(ITERABLE_ITERATOR, iterableHandle);
+            if (elseBlock != null) {
+                compileNodes(notNull.ifFalse(notNull.invokeInterfaceMethod(ITERATOR_HAS_NEXT, iterator)).trueBranch(),
+                        elseBlock.nodes, scope);
+            }
+            WhileLoop loop = notNull.whileLoop(c -> c.ifTrue(c.invokeInterfaceMethod(ITERATOR_HAS_NEXT, iterator)));
+            BytecodeCreator block = loop.block();
+            ResultHandle element = block.invokeInterfaceMethod(ITERATOR_NEXT, iterator);
+            Scope loopScope = new Scope(scope);
+            loopScope.put(alias, new Value(element, elementType, false));
+            compileNodes(block, main.nodes, loopScope);
+        }
+
+        private SectionBlock elseBlock(List<SectionBlock> blocks) {
+            if (blocks.size() == 1) {
+                return null;
+            }
+            SectionBlock elseBlock = blocks.get(1);
+            if (blocks.size() > 2 || !elseBlock.label.equals("else") || !elseBlock.parameters.isEmpty()) {
+                throw new Unsupported("blocks other than #else");
+            }
+            return elseBlock;
+        }
+
+        private Value evaluate(BytecodeCreator bc, Expression expression, Scope scope) {
+            if (expression.isLiteral() || expression.hasNamespace()) {
+                throw new Unsupported("expression " + expression.toOriginalString());
+            }
+            List<Expression.Part> parts = expression.getParts();
+            Value value = scope.get(parts.get(0).getName());
+            if (value == null) {
+                throw new Unsupported("unknown data " + parts.get(0).getName());
+            }
+            for (Expression.Part part : parts.subList(1, parts.size())) {
+                if (part.isVirtualMethod()) {
+                    throw new Unsupported("virtual method " + part.getName());
+                }
+                if (extensionMethodName.test(part.getName())) {
+                    throw new Unsupported("template extension method may apply to " + part.getName());
+                }
+                ClassInfo clazz = value.type != null
+                        && (value.type.kind() == Kind.CLASS || value.type.kind() == Kind.PARAMETERIZED_TYPE)
+                                ? index.getClassByName(value.type.name())
+                                : null;
+                if (clazz == null || clazz.name().toString().startsWith("java.") || excludedClasses.contains(clazz.name())
+                        || !isAccessible(clazz)) {
+                    throw new Unsupported("properties of " + value.type);
+                }
+                AnnotationTarget member = findMember(clazz, part.getName());
+                if (member == null) {
+                    throw new Unsupported("property " + part.getName() + " of " + clazz);
+                }
+                String className = clazz.name().toString();
+                ResultHandle target;
+                if (value.checked) {
+                    bc.ifNull(value.handle).trueBranch().invokeInterfaceMethod(CONTEXT_FALLBACK, context);
+                    target = value.handle;
+                } else {
+                    bc.ifFalse(bc.instanceOf(value.handle, className)).trueBranch()
+                            .invokeInterfaceMethod(CONTEXT_FALLBACK, context);
+                    target = bc.checkCast(value.handle, className);
+                }
+                ResultHandle result;
+                Type resultType;
+                if (member.kind() == AnnotationTarget.Kind.METHOD) {
+                    MethodInfo method = member.asMethod();
+                    MethodDescriptor descriptor = MethodDescriptor.of(method);
+                    descriptor = MethodDescriptor.ofMethod(className, descriptor.getName(), descriptor.getReturnType());
+                    result = clazz.isInterface() ? bc.invokeInterfaceMethod(descriptor, target)
+                            : bc.invokeVirtualMethod(descriptor, target);
+                    resultType = method.returnType();
+                } else {
+                    FieldInfo field = member.asField();
+                    result = bc.readInstanceField(
+                            FieldDescriptor.of(className, field.name(), FieldDescriptor.of(field).getType()), target);
+                    resultType = field.type();
+                }
+                if (ASYNC_TYPES.contains(resultType.name())) {
+                    throw new Unsupported("asynchronous property " + part.getName());
+                }
+                switch (resultType.kind()) {
+                    case CLASS:
+                    case PARAMETERIZED_TYPE:
+                    case PRIMITIVE:
+                    case ARRAY:
+                        value = new Value(result, resultType, true);
+                        break;
+                    default:
+                        // Type variables and the like are erased
+                        value = new Value(result, null, false);
+                        break;
+                }
+            }
+            return value;
+        }
+
+        private boolean isAccessible(ClassInfo clazz) {
+            if (Modifier.isPublic(clazz.flags())) {
+                return true;
+            }
+            String classPackage = clazz.name().packagePrefix();
+            return packageName == null ? classPackage == null : packageName.equals(classPackage);
+        }
+
+        private int indexOf(Expression expression) {
+            for (int i = 0; i < analysis.expressions.size(); i++) {
+                if (analysis.expressions.get(i) == expression) {
+                    return i;
+                }
+            }
+            throw new Unsupported("expression " + expression.toOriginalString() + " not found");
+        }
+
+    }
+
+    /**
+     * Mirrors the lookup of the generated value resolvers, i.e. no-args methods sorted by name and then fields.
+     *
+     * @see ValueResolverGenerator
+     */
+    private AnnotationTarget findMember(ClassInfo clazz, String name) {
+        Map<String, MethodInfo> methods = new HashMap<>();
+        List<FieldInfo> fields = new ArrayList<>();
+        List<ClassInfo> interfaces = new ArrayList<>();
+        ClassInfo target = clazz;
+        while (target != null) {
+            for (MethodInfo method : target.methods()) {
+                if (isProperty(method)) {
+                    // Subclass first
+                    methods.putIfAbsent(method.name(), method);
+                }
+            }
+            for (FieldInfo field : target.fields()) {
+                if (Modifier.isPublic(field.flags()) && !ValueResolverGenerator.isSynthetic(field.flags())) {
+                    fields.add(field);
+                }
+            }
+            for (DotName interfaceName : target.interfaceNames()) {
+                if (BUILTIN_TYPES.contains(interfaceName) || ITERABLES.contains(interfaceName)) {
+                    throw new Unsupported(clazz + " implements " + interfaceName);
+                }
+                ClassInfo interfaceClass = index.getClassByName(interfaceName);
+                if (interfaceClass != null) {
+                    interfaces.add(interfaceClass);
+                }
+            }
+            DotName superName = target.superName();
+            if (target.isEnum() || superName == null || superName.equals(OBJECT)) {
+                target = null;
+            } else {
+                target = index.getClassByName(superName);
+                if (target == null) {
+                    if (!superName.toString().startsWith("java.")) {
+                        throw new Unsupported("superclass " + superName + " not found in the index");
+                    }
+                    // E.g. java.lang.Record
+                }
+            }
+        }
+        for (ClassInfo interfaceClass : interfaces) {
+            for (MethodInfo method : interfaceClass.methods()) {
+                if (method.isDefault() && isProperty(method)) {
+                    methods.putIfAbsent(method.name(), method);
+                }
+            }
+        }
+        List<MethodInfo> sorted = new ArrayList<>(methods.values());
+        sorted.sort(Comparator.comparing(MethodInfo::name));
+        for (MethodInfo method : sorted) {
+            if (method.name().equals(name) || (ValueResolverGenerator.isGetterName(method.name(), method.returnType())
+                    && ValueResolverGenerator.getPropertyName(method.name()).equals(name))) {
+                return Modifier.isStatic(method.flags()) ? null : method;
+            }
+        }
+        for (FieldInfo field : fields) {
+            if (field.name().equals(name)) {
+                return Modifier.isStatic(field.flags()) ? null : field;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isProperty(MethodInfo method) {
+        return Modifier.isPublic(method.flags()) && !ValueResolverGenerator.isSynthetic(method.flags())
+                && method.parametersCount() == 0 && method.returnType().kind() != Kind.VOID
+                && !method.name().equals(MethodDescriptor.INIT) && !method.name().equals("<clinit>");
+    }
+
+    private static final class Value {
+
+        final ResultHandle handle;
+        // May be null
+        final Type type;
+        // The handle is guaranteed to be of the given type
+        final boolean checked;
+
+        Value(ResultHandle handle, Type type, boolean checked) {
+            this.handle = handle;
+            this.type = type;
+            this.checked = checked;
+        }
+
+    }
+
+    private static final class Scope {
+
+        private final Scope parent;
+        private final Map<String, Value> values;
+
+        Scope(Scope parent) {
+            this.parent = parent;
+            this.values = new HashMap<>();
+        }
+
+        void put(String name, Value value) {
+            values.put(name, value);
+        }
+
+        Value get(String name) {
+            Value value = values.get(name);
+            return value == null && parent != null ? parent.get(name) : value;
+        }
+
+    }
+
+    private static final class Unsupported extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        Unsupported(String message) {
+            super(message, null, false, false);
+        }
+
+    }
+
+}
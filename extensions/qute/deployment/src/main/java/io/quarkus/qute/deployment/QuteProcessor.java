@@ -2135,6 +2135,56 @@ public Function<FieldInfo, String> apply(ClassInfo clazz) {
         }
     }
 
+    @BuildStep
+    void generateCompiledTemplates(QuteConfig config, BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BeanArchiveIndexBuildItem beanArchiveIndex,
+            TemplatesAnalysisBuildItem templatesAnalysis,
+            List<CheckedTemplateBuildItem> checkedTemplates,
+            List<TemplateExtensionMethodBuildItem> templateExtensionMethods,
+            List<PanacheEntityClassesBuildItem> panacheEntityClasses,
+            List<TemplateDataBuildItem> templateData,
+            List<IncorrectExpressionBuildItem> incorrectExpressions,
+            BuildProducer<CompiledTemplateBuildItem> compiledTemplates,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+
+        if (!config.compileTemplates() || !incorrectExpressions.isEmpty()) {
+            // Skip generation if a validation error occurs
+            return;
+        }
+
+        // Members of these classes are resolved differently by the generated value resolvers
+        Set<DotName> excludedClasses = new HashSet<>();
+        for (TemplateDataBuildItem data : templateData) {
+            if (data.getIgnore().length > 0 || data.isIgnoreSuperclasses() || data.isProperties()) {
+                excludedClasses.add(data.getTargetClass().name());
+            }
+        }
+        for (PanacheEntityClassesBuildItem entityClasses : panacheEntityClasses) {
+            for (String entityClass : entityClasses.getEntityClasses()) {
+                excludedClasses.add(DotName.createSimple(entityClass));
+            }
+        }
+        List<TemplateExtensionMethodBuildItem> extensionMethods = templateExtensionMethods.stream()
+                .filter(not(TemplateExtensionMethodBuildItem::hasNamespace)).collect(Collectors.toList());
+
+        CompiledTemplateGenerator generator = new CompiledTemplateGenerator(beanArchiveIndex.getIndex(),
+                new GeneratedClassGizmoAdaptor(generatedClasses, true),
+                name -> extensionMethods.stream().anyMatch(m -> m.matchesName(name)), excludedClasses);
+
+        for (TemplateAnalysis analysis : templatesAnalysis.getAnalysis()) {
+            CheckedTemplateBuildItem checkedTemplate = findCheckedTemplate(config, analysis, checkedTemplates);
+            if (checkedTemplate == null) {
+                continue;
+            }
+            String generatedType = generator.generate(analysis, checkedTemplate);
+            if (generatedType != null) {
+                LOGGER.debugf("Compiled template %s: %s", analysis.path, generatedType);
+                compiledTemplates.produce(new CompiledTemplateBuildItem(analysis.path, generatedType));
+                reflectiveClass.produce(ReflectiveClassBuildItem.builder(generatedType).build());
+            }
+        }
+    }
+
     /**
      * Tracks non-application value resolvers that have already been generated. There is no need to spend time
      * generating them again on a hot reload.
@@ -2616,12 +2666,15 @@ void initialize(BuildProducer<SyntheticBeanBuildItem> syntheticBeans, QuteRecord
     @Record(value = STATIC_INIT)
     void initializeGeneratedClasses(BeanContainerBuildItem beanContainer, QuteRecorder recorder,
             List<GeneratedValueResolverBuildItem> generatedValueResolvers,
-            List<TemplateGlobalProviderBuildItem> templateInitializers) {
+            List<TemplateGlobalProviderBuildItem> templateInitializers,
+            List<CompiledTemplateBuildItem> compiledTemplates) {
         // The generated classes must be initialized after the template expressions are validated in order to break the cycle in the build chain
         recorder.initializeGeneratedClasses(generatedValueResolvers.stream()
                 .map(GeneratedValueResolverBuildItem::getClassName).collect(Collectors.toList()),
                 templateInitializers.stream()
-                        .map(TemplateGlobalProviderBuildItem::getClassName).collect(Collectors.toList()));
+                        .map(TemplateGlobalProviderBuildItem::getClassName).collect(Collectors.toList()),
+                compiledTemplates.stream()
+                        .collect(toMap(CompiledTemplateBuildItem::getPath, CompiledTemplateBuildItem::getClassName)));
     }
 
     @BuildStep
@@ -0,0 +1,84 @@
+package io.quarkus.qute.deployment.compiled;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.CheckedTemplate;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CompiledTemplateTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Templates.class, Item.class)
+                    .addAsResource(new StringAsset(
+                            "{#for item in items}{#if item.active}{item.name}{#else}-{/if}{#else}No items{/for}"),
+                            "templates/CompiledTemplateTest/items.html")
+                    .addAsResource(new StringAsset("{#each items}{it.name ?: 'NONE'}{/each}"),
+                            "templates/CompiledTemplateTest/operators.html"))
+            .overrideConfigKey("quarkus.qute.compile-templates", "true");
+
+    @Test
+    public void testCompiledTemplate() throws ClassNotFoundException {
+        Class<?> compiled = Thread.currentThread().getContextClassLoader().loadClass(
+                CompiledTemplateTest.class.getName() + "_Templates_CompiledTemplateTest_items_html_CompiledTemplate");
+        assertTrue(CompiledTemplate.class.isAssignableFrom(compiled));
+        assertEquals("&lt;Foo&gt;-", Templates.items(List.of(new Item("<Foo>", true), new Item("Bar", false))).render());
+        assertEquals("No items", Templates.items(List.of()).render());
+        assertEquals("", Templates.items(null).render());
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Test
+    public void testFallback() {
+        // The element is not an Item, the interpreted template is used
+        List items = List.of(Map.of("name", "Foo", "active", true));
+        assertEquals("Foo", Templates.items(items).render());
+    }
+
+    @Test
+    public void testNotCompiled() {
+        assertEquals("FooNONE", Templates.operators(List.of(new Item("Foo", true), new Item(null, true))).render());
+    }
+
+    @CheckedTemplate
+    static class Templates {
+
+        static native TemplateInstance items(List<Item> items);
+
+        static native TemplateInstance operators(List<Item> items);
+
+    }
+
+    public static class Item {
+
+        private final String name;
+
+        private final boolean active;
+
+        public Item(String name, boolean active) {
+            this.name = name;
+            this.active = active;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+    }
+
+}
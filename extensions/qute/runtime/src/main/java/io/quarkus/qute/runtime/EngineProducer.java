@@ -35,6 +35,7 @@
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InstanceHandle;
+import io.quarkus.qute.CompiledTemplate;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.EngineBuilder;
 import io.quarkus.qute.EvalContext;
@@ -218,6 +219,11 @@ public EngineProducer(QuteContext context, QuteConfig config, QuteRuntimeConfig
             }
             LOGGER.debugf("Added generated value resolver: %s", resolverClass);
         }
+        // Add compiled templates
+        for (Entry<String, String> compiledTemplate : context.getCompiledTemplateClasses().entrySet()) {
+            builder.addCompiledTemplate(compiledTemplate.getKey(), createCompiledTemplate(compiledTemplate.getValue()));
+            LOGGER.debugf("Added compiled template for %s: %s", compiledTemplate.getKey(), compiledTemplate.getValue());
+        }
         // Add tags
         for (String tag : tags) {
             // Strip suffix, item.html -> item
@@ -362,6 +368,20 @@ private TemplateGlobalProvider createGlobalProvider(String initializerClassName)
         }
     }
 
+    private CompiledTemplate createCompiledTemplate(String compiledTemplateClassName) {
+        try {
+            Class<?> compiledTemplateClazz = Thread.currentThread()
+                    .getContextClassLoader().loadClass(compiledTemplateClassName);
+            if (CompiledTemplate.class.isAssignableFrom(compiledTemplateClazz)) {
+                return (CompiledTemplate) compiledTemplateClazz.getDeclaredConstructor().newInstance();
+            }
+            throw new IllegalStateException("Not a compiled template: " + compiledTemplateClazz);
+        } catch (InstantiationException | IllegalAccessException | ClassNotFoundException | IllegalArgumentException
+                | InvocationTargetException | NoSuchMethodException | SecurityException e) {
+            throw new IllegalStateException("Unable to create compiled template: " + compiledTemplateClassName, e);
+        }
+    }
+
     private boolean isExcluded(String path) {
         for (Pattern p : templatePathExcludes) {
             if (p.matcher(path).matches()) {
@@ -89,6 +89,23 @@ public interface QuteConfig {
     @WithDefault("UTF-8")
     Charset defaultCharset();
 
+    /**
+     * If set to {@code true} then type-safe templates, i.e. templates declared by a {@code @CheckedTemplate} method or a
+     * template record, are compiled to bytecode at build time where possible. A compiled template invokes the getters
+     * directly instead of resolving the expressions with value resolvers.
+     * <p>
+     * Only a subset of the syntax is compiled: text, expressions that consist of properties of the template parameters or
+     * of the iterated elements, {@code {#if}} sections with a single operand and {@code {#for}}/{@code {#each}} sections
+     * that iterate over a collection. A template that contains anything else is not compiled. If the data does not match
+     * the compiled template at runtime, e.g. a property resolves to {@code null}, the template is rendered as usual, i.e.
+     * some getters may be invoked twice.
+     * <p>
+     * Note that value resolvers registered programmatically, e.g. via {@code EngineBuilder}, are not taken into account by
+     * a compiled template.
+     */
+    @WithDefault("false")
+    boolean compileTemplates();
+
     /**
      * Development mode configuration.
      */
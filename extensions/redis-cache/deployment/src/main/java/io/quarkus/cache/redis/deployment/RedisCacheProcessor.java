@@ -34,10 +34,12 @@
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.types.TypeParser;
 import io.quarkus.redis.deployment.client.RequestedRedisClientBuildItem;
 import io.quarkus.redis.runtime.client.config.RedisConfig;
+import io.quarkus.tls.deployment.spi.TlsRegistryBuildItem;
 import io.smallrye.mutiny.Uni;
 
 public class RedisCacheProcessor {
@@ -48,8 +50,9 @@ public class RedisCacheProcessor {
 
     @BuildStep
     @Record(RUNTIME_INIT)
-    CacheManagerInfoBuildItem cacheManagerInfo(RedisCacheBuildRecorder recorder) {
-        return new CacheManagerInfoBuildItem(recorder.getCacheManagerSupplier());
+    CacheManagerInfoBuildItem cacheManagerInfo(RedisCacheBuildRecorder recorder, ShutdownContextBuildItem shutdown,
+            TlsRegistryBuildItem tlsRegistryBuildItem) {
+        return new CacheManagerInfoBuildItem(recorder.getCacheManagerSupplier(shutdown, tlsRegistryBuildItem.registry()));
     }
 
     @BuildStep
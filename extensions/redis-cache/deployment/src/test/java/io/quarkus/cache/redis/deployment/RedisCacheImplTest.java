@@ -7,12 +7,15 @@
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
 import jakarta.inject.Inject;
@@ -28,6 +31,7 @@
 import io.quarkus.test.QuarkusUnitTest;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.vertx.core.Context;
 import io.vertx.core.json.Json;
 import io.vertx.mutiny.core.Vertx;
 import io.vertx.mutiny.redis.client.Command;
@@ -621,6 +625,41 @@ void testInvalidation() {
         assertThat(getAllKeys()).hasSize(1);
     }
 
+    @Test
+    void testBlockingBulkLoaderIsOffloaded() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "bulk";
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.valueType = String.class;
+
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, () -> true);
+        cache.put("a", "cached-a").await().indefinitely();
+
+        List<Set<String>> invocations = new ArrayList<>();
+        AtomicBoolean onEventLoop = new AtomicBoolean();
+        Map<String, String> values = cache.getAll(List.of("a", "b", "c"), keys -> {
+            onEventLoop.set(Context.isOnEventLoopThread());
+            invocations.add(keys);
+            try {
+                // A blocking loader, e.g. a database query
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            Map<String, String> loaded = new HashMap<>();
+            for (String key : keys) {
+                loaded.put(key, "loaded-" + key);
+            }
+            return loaded;
+        }).await().indefinitely();
+
+        assertThat(values).containsExactlyInAnyOrderEntriesOf(Map.of("a", "cached-a", "b", "loaded-b", "c", "loaded-c"));
+        assertThat(invocations).containsExactly(Set.of("b", "c"));
+        assertThat(onEventLoop).isFalse();
+        assertThatTheKeyDoesExist("cache:bulk:b");
+        assertThatTheKeyDoesExist("cache:bulk:c");
+    }
+
     private Set<String> getAllKeys() {
         return redis.send(Request.cmd(Command.KEYS).arg("*"))
                 .map(r -> {
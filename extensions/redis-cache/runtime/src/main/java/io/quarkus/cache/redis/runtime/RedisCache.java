@@ -1,5 +1,8 @@
 package io.quarkus.cache.redis.runtime;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -76,6 +79,39 @@ public interface RedisCache extends Cache {
      */
     <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> valueLoader);
 
+    @Override
+    <K, V> Uni<Map<K, V>> getAllAsync(Collection<? extends K> keys, Function<Set<K>, Uni<Map<K, V>>> bulkLoader);
+
+    /**
+     * Allows retrieving multiple values from the Redis cache with a single {@code MGET} command. The values missing from
+     * Redis are computed with a single invocation of {@code bulkLoader} and stored with a pipelined batch of {@code SET}
+     * commands.
+     *
+     * @param keys the keys
+     * @param clazz the class of the values
+     * @param bulkLoader the value loader called with the keys for which no value is stored in the cache
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return the Uni emitting the cached values, keyed by cache key.
+     */
+    <K, V> Uni<Map<K, V>> getAllAsync(Collection<? extends K> keys, Class<V> clazz,
+            Function<Set<K>, Uni<Map<K, V>>> bulkLoader);
+
+    /**
+     * Allows retrieving multiple values from the Redis cache with a single {@code MGET} command. The values missing from
+     * Redis are computed with a single invocation of {@code bulkLoader} and stored with a pipelined batch of {@code SET}
+     * commands.
+     *
+     * @param keys the keys
+     * @param type the type of the values
+     * @param bulkLoader the value loader called with the keys for which no value is stored in the cache
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return the Uni emitting the cached values, keyed by cache key.
+     */
+    <K, V> Uni<Map<K, V>> getAllAsync(Collection<? extends K> keys, TypeLiteral<V> type,
+            Function<Set<K>, Uni<Map<K, V>>> bulkLoader);
+
     /**
      * Put a value in the cache.
      *
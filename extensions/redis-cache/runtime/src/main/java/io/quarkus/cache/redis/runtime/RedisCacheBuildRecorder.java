@@ -6,12 +6,19 @@
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.Arc;
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheManager;
 import io.quarkus.cache.CacheManagerInfo;
 import io.quarkus.cache.runtime.CacheManagerImpl;
+import io.quarkus.redis.runtime.client.config.RedisClientConfig;
+import io.quarkus.redis.runtime.client.config.RedisConfig;
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.tls.TlsConfigurationRegistry;
+import io.vertx.mutiny.core.Vertx;
 
 @Recorder
 public class RedisCacheBuildRecorder {
@@ -20,17 +27,20 @@ public class RedisCacheBuildRecorder {
 
     private final RedisCachesBuildTimeConfig buildConfig;
     private final RuntimeValue<RedisCachesRuntimeConfig> redisCacheConfigRV;
+    private final RuntimeValue<RedisConfig> redisConfigRV;
 
     private static Map<String, Type> keyTypes;
     private static Map<String, Type> valueTypes;
 
     public RedisCacheBuildRecorder(RedisCachesBuildTimeConfig buildConfig,
-            RuntimeValue<RedisCachesRuntimeConfig> redisCacheConfigRV) {
+            RuntimeValue<RedisCachesRuntimeConfig> redisCacheConfigRV, RuntimeValue<RedisConfig> redisConfigRV) {
         this.buildConfig = buildConfig;
         this.redisCacheConfigRV = redisCacheConfigRV;
+        this.redisConfigRV = redisConfigRV;
     }
 
-    public CacheManagerInfo getCacheManagerSupplier() {
+    public CacheManagerInfo getCacheManagerSupplier(ShutdownContext shutdownContext,
+            Supplier<TlsConfigurationRegistry> tlsRegistry) {
         return new CacheManagerInfo() {
             @Override
             public boolean supports(Context context) {
@@ -49,15 +59,26 @@ public CacheManager get() {
                         } else {
                             // The number of caches is known at build time so we can use fixed initialCapacity and loadFactor for the caches map.
                             Map<String, Cache> caches = new HashMap<>(cacheInfos.size() + 1, 1.0F);
+                            // All the near caches share the pub/sub connection of the Redis client
+                            RedisNearCacheInvalidations invalidations = null;
                             for (RedisCacheInfo cacheInfo : cacheInfos) {
                                 if (LOGGER.isDebugEnabled()) {
                                     LOGGER.debugf(
-                                            "Building Redis cache [%s] with [ttl=%s], [prefix=%s], [classOfItems=%s]",
+                                            "Building Redis cache [%s] with [ttl=%s], [prefix=%s], [classOfItems=%s], [nearCache=%s]",
                                             cacheInfo.name, cacheInfo.expireAfterAccess, cacheInfo.prefix,
-                                            cacheInfo.valueType);
+                                            cacheInfo.valueType, cacheInfo.nearCacheEnabled);
                                 }
 
-                                RedisCacheImpl cache = new RedisCacheImpl(cacheInfo, buildConfig.clientName());
+                                Cache cache;
+                                if (cacheInfo.nearCacheEnabled) {
+                                    if (invalidations == null) {
+                                        invalidations = createNearCacheInvalidations(tlsRegistry.get());
+                                        shutdownContext.addShutdownTask(invalidations::close);
+                                    }
+                                    cache = new RedisNearCacheImpl(cacheInfo, buildConfig.clientName(), invalidations);
+                                } else {
+                                    cache = new RedisCacheImpl(cacheInfo, buildConfig.clientName());
+                                }
                                 caches.put(cacheInfo.name, cache);
                             }
                             return new CacheManagerImpl(caches);
@@ -68,6 +89,27 @@ public CacheManager get() {
         };
     }
 
+    private RedisNearCacheInvalidations createNearCacheInvalidations(TlsConfigurationRegistry tlsRegistry) {
+        String clientName = buildConfig.clientName().orElse(RedisConfig.DEFAULT_CLIENT_NAME);
+        RedisConfig redisConfig = redisConfigRV.getValue();
+        RedisClientConfig clientConfig = null;
+        if (RedisConfig.isDefaultClient(clientName)) {
+            clientConfig = redisConfig.defaultRedisClient();
+        } else {
+            for (Map.Entry<String, RedisClientConfig> entry : redisConfig.namedRedisClients().entrySet()) {
+                if (entry.getKey().equalsIgnoreCase(clientName)) {
+                    clientConfig = entry.getValue();
+                }
+            }
+        }
+        if (clientConfig == null) {
+            throw new ConfigurationException("The Redis cache uses the Redis client " + clientName
+                    + ", but the application configuration does not configure it");
+        }
+        return RedisNearCacheInvalidations.create(clientName, clientConfig, Arc.container().select(Vertx.class).get(),
+                tlsRegistry);
+    }
+
     public void setCacheKeyTypes(Map<String, Type> keyTypes) {
         RedisCacheBuildRecorder.keyTypes = keyTypes;
     }
@@ -4,7 +4,14 @@
 import java.net.ConnectException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -110,6 +117,11 @@ public Class<?> getDefaultValueType() {
         return classOfValue instanceof Class<?> ? (Class<?>) classOfValue : null;
     }
 
+    // used by the near cache to identify the Redis key of a cache entry
+    String computeActualKeyOf(Object key) {
+        return computeActualKey(encodeKey(key));
+    }
+
     private <K> String encodeKey(K key) {
         return new String(marshaller.encode(key), StandardCharsets.UTF_8);
     }
@@ -282,6 +294,109 @@ public Uni<V> apply(RedisConnection connection) {
                 });
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<? extends K> keys, Function<Set<K>, Uni<Map<K, V>>> bulkLoader) {
+        enforceDefaultType("getAllAsync");
+        return getAllAsync(keys, classOfValue, bulkLoader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<? extends K> keys, Class<V> clazz,
+            Function<Set<K>, Uni<Map<K, V>>> bulkLoader) {
+        return getAllAsync(keys, (Type) clazz, bulkLoader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<? extends K> keys, TypeLiteral<V> type,
+            Function<Set<K>, Uni<Map<K, V>>> bulkLoader) {
+        return getAllAsync(keys, type.getType(), bulkLoader);
+    }
+
+    private <K, V> Uni<Map<K, V>> getAllAsync(Collection<? extends K> keys, Type type,
+            Function<Set<K>, Uni<Map<K, V>>> bulkLoader) {
+        // val[] = deserialize(MGET K1 ... Kn)
+        // missing = {Ki | val[i] == null}
+        // if missing is not empty => pipeline SET Ki computation.apply(missing)[Ki]
+        // Optimistic locking is not applied to bulk loads.
+        List<K> orderedKeys = new ArrayList<>(new LinkedHashSet<>(keys));
+        if (orderedKeys.isEmpty()) {
+            return Uni.createFrom().item(Collections.emptyMap());
+        }
+        boolean isWorkerThread = blockingAllowedSupplier.get();
+        List<byte[]> encodedKeys = new ArrayList<>(orderedKeys.size());
+        Request mget = Request.cmd(Command.MGET);
+        for (K key : orderedKeys) {
+            byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+            encodedKeys.add(encodedKey);
+            mget.arg(encodedKey);
+        }
+        return redis.send(mget)
+                .chain(new Function<Response, Uni<? extends Map<K, V>>>() {
+                    @Override
+                    public Uni<? extends Map<K, V>> apply(Response response) {
+                        Map<K, V> result = new HashMap<>(orderedKeys.size());
+                        Map<K, byte[]> missing = new HashMap<>();
+                        List<Request> touches = new ArrayList<>();
+                        for (int i = 0; i < orderedKeys.size(); i++) {
+                            V cached = marshaller.decode(type, response.get(i));
+                            if (cached == null) {
+                                missing.put(orderedKeys.get(i), encodedKeys.get(i));
+                            } else {
+                                result.put(orderedKeys.get(i), cached);
+                                if (cacheInfo.expireAfterAccess.isPresent()) {
+                                    touches.add(Request.cmd(Command.EXPIRE).arg(encodedKeys.get(i))
+                                            .arg(cacheInfo.expireAfterAccess.get().toSeconds()));
+                                }
+                            }
+                        }
+                        if (missing.isEmpty()) {
+                            return batch(touches).replaceWith(result);
+                        }
+                        return loadAll(new LinkedHashSet<>(missing.keySet()), bulkLoader, isWorkerThread)
+                                .chain(new Function<Map<K, V>, Uni<? extends Map<K, V>>>() {
+                                    @Override
+                                    public Uni<? extends Map<K, V>> apply(Map<K, V> loaded) {
+                                        List<Request> writes = new ArrayList<>(touches);
+                                        for (Map.Entry<K, byte[]> entry : missing.entrySet()) {
+                                            V value = loaded.get(entry.getKey());
+                                            if (value != null) {
+                                                result.put(entry.getKey(), value);
+                                                writes.add(setRequest(entry.getValue(), marshaller.encode(value)));
+                                            }
+                                        }
+                                        return batch(writes).replaceWith(result);
+                                    }
+                                });
+                    }
+                })
+                .onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(e -> {
+                    log.warn("Unable to connect to Redis, recomputing cached values", e);
+                    return loadAll(new LinkedHashSet<>(orderedKeys), bulkLoader, isWorkerThread);
+                });
+    }
+
+    private <K, V> Uni<Map<K, V>> loadAll(Set<K> keys, Function<Set<K>, Uni<Map<K, V>>> bulkLoader,
+            boolean isWorkerThread) {
+        if (isWorkerThread) {
+            // The Redis response is handled on the event loop, the loader may block
+            return Uni.createFrom().deferred(new Supplier<Uni<? extends Map<K, V>>>() {
+                @Override
+                public Uni<? extends Map<K, V>> get() {
+                    return bulkLoader.apply(keys);
+                }
+            }).runSubscriptionOn(MutinyHelper.blockingExecutor(vertx.getDelegate(), false));
+        } else {
+            return bulkLoader.apply(keys);
+        }
+    }
+
+    private Uni<Void> batch(List<Request> requests) {
+        if (requests.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        return redis.batch(requests).replaceWithVoid();
+    }
+
     @Override
     public <K, V> Uni<Void> put(K key, V value) {
         return put(key, new StaticSupplier<>(value));
@@ -449,7 +564,7 @@ private String getKeyPattern() {
         return getKeyPrefix() + ":*";
     }
 
-    private String getKeyPrefix() {
+    String getKeyPrefix() {
         if (cacheInfo.prefix != null) {
             return cacheInfo.prefix.replace("{cache-name}", getName());
         } else {
@@ -502,11 +617,15 @@ public X apply(Response r) {
     }
 
     private Uni<Void> set(RedisConnection connection, byte[] key, byte[] value) {
+        return connection.send(setRequest(key, value)).replaceWithVoid();
+    }
+
+    private Request setRequest(byte[] key, byte[] value) {
         Request request = Request.cmd(Command.SET).arg(key).arg(value);
         if (cacheInfo.expireAfterWrite.isPresent()) {
             request = request.arg("EX").arg(cacheInfo.expireAfterWrite.get().toSeconds());
         }
-        return connection.send(request).replaceWithVoid();
+        return request;
     }
 
     private Uni<Void> multi(RedisConnection connection, Uni<Void> operation) {
@@ -51,4 +51,19 @@ public class RedisCacheInfo {
      * no {@code COUNT} argument is present.
      */
     public OptionalInt invalidationScanSize = OptionalInt.empty();
+
+    /**
+     * Whether a local Caffeine cache is placed in front of Redis.
+     */
+    public boolean nearCacheEnabled = false;
+
+    /**
+     * The maximum number of entries kept in the near cache.
+     */
+    public long nearCacheMaximumSize = 10_000;
+
+    /**
+     * The time to live of the entries stored in the near cache.
+     */
+    public Optional<Duration> nearCacheExpireAfterWrite = Optional.empty();
 }
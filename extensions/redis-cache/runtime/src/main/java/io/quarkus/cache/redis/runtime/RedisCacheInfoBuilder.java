@@ -67,6 +67,26 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesRunti
                     cacheInfo.invalidationScanSize = defaultRuntimeConfig.invalidationScanSize();
                 }
 
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCache().enabled().isPresent()) {
+                    cacheInfo.nearCacheEnabled = namedRuntimeConfig.nearCache().enabled().get();
+                } else if (defaultRuntimeConfig.nearCache().enabled().isPresent()) {
+                    cacheInfo.nearCacheEnabled = defaultRuntimeConfig.nearCache().enabled().get();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCache().maximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = namedRuntimeConfig.nearCache().maximumSize().getAsLong();
+                } else if (defaultRuntimeConfig.nearCache().maximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = defaultRuntimeConfig.nearCache().maximumSize().getAsLong();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCache().expireAfterWrite().isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = namedRuntimeConfig.nearCache().expireAfterWrite();
+                } else if (defaultRuntimeConfig.nearCache().expireAfterWrite().isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = defaultRuntimeConfig.nearCache().expireAfterWrite();
+                } else {
+                    cacheInfo.nearCacheExpireAfterWrite = cacheInfo.expireAfterWrite;
+                }
+
                 result.add(cacheInfo);
             }
             return result;
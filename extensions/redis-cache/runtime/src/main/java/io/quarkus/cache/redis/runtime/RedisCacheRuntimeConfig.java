@@ -3,6 +3,7 @@
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 
@@ -49,4 +50,35 @@ public interface RedisCacheRuntimeConfig {
      * no {@code COUNT} argument is present.
      */
     OptionalInt invalidationScanSize();
+
+    /**
+     * Near cache configuration.
+     */
+    NearCacheConfig nearCache();
+
+    @ConfigGroup
+    interface NearCacheConfig {
+
+        /**
+         * Whether a local in-memory cache should be placed in front of Redis. When enabled, values read from or written to
+         * Redis are also kept in a bounded local cache, so that hot keys are served without a network round trip.
+         * Invalidations and updates are propagated to the other application instances through Redis pub/sub.
+         * Default is {@code false}.
+         */
+        Optional<Boolean> enabled();
+
+        /**
+         * Maximum number of entries the near cache may contain.
+         * Default is {@code 10000}.
+         */
+        OptionalLong maximumSize();
+
+        /**
+         * Specifies that each entry should be automatically removed from the near cache once a fixed duration has elapsed
+         * after the entry's creation, or the most recent replacement of its value. This bounds the staleness of the local
+         * entries if an invalidation message is lost. If not set, the {@code expire-after-write} value of the Redis cache
+         * is used.
+         */
+        Optional<Duration> expireAfterWrite();
+    }
 }
@@ -0,0 +1,514 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.util.TypeLiteral;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.quarkus.redis.client.RedisClientName;
+import io.quarkus.runtime.BlockingOperationControl;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.Request;
+
+/**
+ * This class is an internal Quarkus cache implementation layering a bounded local Caffeine cache in front of Redis.
+ * Redis remains the source of truth, the local cache only serves hot keys without a network round trip.
+ * <p>
+ * Every mutation (put or invalidation) is published on a Redis pub/sub channel dedicated to the cache, so that the other
+ * application instances drop their local copy. The channels of all the near caches of a Redis client are subscribed
+ * through a single shared connection, see {@link RedisNearCacheInvalidations}. When the subscription is not established
+ * (yet), or lost, the local cache is bypassed and cleared, as missed invalidations could otherwise leave stale entries
+ * behind.
+ * <p>
+ * Do not use it explicitly from your Quarkus application.
+ */
+public class RedisNearCacheImpl extends AbstractCache implements RedisCache {
+
+    private static final Logger log = Logger.getLogger(RedisNearCacheImpl.class);
+
+    private static final String INVALIDATE_ALL = "*";
+
+    private static final int GENERATION_STRIPES = 64;
+
+    private final RedisCacheImpl remote;
+    private final CaffeineCacheImpl local;
+    private final Redis redis;
+
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final RedisNearCacheInvalidations invalidations;
+    private final RedisNearCacheInvalidations.Listener listener = new InvalidationListener();
+    private volatile boolean listening;
+
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final AtomicLong allGeneration = new AtomicLong();
+
+    RedisNearCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName,
+            RedisNearCacheInvalidations invalidations) {
+        this(cacheInfo, Arc.container().select(Vertx.class).get(), determineRedisClient(redisClientName),
+                BlockingOperationControl::isBlockingAllowed, invalidations);
+    }
+
+    private static Redis determineRedisClient(Optional<String> redisClientName) {
+        ArcContainer container = Arc.container();
+        if (redisClientName.isPresent()) {
+            return container.select(Redis.class, RedisClientName.Literal.of(redisClientName.get())).get();
+        } else {
+            return container.select(Redis.class).get();
+        }
+    }
+
+    RedisNearCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Supplier<Boolean> blockingAllowedSupplier,
+            RedisNearCacheInvalidations invalidations) {
+        this.redis = redis;
+        this.invalidations = invalidations;
+        this.remote = new RedisCacheImpl(cacheInfo, vertx, redis, blockingAllowedSupplier);
+
+        CaffeineCacheInfo localInfo = new CaffeineCacheInfo();
+        localInfo.name = remote.getName();
+        localInfo.maximumSize = cacheInfo.nearCacheMaximumSize;
+        localInfo.expireAfterWrite = cacheInfo.nearCacheExpireAfterWrite.orElse(null);
+        this.local = new CaffeineCacheImpl(localInfo, false);
+
+        this.channel = remote.getKeyPrefix() + ":invalidations";
+    }
+
+    @Override
+    public String getName() {
+        return remote.getName();
+    }
+
+    @Override
+    public Object getDefaultKey() {
+        return remote.getDefaultKey();
+    }
+
+    @Override
+    @Deprecated
+    public Class<?> getDefaultValueType() {
+        return remote.getDefaultValueType();
+    }
+
+    // visible only for tests
+    boolean isListening() {
+        return listening;
+    }
+
+    // visible only for tests
+    long getLocalSize() {
+        return local.getSize();
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
+        return getThroughNearCache(key, new Function<K, Uni<V>>() {
+            @Override
+            public Uni<V> apply(K k) {
+                return remote.get(k, valueLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Class<V> clazz, Function<K, V> valueLoader) {
+        return getThroughNearCache(key, new Function<K, Uni<V>>() {
+            @Override
+            public Uni<V> apply(K k) {
+                return remote.get(k, clazz, valueLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, TypeLiteral<V> type, Function<K, V> valueLoader) {
+        return getThroughNearCache(key, new Function<K, Uni<V>>() {
+            @Override
+            public Uni<V> apply(K k) {
+                return remote.get(k, type, valueLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
+        return getThroughNearCache(key, new Function<K, Uni<V>>() {
+            @Override
+            public Uni<V> apply(K k) {
+                return remote.getAsync(k, valueLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, Class<V> clazz, Function<K, Uni<V>> valueLoader) {
+        return getThroughNearCache(key, new Function<K, Uni<V>>() {
+            @Override
+            public Uni<V> apply(K k) {
+                return remote.getAsync(k, clazz, valueLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> valueLoader) {
+        return getThroughNearCache(key, new Function<K, Uni<V>>() {
+            @Override
+            public Uni<V> apply(K k) {
+                return remote.getAsync(k, type, valueLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<? extends K> keys, Function<Set<K>, Uni<Map<K, V>>> bulkLoader) {
+        return getAllThroughNearCache(keys, new Function<Set<K>, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(Set<K> missingKeys) {
+                return remote.getAllAsync(missingKeys, bulkLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<? extends K> keys, Class<V> clazz,
+            Function<Set<K>, Uni<Map<K, V>>> bulkLoader) {
+        return getAllThroughNearCache(keys, new Function<Set<K>, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(Set<K> missingKeys) {
+                return remote.getAllAsync(missingKeys, clazz, bulkLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<? extends K> keys, TypeLiteral<V> type,
+            Function<Set<K>, Uni<Map<K, V>>> bulkLoader) {
+        return getAllThroughNearCache(keys, new Function<Set<K>, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(Set<K> missingKeys) {
+                return remote.getAllAsync(missingKeys, type, bulkLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrDefault(K key, V defaultValue) {
+        return this.<K, V> getOrNull(key).onItem().ifNull().continueWith(defaultValue);
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrDefault(K key, Class<V> clazz, V defaultValue) {
+        return getOrNull(key, clazz).onItem().ifNull().continueWith(defaultValue);
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrDefault(K key, TypeLiteral<V> type, V defaultValue) {
+        return getOrNull(key, type).onItem().ifNull().continueWith(defaultValue);
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrNull(K key) {
+        return getOrNullThroughNearCache(key, new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return remote.getOrNull(key);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrNull(K key, Class<V> clazz) {
+        return getOrNullThroughNearCache(key, new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return remote.getOrNull(key, clazz);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrNull(K key, TypeLiteral<V> type) {
+        return getOrNullThroughNearCache(key, new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return remote.getOrNull(key, type);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Void> put(K key, V value) {
+        long generation = generation(key);
+        return remote.put(key, value)
+                .call(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        return publish(remote.computeActualKeyOf(key));
+                    }
+                })
+                .invoke(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (!storeLocally(key, value, generation)) {
+                            // Another node may have written the key in the meantime, the local value is outdated anyway
+                            invalidateLocally(key);
+                        }
+                    }
+                });
+    }
+
+    @Override
+    public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
+        return put(key, supplier.get());
+    }
+
+    @Override
+    public Uni<Void> invalidate(Object key) {
+        return remote.invalidate(key)
+                .call(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        return publish(remote.computeActualKeyOf(key));
+                    }
+                })
+                .call(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        generations.incrementAndGet(stripe(key));
+                        return local.invalidate(key);
+                    }
+                });
+    }
+
+    @Override
+    public Uni<Void> invalidateAll() {
+        return remote.invalidateAll()
+                .call(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        return publish(INVALIDATE_ALL);
+                    }
+                })
+                .call(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        allGeneration.incrementAndGet();
+                        return local.invalidateAll();
+                    }
+                });
+    }
+
+    @Override
+    public Uni<Void> invalidateIf(Predicate<Object> predicate) {
+        // The predicate cannot be sent to the other nodes, they drop their whole near cache instead.
+        return remote.invalidateIf(predicate)
+                .call(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        return publish(INVALIDATE_ALL);
+                    }
+                })
+                .call(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        allGeneration.incrementAndGet();
+                        return local.invalidateIf(predicate);
+                    }
+                });
+    }
+
+    private <K, V> Uni<V> getThroughNearCache(K key, Function<K, Uni<V>> remoteLoader) {
+        if (!listening) {
+            // Without the invalidation messages, the local entries could be stale: go to Redis directly.
+            ensureListening();
+            return remoteLoader.apply(key);
+        }
+        long generation = generation(key);
+        return local.getAsync(key, remoteLoader)
+                .invoke(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (generation(key) != generation) {
+                            // The value may have been read from Redis before an invalidation
+                            local.invalidate(key).subscribe().with(NoopConsumer.INSTANCE);
+                        }
+                    }
+                });
+    }
+
+    private <K, V> Uni<Map<K, V>> getAllThroughNearCache(Collection<? extends K> keys,
+            Function<Set<K>, Uni<Map<K, V>>> remoteLoader) {
+        if (!listening) {
+            ensureListening();
+            return remoteLoader.apply(new LinkedHashSet<>(keys));
+        }
+        Map<K, Long> before = new HashMap<>();
+        for (K key : keys) {
+            before.put(key, generation(key));
+        }
+        return local.getAllAsync(keys, remoteLoader)
+                .invoke(new Runnable() {
+                    @Override
+                    public void run() {
+                        for (Map.Entry<K, Long> entry : before.entrySet()) {
+                            if (generation(entry.getKey()) != entry.getValue()) {
+                                local.invalidate(entry.getKey()).subscribe().with(NoopConsumer.INSTANCE);
+                            }
+                        }
+                    }
+                });
+    }
+
+    private <K, V> Uni<V> getOrNullThroughNearCache(K key, Supplier<Uni<V>> remoteLookup) {
+        if (!listening) {
+            ensureListening();
+            return remoteLookup.get();
+        }
+        CompletableFuture<V> cached = local.getIfPresent(key);
+        if (cached != null) {
+            return Uni.createFrom().completionStage(cached);
+        }
+        long generation = generation(key);
+        return remoteLookup.get()
+                .invoke(new Consumer<V>() {
+                    @Override
+                    public void accept(V value) {
+                        if (value != null) {
+                            storeLocally(key, value, generation);
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Stores a value read from, or written to, Redis unless the key was invalidated since the given generation.
+     *
+     * @return {@code true} if the value was stored
+     */
+    private boolean storeLocally(Object key, Object value, long generation) {
+        if (!listening || generation(key) != generation) {
+            return false;
+        }
+        local.put(key, CompletableFuture.completedFuture(value));
+        if (generation(key) != generation) {
+            // Invalidated concurrently, the invalidation may have run before the put
+            local.invalidate(key).subscribe().with(NoopConsumer.INSTANCE);
+            return false;
+        }
+        return true;
+    }
+
+    private Uni<Void> publish(String actualKey) {
+        return redis.send(Request.cmd(Command.PUBLISH).arg(channel).arg(nodeId + ":" + actualKey))
+                .onFailure().invoke(new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable t) {
+                        log.warnf(t, "Unable to publish the invalidation of [%s] for cache [%s]", actualKey, getName());
+                    }
+                })
+                .replaceWithVoid();
+    }
+
+    private void ensureListening() {
+        invalidations.listen(channel, listener);
+    }
+
+    private void handleMessage(String payload) {
+        int separator = payload.indexOf(':');
+        if (separator < 0 || nodeId.equals(payload.substring(0, separator))) {
+            // Malformed, or published by this node which already updated its near cache
+            return;
+        }
+        String actualKey = payload.substring(separator + 1);
+        if (INVALIDATE_ALL.equals(actualKey)) {
+            invalidateAllLocally();
+        } else {
+            Object userKey = remote.computeUserKey(actualKey);
+            if (userKey != null) {
+                invalidateLocally(userKey);
+            }
+        }
+    }
+
+    private void onSubscriptionLost() {
+        listening = false;
+        // Invalidations may have been missed in the meantime
+        invalidateAllLocally();
+    }
+
+    /**
+     * The generation of a key changes with every invalidation of the key, a value read from Redis is only stored locally
+     * if the generation did not change during the read, i.e. if the value cannot be older than an invalidation.
+     */
+    private long generation(Object key) {
+        return allGeneration.get() + generations.get(stripe(key));
+    }
+
+    private static int stripe(Object key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    // the generation must change before the entry is removed, so that an in-flight read cannot store it again
+    private void invalidateLocally(Object key) {
+        generations.incrementAndGet(stripe(key));
+        local.invalidate(key).subscribe().with(NoopConsumer.INSTANCE);
+    }
+
+    private void invalidateAllLocally() {
+        allGeneration.incrementAndGet();
+        local.invalidateAll().subscribe().with(NoopConsumer.INSTANCE);
+    }
+
+    private class InvalidationListener implements RedisNearCacheInvalidations.Listener {
+
+        @Override
+        public void subscribed() {
+            log.debugf("Near cache [%s] is listening to invalidations on channel [%s]", getName(), channel);
+            listening = true;
+        }
+
+        @Override
+        public void message(String payload) {
+            handleMessage(payload);
+        }
+
+        @Override
+        public void unsubscribed(Throwable failure) {
+            onSubscriptionLost();
+        }
+    }
+
+    private static class NoopConsumer implements Consumer<Void> {
+
+        static final NoopConsumer INSTANCE = new NoopConsumer();
+
+        @Override
+        public void accept(Void ignored) {
+            // no-op
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.redis.runtime.client.VertxRedisClientFactory;
+import io.quarkus.redis.runtime.client.config.RedisClientConfig;
+import io.quarkus.tls.TlsConfigurationRegistry;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * The Redis pub/sub subscription shared by all the near caches backed by the same Redis client. A single connection is
+ * subscribed to the invalidation channel of each near cache, instead of one connection per cache.
+ * <p>
+ * In the application, the connection is opened by a dedicated Vert.x Redis client built from the configuration of the
+ * Redis client of the caches, so that it never holds a connection of the pool used by the cache operations.
+ */
+final class RedisNearCacheInvalidations {
+
+    private static final Logger log = Logger.getLogger(RedisNearCacheInvalidations.class);
+
+    /**
+     * Receives the events of the invalidation channel of a near cache.
+     */
+    interface Listener {
+
+        /**
+         * The subscription to the channel is established.
+         */
+        void subscribed();
+
+        /**
+         * A message was published on the channel.
+         */
+        void message(String payload);
+
+        /**
+         * The subscription to the channel is lost, messages may have been missed.
+         *
+         * @param failure the cause, or {@code null} if the connection was closed
+         */
+        void unsubscribed(Throwable failure);
+    }
+
+    private final Redis redis;
+    private final boolean ownsClient;
+
+    private final Map<String, Listener> listeners = new ConcurrentHashMap<>();
+    private final AtomicBoolean connecting = new AtomicBoolean();
+    private volatile RedisConnection connection;
+    private volatile boolean closed;
+
+    /**
+     * @param redis the client the subscription connection is taken from, it is not closed by {@link #close()}
+     */
+    RedisNearCacheInvalidations(Redis redis) {
+        this(redis, false);
+    }
+
+    private RedisNearCacheInvalidations(Redis redis, boolean ownsClient) {
+        this.redis = redis;
+        this.ownsClient = ownsClient;
+    }
+
+    static RedisNearCacheInvalidations create(String clientName, RedisClientConfig config, Vertx vertx,
+            TlsConfigurationRegistry tlsRegistry) {
+        Redis redis = Redis.newInstance(VertxRedisClientFactory.create(clientName, vertx.getDelegate(), config, tlsRegistry));
+        return new RedisNearCacheInvalidations(redis, true);
+    }
+
+    /**
+     * Subscribes to the given channel, connecting first if needed. The listener is notified once the subscription is
+     * established, and whenever it is lost; calling this method again then subscribes again.
+     */
+    void listen(String channel, Listener listener) {
+        if (closed) {
+            return;
+        }
+        boolean added = listeners.putIfAbsent(channel, listener) == null;
+        RedisConnection current = connection;
+        if (current == null) {
+            connect();
+        } else if (added) {
+            subscribe(current, Request.cmd(Command.SUBSCRIBE).arg(channel));
+        }
+    }
+
+    void close() {
+        closed = true;
+        RedisConnection current = connection;
+        connection = null;
+        if (current != null) {
+            current.closeAndForget();
+        }
+        if (ownsClient) {
+            redis.close();
+        }
+    }
+
+    private void connect() {
+        if (!connecting.compareAndSet(false, true)) {
+            return;
+        }
+        redis.connect()
+                .subscribe().with(new Consumer<RedisConnection>() {
+                    @Override
+                    public void accept(RedisConnection c) {
+                        if (closed) {
+                            c.closeAndForget();
+                            return;
+                        }
+                        connection = c;
+                        c.handler(new Consumer<Response>() {
+                            @Override
+                            public void accept(Response response) {
+                                handleMessage(response);
+                            }
+                        });
+                        c.endHandler(new Runnable() {
+                            @Override
+                            public void run() {
+                                onConnectionLost(c, null);
+                            }
+                        });
+                        c.exceptionHandler(new Consumer<Throwable>() {
+                            @Override
+                            public void accept(Throwable t) {
+                                onConnectionLost(c, t);
+                                c.closeAndForget();
+                            }
+                        });
+                        // The listeners registered from now on subscribe by themselves
+                        Request subscribe = Request.cmd(Command.SUBSCRIBE);
+                        for (String channel : listeners.keySet()) {
+                            subscribe.arg(channel);
+                        }
+                        subscribe(c, subscribe);
+                    }
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable t) {
+                        onConnectionLost(null, t);
+                    }
+                });
+    }
+
+    private void subscribe(RedisConnection c, Request subscribe) {
+        c.send(subscribe)
+                .subscribe().with(new Consumer<Response>() {
+                    @Override
+                    public void accept(Response ignored) {
+                        // The confirmations are handled by the connection handler
+                    }
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable t) {
+                        onConnectionLost(c, t);
+                        c.closeAndForget();
+                    }
+                });
+    }
+
+    private void handleMessage(Response response) {
+        if (response == null || response.size() < 3) {
+            return;
+        }
+        String type = response.get(0).toString();
+        Listener listener = listeners.get(response.get(1).toString());
+        if (listener == null) {
+            return;
+        }
+        if ("subscribe".equalsIgnoreCase(type)) {
+            listener.subscribed();
+        } else if ("message".equalsIgnoreCase(type)) {
+            listener.message(response.get(2).toString());
+        }
+    }
+
+    private void onConnectionLost(RedisConnection lost, Throwable failure) {
+        if (lost != null && lost != connection) {
+            // Already handled, e.g. the connection ends after a failure
+            return;
+        }
+        if (failure != null && !closed) {
+            log.warnf(failure, "The near caches are not receiving invalidations, entries will be read from Redis");
+        }
+        connection = null;
+        for (Listener listener : listeners.values()) {
+            listener.unsubscribed(failure);
+        }
+        connecting.set(false);
+    }
+}
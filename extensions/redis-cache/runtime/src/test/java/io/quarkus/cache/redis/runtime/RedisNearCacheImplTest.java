@@ -0,0 +1,134 @@
+package io.quarkus.cache.redis.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.Request;
+
+@SuppressWarnings("resource")
+class RedisNearCacheImplTest {
+
+    private static final Supplier<Boolean> BLOCKING_ALLOWED = () -> false;
+
+    static GenericContainer<?> server = new GenericContainer<>(
+            DockerImageName.parse(System.getProperty("redis.base.image", "redis:7")))
+            .withExposedPorts(6379);
+
+    static Vertx vertx;
+    static Redis redis;
+    static RedisNearCacheInvalidations invalidations;
+
+    @BeforeAll
+    static void init() {
+        server.start();
+        vertx = Vertx.vertx();
+        redis = Redis.createClient(vertx, "redis://" + server.getHost() + ":" + server.getFirstMappedPort());
+        invalidations = new RedisNearCacheInvalidations(redis);
+    }
+
+    @AfterAll
+    static void cleanup() {
+        invalidations.close();
+        redis.close();
+        vertx.closeAndAwait();
+        server.stop();
+    }
+
+    @AfterEach
+    void clear() {
+        try {
+            redis.send(Request.cmd(Command.FLUSHALL).arg("SYNC")).await()
+                    .atMost(Duration.ofSeconds(10));
+        } catch (Exception ignored) {
+            // ignored.
+        }
+    }
+
+    @Test
+    public void testHotReadsAreServedLocally() {
+        String k = UUID.randomUUID().toString();
+        String name = UUID.randomUUID().toString();
+        RedisNearCacheImpl cache = new RedisNearCacheImpl(info(name), vertx, redis, BLOCKING_ALLOWED, invalidations);
+        assertThat(cache.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+        await().until(cache::isListening);
+
+        assertThat(cache.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+        assertThat(cache.getLocalSize()).isEqualTo(1);
+
+        // Redis is the source of truth, but the local entry shadows it until invalidated
+        redis.send(Request.cmd(Command.SET).arg("cache:" + name + ":" + k).arg("\"updated\"")).await().indefinitely();
+        assertThat(cache.get(k, s -> "ignored").await().indefinitely()).isEqualTo("hello");
+    }
+
+    @Test
+    public void testInvalidationIsPropagatedToOtherNodes() {
+        String k = UUID.randomUUID().toString();
+        String name = UUID.randomUUID().toString();
+        RedisNearCacheImpl node1 = new RedisNearCacheImpl(info(name), vertx, redis, BLOCKING_ALLOWED, invalidations);
+        // the other node has its own subscription connection
+        RedisNearCacheInvalidations otherInvalidations = new RedisNearCacheInvalidations(redis);
+        RedisNearCacheImpl node2 = new RedisNearCacheImpl(info(name), vertx, redis, BLOCKING_ALLOWED,
+                otherInvalidations);
+        try {
+            node1.getOrNull(k, String.class).await().indefinitely();
+            node2.getOrNull(k, String.class).await().indefinitely();
+            await().until(() -> node1.isListening() && node2.isListening());
+
+            assertThat(node1.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+            assertThat(node2.get(k, s -> "ignored").await().indefinitely()).isEqualTo("hello");
+            assertThat(node2.getLocalSize()).isEqualTo(1);
+
+            node1.put(k, "bonjour").await().indefinitely();
+            await().until(() -> node2.getLocalSize() == 0);
+            assertThat(node2.get(k, s -> "ignored").await().indefinitely()).isEqualTo("bonjour");
+
+            node2.invalidateAll().await().indefinitely();
+            await().until(() -> node1.getLocalSize() == 0);
+            assertThat(node1.getOrNull(k, String.class).await().indefinitely()).isNull();
+        } finally {
+            otherInvalidations.close();
+        }
+    }
+
+    @Test
+    public void testNearCachesShareTheSubscriptionConnection() {
+        String fooName = UUID.randomUUID().toString();
+        String barName = UUID.randomUUID().toString();
+        RedisNearCacheImpl foo = new RedisNearCacheImpl(info(fooName), vertx, redis, BLOCKING_ALLOWED, invalidations);
+        RedisNearCacheImpl bar = new RedisNearCacheImpl(info(barName), vertx, redis, BLOCKING_ALLOWED, invalidations);
+        foo.getOrNull("k", String.class).await().indefinitely();
+        bar.getOrNull("k", String.class).await().indefinitely();
+        await().until(() -> foo.isListening() && bar.isListening());
+
+        // the connections closed by the other tests may still be listed for a short time
+        await().untilAsserted(() -> {
+            String clients = redis.send(Request.cmd(Command.CLIENT).arg("LIST").arg("TYPE").arg("pubsub"))
+                    .await().indefinitely().toString();
+            assertThat(clients.lines().filter(line -> !line.isBlank())).hasSize(1);
+        });
+    }
+
+    private static RedisCacheInfo info(String name) {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = name;
+        info.valueType = String.class;
+        info.nearCacheEnabled = true;
+        info.nearCacheExpireAfterWrite = Optional.of(Duration.ofMinutes(1));
+        return info;
+    }
+}
@@ -19,4 +19,16 @@ public interface RestQuteConfig {
     @WithDefault("false")
     boolean templateInstanceNonBlockingType();
 
+    /**
+     * If set to {@code true} then a {@link io.quarkus.qute.TemplateInstance} returned from a JAX-RS resource method is
+     * streamed to the response, i.e. the output is encoded and written in chunks instead of being rendered as a single
+     * {@link String} first. The response is chunked and the {@code Content-Length} header is not set.
+     * <p>
+     * Note that the status code and the headers are sent with the first chunk. If the rendering fails after that, for
+     * example because the rendering timeout expires, the client has already received a {@code 200} status code and a
+     * truncated output. The connection is then reset, so that the client can at least tell that the response is incomplete.
+     */
+    @WithDefault("false")
+    boolean streaming();
+
 }
@@ -7,6 +7,9 @@
 import java.util.List;
 import java.util.Map;
 
+import jakarta.ws.rs.RuntimeType;
+import jakarta.ws.rs.core.MediaType;
+
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.MethodInfo;
@@ -23,11 +26,14 @@
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyIgnoreWarningBuildItem;
 import io.quarkus.qute.TemplateInstance;
+import io.quarkus.resteasy.reactive.qute.runtime.TemplateInstanceMessageBodyWriter;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseFilter;
+import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseStreamHandler;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseUniHandler;
 import io.quarkus.resteasy.reactive.server.spi.MethodScannerBuildItem;
 import io.quarkus.resteasy.reactive.server.spi.NonBlockingReturnTypeBuildItem;
 import io.quarkus.resteasy.reactive.spi.CustomContainerResponseFilterBuildItem;
+import io.quarkus.resteasy.reactive.spi.MessageBodyWriterBuildItem;
 
 public class ResteasyReactiveQuteProcessor {
 
@@ -57,11 +63,26 @@ void nonBlockingTemplateInstance(RestQuteConfig config, BuildProducer<NonBlockin
     }
 
     @BuildStep
-    public MethodScannerBuildItem configureHandler() {
+    void streamingWriter(RestQuteConfig config, BuildProducer<MessageBodyWriterBuildItem> writers) {
+        if (config.streaming()) {
+            writers.produce(new MessageBodyWriterBuildItem.Builder(TemplateInstanceMessageBodyWriter.class.getName(),
+                    TemplateInstance.class.getName()).setMediaTypeStrings(List.of(MediaType.WILDCARD))
+                    .setRuntimeType(RuntimeType.SERVER).setBuiltin(true).build());
+        }
+    }
+
+    @BuildStep
+    public MethodScannerBuildItem configureHandler(RestQuteConfig config) {
         return new MethodScannerBuildItem(new MethodScanner() {
             @Override
             public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
                     Map<String, Object> methodContext) {
+                if (config.streaming() && method.returnType().name().equals(TEMPLATE_INSTANCE)) {
+                    // The template is rendered by TemplateInstanceMessageBodyWriter
+                    return Collections.singletonList(
+                            new FixedHandlersChainCustomizer(List.of(new TemplateResponseStreamHandler()),
+                                    HandlerChainCustomizer.Phase.AFTER_METHOD_INVOKE_SECOND_ROUND));
+                }
                 if (method.returnType().name().equals(TEMPLATE_INSTANCE) || isAsyncTemplateInstance(method.returnType())) {
                     // TemplateResponseUniHandler creates a Uni, so we also need to introduce another Uni handler
                     // so RR actually gets the result
@@ -0,0 +1,62 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class TemplateInstanceStreamingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TestResource.class)
+                    .addAsResource(new StringAsset("quarkus.rest.qute.streaming=true"),
+                            "application.properties")
+                    .addAsResource(new StringAsset("{#for i in count}{name}:{i}|{/for}"), "templates/report.txt"));
+
+    @Test
+    public void testStreaming() {
+        StringBuilder expected = new StringBuilder();
+        for (int i = 1; i <= 10000; i++) {
+            expected.append("čeština:").append(i).append('|');
+        }
+        when().get("/test").then().statusCode(200)
+                .header("Transfer-Encoding", "chunked")
+                .contentType(Matchers.startsWith(MediaType.TEXT_PLAIN))
+                .body(Matchers.is(expected.toString()));
+        when().get("/test/small").then().statusCode(200).body(Matchers.is("foo:1|"));
+    }
+
+    @Path("test")
+    public static class TestResource {
+
+        @Inject
+        Template report;
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public TemplateInstance get() {
+            return report.data("name", "čeština").data("count", 10000);
+        }
+
+        @GET
+        @Path("small")
+        @Produces(MediaType.TEXT_PLAIN)
+        public TemplateInstance small() {
+            return report.data("name", "foo").data("count", 1);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.qute.Utf8Consumer;
+import io.quarkus.vertx.utils.VertxOutputStream;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * Streams a rendered {@link TemplateInstance} to the response, i.e. the result is never held as a single {@link String}.
+ * <p>
+ * The output is encoded chunk by chunk and written to the response output stream, which copies the bytes into pooled
+ * buffers and flushes them to the connection once a buffer is full. If the response charset is UTF-8 then the static text
+ * of the template is encoded only once and the bytes are reused for every rendering. If the template
+ * is rendered on a worker thread then the rendering waits if the write queue of the connection is full.
+ * <p>
+ * If the rendering fails once a part of the output was sent then the status code can't be changed anymore. The connection
+ * is reset instead of ending the response, the buffered output is discarded and the request processing stops.
+ */
+public class TemplateInstanceMessageBodyWriter implements ServerMessageBodyWriter<TemplateInstance> {
+
+    private static final Logger LOG = Logger.getLogger(TemplateInstanceMessageBodyWriter.class);
+
+    private volatile Engine engine;
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo target, MediaType mediaType) {
+        return TemplateInstance.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeResponse(TemplateInstance instance, Type genericType, ServerRequestContext context)
+            throws WebApplicationException, IOException {
+        ResteasyReactiveRequestContext ctx = (ResteasyReactiveRequestContext) context;
+        ctx.suspend();
+        OutputStream out = context.getOrCreateOutputStream();
+        Charset charset = charset(context.getResponseMediaType());
+        Closeable closeable;
+        CompletionStage<Void> rendered;
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            // The static text of the template is written as is
+            closeable = out;
+            rendered = instance.consume(new Utf8Consumer() {
+
+                @Override
+                public void accept(String chunk) {
+                    write(out, chunk.getBytes(StandardCharsets.UTF_8));
+                }
+
+                @Override
+                public void acceptUtf8(byte[] bytes) {
+                    write(out, bytes);
+                }
+            });
+        } else {
+            Writer writer = new OutputStreamWriter(out, charset);
+            closeable = writer;
+            rendered = instance.consume(chunk -> {
+                try {
+                    writer.write(chunk);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        if (!engine().useAsyncTimeout()) {
+            // Make sure the timeout is always used
+            rendered = rendered.toCompletableFuture().orTimeout(instance.getTimeout(), TimeUnit.MILLISECONDS);
+        }
+        rendered.whenComplete((r, t) -> {
+            if (t == null) {
+                try {
+                    closeable.close();
+                } catch (IOException e) {
+                    t = e;
+                }
+            }
+            if (t == null) {
+                ctx.resume();
+            } else if (ctx.serverResponse().headWritten()) {
+                // Part of the output was sent already, the only option is to abort the response so that the client does
+                // not take the truncated output for a complete response
+                LOG.errorf(t, "Unable to render the template after the response was committed");
+                HttpServerResponse response = ctx.serverRequest().unwrap(HttpServerResponse.class);
+                if (response != null) {
+                    response.reset();
+                } else {
+                    ctx.serverRequest().closeConnection();
+                }
+                if (out instanceof VertxOutputStream vertxOut) {
+                    // Release the buffered chunks, nothing may be written to the reset response
+                    vertxOut.discard();
+                }
+                // The response is done, i.e. the rest of the handler chain must not run
+                ctx.close();
+            } else {
+                ctx.resume(t);
+            }
+        });
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return TemplateInstance.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeTo(TemplateInstance instance, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException, WebApplicationException {
+        entityStream.write(instance.render().getBytes(charset(mediaType)));
+    }
+
+    private static void write(OutputStream out, byte[] bytes) {
+        try {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Engine engine() {
+        if (engine == null) {
+            synchronized (this) {
+                if (engine == null) {
+                    engine = Arc.container().instance(Engine.class).get();
+                }
+            }
+        }
+        return engine;
+    }
+
+    private static Charset charset(MediaType mediaType) {
+        if (mediaType != null) {
+            String charset = mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
+            if (charset != null) {
+                return Charset.forName(charset);
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+}
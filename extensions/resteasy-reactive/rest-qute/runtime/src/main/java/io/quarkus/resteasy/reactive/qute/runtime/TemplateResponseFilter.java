@@ -32,6 +32,10 @@ public Uni<Void> filter(ResteasyReactiveContainerRequestContext requestContext,
 
         MediaType mediaType;
         TemplateInstance instance = (TemplateInstance) entity;
+        if (instance.getAttribute(TemplateResponseStreamHandler.STREAMED) != null) {
+            // Rendered by TemplateInstanceMessageBodyWriter
+            return null;
+        }
         MediaType selectedMediaType = setSelectedVariant(instance, requestContext.getRequest(),
                 HeaderUtil.getAcceptableLanguages(requestContext.getHeaders()));
         if (selectedMediaType == null) {
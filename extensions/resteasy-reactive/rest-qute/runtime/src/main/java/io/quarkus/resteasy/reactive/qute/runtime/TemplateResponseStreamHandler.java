@@ -0,0 +1,39 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import static io.quarkus.resteasy.reactive.qute.runtime.Util.setSelectedVariant;
+
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+import io.quarkus.qute.TemplateInstance;
+
+/**
+ * Selects the variant of a {@link TemplateInstance} but leaves the rendering to {@link TemplateInstanceMessageBodyWriter},
+ * i.e. the template is streamed to the response.
+ */
+public class TemplateResponseStreamHandler implements ServerRestHandler {
+
+    /**
+     * The attribute of a template instance that is streamed to the response.
+     */
+    static final String STREAMED = "quarkus.rest.qute.streamed";
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) {
+        Object result = requestContext.getResult();
+        if (!(result instanceof TemplateInstance)) {
+            return;
+        }
+
+        requestContext.requireCDIRequestScope();
+
+        TemplateInstance instance = (TemplateInstance) result;
+        MediaType mediaType = setSelectedVariant(instance, requestContext.getRequest(),
+                requestContext.getHttpHeaders().getAcceptableLanguages());
+        requestContext.setResponseContentType(mediaType);
+        instance.setAttribute(STREAMED, Boolean.TRUE);
+    }
+
+}
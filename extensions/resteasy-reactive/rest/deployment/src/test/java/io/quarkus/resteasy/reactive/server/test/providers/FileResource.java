@@ -38,6 +38,12 @@ public java.nio.file.Path getPath() {
         return Paths.get(FILE);
     }
 
+    @Path("path-response")
+    @GET
+    public RestResponse<java.nio.file.Path> getPathResponse() {
+        return RestResponse.ResponseBuilder.ok(Paths.get(FILE)).header("foo", "bar").build();
+    }
+
     @Path("path-partial")
     @GET
     public PathPart getPathPart() {
@@ -19,6 +19,7 @@
 import io.quarkus.test.QuarkusUnitTest;
 import io.quarkus.test.common.http.TestHTTPResource;
 import io.restassured.RestAssured;
+import io.restassured.response.Response;
 
 public class FileTestCase {
 
@@ -113,6 +114,62 @@ public void testFiles() throws Exception {
                 .body(Matchers.equalTo(content.substring(20, 30)));
     }
 
+    @Test
+    public void testConditionalRequests() throws Exception {
+        String content = Files.readString(Path.of(FILE));
+        String contentLength = String.valueOf(content.length());
+        Response response = RestAssured.get("/providers/file/path");
+        response.then()
+                .statusCode(200)
+                .header("Accept-Ranges", "bytes")
+                .header(HttpHeaders.ETAG, Matchers.notNullValue())
+                .header(HttpHeaders.LAST_MODIFIED, Matchers.notNullValue());
+        String eTag = response.header(HttpHeaders.ETAG);
+        String lastModified = response.header(HttpHeaders.LAST_MODIFIED);
+
+        RestAssured.given().header(HttpHeaders.IF_NONE_MATCH, eTag).get("/providers/file/path")
+                .then()
+                .statusCode(304)
+                .header(HttpHeaders.ETAG, eTag)
+                .body(Matchers.emptyString());
+        RestAssured.given().header(HttpHeaders.IF_NONE_MATCH, "\"other\"").get("/providers/file/path")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo(content));
+        RestAssured.given().header(HttpHeaders.IF_MODIFIED_SINCE, lastModified).get("/providers/file/file")
+                .then()
+                .statusCode(304)
+                .body(Matchers.emptyString());
+        RestAssured.given().header(HttpHeaders.IF_MATCH, "\"other\"").get("/providers/file/file")
+                .then()
+                .statusCode(412);
+
+        RestAssured.given().header("Range", "bytes=0-9").header("If-Range", eTag).get("/providers/file/path")
+                .then()
+                .statusCode(206)
+                .header("Content-Range", "bytes 0-9/" + contentLength)
+                .body(Matchers.equalTo(content.substring(0, 10)));
+        RestAssured.given().header("Range", "bytes=0-9").header("If-Range", "\"other\"").get("/providers/file/path")
+                .then()
+                .statusCode(200)
+                .header(HttpHeaders.CONTENT_LENGTH, contentLength)
+                .body(Matchers.equalTo(content));
+        RestAssured.given().header("Range", "bytes=-" + (content.length() + 10)).get("/providers/file/path")
+                .then()
+                .statusCode(206)
+                .header("Content-Range", "bytes 0-" + (content.length() - 1) + "/" + contentLength)
+                .body(Matchers.equalTo(content));
+
+        // the status and headers of the response must not override the ones of the range request
+        RestAssured.given().header("Range", "bytes=10-19").get("/providers/file/path-response")
+                .then()
+                .statusCode(206)
+                .header("foo", "bar")
+                .header(HttpHeaders.CONTENT_LENGTH, "10")
+                .header("Content-Range", "bytes 10-19/" + contentLength)
+                .body(Matchers.equalTo(content.substring(10, 20)));
+    }
+
     @Test
     public void testChecks() throws IOException {
         // creation-time checks
@@ -34,12 +34,40 @@ public void testPathMapper() {
 
     }
 
+    @Test
+    public void testCompiledMapperMatchesLinearMapper() {
+        String[] templates = { "/", "/id", "/id/{param}", "/id/{param}/sub", "/id/{param}/{other}", "/id/list",
+                "/idx{suffix}", "/bar/{p1}/{p2}", "/bar/{p1}", "/bar/{p1:\\d+}/x", "/file/{name}.json",
+                "/trailing/" };
+        String[] paths = { "/", "/id", "/id/", "/id/34", "/id/34/", "/id/34/sub", "/id/34/sub/", "/id/34/other",
+                "/id/list", "/id/list/", "/idxyz", "/id//sub", "/bar/34/44", "/bar/34", "/bar/34/x", "/bar/a/x",
+                "/file/test.json", "/file/test", "/trailing", "/trailing/", "/foo", "/id/34/sub/more" };
+        RequestMapper<String> linear = mapper(false, templates);
+        RequestMapper<String> compiled = mapper(true, templates);
+        for (String path : paths) {
+            RequestMapper.RequestMatch<String> expected = linear.map(path);
+            RequestMapper.RequestMatch<String> actual = compiled.map(path);
+            if (expected == null) {
+                Assertions.assertNull(actual, path);
+            } else {
+                Assertions.assertNotNull(actual, path);
+                Assertions.assertEquals(expected.value, actual.value, path);
+                Assertions.assertArrayEquals(expected.pathParamValues, actual.pathParamValues, path);
+                Assertions.assertEquals(expected.remaining, actual.remaining, path);
+            }
+        }
+    }
+
     RequestMapper<String> mapper(String... vals) {
+        return mapper(true, vals);
+    }
+
+    RequestMapper<String> mapper(boolean compiled, String... vals) {
         ArrayList<RequestMapper.RequestPath<String>> list = new ArrayList<>();
         for (String i : vals) {
             list.add(new RequestMapper.RequestPath<>(false, new URITemplate(i, false), i));
         }
-        return new RequestMapper<>(list);
+        return new RequestMapper<>(list, compiled);
     }
 
 }
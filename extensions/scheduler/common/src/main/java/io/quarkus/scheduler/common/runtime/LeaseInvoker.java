@@ -0,0 +1,80 @@
+package io.quarkus.scheduler.common.runtime;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.enterprise.event.Event;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.SkippedExecution;
+import io.quarkus.scheduler.spi.JobLeaseManager;
+
+/**
+ * A scheduled invoker wrapper that skips the execution unless this node holds the lease of the job.
+ * <p>
+ * The lease is held beyond the next fire time, by one more interval of the trigger and at least by
+ * {@link #MIN_GRACE_PERIOD}. Therefore, the owner renews the lease before it expires even if the next execution is
+ * triggered a bit late. Another node takes over a job only if the owner missed the next fire time.
+ *
+ * @see JobLeaseManager
+ */
+public final class LeaseInvoker extends DelegateInvoker {
+
+    private static final Logger LOG = Logger.getLogger(LeaseInvoker.class);
+
+    // Used if the trigger will not fire anymore
+    private static final long FINAL_LEASE_SECONDS = 60;
+
+    static final Duration MIN_GRACE_PERIOD = Duration.ofSeconds(5);
+
+    private final JobLeaseManager leaseManager;
+    private final Event<SkippedExecution> event;
+
+    public LeaseInvoker(ScheduledInvoker delegate, JobLeaseManager leaseManager, Event<SkippedExecution> event) {
+        super(delegate);
+        this.leaseManager = leaseManager;
+        this.event = event;
+    }
+
+    @Override
+    public CompletionStage<Void> invoke(ScheduledExecution execution) throws Exception {
+        String identity = execution.getTrigger().getId();
+        Instant until = leaseUntil(execution.getScheduledFireTime(), execution.getTrigger().getNextFireTime());
+        CompletableFuture<Void> ret = new CompletableFuture<>();
+        leaseManager.tryAcquire(identity, until).whenComplete((acquired, t) -> {
+            if (t != null) {
+                LOG.errorf(t, "Unable to acquire the lease of %s", identity);
+                ret.completeExceptionally(t);
+            } else if (Boolean.TRUE.equals(acquired)) {
+                invokeComplete(ret, execution);
+            } else {
+                LOG.debugf("Skipped scheduled execution of %s - leased by another node", identity);
+                SkippedExecution payload = new SkippedExecution(execution, "Leased by another node");
+                try {
+                    event.fire(payload);
+                    event.fireAsync(payload);
+                } catch (Exception e) {
+                    LOG.errorf("Error while firing SkippedExecution event", e);
+                }
+                ret.complete(null);
+            }
+        });
+        return ret;
+    }
+
+    static Instant leaseUntil(Instant scheduledFireTime, Instant nextFireTime) {
+        if (nextFireTime == null) {
+            return scheduledFireTime.plusSeconds(FINAL_LEASE_SECONDS);
+        }
+        Duration gracePeriod = Duration.between(scheduledFireTime, nextFireTime);
+        if (gracePeriod.compareTo(MIN_GRACE_PERIOD) < 0) {
+            gracePeriod = MIN_GRACE_PERIOD;
+        }
+        return nextFireTime.plus(gracePeriod);
+    }
+
+}
@@ -77,6 +77,7 @@
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.gizmo.TryBlock;
+import io.quarkus.runtime.configuration.ConfigurationException;
 import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.runtime.util.HashUtil;
 import io.quarkus.scheduler.Scheduled;
@@ -87,6 +88,7 @@
 import io.quarkus.scheduler.common.runtime.util.SchedulerUtils;
 import io.quarkus.scheduler.runtime.CompositeScheduler;
 import io.quarkus.scheduler.runtime.Constituent;
+import io.quarkus.scheduler.runtime.JdbcJobLeaseManagerProducer;
 import io.quarkus.scheduler.runtime.SchedulerConfig;
 import io.quarkus.scheduler.runtime.SchedulerRecorder;
 import io.quarkus.scheduler.runtime.SimpleScheduler;
@@ -159,6 +161,21 @@ void beans(DiscoveredImplementationsBuildItem discoveredImplementations,
         }
     }
 
+    @BuildStep
+    void jobLeaseStore(SchedulerConfig config, Capabilities capabilities,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        if (config.lease().store().isEmpty()) {
+            return;
+        }
+        // JDBC is the only store at the moment
+        if (!capabilities.isPresent(Capability.AGROAL)) {
+            throw new ConfigurationException(
+                    "The jdbc job lease store requires the quarkus-agroal extension and a JDBC driver extension",
+                    Set.of("quarkus.scheduler.lease.store"));
+        }
+        additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(JdbcJobLeaseManagerProducer.class));
+    }
+
     @BuildStep
     AutoAddScopeBuildItem autoAddScope() {
         // We add @Singleton to any bean class that has no scope annotation and declares at least one non-static method annotated with @Scheduled
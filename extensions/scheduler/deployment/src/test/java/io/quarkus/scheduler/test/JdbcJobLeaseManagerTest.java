@@ -0,0 +1,89 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.scheduler.runtime.JdbcJobLeaseManager;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class JdbcJobLeaseManagerTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withEmptyApplication()
+            .overrideConfigKey("quarkus.datasource.db-kind", "h2")
+            .overrideConfigKey("quarkus.datasource.jdbc.url", "jdbc:h2:mem:leases;DB_CLOSE_DELAY=-1");
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @BeforeEach
+    void createTable() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + JdbcJobLeaseManager.DEFAULT_TABLE);
+            statement.execute("CREATE TABLE " + JdbcJobLeaseManager.DEFAULT_TABLE + " ("
+                    + "JOB_ID VARCHAR(255) NOT NULL PRIMARY KEY, "
+                    + "OWNER VARCHAR(255) NOT NULL, "
+                    + "EXPIRES_AT BIGINT NOT NULL)");
+        }
+    }
+
+    @Test
+    public void testLeaseIsExclusive() throws Exception {
+        JdbcJobLeaseManager node1 = manager("node1");
+        JdbcJobLeaseManager node2 = manager("node2");
+        Instant until = Instant.now().plusSeconds(60);
+
+        // The first node inserts the lease
+        assertTrue(acquire(node1, "job", until));
+        // The lease did not expire and is held by the first node - the insert fails with a duplicate key
+        assertFalse(acquire(node2, "job", until));
+        // The first node renews its own lease
+        assertTrue(acquire(node1, "job", until.plusSeconds(60)));
+        assertFalse(acquire(node2, "job", until));
+    }
+
+    @Test
+    public void testExpiredLeaseIsTakenOver() throws Exception {
+        JdbcJobLeaseManager node1 = manager("node1");
+        JdbcJobLeaseManager node2 = manager("node2");
+
+        assertTrue(acquire(node1, "job", Instant.now().minusSeconds(1)));
+        // The lease expired - the second node takes it over
+        assertTrue(acquire(node2, "job", Instant.now().plusSeconds(60)));
+        assertFalse(acquire(node1, "job", Instant.now().plusSeconds(60)));
+    }
+
+    @Test
+    public void testFailureIsPropagated() {
+        JdbcJobLeaseManager manager = new JdbcJobLeaseManager(dataSource, Runnable::run, "MISSING_LEASES", "node1");
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> acquire(manager, "job", Instant.now().plusSeconds(60)));
+        assertInstanceOf(SQLException.class, e.getCause());
+    }
+
+    private JdbcJobLeaseManager manager(String nodeId) {
+        return new JdbcJobLeaseManager(dataSource, Runnable::run, JdbcJobLeaseManager.DEFAULT_TABLE, nodeId);
+    }
+
+    private static boolean acquire(JdbcJobLeaseManager manager, String identity, Instant until) throws Exception {
+        return manager.tryAcquire(identity, until).toCompletableFuture().get(5, TimeUnit.SECONDS);
+    }
+
+}
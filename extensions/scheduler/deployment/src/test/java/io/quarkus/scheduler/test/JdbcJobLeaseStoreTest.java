@@ -0,0 +1,73 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.runtime.JdbcJobLeaseManager;
+import io.quarkus.scheduler.spi.JobLeaseManager;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class JdbcJobLeaseStoreTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class))
+            .overrideConfigKey("quarkus.datasource.leases.db-kind", "h2")
+            .overrideConfigKey("quarkus.datasource.leases.jdbc.url", "jdbc:h2:mem:lease-store;DB_CLOSE_DELAY=-1")
+            .overrideConfigKey("quarkus.scheduler.lease.store", "jdbc")
+            .overrideConfigKey("quarkus.scheduler.lease.datasource", "leases")
+            .overrideConfigKey("quarkus.scheduler.lease.table", "JOB_LEASES");
+
+    @Inject
+    JobLeaseManager leaseManager;
+
+    @Inject
+    @io.quarkus.agroal.DataSource("leases")
+    AgroalDataSource dataSource;
+
+    @Test
+    public void testLeasesAreStoredInTheConfiguredDatasource() throws Exception {
+        assertInstanceOf(JdbcJobLeaseManager.class, leaseManager);
+        assertTrue(Jobs.LATCH.await(5, TimeUnit.SECONDS));
+
+        // The table was created on startup and holds the lease of the job
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+                ResultSet leases = statement.executeQuery("SELECT OWNER FROM JOB_LEASES WHERE JOB_ID = 'leased'")) {
+            assertTrue(leases.next());
+            assertEquals(((JdbcJobLeaseManager) leaseManager).getNodeId(), leases.getString(1));
+        }
+
+        // Another node cannot take the lease over
+        JdbcJobLeaseManager otherNode = new JdbcJobLeaseManager(dataSource, Runnable::run, "JOB_LEASES", "other");
+        assertFalse(otherNode.tryAcquire("leased", Instant.now().plusSeconds(60)).toCompletableFuture()
+                .get(5, TimeUnit.SECONDS));
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(2);
+
+        @Scheduled(identity = "leased", every = "1s")
+        void leased() {
+            LATCH.countDown();
+        }
+    }
+
+}
@@ -0,0 +1,72 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.SkippedExecution;
+import io.quarkus.scheduler.spi.JobLeaseManager;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class JobLeaseTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class, OtherNodeLeases.class));
+
+    @Test
+    public void testLeases() throws InterruptedException {
+        assertTrue(Jobs.LEASED_LATCH.await(5, TimeUnit.SECONDS));
+        assertTrue(Jobs.SKIPPED_LATCH.await(5, TimeUnit.SECONDS));
+        assertEquals(0, Jobs.FOREIGN_EXECUTIONS.get());
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LEASED_LATCH = new CountDownLatch(2);
+        static final CountDownLatch SKIPPED_LATCH = new CountDownLatch(1);
+        static final AtomicInteger FOREIGN_EXECUTIONS = new AtomicInteger();
+
+        @Scheduled(identity = "leased", every = "1s")
+        void leased() {
+            LEASED_LATCH.countDown();
+        }
+
+        @Scheduled(identity = "foreign", every = "1s")
+        void foreign() {
+            FOREIGN_EXECUTIONS.incrementAndGet();
+        }
+
+        void onSkip(@Observes SkippedExecution event) {
+            if (event.triggerId.equals("foreign") && event.getDetail().equals("Leased by another node")) {
+                SKIPPED_LATCH.countDown();
+            }
+        }
+    }
+
+    @Singleton
+    static class OtherNodeLeases implements JobLeaseManager {
+
+        @Override
+        public CompletionStage<Boolean> tryAcquire(String identity, Instant until) {
+            // The "foreign" job is held by another node
+            return CompletableFuture.completedStage(!identity.equals("foreign"));
+        }
+
+    }
+
+}
@@ -0,0 +1,155 @@
+package io.quarkus.scheduler.test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class OrderedTriggerDispatchTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class))
+            .overrideConfigKey("quarkus.scheduler.trigger-dispatch", "ordered");
+
+    @Inject
+    Scheduler scheduler;
+
+    @Test
+    public void testSubSecondInterval() throws InterruptedException {
+        assertTrue(Jobs.LATCH.await(5, TimeUnit.SECONDS));
+        List<Instant> fireTimes = new ArrayList<>(Jobs.SCHEDULED_FIRE_TIMES).subList(0, 10);
+        // The first execution happens right after the start, the next ones at a fixed rate
+        for (int i = 2; i < fireTimes.size(); i++) {
+            long diff = Duration.between(fireTimes.get(i - 1), fireTimes.get(i)).toMillis();
+            assertTrue(diff >= 50 && diff < 1000, "Unexpected interval: " + diff);
+        }
+    }
+
+    @Test
+    public void testProgrammaticJobs() throws InterruptedException {
+        int jobs = 1000;
+        CountDownLatch latch = new CountDownLatch(jobs);
+        for (int i = 0; i < jobs; i++) {
+            scheduler.newJob("job" + i)
+                    .setInterval("0.2s")
+                    .setTask(ex -> latch.countDown())
+                    .schedule();
+        }
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+
+        AtomicInteger executions = new AtomicInteger();
+        scheduler.newJob("unscheduled")
+                .setInterval("0.05s")
+                .setTask(ex -> executions.incrementAndGet())
+                .schedule();
+        for (int i = 0; i < jobs; i++) {
+            assertNotNull(scheduler.unscheduleJob("job" + i));
+        }
+        assertNotNull(scheduler.unscheduleJob("unscheduled"));
+        int count = executions.get();
+        awaitOtherExecutions(3);
+        // At most one execution may have been in progress
+        assertTrue(executions.get() - count <= 1);
+        assertEquals(0, scheduler.getScheduledJobs().stream().filter(t -> t.getId().startsWith("job")).count());
+    }
+
+    @Test
+    public void testPauseAndResumeJob() throws InterruptedException {
+        AtomicInteger executions = new AtomicInteger();
+        scheduler.newJob("pausable")
+                .setInterval("0.05s")
+                .setTask(ex -> executions.incrementAndGet())
+                .schedule();
+        try {
+            await().atMost(Duration.ofSeconds(5)).until(() -> executions.get() > 0);
+
+            scheduler.pause("pausable");
+            int count = executions.get();
+            awaitOtherExecutions(3);
+            // At most one execution may have been in progress
+            assertTrue(executions.get() - count <= 1);
+
+            // The paused job is dispatched again as soon as it's resumed
+            int paused = executions.get();
+            scheduler.resume("pausable");
+            await().atMost(Duration.ofSeconds(5)).until(() -> executions.get() > paused);
+        } finally {
+            scheduler.unscheduleJob("pausable");
+        }
+    }
+
+    @Test
+    public void testPauseAndResumeScheduler() {
+        AtomicInteger executions = new AtomicInteger();
+        scheduler.newJob("paused-with-scheduler")
+                .setInterval("0.05s")
+                .setTask(ex -> executions.incrementAndGet())
+                .schedule();
+        try {
+            await().atMost(Duration.ofSeconds(5)).until(() -> executions.get() > 0);
+
+            scheduler.pause();
+            int count = executions.get();
+            // At most one execution may have been in progress
+            await().during(Duration.ofMillis(200)).atMost(Duration.ofSeconds(1))
+                    .until(() -> executions.get() - count <= 1);
+
+            int paused = executions.get();
+            scheduler.resume();
+            await().atMost(Duration.ofSeconds(5)).until(() -> executions.get() > paused);
+        } finally {
+            scheduler.resume();
+            scheduler.unscheduleJob("paused-with-scheduler");
+        }
+    }
+
+    // Lets the scheduler run for a while, i.e. until another job is executed the given number of times
+    private void awaitOtherExecutions(int count) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(count);
+        scheduler.newJob("other")
+                .setInterval("0.05s")
+                .setTask(ex -> latch.countDown())
+                .schedule();
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } finally {
+            scheduler.unscheduleJob("other");
+        }
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(10);
+        static final Queue<Instant> SCHEDULED_FIRE_TIMES = new ConcurrentLinkedQueue<>();
+
+        @Scheduled(every = "0.05s")
+        void everyFiftyMillis(ScheduledExecution execution) {
+            SCHEDULED_FIRE_TIMES.add(execution.getScheduledFireTime());
+            LATCH.countDown();
+        }
+
+    }
+
+}
@@ -0,0 +1,158 @@
+package io.quarkus.scheduler.runtime;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import javax.sql.DataSource;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.scheduler.spi.JobLeaseManager;
+
+/**
+ * A {@link JobLeaseManager} that stores the leases in a database table shared by all nodes.
+ * <p>
+ * The table can be created with {@link #createTableIfMissing()}. It needs the following columns:
+ *
+ * <pre>
+ * CREATE TABLE QUARKUS_SCHEDULER_LEASES (
+ *     JOB_ID VARCHAR(255) NOT NULL PRIMARY KEY,
+ *     OWNER VARCHAR(255) NOT NULL,
+ *     EXPIRES_AT BIGINT NOT NULL
+ * )
+ * </pre>
+ *
+ * The expiration time is stored in milliseconds since the epoch and compared to the clock of the node, so the clocks of
+ * the nodes should be synchronized.
+ * <p>
+ * The statements are executed by the given executor, so that the scheduler thread is never blocked.
+ * <p>
+ * With {@code quarkus.scheduler.lease.store=jdbc}, an instance is registered as a bean for the datasource configured with
+ * {@code quarkus.scheduler.lease.datasource}, see {@link JdbcJobLeaseManagerProducer}.
+ */
+public class JdbcJobLeaseManager implements JobLeaseManager {
+
+    private static final Logger LOG = Logger.getLogger(JdbcJobLeaseManager.class);
+
+    public static final String DEFAULT_TABLE = "QUARKUS_SCHEDULER_LEASES";
+
+    private final DataSource dataSource;
+    private final Executor executor;
+    private final String nodeId;
+    private final String table;
+    private final String updateSql;
+    private final String insertSql;
+
+    public JdbcJobLeaseManager(DataSource dataSource, Executor executor) {
+        this(dataSource, executor, DEFAULT_TABLE, UUID.randomUUID().toString());
+    }
+
+    public JdbcJobLeaseManager(DataSource dataSource, Executor executor, String table, String nodeId) {
+        this.dataSource = Objects.requireNonNull(dataSource);
+        this.executor = Objects.requireNonNull(executor);
+        this.nodeId = Objects.requireNonNull(nodeId);
+        this.table = Objects.requireNonNull(table);
+        this.updateSql = "UPDATE " + table
+                + " SET OWNER = ?, EXPIRES_AT = ? WHERE JOB_ID = ? AND (OWNER = ? OR EXPIRES_AT <= ?)";
+        this.insertSql = "INSERT INTO " + table + " (JOB_ID, OWNER, EXPIRES_AT) VALUES (?, ?, ?)";
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Creates the table of the leases unless it exists. This method blocks the calling thread.
+     */
+    public void createTableIfMissing() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            if (tableExists(connection)) {
+                return;
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE " + table + " (JOB_ID VARCHAR(255) NOT NULL PRIMARY KEY, "
+                        + "OWNER VARCHAR(255) NOT NULL, EXPIRES_AT BIGINT NOT NULL)");
+                LOG.debugf("Created the job lease table %s", table);
+            } catch (SQLException e) {
+                // Another node may have created the table in the meantime
+                if (!tableExists(connection)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private boolean tableExists(Connection connection) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        // Unquoted identifiers are stored in upper or lower case depending on the database
+        for (String name : List.of(table, table.toUpperCase(Locale.ROOT), table.toLowerCase(Locale.ROOT))) {
+            try (ResultSet tables = metaData.getTables(connection.getCatalog(), connection.getSchema(), name, null)) {
+                if (tables.next()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public CompletionStage<Boolean> tryAcquire(String identity, Instant until) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return acquire(identity, until.toEpochMilli(), System.currentTimeMillis());
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    boolean acquire(String identity, long until, long now) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            // Take over an expired lease or renew our own
+            try (PreparedStatement update = connection.prepareStatement(updateSql)) {
+                update.setString(1, nodeId);
+                update.setLong(2, until);
+                update.setString(3, identity);
+                update.setString(4, nodeId);
+                update.setLong(5, now);
+                if (update.executeUpdate() > 0) {
+                    return true;
+                }
+            }
+            // There is no lease yet, or it is held by another node
+            try (PreparedStatement insert = connection.prepareStatement(insertSql)) {
+                insert.setString(1, identity);
+                insert.setString(2, nodeId);
+                insert.setLong(3, until);
+                return insert.executeUpdate() > 0;
+            } catch (SQLException e) {
+                if (isIntegrityConstraintViolation(e)) {
+                    // Duplicate key, i.e. another node holds the lease or inserted it in the meantime
+                    LOG.debugf("Lease of %s not acquired: %s", identity, e.getMessage());
+                    return false;
+                }
+                throw e;
+            }
+        }
+    }
+
+    private static boolean isIntegrityConstraintViolation(SQLException e) {
+        // SQLSTATE class 23 - integrity constraint violation
+        String sqlState = e.getSQLState();
+        return sqlState != null && sqlState.startsWith("23");
+    }
+
+}
@@ -0,0 +1,42 @@
+package io.quarkus.scheduler.runtime;
+
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.runtime.AgroalDataSourceUtil;
+import io.quarkus.datasource.common.runtime.DataSourceUtil;
+import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.scheduler.runtime.SchedulerConfig.LeaseConfig;
+import io.quarkus.scheduler.spi.JobLeaseManager;
+
+/**
+ * Registers the {@link JdbcJobLeaseManager} if {@code quarkus.scheduler.lease.store=jdbc}. This class is only added as a
+ * bean if the Agroal extension is present.
+ */
+@Singleton
+public class JdbcJobLeaseManagerProducer {
+
+    @Produces
+    @Singleton
+    JobLeaseManager jdbcJobLeaseManager(SchedulerConfig config, ExecutorService executor) throws SQLException {
+        LeaseConfig lease = config.lease();
+        String dataSourceName = lease.datasource().orElse(DataSourceUtil.DEFAULT_DATASOURCE_NAME);
+        AgroalDataSource dataSource = AgroalDataSourceUtil.dataSourceIfActive(dataSourceName)
+                .orElseThrow(() -> new ConfigurationException("The job lease store uses the datasource "
+                        + dataSourceName + " which is not configured or not active",
+                        Set.of("quarkus.scheduler.lease.datasource")));
+        JdbcJobLeaseManager manager = new JdbcJobLeaseManager(dataSource, executor, lease.table(),
+                UUID.randomUUID().toString());
+        if (lease.createTable()) {
+            manager.createTableIfMissing();
+        }
+        return manager;
+    }
+
+}
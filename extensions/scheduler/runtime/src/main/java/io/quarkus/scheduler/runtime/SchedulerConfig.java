@@ -1,5 +1,7 @@
 package io.quarkus.scheduler.runtime;
 
+import java.util.Optional;
+
 import com.cronutils.model.CronType;
 
 import io.quarkus.runtime.annotations.ConfigPhase;
@@ -47,4 +49,43 @@ public interface SchedulerConfig {
     @WithDefault("false")
     boolean useCompositeScheduler();
 
+    /**
+     * Clustered execution of the jobs of the default scheduler implementation.
+     */
+    LeaseConfig lease();
+
+    interface LeaseConfig {
+
+        /**
+         * The store of the job leases. If not set, every application instance runs all the jobs, unless the application
+         * provides a {@link io.quarkus.scheduler.spi.JobLeaseManager} bean.
+         */
+        Optional<LeaseStore> store();
+
+        /**
+         * The name of the datasource used by the {@code jdbc} store. The default datasource is used if not set.
+         */
+        Optional<String> datasource();
+
+        /**
+         * The name of the table used by the {@code jdbc} store.
+         */
+        @WithDefault(JdbcJobLeaseManager.DEFAULT_TABLE)
+        String table();
+
+        /**
+         * Whether the {@code jdbc} store creates its table on startup if it does not exist.
+         */
+        @WithDefault("true")
+        boolean createTable();
+    }
+
+    enum LeaseStore {
+
+        /**
+         * The leases are stored in a table of a JDBC datasource. The {@code quarkus-agroal} extension is required.
+         */
+        JDBC
+    }
+
 }
@@ -31,6 +31,12 @@ public interface SchedulerRuntimeConfig {
     @WithDefault("normal")
     StartMode startMode();
 
+    /**
+     * How the simple scheduler finds out which triggers are due.
+     */
+    @WithDefault("polling")
+    TriggerDispatch triggerDispatch();
+
     enum StartMode {
 
         /**
@@ -53,4 +59,20 @@ enum StartMode {
          */
         HALTED;
     }
+
+    enum TriggerDispatch {
+
+        /**
+         * All triggers are checked once per second. An {@code every()} value less than one second is not supported.
+         */
+        POLLING,
+
+        /**
+         * Triggers are ordered by their next fire time and the scheduler thread sleeps until the first one is due.
+         * <p>
+         * Intervals are precise to the millisecond and the cost of firing a trigger doesn't depend on the number of
+         * scheduled jobs, which suits applications scheduling many programmatic jobs.
+         */
+        ORDERED;
+    }
 }
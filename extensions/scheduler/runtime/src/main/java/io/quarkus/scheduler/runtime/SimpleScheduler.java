@@ -14,7 +14,9 @@
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -53,13 +55,16 @@
 import io.quarkus.scheduler.common.runtime.CronParser;
 import io.quarkus.scheduler.common.runtime.DefaultInvoker;
 import io.quarkus.scheduler.common.runtime.Events;
+import io.quarkus.scheduler.common.runtime.LeaseInvoker;
 import io.quarkus.scheduler.common.runtime.ScheduledInvoker;
 import io.quarkus.scheduler.common.runtime.ScheduledMethod;
 import io.quarkus.scheduler.common.runtime.SchedulerContext;
 import io.quarkus.scheduler.common.runtime.SyntheticScheduled;
 import io.quarkus.scheduler.common.runtime.util.SchedulerUtils;
 import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.StartMode;
+import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.TriggerDispatch;
 import io.quarkus.scheduler.spi.JobInstrumenter;
+import io.quarkus.scheduler.spi.JobLeaseManager;
 import io.vertx.core.Vertx;
 
 @Typed(Scheduler.class)
@@ -75,6 +80,10 @@ public class SimpleScheduler extends BaseScheduler implements Scheduler {
     private volatile boolean running;
     private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
     private final SchedulerConfig schedulerConfig;
+    // if true then each task is dispatched when its trigger is due, instead of checking all triggers every second
+    private final boolean ordered;
+    private volatile boolean started;
+    private final JobLeaseManager leaseManager;
 
     public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedulerRuntimeConfig,
             Event<SkippedExecution> skippedExecutionEvent, Event<SuccessfulExecution> successExecutionEvent,
@@ -82,7 +91,8 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
             Event<SchedulerPaused> schedulerPausedEvent, Event<SchedulerResumed> schedulerResumedEvent,
             Event<ScheduledJobPaused> scheduledJobPausedEvent,
             Event<ScheduledJobResumed> scheduledJobResumedEvent, Vertx vertx, SchedulerConfig schedulerConfig,
-            Instance<JobInstrumenter> jobInstrumenter, ScheduledExecutorService blockingExecutor) {
+            Instance<JobInstrumenter> jobInstrumenter, ScheduledExecutorService blockingExecutor,
+            Instance<JobLeaseManager> jobLeaseManager) {
         super(vertx, new CronParser(context.getCronType()), schedulerRuntimeConfig.overdueGracePeriod(),
                 new Events(skippedExecutionEvent, successExecutionEvent, failedExecutionEvent, delayedExecutionEvent,
                         schedulerPausedEvent, schedulerResumedEvent, scheduledJobPausedEvent, scheduledJobResumedEvent),
@@ -90,6 +100,8 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
         this.running = true;
         this.scheduledTasks = new ConcurrentHashMap<>();
         this.schedulerConfig = schedulerConfig;
+        this.ordered = schedulerRuntimeConfig.triggerDispatch() == TriggerDispatch.ORDERED;
+        this.leaseManager = jobLeaseManager.isResolvable() ? jobLeaseManager.get() : null;
 
         if (!schedulerRuntimeConfig.enabled()) {
             this.scheduledExecutor = null;
@@ -123,13 +135,19 @@ public Thread newThread(Runnable runnable) {
                 return t;
             }
         };
-        // This executor is used to check all registered triggers every second
-        this.scheduledExecutor = new JBossScheduledThreadPoolExecutor(1, tf, new Runnable() {
+        // This executor is used to check all registered triggers every second,
+        // or to run each task when its trigger is due if the ordered dispatch is used
+        JBossScheduledThreadPoolExecutor executor = new JBossScheduledThreadPoolExecutor(1, tf, new Runnable() {
             @Override
             public void run() {
                 // noop
             }
         });
+        if (ordered) {
+            // The executor queue holds one entry per task, make sure unscheduled tasks don't stay there
+            executor.setRemoveOnCancelPolicy(true);
+        }
+        this.scheduledExecutor = executor;
 
         if (startMode == StartMode.HALTED) {
             running = false;
@@ -157,6 +175,7 @@ public void run() {
                     ScheduledInvoker invoker = initInvoker(context.createInvoker(method.getInvokerClassName()), events,
                             scheduled.concurrentExecution(), initSkipPredicate(scheduled.skipExecutionIf()), instrumenter,
                             vertx, false, SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor);
+                    invoker = initLeaseInvoker(invoker);
                     scheduledTasks.put(trigger.get().id, new ScheduledTask(trigger.get(), invoker, false));
                 }
             }
@@ -196,6 +215,7 @@ public Trigger unscheduleJob(String identity) {
             ScheduledTask task = scheduledTasks.get(parsedIdentity);
             if (task != null && task.isProgrammatic) {
                 if (scheduledTasks.remove(task.trigger.id) != null) {
+                    task.cancel();
                     return task.trigger;
                 }
             }
@@ -208,6 +228,13 @@ void start(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEven
         if (scheduledExecutor == null) {
             return;
         }
+        if (ordered) {
+            started = true;
+            for (ScheduledTask task : scheduledTasks.values()) {
+                dispatchFirst(task);
+            }
+            return;
+        }
         // Try to compute the initial delay to execute the checks near to the whole second
         // Note that this does not guarantee anything, it's just best effort
         LocalDateTime now = LocalDateTime.now();
@@ -239,6 +266,67 @@ void checkTriggers() {
         }
     }
 
+    private void dispatchFirst(ScheduledTask task) {
+        // A task scheduled while the scheduler is starting could be dispatched twice
+        if (task.markDispatched()) {
+            dispatchNext(task);
+        }
+    }
+
+    private void dispatchNext(ScheduledTask task) {
+        Instant next = task.trigger.getNextEvaluationTime();
+        if (next == null) {
+            LOG.debugf("%s will not fire anymore", task.trigger);
+            return;
+        }
+        dispatch(task, next.toEpochMilli());
+    }
+
+    private void dispatch(ScheduledTask task, long due) {
+        if (scheduledTasks.get(task.trigger.id) != task) {
+            // Unscheduled
+            return;
+        }
+        ScheduledFuture<?> future;
+        try {
+            future = scheduledExecutor.schedule(() -> fire(task, due), Math.max(0, due - System.currentTimeMillis()),
+                    TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // The scheduler is being stopped
+            return;
+        }
+        task.future = future;
+        if (scheduledTasks.get(task.trigger.id) != task) {
+            // Unscheduled in the meantime
+            future.cancel(false);
+        }
+    }
+
+    private void fire(ScheduledTask task, long due) {
+        if (!running || !task.trigger.isRunning()) {
+            // The task is dispatched again when the scheduler or the job is resumed
+            task.park();
+            if (running && task.trigger.isRunning()) {
+                // Resumed in the meantime
+                dispatchParked(task);
+            }
+            return;
+        }
+        // The executor measures the delay with System.nanoTime() and may run the task slightly before the due time
+        ZonedDateTime now = ZonedDateTime.now();
+        if (now.toInstant().toEpochMilli() < due) {
+            now = Instant.ofEpochMilli(due).atZone(now.getZone());
+        }
+        task.execute(now, vertx);
+        dispatchNext(task);
+    }
+
+    private void dispatchParked(ScheduledTask task) {
+        if (task.unpark()) {
+            dispatchNext(task);
+        }
+    }
+
     @Override
     public void pause() {
         if (!isStarted()) {
@@ -289,6 +377,11 @@ public void resume() {
             throw notStarted();
         }
         running = true;
+        if (ordered) {
+            for (ScheduledTask task : scheduledTasks.values()) {
+                dispatchParked(task);
+            }
+        }
         events.fireSchedulerResumed();
     }
 
@@ -306,6 +399,9 @@ public void resume(String identity) {
         ScheduledTask task = scheduledTasks.get(parsedIdentity);
         if (task != null) {
             task.trigger.setRunning(true);
+            if (ordered) {
+                dispatchParked(task);
+            }
             events.fireScheduledJobResumed(new ScheduledJobResumed(task.trigger));
         }
     }
@@ -340,9 +436,14 @@ public Trigger getScheduledJob(String identity) {
         return null;
     }
 
+    private ScheduledInvoker initLeaseInvoker(ScheduledInvoker invoker) {
+        // Only run the executions of jobs leased by this node
+        return leaseManager != null ? new LeaseInvoker(invoker, leaseManager, events.skippedExecution) : invoker;
+    }
+
     Optional<SimpleTrigger> createTrigger(String id, String methodDescription, Scheduled scheduled,
             Duration defaultGracePeriod) {
-        ZonedDateTime start = ZonedDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        ZonedDateTime start = ZonedDateTime.now().truncatedTo(ordered ? ChronoUnit.MILLIS : ChronoUnit.SECONDS);
         Long millisToAdd = null;
         if (scheduled.delay() > 0) {
             millisToAdd = scheduled.delayUnit().toMillis(scheduled.delay());
@@ -367,7 +468,7 @@ Optional<SimpleTrigger> createTrigger(String id, String methodDescription, Sched
                 return Optional.empty();
             }
             return Optional.of(new IntervalTrigger(id, start, everyMillis.getAsLong(),
-                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod), methodDescription));
+                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod), methodDescription, ordered));
         } else {
             throw new IllegalArgumentException("Either the 'cron' expression or the 'every' period must be set: " + scheduled);
         }
@@ -378,6 +479,11 @@ static class ScheduledTask {
         final boolean isProgrammatic;
         final SimpleTrigger trigger;
         final ScheduledInvoker invoker;
+        // only used by the ordered dispatch
+        volatile ScheduledFuture<?> future;
+        private boolean dispatched;
+        // true if the task was not dispatched again because the scheduler or the job is paused
+        private boolean parked;
 
         ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker, boolean isProgrammatic) {
             this.trigger = trigger;
@@ -399,6 +505,33 @@ void execute(ZonedDateTime now, Vertx vertx) {
             }
         }
 
+        synchronized boolean markDispatched() {
+            if (dispatched) {
+                return false;
+            }
+            dispatched = true;
+            return true;
+        }
+
+        synchronized void park() {
+            parked = true;
+        }
+
+        synchronized boolean unpark() {
+            if (parked) {
+                parked = false;
+                return true;
+            }
+            return false;
+        }
+
+        void cancel() {
+            ScheduledFuture<?> f = future;
+            if (f != null) {
+                f.cancel(false);
+            }
+        }
+
     }
 
     static abstract class SimpleTrigger implements Trigger {
@@ -422,6 +555,15 @@ static abstract class SimpleTrigger implements Trigger {
          */
         abstract ZonedDateTime evaluate(ZonedDateTime now);
 
+        /**
+         * Used by the ordered dispatch.
+         *
+         * @return the time the trigger should be evaluated next, or {@code null} if it will never fire again
+         */
+        Instant getNextEvaluationTime() {
+            return getNextFireTime();
+        }
+
         @Override
         public Instant getPreviousFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -451,12 +593,16 @@ static class IntervalTrigger extends SimpleTrigger {
         // milliseconds
         private final long interval;
         private final Duration gracePeriod;
+        // if true then the trigger is evaluated when it's due instead of every second
+        private final boolean precise;
 
-        IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod, String description) {
+        IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod, String description,
+                boolean precise) {
             super(id, start, description);
             this.interval = interval;
             this.gracePeriod = gracePeriod;
-            if (interval < CHECK_PERIOD) {
+            this.precise = precise;
+            if (!precise && interval < CHECK_PERIOD) {
                 LOG.warnf(
                         "An every() value less than %s ms is not supported - the scheduled job will be executed with a delay: %s",
                         CHECK_PERIOD, description);
@@ -470,13 +616,21 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             }
             if (lastFireTime == null) {
                 // First execution
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                lastFireTime = now.truncatedTo(precise ? ChronoUnit.MILLIS : ChronoUnit.SECONDS);
                 return now;
             }
             long diff = ChronoUnit.MILLIS.between(lastFireTime, now);
             if (diff >= interval) {
                 ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                if (!precise) {
+                    lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                } else if (diff - interval < interval) {
+                    // Keep the fixed rate, i.e. the delay of this execution does not postpone the next one
+                    lastFireTime = scheduledFireTime;
+                } else {
+                    // More than one execution was missed
+                    lastFireTime = now.truncatedTo(ChronoUnit.MILLIS);
+                }
                 LOG.tracef("%s fired, diff=%s ms", this, diff);
                 return scheduledFireTime;
             }
@@ -492,6 +646,12 @@ public Instant getNextFireTime() {
             return last.plus(Duration.ofMillis(interval)).toInstant();
         }
 
+        @Override
+        Instant getNextEvaluationTime() {
+            // The first execution happens right after the start
+            return lastFireTime == null ? start.toInstant() : getNextFireTime();
+        }
+
         @Override
         public boolean isOverdue() {
             ZonedDateTime now = ZonedDateTime.now();
@@ -533,6 +693,13 @@ public Instant getNextFireTime() {
             return executionTime.nextExecution(lastFireTime).map(ZonedDateTime::toInstant).orElse(null);
         }
 
+        @Override
+        Instant getNextEvaluationTime() {
+            // The trigger only fires once the execution time has passed
+            Instant next = getNextFireTime();
+            return next != null ? next.plusMillis(1) : null;
+        }
+
         @Override
         ZonedDateTime evaluate(ZonedDateTime now) {
             if (now.isBefore(start)) {
@@ -667,11 +834,15 @@ public boolean isBlocking() {
                 }
                 invoker = initInvoker(invoker, events, concurrentExecution, skipPredicate, instrumenter, vertx,
                         false, SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor);
+                invoker = initLeaseInvoker(invoker);
                 ScheduledTask scheduledTask = new ScheduledTask(trigger.get(), invoker, true);
                 ScheduledTask existing = scheduledTasks.putIfAbsent(simpleTrigger.id, scheduledTask);
                 if (existing != null) {
                     throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
                 }
+                if (ordered && started) {
+                    dispatchFirst(scheduledTask);
+                }
                 return simpleTrigger;
             }
             return null;
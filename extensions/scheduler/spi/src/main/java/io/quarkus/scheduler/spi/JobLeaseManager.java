@@ -0,0 +1,30 @@
+package io.quarkus.scheduler.spi;
+
+import java.time.Instant;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Coordinates the executions of scheduled jobs across the nodes of a cluster.
+ * <p>
+ * Extensions and applications can provide exactly one CDI bean of this type. The scope must be either
+ * {@link jakarta.inject.Singleton} or {@link jakarta.enterprise.context.ApplicationScoped}. If such a bean exists, the
+ * simple scheduler only runs an execution of a job if this node holds the lease of the job. The node that acquires a
+ * lease first keeps the job as long as it renews the lease, so the jobs are spread across the nodes.
+ * <p>
+ * The jobs are identified by their identity, which must therefore be the same on all nodes.
+ */
+public interface JobLeaseManager {
+
+    /**
+     * Attempts to acquire, or renew, the lease of a job. The attempt must fail if another node holds a lease that did not
+     * expire yet.
+     * <p>
+     * This method is called from the scheduler thread and must not block.
+     *
+     * @param identity The identity of the job
+     * @param until The time the lease expires, i.e. some time after the next fire time of the trigger
+     * @return a completion stage completed with {@code true} if this node holds the lease
+     */
+    CompletionStage<Boolean> tryAcquire(String identity, Instant until);
+
+}
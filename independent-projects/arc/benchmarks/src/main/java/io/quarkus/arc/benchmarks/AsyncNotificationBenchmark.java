@@ -0,0 +1,81 @@
+package io.quarkus.arc.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.NotificationOptions;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.AsyncNotificationMode;
+
+/**
+ * Fires an async event observed by {@link AsyncObserversComponentsProvider#OBSERVERS} observers and waits until all of
+ * them are notified, in the serial and in the parallel notification mode. The observers either do nothing, i.e. the
+ * overhead of the notification is measured, or burn some CPU.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class AsyncNotificationBenchmark {
+
+    @Param({ "SERIAL", "PARALLEL" })
+    public AsyncNotificationMode mode;
+
+    @Param({ "0", "10000" })
+    public long tokens;
+
+    private Event<Object> event;
+
+    private NotificationOptions options;
+
+    private Payload payload;
+
+    @Setup
+    public void setup() {
+        event = Arc.initialize().beanManager().getEvent();
+        options = NotificationOptions.of(AsyncNotificationMode.OPTION, mode);
+        payload = new Payload(tokens);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Arc.shutdown();
+    }
+
+    @Benchmark
+    public Object fireAsync() {
+        return event.fireAsync(payload, options).toCompletableFuture().join();
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { AsyncNotificationBenchmark.class.getSimpleName(), "-prof", "gc" });
+    }
+
+    public static class Payload {
+
+        final long tokens;
+
+        Payload(long tokens) {
+            this.tokens = tokens;
+        }
+
+    }
+
+}
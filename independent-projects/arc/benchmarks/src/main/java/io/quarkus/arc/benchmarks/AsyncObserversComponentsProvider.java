@@ -0,0 +1,65 @@
+package io.quarkus.arc.benchmarks;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import jakarta.enterprise.inject.spi.EventContext;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.quarkus.arc.Components;
+import io.quarkus.arc.ComponentsProvider;
+import io.quarkus.arc.CurrentContextFactory;
+import io.quarkus.arc.InjectableObserverMethod;
+
+/**
+ * Registers {@link #OBSERVERS} synthetic async observers of {@link AsyncNotificationBenchmark.Payload}, so that the
+ * benchmark does not need the build-time processor.
+ */
+public class AsyncObserversComponentsProvider implements ComponentsProvider {
+
+    static final int OBSERVERS = 8;
+
+    @Override
+    public Components getComponents(CurrentContextFactory currentContextFactory) {
+        List<InjectableObserverMethod<?>> observers = new ArrayList<>();
+        for (int i = 0; i < OBSERVERS; i++) {
+            observers.add(new PayloadObserver());
+        }
+        return new Components(Collections.emptyList(), observers, Collections.emptyList(), Collections.emptySet(),
+                Collections.emptyMap(), Collections::emptyList, Collections.emptyMap(), Collections.emptySet(),
+                Collections.emptyMap());
+    }
+
+    static class PayloadObserver implements InjectableObserverMethod<AsyncNotificationBenchmark.Payload> {
+
+        @Override
+        public Class<?> getBeanClass() {
+            return AsyncObserversComponentsProvider.class;
+        }
+
+        @Override
+        public Type getObservedType() {
+            return AsyncNotificationBenchmark.Payload.class;
+        }
+
+        @Override
+        public boolean isAsync() {
+            return true;
+        }
+
+        @Override
+        public void notify(EventContext<AsyncNotificationBenchmark.Payload> eventContext) {
+            Blackhole.consumeCPU(eventContext.getEvent().tokens);
+        }
+
+        @Override
+        public String getDeclaringBeanIdentifier() {
+            return null;
+        }
+
+    }
+
+}
@@ -0,0 +1,85 @@
+package io.quarkus.arc;
+
+import java.util.Locale;
+
+import jakarta.enterprise.event.NotificationOptions;
+
+/**
+ * Determines how asynchronous observers are notified when an event is fired with
+ * {@link jakarta.enterprise.event.Event#fireAsync(Object, NotificationOptions)}.
+ * <p>
+ * The mode is set with the {@link #OPTION} notification option. The value is either the enum constant or its name:
+ *
+ * <pre>
+ * event.fireAsync(payload, NotificationOptions.of(AsyncNotificationMode.OPTION, AsyncNotificationMode.PARALLEL));
+ * </pre>
+ * <p>
+ * In the {@link #PARALLEL} mode, the number of observers of a single event that are notified concurrently is capped by
+ * the {@link #MAX_CONCURRENCY} notification option, which defaults to the number of available processors.
+ */
+public enum AsyncNotificationMode {
+
+    /**
+     * The observers are notified serially, in a single task submitted to the executor. This is the default mode.
+     */
+    SERIAL,
+    /**
+     * The observers are notified by up to {@link #MAX_CONCURRENCY} tasks submitted to the executor, i.e. the observers may
+     * be notified concurrently and in any order. The completion stage is completed once all observers are notified.
+     */
+    PARALLEL,
+    ;
+
+    /**
+     * The key of the notification option.
+     */
+    public static final String OPTION = "io.quarkus.arc.async-notification-mode";
+
+    /**
+     * The key of the notification option that limits the number of tasks submitted to the executor for a single event in
+     * the {@link #PARALLEL} mode. The value is a positive integer or its string representation.
+     */
+    public static final String MAX_CONCURRENCY = "io.quarkus.arc.async-notification-max-concurrency";
+
+    /**
+     *
+     * @param options
+     * @return the mode set in the given notification options, or {@link #SERIAL} if not set
+     * @throws IllegalArgumentException if the value of the option is not valid
+     */
+    public static AsyncNotificationMode from(NotificationOptions options) {
+        Object value = options.get(OPTION);
+        if (value == null) {
+            return SERIAL;
+        }
+        if (value instanceof AsyncNotificationMode) {
+            return (AsyncNotificationMode) value;
+        }
+        return valueOf(value.toString().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     *
+     * @param options
+     * @return the maximum number of observers notified concurrently set in the given notification options, or the number
+     *         of available processors if not set
+     * @throws IllegalArgumentException if the value of the option is not valid
+     */
+    public static int maxConcurrency(NotificationOptions options) {
+        Object value = options.get(MAX_CONCURRENCY);
+        if (value == null) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+        int maxConcurrency;
+        if (value instanceof Number) {
+            maxConcurrency = ((Number) value).intValue();
+        } else {
+            maxConcurrency = Integer.parseInt(value.toString());
+        }
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Invalid maximum concurrency: " + value);
+        }
+        return maxConcurrency;
+    }
+
+}
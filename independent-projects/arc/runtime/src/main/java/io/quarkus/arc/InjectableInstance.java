@@ -3,6 +3,7 @@
 import java.lang.annotation.Annotation;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -48,6 +49,31 @@ default Stream<InstanceHandle<T>> handlesStream() {
      */
     void clearCache();
 
+    /**
+     * Resolves the bean that matches the required type and qualifiers and returns a supplier of its contextual instances.
+     * <p>
+     * Unlike {@link #get()}, the supplier does not perform the typesafe resolution again, i.e. it can be obtained once and
+     * then reused on a hot path. If the bean is {@linkplain jakarta.enterprise.context.NormalScope normal scoped} then the
+     * client proxy is obtained eagerly and the supplier always returns the same client proxy. Otherwise, each invocation of
+     * {@link Supplier#get()} has the same effect as {@link #get()}, e.g. a new instance of a {@link Dependent} bean is
+     * created.
+     * <p>
+     * If the injection point is annotated with {@link WithCaching} then the cached instance is obtained eagerly and the
+     * supplier returns the same instance as {@link #get()}, until the cache is {@linkplain #clearCache() cleared}.
+     * <p>
+     * If there is no matching bean or more than one bean matches then an exception is thrown immediately.
+     *
+     * @return the supplier of contextual instances
+     */
+    default Supplier<T> supplier() {
+        if (isUnsatisfied()) {
+            throw new UnsatisfiedResolutionException("No bean found");
+        } else if (isAmbiguous()) {
+            throw new AmbiguousResolutionException("More than one bean found");
+        }
+        return this::get;
+    }
+
     /**
      * This method attempts to resolve ambiguities.
      * <p>
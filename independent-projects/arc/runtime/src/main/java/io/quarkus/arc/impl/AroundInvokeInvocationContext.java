@@ -1,6 +1,8 @@
 package io.quarkus.arc.impl;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -19,24 +21,50 @@
  * dispatch return immediately) and execute all remaining interceptors asynchronously, possibly on a different thread.
  * <p>
  * Note that context data and method parameters are mutable and are not guarded/synchronized. We expect them to be modified
- * before or after dispatch. If modified before and after dispatch an unpredictable behavior may occur.
+ * before or after dispatch. If modified before and after dispatch an unpredictable behavior may occur. The context data map
+ * is only created when it's accessed for the first time. It's created atomically, i.e. an interceptor and an asynchronous
+ * continuation that access the context data for the first time on different threads always share the same map.
  */
 class AroundInvokeInvocationContext extends AbstractInvocationContext {
 
+    private static final VarHandle CONTEXT_DATA;
+
+    static {
+        try {
+            CONTEXT_DATA = MethodHandles.lookup().findVarHandle(AbstractInvocationContext.class, "contextData",
+                    ContextDataMap.class);
+        } catch (ReflectiveOperationException e) {
+            throw new Error(e);
+        }
+    }
+
     static Object perform(Object target, Object[] args, InterceptedMethodMetadata metadata) throws Exception {
-        if (metadata.chain.isEmpty()) {
+        if (metadata.interceptors.length == 0) {
             return metadata.aroundInvokeForward.apply(target, new AroundInvokeInvocationContext(target, args, metadata));
         }
-        return metadata.chain.get(0).invoke(new AroundInvokeInvocationContext(target, args, metadata));
+        return metadata.interceptors[0].invoke(new AroundInvokeInvocationContext(target, args, metadata));
     }
 
     private final InterceptedMethodMetadata metadata;
 
     AroundInvokeInvocationContext(Object target, Object[] args, InterceptedMethodMetadata metadata) {
-        super(target, args, new ContextDataMap(metadata.bindings));
+        // The context data map is created lazily, most interceptors never access the context data
+        super(target, args, null);
         this.metadata = metadata;
     }
 
+    @Override
+    public Map<String, Object> getContextData() {
+        ContextDataMap contextData = (ContextDataMap) CONTEXT_DATA.getAcquire(this);
+        if (contextData == null) {
+            contextData = new ContextDataMap(metadata.bindings);
+            if (!CONTEXT_DATA.compareAndSet(this, null, contextData)) {
+                contextData = (ContextDataMap) CONTEXT_DATA.getAcquire(this);
+            }
+        }
+        return contextData;
+    }
+
     @Override
     public Set<Annotation> getInterceptorBindings() {
         return metadata.bindings;
@@ -64,10 +92,10 @@ public Object proceed() throws Exception {
 
     private Object proceed(int currentPosition) throws Exception {
         try {
-            if (currentPosition < metadata.chain.size()) {
+            InterceptorInvocation[] interceptors = metadata.interceptors;
+            if (currentPosition < interceptors.length) {
                 // Invoke the next interceptor in the chain
-                return metadata.chain.get(currentPosition)
-                        .invoke(new NextAroundInvokeInvocationContext(currentPosition + 1));
+                return interceptors[currentPosition].invoke(new NextAroundInvokeInvocationContext(currentPosition + 1));
             } else {
                 // Invoke the target method
                 return metadata.aroundInvokeForward.apply(target, this);
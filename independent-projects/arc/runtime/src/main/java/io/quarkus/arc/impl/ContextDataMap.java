@@ -1,6 +1,8 @@
 package io.quarkus.arc.impl;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -29,9 +31,21 @@
  * While one goal is efficiency, another goal is safety: while the CDI specification
  * allows any interceptor to make changes to this Map, we specifically disallow
  * 3rd party code to make changes to the interceptor bindings of the platform.
+ * The underlying HashMap is created atomically, so that the first writes performed on different threads
+ * are never lost. The map itself is not synchronized though: concurrent modifications are not supported.
  */
 final class ContextDataMap implements Map<String, Object> {
 
+    private static final VarHandle DELEGATE;
+
+    static {
+        try {
+            DELEGATE = MethodHandles.lookup().findVarHandle(ContextDataMap.class, "delegate", HashMap.class);
+        } catch (ReflectiveOperationException e) {
+            throw new Error(e);
+        }
+    }
+
     private final Set<Annotation> interceptorBindings;
     private HashMap<String, Object> delegate; //important to lazily initialize this
 
@@ -39,7 +53,13 @@ final class ContextDataMap implements Map<String, Object> {
         this.interceptorBindings = Objects.requireNonNull(interceptorBindings);
     }
 
+    @SuppressWarnings("unchecked")
+    private HashMap<String, Object> getDelegate() {
+        return (HashMap<String, Object>) DELEGATE.getAcquire(this);
+    }
+
     private Map<String, Object> getDelegateForRead() {
+        HashMap<String, Object> delegate = getDelegate();
         if (delegate == null) {
             return Collections.emptyMap();
         } else {
@@ -48,8 +68,12 @@ private Map<String, Object> getDelegateForRead() {
     }
 
     private Map<String, Object> getDelegateForWrite(final int sizeHint) {
+        HashMap<String, Object> delegate = getDelegate();
         if (delegate == null) {
-            this.delegate = new HashMap<>(sizeHint, 1.0f);
+            delegate = new HashMap<>(sizeHint, 1.0f);
+            if (!DELEGATE.compareAndSet(this, null, delegate)) {
+                delegate = getDelegate();
+            }
         }
         return delegate;
     }
@@ -81,6 +105,7 @@ public boolean containsValue(Object value) {
     public Set<Map.Entry<String, Object>> entrySet() {
         final AbstractMap.SimpleImmutableEntry<String, Object> firstEntry = new AbstractMap.SimpleImmutableEntry<>(
                 ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS, interceptorBindings);
+        HashMap<String, Object> delegate = getDelegate();
         if (delegate == null) {
             return Collections.singleton(firstEntry);
         } else {
@@ -106,6 +131,7 @@ public boolean isEmpty() {
 
     @Override
     public Set<String> keySet() {
+        HashMap<String, Object> delegate = getDelegate();
         if (delegate == null) {
             return Collections.singleton(ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS);
         } else {
@@ -130,11 +156,8 @@ public Object remove(Object key) {
         if (ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS.equals(key)) {
             throw new IllegalArgumentException("Not allowed to remove key '" + ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS
                     + "' from the context data map");
-        } else if (delegate == null) {
-            return null;
-        } else {
-            return delegate.remove(key);
         }
+        return getDelegateForRead().remove(key);
     }
 
     @Override
@@ -144,6 +167,7 @@ public int size() {
 
     @Override
     public Collection<Object> values() {
+        HashMap<String, Object> delegate = getDelegate();
         if (delegate == null) {
             return Collections.singleton(interceptorBindings);
         } else {
@@ -100,7 +100,7 @@ public <T> T getIfActive(Contextual<T> contextual, Function<Contextual<T>, Creat
         if (state == null || !state.isValid()) {
             return null;
         }
-        ContextInstances contextInstances = state.contextInstances;
+        ContextInstances contextInstances = state.contextInstances();
         ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) contextInstances.getIfPresent(bean.getIdentifier());
         if (instance == null) {
             CreationalContext<T> creationalContext = creationalContextFun.apply(contextual);
@@ -136,9 +136,12 @@ public <T> T get(Contextual<T> contextual) {
         if (state == null || !state.isValid()) {
             throw notActive();
         }
+        ContextInstances contextInstances = state.contextInstancesIfCreated();
+        if (contextInstances == null) {
+            return null;
+        }
         @SuppressWarnings("unchecked")
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) state.contextInstances
-                .getIfPresent(bean.getIdentifier());
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) contextInstances.getIfPresent(bean.getIdentifier());
         return instance == null ? null : instance.get();
     }
 
@@ -159,8 +162,12 @@ public void destroy(Contextual<?> contextual) {
         if (state == null || !state.isValid()) {
             throw notActive();
         }
+        ContextInstances contextInstances = state.contextInstancesIfCreated();
+        if (contextInstances == null) {
+            return;
+        }
         InjectableBean<?> bean = (InjectableBean<?>) contextual;
-        ContextInstanceHandle<?> instance = state.contextInstances.remove(bean.getIdentifier());
+        ContextInstanceHandle<?> instance = contextInstances.remove(bean.getIdentifier());
         if (instance != null) {
             instance.destroy();
         }
@@ -181,12 +188,15 @@ public void destroy(ContextState state) {
                 fireIfNotNull(beforeDestroyedNotifier);
             }
             if (currentState.invalidate()) {
-                currentState.contextInstances.removeEach(new Consumer<>() {
-                    @Override
-                    public void accept(ContextInstanceHandle<?> contextInstanceHandle) {
-                        contextInstanceHandle.destroy();
-                    }
-                });
+                ContextInstances contextInstances = currentState.contextInstancesIfCreated();
+                if (contextInstances != null) {
+                    contextInstances.removeEach(new Consumer<>() {
+                        @Override
+                        public void accept(ContextInstanceHandle<?> contextInstanceHandle) {
+                            contextInstanceHandle.destroy();
+                        }
+                    });
+                }
                 fireIfNotNull(destroyedNotifier);
             }
         } else {
@@ -196,8 +206,8 @@ public void accept(ContextInstanceHandle<?> contextInstanceHandle) {
 
     @Override
     public CurrentContextState initializeState() {
-        CurrentContextState state = new CurrentContextState(contextInstances.get());
-        return state;
+        // The context instances are created lazily, i.e. when a bean instance is requested for the first time
+        return new CurrentContextState(contextInstances);
     }
 
     protected Logger traceLog() {
@@ -248,6 +258,7 @@ public static class CurrentContextState implements ContextState {
         private static final int TRUE = 1;
         private static final VarHandle INITIALIZED_FIRED;
         private static final VarHandle BEFORE_DESTROYED_FIRED;
+        private static final VarHandle CONTEXT_INSTANCES;
 
         static {
             try {
@@ -256,26 +267,56 @@ public static class CurrentContextState implements ContextState {
                         int.class);
                 BEFORE_DESTROYED_FIRED = MethodHandles.lookup().findVarHandle(CurrentContextState.class, "beforeDestroyedFired",
                         int.class);
+                CONTEXT_INSTANCES = MethodHandles.lookup().findVarHandle(CurrentContextState.class, "contextInstances",
+                        ContextInstances.class);
             } catch (ReflectiveOperationException e) {
                 throw new Error(e);
             }
         }
 
-        private final ContextInstances contextInstances;
+        private final Supplier<ContextInstances> contextInstancesSupplier;
+        private volatile ContextInstances contextInstances;
         private volatile int isValid;
         private volatile int initializedFired;
         private volatile int beforeDestroyedFired;
 
-        CurrentContextState(ContextInstances contextInstances) {
-            this.contextInstances = Objects.requireNonNull(contextInstances);
+        CurrentContextState(Supplier<ContextInstances> contextInstancesSupplier) {
+            this.contextInstancesSupplier = Objects.requireNonNull(contextInstancesSupplier);
         }
 
         @Override
         public Map<InjectableBean<?>, Object> getContextualInstances() {
+            ContextInstances contextInstances = this.contextInstances;
+            if (contextInstances == null) {
+                return Map.of();
+            }
             return contextInstances.getAllPresent().stream()
                     .collect(Collectors.toUnmodifiableMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
         }
 
+        /**
+         * The state may be propagated to other threads, hence the instances are set atomically.
+         *
+         * @return the context instances, created if needed
+         */
+        ContextInstances contextInstances() {
+            ContextInstances contextInstances = this.contextInstances;
+            if (contextInstances == null) {
+                contextInstances = contextInstancesSupplier.get();
+                if (!CONTEXT_INSTANCES.compareAndSet(this, null, contextInstances)) {
+                    contextInstances = this.contextInstances;
+                }
+            }
+            return contextInstances;
+        }
+
+        /**
+         * @return the context instances, or {@code null} if no bean instance was requested yet
+         */
+        ContextInstances contextInstancesIfCreated() {
+            return contextInstances;
+        }
+
         /**
          * @return {@code true} if the state was successfully invalidated, {@code false} otherwise
          */
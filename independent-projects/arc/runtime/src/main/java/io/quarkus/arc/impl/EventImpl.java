@@ -19,6 +19,7 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -42,6 +43,7 @@
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.AsyncNotificationMode;
 import io.quarkus.arc.AsyncObserverExceptionHandler;
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
@@ -98,16 +100,26 @@ public <U extends T> CompletionStage<U> fireAsync(U event, NotificationOptions o
             executor = Arc.container().getExecutorService();
         }
 
-        if (notifier.isEmpty()) {
+        if (!notifier.hasAsyncObservers()) {
             return AsyncEventDeliveryStage.completed(event, executor);
         }
 
+        AsyncObserverExceptionHandler asyncExceptionHandler = notifier.getAsyncExceptionHandler();
+        if (notifier.asyncObserverMethods.size() > 1
+                && AsyncNotificationMode.from(options) == AsyncNotificationMode.PARALLEL) {
+            int maxConcurrency = AsyncNotificationMode.maxConcurrency(options);
+            if (maxConcurrency > 1) {
+                return new AsyncEventDeliveryStage<>(
+                        notifyInParallel(notifier, event, asyncExceptionHandler, executor, maxConcurrency), executor);
+            }
+        }
+
         Supplier<U> notifyLogic = new Supplier<U>() {
             @Override
             public U get() {
                 // Note that async observers are notified serially - no need to synchronize the collection
                 ObserverExceptionHandler exceptionHandler = new CollectingExceptionHandler(new ArrayList<>(),
-                        Arc.container().instance(AsyncObserverExceptionHandler.class).get());
+                        asyncExceptionHandler);
                 notifier.notify(event, exceptionHandler, true);
                 handleExceptions(exceptionHandler);
                 return event;
@@ -118,6 +130,37 @@ public U get() {
         return new AsyncEventDeliveryStage<>(completableFuture, executor);
     }
 
+    private <U extends T> CompletableFuture<U> notifyInParallel(Notifier<U> notifier, U event,
+            AsyncObserverExceptionHandler asyncExceptionHandler, Executor executor, int maxConcurrency) {
+        // Observers are notified concurrently - the collection must be synchronized
+        ObserverExceptionHandler exceptionHandler = new CollectingExceptionHandler(
+                Collections.synchronizedList(new ArrayList<>()), asyncExceptionHandler);
+        List<ObserverMethod<? super U>> observerMethods = notifier.asyncObserverMethods;
+        // At most maxConcurrency tasks are submitted, each of them notifies the next observer that is not notified yet
+        AtomicInteger next = new AtomicInteger();
+        Runnable notifyLogic = new Runnable() {
+            @Override
+            public void run() {
+                int idx;
+                while ((idx = next.getAndIncrement()) < observerMethods.size()) {
+                    notifier.notifyAsync(event, observerMethods.get(idx), exceptionHandler);
+                }
+            }
+        };
+        CompletableFuture<?>[] notifications = new CompletableFuture<?>[Math.min(maxConcurrency,
+                observerMethods.size())];
+        for (int i = 0; i < notifications.length; i++) {
+            notifications[i] = CompletableFuture.runAsync(notifyLogic, executor);
+        }
+        return CompletableFuture.allOf(notifications).thenApply(new Function<Void, U>() {
+            @Override
+            public U apply(Void ignored) {
+                handleExceptions(exceptionHandler);
+                return event;
+            }
+        });
+    }
+
     private Notifier<? super T> getNotifier(Class<?> runtimeType) {
         Notifier<? super T> notifier = this.lastNotifier;
         if (notifier != null && notifier.runtimeType.equals(runtimeType)) {
@@ -254,9 +297,12 @@ private void handleExceptions(ObserverExceptionHandler handler) {
 
         private final Class<?> runtimeType;
         private final List<ObserverMethod<? super T>> observerMethods;
+        final List<ObserverMethod<? super T>> asyncObserverMethods;
         final EventMetadata eventMetadata;
         private final boolean hasTxObservers;
         private final boolean activateRequestContext;
+        // Lazily initialized, the handler is either @Singleton or @ApplicationScoped
+        private volatile AsyncObserverExceptionHandler asyncExceptionHandler;
 
         Notifier(Class<?> runtimeType, List<ObserverMethod<? super T>> observerMethods, EventMetadata eventMetadata) {
             this(runtimeType, observerMethods, eventMetadata, true);
@@ -276,6 +322,22 @@ private void handleExceptions(ObserverExceptionHandler handler) {
             }
             this.hasTxObservers = hasTxObservers;
             this.activateRequestContext = activateRequestContext;
+            List<ObserverMethod<? super T>> asyncObserverMethods = new ArrayList<>();
+            for (var method : observerMethods) {
+                if (method.isAsync()) {
+                    asyncObserverMethods.add(method);
+                }
+            }
+            this.asyncObserverMethods = List.copyOf(asyncObserverMethods);
+        }
+
+        AsyncObserverExceptionHandler getAsyncExceptionHandler() {
+            AsyncObserverExceptionHandler handler = asyncExceptionHandler;
+            if (handler == null) {
+                handler = Arc.container().instance(AsyncObserverExceptionHandler.class).get();
+                asyncExceptionHandler = handler;
+            }
+            return handler;
         }
 
         void notify(T event) {
@@ -355,6 +417,28 @@ void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
             }
         }
 
+        /**
+         * Notifies a single async observer; the request context is activated if needed.
+         */
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        void notifyAsync(T event, ObserverMethod<? super T> observerMethod, ObserverExceptionHandler exceptionHandler) {
+            EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
+            ManagedContext requestContext = activateRequestContext ? Arc.container().requestContext() : null;
+            boolean activate = requestContext != null && !requestContext.isActive();
+            if (activate) {
+                requestContext.activate();
+            }
+            try {
+                observerMethod.notify(eventContext);
+            } catch (Throwable t) {
+                exceptionHandler.handle(t, observerMethod, eventContext);
+            } finally {
+                if (activate) {
+                    requestContext.terminate();
+                }
+            }
+        }
+
         @SuppressWarnings({ "rawtypes", "unchecked" })
         private void notifyObservers(T event, ObserverExceptionHandler exceptionHandler,
                 Predicate<ObserverMethod<?>> predicate) {
@@ -374,6 +458,10 @@ boolean isEmpty() {
             return observerMethods.isEmpty();
         }
 
+        boolean hasAsyncObservers() {
+            return !asyncObserverMethods.isEmpty();
+        }
+
         private static boolean isTxObserver(ObserverMethod<?> observer) {
             return !observer.getTransactionPhase().equals(TransactionPhase.IN_PROGRESS);
         }
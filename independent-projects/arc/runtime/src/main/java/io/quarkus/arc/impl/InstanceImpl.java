@@ -86,6 +86,11 @@ private <U> InjectableInstance<U> wrap(Type subtype, InjectableInstance<U> deleg
                 return new Guard<>(delegate);
             }
 
+            @Override
+            public Supplier<T> supplier() {
+                return delegate.supplier();
+            }
+
             @Override
             public void clearCache() {
                 delegate.clearCache();
@@ -190,6 +195,37 @@ public T get() {
         return cachedGetResult != null ? cachedGetResult.get() : getInternal();
     }
 
+    @Override
+    public Supplier<T> supplier() {
+        InjectableBean<T> bean = bean();
+        if (cachedGetResult != null) {
+            // @WithCaching - the supplier and get() share the cached instance
+            cachedGetResult.get();
+            return new Supplier<T>() {
+                @Override
+                public T get() {
+                    return cachedGetResult.get();
+                }
+            };
+        }
+        if (ArcContainerImpl.instance().isNormalScope(bean.getScope())) {
+            // The client proxy delegates to the contextual instance
+            T proxy = getBeanInstance(bean);
+            return new Supplier<T>() {
+                @Override
+                public T get() {
+                    return proxy;
+                }
+            };
+        }
+        return new Supplier<T>() {
+            @Override
+            public T get() {
+                return getBeanInstance(bean);
+            }
+        };
+    }
+
     @Override
     public InjectableInstance<T> select(Annotation... qualifiers) {
         Set<Annotation> newQualifiers = new HashSet<>(this.requiredQualifiers);
@@ -14,6 +14,8 @@
 public class InterceptedMethodMetadata {
 
     public final List<InterceptorInvocation> chain;
+    // A copy of the chain used for fast indexed access during an invocation
+    final InterceptorInvocation[] interceptors;
     public final Method method;
     public final Set<Annotation> bindings;
     public final BiFunction<Object, InvocationContext, Object> aroundInvokeForward;
@@ -21,6 +23,7 @@ public class InterceptedMethodMetadata {
     public InterceptedMethodMetadata(List<InterceptorInvocation> chain, Method method, Set<Annotation> bindings,
             BiFunction<Object, InvocationContext, Object> aroundInvokeForward) {
         this.chain = chain;
+        this.interceptors = chain.toArray(new InterceptorInvocation[0]);
         this.method = method;
         this.bindings = bindings;
         this.aroundInvokeForward = aroundInvokeForward;
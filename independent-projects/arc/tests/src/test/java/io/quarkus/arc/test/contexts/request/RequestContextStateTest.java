@@ -0,0 +1,51 @@
+package io.quarkus.arc.test.contexts.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class RequestContextStateTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Controller.class);
+
+    @Test
+    public void testStateWithoutInstances() {
+        Controller.DESTROYED.set(false);
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+        InjectableBean<Controller> controllerBean = arc.instance(Controller.class).getBean();
+
+        requestContext.activate();
+        try {
+            // No bean instance was requested yet
+            assertTrue(requestContext.getState().getContextualInstances().isEmpty());
+            assertNull(requestContext.get(controllerBean));
+            requestContext.destroy(controllerBean);
+
+            String id = arc.instance(Controller.class).get().getId();
+            assertEquals(1, requestContext.getState().getContextualInstances().size());
+            assertEquals(id, requestContext.get(controllerBean).getId());
+        } finally {
+            requestContext.terminate();
+        }
+        assertTrue(Controller.DESTROYED.get());
+
+        // Terminate a context that was never used
+        Controller.DESTROYED.set(false);
+        requestContext.activate();
+        requestContext.terminate();
+        assertFalse(Controller.DESTROYED.get());
+    }
+
+}
@@ -3,14 +3,22 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.context.Dependent;
 import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.UnsatisfiedResolutionException;
+import jakarta.enterprise.inject.literal.NamedLiteral;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
@@ -18,16 +26,19 @@
 import org.junit.jupiter.api.extension.RegisterExtension;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.ClientProxy;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableInstance;
 import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.WithCaching;
 import io.quarkus.arc.impl.InstanceImpl;
 import io.quarkus.arc.test.ArcTestContainer;
 
 public class InjectableInstanceTest {
 
     @RegisterExtension
-    public ArcTestContainer container = new ArcTestContainer(Alpha.class, Washcloth.class, Sponge.class);
+    public ArcTestContainer container = new ArcTestContainer(Alpha.class, Washcloth.class, Sponge.class, Bucket.class,
+            Soap.class);
 
     @Test
     public void testDestroy() {
@@ -55,6 +66,38 @@ public void testDestroy() {
         assertTrue(Sponge.DESTROYED.get());
     }
 
+    @Test
+    public void testSupplier() {
+        Alpha alpha = Arc.container().instance(Alpha.class).get();
+
+        Supplier<Bucket> buckets = alpha.buckets.supplier();
+        Bucket bucket = buckets.get();
+        assertTrue(bucket instanceof ClientProxy);
+        assertSame(bucket, buckets.get());
+        assertEquals(bucket.getId(), buckets.get().getId());
+
+        Supplier<Soap> soaps = alpha.soaps.supplier();
+        assertNotSame(soaps.get(), soaps.get());
+
+        assertThrows(UnsatisfiedResolutionException.class,
+                () -> alpha.buckets.select(NamedLiteral.of("missing")).supplier());
+    }
+
+    @Test
+    public void testSupplierWithCaching() {
+        Alpha alpha = Arc.container().instance(Alpha.class).get();
+
+        Supplier<Soap> soaps = alpha.cachedSoaps.supplier();
+        Soap soap = soaps.get();
+        assertSame(soap, soaps.get());
+        assertSame(soap, alpha.cachedSoaps.get());
+
+        alpha.cachedSoaps.clearCache();
+        Soap newSoap = soaps.get();
+        assertNotSame(soap, newSoap);
+        assertSame(newSoap, alpha.cachedSoaps.get());
+    }
+
     @Singleton
     static class Alpha {
 
@@ -64,6 +107,16 @@ static class Alpha {
         @Inject
         Instance<Sponge> sponge;
 
+        @Inject
+        InjectableInstance<Bucket> buckets;
+
+        @Inject
+        InjectableInstance<Soap> soaps;
+
+        @WithCaching
+        @Inject
+        InjectableInstance<Soap> cachedSoaps;
+
         void doSomething() {
 
         }
@@ -112,4 +165,20 @@ void destroy() {
 
     }
 
+    @ApplicationScoped
+    static class Bucket {
+
+        private final String id = UUID.randomUUID().toString();
+
+        String getId() {
+            return id;
+        }
+
+    }
+
+    @Dependent
+    static class Soap {
+
+    }
+
 }
@@ -0,0 +1,103 @@
+package io.quarkus.arc.test.interceptors.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Singleton;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcInvocationContext;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.interceptors.Simple;
+
+public class ContextDataConcurrencyTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Simple.class, SimpleBean.class,
+            AlphaInterceptor.class, BravoInterceptor.class);
+
+    private static ExecutorService executor;
+
+    @BeforeAll
+    static void init() {
+        executor = Executors.newFixedThreadPool(1);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testContextDataSharedWithAsyncContinuation() {
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        // The context data map is created lazily, repeat to make the race of the first accesses likely
+        for (int i = 0; i < 100; i++) {
+            assertEquals("ok:true", bean.foo());
+        }
+    }
+
+    @Simple
+    @Singleton
+    static class SimpleBean {
+
+        String foo() {
+            return "ok";
+        }
+
+    }
+
+    @Simple
+    @Priority(1)
+    @Interceptor
+    public static class AlphaInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            CyclicBarrier barrier = new CyclicBarrier(2);
+            Future<Map<String, Object>> continuation = executor.submit(() -> {
+                barrier.await();
+                // The first access on this thread races with the first access on the calling thread
+                Map<String, Object> data = ctx.getContextData();
+                data.put("result", ctx.proceed());
+                return data;
+            });
+            barrier.await();
+            Map<String, Object> data = ctx.getContextData();
+            assertSame(data, continuation.get(5, TimeUnit.SECONDS));
+            assertTrue(data.containsKey(ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS));
+            // The writes of the continuation are visible once it completed
+            return data.get("result") + ":" + data.get("bravo");
+        }
+    }
+
+    @Simple
+    @Priority(2)
+    @Interceptor
+    public static class BravoInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            ctx.getContextData().put("bravo", true);
+            return ctx.proceed();
+        }
+    }
+
+}
@@ -0,0 +1,177 @@
+package io.quarkus.arc.test.observers.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.NotificationOptions;
+import jakarta.enterprise.event.ObservesAsync;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.AsyncNotificationMode;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class AsyncObserverParallelTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Observers.class, Foo.class);
+
+    @Test
+    public void testParallelNotification() throws InterruptedException, ExecutionException, TimeoutException {
+        Observers observers = Arc.container().instance(Observers.class).get();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            NotificationOptions options = NotificationOptions.builder().setExecutor(executor)
+                    .set(AsyncNotificationMode.OPTION, AsyncNotificationMode.PARALLEL).build();
+            // Both observers wait for each other, i.e. the notification would fail if they were notified serially
+            CountDownLatch latch = new CountDownLatch(2);
+            CountDownLatch result = observers.latchEvent.fireAsync(latch, options).toCompletableFuture()
+                    .get(10, TimeUnit.SECONDS);
+            assertEquals(latch, result);
+            assertEquals(List.of("alpha", "bravo"), observers.notified.stream().sorted().toList());
+
+            // An exception thrown by an observer does not abort the notification of other observers
+            observers.notified.clear();
+            ExecutionException e = assertThrows(ExecutionException.class,
+                    () -> observers.stringEvent.fireAsync("fail", NotificationOptions.builder().setExecutor(executor)
+                            .set(AsyncNotificationMode.OPTION, "parallel").build()).toCompletableFuture()
+                            .get(10, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof IllegalStateException, e.toString());
+            assertEquals(List.of("delta"), observers.notified);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testMaxConcurrency() throws InterruptedException, ExecutionException, TimeoutException {
+        Observers observers = Arc.container().instance(Observers.class).get();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            NotificationOptions options = NotificationOptions.builder().setExecutor(executor)
+                    .set(AsyncNotificationMode.OPTION, AsyncNotificationMode.PARALLEL)
+                    .set(AsyncNotificationMode.MAX_CONCURRENCY, 2).build();
+            Probe probe = observers.probeEvent.fireAsync(new Probe(), options).toCompletableFuture()
+                    .get(10, TimeUnit.SECONDS);
+            assertEquals(4, probe.notified.get());
+            assertTrue(probe.maxConcurrent.get() <= 2, "Max concurrent: " + probe.maxConcurrent.get());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThrows(IllegalArgumentException.class, () -> observers.probeEvent.fireAsync(new Probe(),
+                NotificationOptions.builder().set(AsyncNotificationMode.OPTION, AsyncNotificationMode.PARALLEL)
+                        .set(AsyncNotificationMode.MAX_CONCURRENCY, "0").build()));
+    }
+
+    @Test
+    public void testInvalidMode() {
+        Observers observers = Arc.container().instance(Observers.class).get();
+        assertThrows(IllegalArgumentException.class, () -> observers.latchEvent.fireAsync(new CountDownLatch(0),
+                NotificationOptions.of(AsyncNotificationMode.OPTION, "foo")));
+    }
+
+    @Singleton
+    static class Observers {
+
+        final List<String> notified = new CopyOnWriteArrayList<>();
+
+        @Inject
+        Event<CountDownLatch> latchEvent;
+
+        @Inject
+        Event<String> stringEvent;
+
+        @Inject
+        Event<Probe> probeEvent;
+
+        @Inject
+        Foo foo;
+
+        void alpha(@ObservesAsync CountDownLatch latch) throws InterruptedException {
+            await(latch);
+            notified.add("alpha");
+        }
+
+        void bravo(@ObservesAsync CountDownLatch latch) throws InterruptedException {
+            await(latch);
+            notified.add("bravo");
+        }
+
+        void charlie(@ObservesAsync String value) {
+            throw new IllegalStateException(value);
+        }
+
+        void delta(@ObservesAsync String value) {
+            // The request context is active
+            foo.ping();
+            notified.add("delta");
+        }
+
+        void echo(@ObservesAsync Probe probe) throws InterruptedException {
+            probe.observe();
+        }
+
+        void foxtrot(@ObservesAsync Probe probe) throws InterruptedException {
+            probe.observe();
+        }
+
+        void golf(@ObservesAsync Probe probe) throws InterruptedException {
+            probe.observe();
+        }
+
+        void hotel(@ObservesAsync Probe probe) throws InterruptedException {
+            probe.observe();
+        }
+
+        private static void await(CountDownLatch latch) throws InterruptedException {
+            latch.countDown();
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Observers not notified in parallel");
+            }
+        }
+
+    }
+
+    static class Probe {
+
+        final AtomicInteger concurrent = new AtomicInteger();
+        final AtomicInteger maxConcurrent = new AtomicInteger();
+        final AtomicInteger notified = new AtomicInteger();
+
+        void observe() throws InterruptedException {
+            int current = concurrent.incrementAndGet();
+            maxConcurrent.accumulateAndGet(current, Math::max);
+            // Give the other observers a chance to overlap
+            Thread.sleep(50);
+            concurrent.decrementAndGet();
+            notified.incrementAndGet();
+        }
+
+    }
+
+    @RequestScoped
+    static class Foo {
+
+        void ping() {
+        }
+
+    }
+
+}
@@ -0,0 +1,297 @@
+package io.quarkus.bootstrap.runner;
+
+import static io.quarkus.commons.classloading.ClassLoaderHelper.fromClassNameToResourceName;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+
+import org.jboss.logging.Logger;
+
+/**
+ * The classes and resources loaded by the {@link RunnerClassLoader} while the application starts, in the order in which
+ * they were loaded.
+ * <p>
+ * The profile is recorded by a training run of the application, launched with the {@value #RECORD_PROPERTY} system
+ * property set to the path of a trace file. The application exits as soon as it has started, and the trace is turned
+ * into a profile by {@link #write(Path, Path, OutputStream)}, which copies the bytes of the classes, in order, into a
+ * single file.
+ * <p>
+ * At runtime, the profile is memory mapped, the profiled classes are defined from it rather than from the jars, and they
+ * are preloaded in parallel while the application starts. The profile stores the size and the last modification time of
+ * each jar, and it is ignored if a jar was rebuilt or replaced since the profile was written.
+ */
+public final class ClassLoadingProfile {
+
+    private static final Logger LOG = Logger.getLogger(ClassLoadingProfile.class);
+
+    /**
+     * The system property enabling the recording of a trace, set to the path of the trace file
+     */
+    public static final String RECORD_PROPERTY = "quarkus.class-loading-profile.record";
+
+    private static final int MAGIC = 0XF0315433;
+    private static final int VERSION = 2;
+
+    private static final String JAR = "J ";
+    private static final String CLASS = "C ";
+    private static final String RESOURCE = "R ";
+
+    private static final int MAX_PRELOAD_THREADS = 4;
+
+    private final ByteBuffer buffer;
+    private final Map<String, ProfiledClass> classes;
+    private final String[] classNames;
+    private final String[] resources;
+
+    private ClassLoadingProfile(ByteBuffer buffer, Map<String, ProfiledClass> classes, String[] classNames,
+            String[] resources) {
+        this.buffer = buffer;
+        this.classes = classes;
+        this.classNames = classNames;
+        this.resources = resources;
+    }
+
+    public static boolean isRecording() {
+        return System.getProperty(RECORD_PROPERTY) != null;
+    }
+
+    /**
+     * Turns a trace recorded by a training run into a profile.
+     *
+     * @param trace the trace file
+     * @param applicationRoot the root of the application, which the jar paths of the trace are relative to
+     * @param out the stream the profile is written to
+     */
+    public static void write(Path trace, Path applicationRoot, OutputStream out) throws IOException {
+        List<String> jars = new ArrayList<>();
+        List<String> classNames = new ArrayList<>();
+        List<Integer> classJars = new ArrayList<>();
+        List<String> resources = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(trace, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(JAR)) {
+                    jars.add(line.substring(JAR.length()));
+                } else if (line.startsWith(CLASS)) {
+                    int separator = line.indexOf(' ', CLASS.length());
+                    classJars.add(Integer.parseInt(line.substring(CLASS.length(), separator)));
+                    classNames.add(line.substring(separator + 1));
+                } else if (line.startsWith(RESOURCE)) {
+                    resources.add(line.substring(RESOURCE.length()));
+                }
+            }
+        }
+        JarFile[] jarFiles = new JarFile[jars.size()];
+        try {
+            DataOutputStream data = new DataOutputStream(out);
+            data.writeInt(MAGIC);
+            data.writeInt(VERSION);
+            data.writeShort(jars.size());
+            for (String jar : jars) {
+                BasicFileAttributes attributes = Files.readAttributes(applicationRoot.resolve(jar),
+                        BasicFileAttributes.class);
+                data.writeUTF(jar);
+                data.writeLong(attributes.size());
+                data.writeLong(attributes.lastModifiedTime().toMillis());
+            }
+            data.writeInt(classNames.size());
+            for (int i = 0; i < classNames.size(); i++) {
+                int jar = classJars.get(i);
+                if (jarFiles[jar] == null) {
+                    jarFiles[jar] = new JarFile(applicationRoot.resolve(jars.get(jar)).toFile());
+                }
+                ZipEntry entry = jarFiles[jar].getEntry(fromClassNameToResourceName(classNames.get(i)));
+                if (entry == null) {
+                    throw new IOException("Class " + classNames.get(i) + " not found in " + jars.get(jar));
+                }
+                byte[] bytes = jarFiles[jar].getInputStream(entry).readAllBytes();
+                data.writeUTF(classNames.get(i));
+                data.writeShort(jar);
+                data.writeInt(bytes.length);
+                data.write(bytes);
+            }
+            data.writeInt(resources.size());
+            for (String resource : resources) {
+                data.writeUTF(resource);
+            }
+            data.flush();
+        } finally {
+            for (JarFile jarFile : jarFiles) {
+                if (jarFile != null) {
+                    jarFile.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads a profile, which is memory mapped.
+     *
+     * @return the profile, or {@code null} if it was recorded with a different class path, or a jar has changed
+     */
+    static ClassLoadingProfile read(Path file, Path appRoot, ClassLoadingResource[] allResources) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        DataInputStream in = new DataInputStream(new ByteBufferInputStream(buffer));
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            return null;
+        }
+        int jarCount = in.readUnsignedShort();
+        if (jarCount != allResources.length) {
+            return null;
+        }
+        for (int i = 0; i < jarCount; i++) {
+            String jar = in.readUTF();
+            long size = in.readLong();
+            long lastModified = in.readLong();
+            if (!(allResources[i] instanceof JarResource)
+                    || !((JarResource) allResources[i]).jarPath.equals(appRoot.resolve(jar))) {
+                return null;
+            }
+            BasicFileAttributes attributes = Files.readAttributes(((JarResource) allResources[i]).jarPath,
+                    BasicFileAttributes.class);
+            if (attributes.size() != size || attributes.lastModifiedTime().toMillis() != lastModified) {
+                return null;
+            }
+        }
+        int classCount = in.readInt();
+        Map<String, ProfiledClass> classes = new HashMap<>((int) (classCount / 0.75f) + 1);
+        String[] classNames = new String[classCount];
+        for (int i = 0; i < classCount; i++) {
+            String name = in.readUTF();
+            ClassLoadingResource resource = allResources[in.readUnsignedShort()];
+            int length = in.readInt();
+            classes.put(name, new ProfiledClass(resource, buffer.position(), length));
+            classNames[i] = name;
+            buffer.position(buffer.position() + length);
+        }
+        String[] resources = new String[in.readInt()];
+        for (int i = 0; i < resources.length; i++) {
+            resources[i] = in.readUTF();
+        }
+        return new ClassLoadingProfile(buffer, classes, classNames, resources);
+    }
+
+    ProfiledClass get(String className) {
+        return classes.get(className);
+    }
+
+    /**
+     * @return the bytes of a profiled class, which must not be modified
+     */
+    ByteBuffer getData(ProfiledClass profiledClass) {
+        return buffer.slice(profiledClass.offset, profiledClass.length);
+    }
+
+    /**
+     * Loads the profiled classes, and looks up the profiled resources, from daemon threads.
+     * <p>
+     * Each thread takes every nth class of the profile, so that the classes are loaded roughly in the order of the
+     * training run, and the profile is read sequentially. The classes are not initialized.
+     */
+    void preload(ClassLoader classLoader) {
+        int threads = Math.max(1, Math.min(MAX_PRELOAD_THREADS, Runtime.getRuntime().availableProcessors() - 1));
+        for (int t = 0; t < threads; t++) {
+            int first = t;
+            Thread thread = new Thread(() -> {
+                for (int i = first; i < classNames.length; i += threads) {
+                    try {
+                        Class.forName(classNames[i], false, classLoader);
+                    } catch (Throwable ignored) {
+                    }
+                }
+                for (int i = first; i < resources.length; i += threads) {
+                    try {
+                        classLoader.getResource(resources[i]);
+                    } catch (Throwable ignored) {
+                    }
+                }
+            }, "quarkus-class-preloader-" + t);
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    record ProfiledClass(ClassLoadingResource resource, int offset, int length) {
+    }
+
+    /**
+     * Records the trace of a training run, which is written when the JVM exits.
+     */
+    static final class Recorder {
+
+        private final Path file;
+        private final Path appRoot;
+        private final ClassLoadingResource[] allResources;
+        private final Map<ClassLoadingResource, Integer> resourceIndexes = new IdentityHashMap<>();
+        private final Queue<String> events = new ConcurrentLinkedQueue<>();
+        private final Set<String> recorded = ConcurrentHashMap.newKeySet();
+
+        Recorder(Path file, Path appRoot, ClassLoadingResource[] allResources) {
+            this.file = file;
+            this.appRoot = appRoot;
+            this.allResources = allResources;
+            for (int i = 0; i < allResources.length; i++) {
+                resourceIndexes.put(allResources[i], i);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(this::write, "quarkus-class-loading-profile-recorder"));
+        }
+
+        void classDefined(String className, ClassLoadingResource resource) {
+            Integer index = resourceIndexes.get(resource);
+            if (index != null) {
+                String event = CLASS + index + ' ' + className;
+                if (recorded.add(event)) {
+                    events.add(event);
+                }
+            }
+        }
+
+        void resourceFound(String name) {
+            String event = RESOURCE + name;
+            if (recorded.add(event)) {
+                events.add(event);
+            }
+        }
+
+        private void write() {
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                for (ClassLoadingResource resource : allResources) {
+                    writer.write(JAR);
+                    writer.write(appRoot.relativize(((JarResource) resource).jarPath).toString().replace('\\', '/'));
+                    writer.newLine();
+                }
+                for (String event : events) {
+                    writer.write(event);
+                    writer.newLine();
+                }
+            } catch (IOException e) {
+                LOG.errorf(e, "Failed to write the class loading profile trace to %s", file);
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package io.quarkus.bootstrap.runner;
+
+/**
+ * Finds the class loading resources containing a given directory or resource.
+ */
+interface ClassLoadingResourceIndex {
+
+    /**
+     * @return the resources, in class path order, or {@code null} if there is none
+     */
+    ClassLoadingResource[] get(String name);
+
+}
@@ -0,0 +1,254 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link ClassLoadingResourceIndex} that is looked up directly in the serialized application data, which is normally
+ * memory mapped, so that the index doesn't need to be materialized as a map at startup.
+ * <p>
+ * The index is a perfect hash table built with the hash and displace algorithm: every key is first hashed to a bucket,
+ * and each bucket stores the seed of a second hash that maps its keys to distinct slots. A lookup therefore hashes the
+ * name twice and compares it to at most one key. The table has 25% more slots than keys, which keeps the build fast.
+ * <p>
+ * The layout is:
+ *
+ * <pre>
+ * int bucketCount
+ * int slotCount
+ * int[bucketCount] seeds
+ * int[slotCount] entry offsets, relative to the start of the entries, or -1 for an empty slot
+ * int entriesLength
+ * entries: unsigned short keyLength, byte[keyLength] key (UTF-8), unsigned short count, unsigned short[count] indexes
+ * </pre>
+ */
+final class MappedClassLoadingResourceIndex implements ClassLoadingResourceIndex {
+
+    private static final int MAX_SEED = 1 << 24;
+
+    private final ByteBuffer buffer;
+    private final ClassLoadingResource[] resources;
+    // single element arrays are shared, as most directories and resources are only found in one jar
+    private final ClassLoadingResource[][] singleResources;
+    private final int bucketCount;
+    private final int slotCount;
+    private final int seedsOffset;
+    private final int slotsOffset;
+    private final int entriesOffset;
+
+    private MappedClassLoadingResourceIndex(ByteBuffer buffer, int offset, ClassLoadingResource[] resources,
+            ClassLoadingResource[][] singleResources) {
+        this.buffer = buffer;
+        this.resources = resources;
+        this.singleResources = singleResources;
+        this.bucketCount = buffer.getInt(offset);
+        this.slotCount = buffer.getInt(offset + 4);
+        this.seedsOffset = offset + 8;
+        this.slotsOffset = seedsOffset + bucketCount * 4;
+        this.entriesOffset = slotsOffset + slotCount * 4 + 4;
+    }
+
+    /**
+     * Reads an index at the current position of the buffer, and moves the position past the index.
+     * <p>
+     * Only absolute reads are performed on the buffer afterwards, so that lookups are thread safe.
+     */
+    static MappedClassLoadingResourceIndex read(ByteBuffer buffer, ClassLoadingResource[] resources,
+            ClassLoadingResource[][] singleResources) {
+        MappedClassLoadingResourceIndex index = new MappedClassLoadingResourceIndex(buffer, buffer.position(), resources,
+                singleResources);
+        int entriesLength = buffer.getInt(index.entriesOffset - 4);
+        buffer.position(index.entriesOffset + entriesLength);
+        return index;
+    }
+
+    @Override
+    public ClassLoadingResource[] get(String name) {
+        if (slotCount == 0) {
+            return null;
+        }
+        byte[] bytes = isAscii(name) ? null : name.getBytes(StandardCharsets.UTF_8);
+        int bucket = Integer.remainderUnsigned(hash(name, bytes, 0), bucketCount);
+        int seed = buffer.getInt(seedsOffset + bucket * 4);
+        int slot = Integer.remainderUnsigned(hash(name, bytes, seed), slotCount);
+        int entry = buffer.getInt(slotsOffset + slot * 4);
+        if (entry < 0) {
+            return null;
+        }
+        int position = entriesOffset + entry;
+        int keyLength = Short.toUnsignedInt(buffer.getShort(position));
+        position += 2;
+        if (!keyEquals(position, keyLength, name, bytes)) {
+            return null;
+        }
+        position += keyLength;
+        int count = Short.toUnsignedInt(buffer.getShort(position));
+        position += 2;
+        if (count == 1) {
+            return singleResources[Short.toUnsignedInt(buffer.getShort(position))];
+        }
+        ClassLoadingResource[] result = new ClassLoadingResource[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = resources[Short.toUnsignedInt(buffer.getShort(position + i * 2))];
+        }
+        return result;
+    }
+
+    private boolean keyEquals(int position, int keyLength, String name, byte[] bytes) {
+        if (bytes != null) {
+            if (keyLength != bytes.length) {
+                return false;
+            }
+            for (int i = 0; i < keyLength; i++) {
+                if (buffer.get(position + i) != bytes[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (keyLength != name.length()) {
+            return false;
+        }
+        for (int i = 0; i < keyLength; i++) {
+            if (buffer.get(position + i) != (byte) name.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static void write(DataOutputStream out, Map<String, List<Integer>> index) throws IOException {
+        int size = index.size();
+        byte[][] keys = new byte[size][];
+        int[][] values = new int[size][];
+        int i = 0;
+        for (Map.Entry<String, List<Integer>> entry : index.entrySet()) {
+            keys[i] = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            values[i] = entry.getValue().stream().mapToInt(Integer::intValue).toArray();
+            i++;
+        }
+        int bucketCount = Math.max(1, size / 2);
+        int slotCount = size == 0 ? 0 : size + size / 4 + 1;
+
+        // Place the largest buckets first, while most slots are still free
+        List<List<Integer>> buckets = new ArrayList<>(bucketCount);
+        for (int b = 0; b < bucketCount; b++) {
+            buckets.add(new ArrayList<>(2));
+        }
+        for (int k = 0; k < size; k++) {
+            buckets.get(Integer.remainderUnsigned(hash(keys[k], 0), bucketCount)).add(k);
+        }
+        Integer[] order = new Integer[bucketCount];
+        for (int b = 0; b < bucketCount; b++) {
+            order[b] = b;
+        }
+        Arrays.sort(order, Comparator.comparingInt((Integer b) -> buckets.get(b).size()).reversed());
+
+        int[] seeds = new int[bucketCount];
+        int[] slots = new int[slotCount];
+        Arrays.fill(slots, -1);
+        int[] bucketSlots = new int[size];
+        for (int b : order) {
+            List<Integer> bucket = buckets.get(b);
+            if (bucket.isEmpty()) {
+                break;
+            }
+            int seed = 1;
+            while (!place(keys, bucket, seed, slots, bucketSlots)) {
+                if (++seed == MAX_SEED) {
+                    throw new IllegalStateException("Unable to build the class loading resource index");
+                }
+            }
+            seeds[b] = seed;
+        }
+
+        int[] offsets = new int[size];
+        int entriesLength = 0;
+        for (int k = 0; k < size; k++) {
+            offsets[k] = entriesLength;
+            entriesLength += 2 + keys[k].length + 2 + values[k].length * 2;
+        }
+        out.writeInt(bucketCount);
+        out.writeInt(slotCount);
+        for (int seed : seeds) {
+            out.writeInt(seed);
+        }
+        for (int slot : slots) {
+            out.writeInt(slot == -1 ? -1 : offsets[slot]);
+        }
+        out.writeInt(entriesLength);
+        for (int k = 0; k < size; k++) {
+            out.writeShort(keys[k].length);
+            out.write(keys[k]);
+            out.writeShort(values[k].length);
+            for (int value : values[k]) {
+                out.writeShort(value);
+            }
+        }
+    }
+
+    private static boolean place(byte[][] keys, List<Integer> bucket, int seed, int[] slots, int[] bucketSlots) {
+        int placed = 0;
+        for (int k : bucket) {
+            int slot = Integer.remainderUnsigned(hash(keys[k], seed), slots.length);
+            if (slots[slot] != -1) {
+                break;
+            }
+            slots[slot] = k;
+            bucketSlots[placed++] = slot;
+        }
+        if (placed == bucket.size()) {
+            return true;
+        }
+        // roll back
+        for (int p = 0; p < placed; p++) {
+            slots[bucketSlots[p]] = -1;
+        }
+        return false;
+    }
+
+    private static boolean isAscii(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // FNV-1a over the UTF-8 bytes of the name, followed by the murmur3 finalizer
+    private static int hash(String name, byte[] bytes, int seed) {
+        if (bytes != null) {
+            return hash(bytes, seed);
+        }
+        int h = 0x811C9DC5 ^ (seed * 0x9E3779B9);
+        for (int i = 0; i < name.length(); i++) {
+            h = (h ^ name.charAt(i)) * 0x01000193;
+        }
+        return mix(h);
+    }
+
+    private static int hash(byte[] bytes, int seed) {
+        int h = 0x811C9DC5 ^ (seed * 0x9E3779B9);
+        for (byte b : bytes) {
+            h = (h ^ (b & 0xFF)) * 0x01000193;
+        }
+        return mix(h);
+    }
+
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
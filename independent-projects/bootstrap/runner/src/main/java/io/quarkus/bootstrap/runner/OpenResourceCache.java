@@ -0,0 +1,110 @@
+package io.quarkus.bootstrap.runner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded cache of the class loading resources, i.e. of the jar files, that are kept open once the application has
+ * booted. When the cache is full, a resource is evicted with the CLOCK algorithm, which approximates LRU.
+ * <p>
+ * Any resource may take any slot, so the resources that are used repeatedly are never evicted as long as there are fewer
+ * of them than slots. A resource is added without its reference bit, i.e. a resource that is accessed only once is evicted
+ * before the ones that are accessed again.
+ * <p>
+ * Hits are lock-free: they only mark the slot of the resource as referenced. Misses take a lock, which is never held while
+ * a jar is opened or closed, and never pins a virtual thread.
+ */
+final class OpenResourceCache {
+
+    private final int capacity;
+    private final AtomicReferenceArray<ClassLoadingResource> slots;
+    private final AtomicIntegerArray referenced;
+    private final ReentrantLock lock = new ReentrantLock();
+    // the position of the clock hand, guarded by the lock
+    private int hand;
+
+    /**
+     * @param capacity the number of resources
+     */
+    OpenResourceCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Invalid cache capacity: " + capacity);
+        }
+        this.capacity = capacity;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.referenced = new AtomicIntegerArray(capacity);
+    }
+
+    /**
+     * Records an access to a resource, adding it to the cache if needed.
+     *
+     * @return the resource that was evicted to make room for the given one, whose caches should be released by the
+     *         caller, or {@code null}
+     */
+    ClassLoadingResource access(ClassLoadingResource resource) {
+        if (markReferenced(resource)) {
+            return null;
+        }
+        lock.lock();
+        try {
+            // another thread may have added it in the meantime
+            if (markReferenced(resource)) {
+                return null;
+            }
+            int hand = this.hand;
+            while (true) {
+                int slot = hand;
+                hand = hand + 1 == capacity ? 0 : hand + 1;
+                ClassLoadingResource current = slots.get(slot);
+                if (current == null || referenced.get(slot) == 0) {
+                    this.hand = hand;
+                    referenced.set(slot, 0);
+                    slots.set(slot, resource);
+                    return current;
+                }
+                // second chance
+                referenced.set(slot, 0);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean markReferenced(ClassLoadingResource resource) {
+        for (int slot = 0; slot < capacity; slot++) {
+            if (slots.get(slot) == resource) {
+                // avoid writing to a shared cache line when the flag is already set
+                if (referenced.get(slot) == 0) {
+                    referenced.set(slot, 1);
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Empties the cache.
+     *
+     * @return the resources that were in the cache, whose caches should be released by the caller
+     */
+    List<ClassLoadingResource> clear() {
+        List<ClassLoadingResource> removed = new ArrayList<>();
+        lock.lock();
+        try {
+            for (int slot = 0; slot < capacity; slot++) {
+                ClassLoadingResource resource = slots.getAndSet(slot, null);
+                if (resource != null) {
+                    removed.add(resource);
+                }
+                referenced.set(slot, 0);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return removed;
+    }
+}
@@ -4,9 +4,11 @@
 import static io.quarkus.commons.classloading.ClassLoaderHelper.isInJdkPackage;
 
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -34,9 +36,9 @@ public final class RunnerClassLoader extends ClassLoader {
     }
 
     /**
-     * A map of resources by dir name. Root dir/default package is represented by the empty string
+     * An index of resources by dir name. Root dir/default package is represented by the empty string
      */
-    private final Map<String, ClassLoadingResource[]> resourceDirectoryMap;
+    private final ClassLoadingResourceIndex resourceDirectoryIndex;
 
     private final Set<String> parentFirstPackages;
     private final Set<String> nonExistentResources;
@@ -44,24 +46,39 @@ public final class RunnerClassLoader extends ClassLoader {
     // in order for the resource loading to work properly
     // normally this field would be a set, but it only contains 2 elements, so making it a list is actually better
     private final List<String> fullyIndexedDirectories;
-    private final Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap;
+    private final ClassLoadingResourceIndex directlyIndexedResourcesIndex;
+    private final ClassLoadingResource[] allResources;
+    // the classes of the profile are defined from the profile rather than from the jars
+    private final ClassLoadingProfile profile;
+    // only set in a training run
+    private final ClassLoadingProfile.Recorder recorder;
 
-    //Mutations protected by synchronization on the field value itself:
-    private final ClassLoadingResource[] currentlyBufferedResources = new ClassLoadingResource[4];//Experimentally found to be a reasonable number
-    //Protected by synchronization on the above field, as they are related.
-    private boolean postBootPhase = false;
+    // the jars that are kept open once the application has booted
+    private final OpenResourceCache currentlyBufferedResources = new OpenResourceCache(8);
+    private volatile boolean postBootPhase = false;
 
     private final CracResource resource;
 
     RunnerClassLoader(ClassLoader parent, Map<String, ClassLoadingResource[]> resourceDirectoryMap,
             Set<String> parentFirstPackages, Set<String> nonExistentResources,
             List<String> fullyIndexedDirectories, Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap) {
+        this(parent, resourceDirectoryMap::get, parentFirstPackages, nonExistentResources, fullyIndexedDirectories,
+                directlyIndexedResourcesIndexMap::get, distinctResources(resourceDirectoryMap), null, null);
+    }
+
+    RunnerClassLoader(ClassLoader parent, ClassLoadingResourceIndex resourceDirectoryIndex,
+            Set<String> parentFirstPackages, Set<String> nonExistentResources,
+            List<String> fullyIndexedDirectories, ClassLoadingResourceIndex directlyIndexedResourcesIndex,
+            ClassLoadingResource[] allResources, ClassLoadingProfile profile, ClassLoadingProfile.Recorder recorder) {
         super(parent);
-        this.resourceDirectoryMap = resourceDirectoryMap;
+        this.resourceDirectoryIndex = resourceDirectoryIndex;
         this.parentFirstPackages = parentFirstPackages;
         this.nonExistentResources = nonExistentResources;
         this.fullyIndexedDirectories = fullyIndexedDirectories;
-        this.directlyIndexedResourcesIndexMap = directlyIndexedResourcesIndexMap;
+        this.directlyIndexedResourcesIndex = directlyIndexedResourcesIndex;
+        this.allResources = allResources;
+        this.profile = profile;
+        this.recorder = recorder;
 
         resource = new CracResource();
         org.crac.Core.getGlobalContext().register(resource);
@@ -94,12 +111,19 @@ public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundExce
         }
         final ClassLoadingResource[] resources;
         if (packageName == null) {
-            resources = resourceDirectoryMap.get("");
+            resources = resourceDirectoryIndex.get("");
         } else {
             String dirName = packageName.replace('.', '/');
-            resources = resourceDirectoryMap.get(dirName);
+            resources = resourceDirectoryIndex.get(dirName);
         }
         if (resources != null) {
+            if (profile != null) {
+                ClassLoadingProfile.ProfiledClass profiled = profile.get(name);
+                if (profiled != null) {
+                    definePackage(packageName, resources);
+                    return defineClass(name, profile.getData(profiled), profiled.resource());
+                }
+            }
             String classResource = fromClassNameToResourceName(name);
             for (ClassLoadingResource resource : resources) {
                 accessingResource(resource);
@@ -108,7 +132,11 @@ public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundExce
                     continue;
                 }
                 definePackage(packageName, resources);
-                return defineClass(name, data, resource);
+                Class<?> defined = defineClass(name, data, resource);
+                if (recorder != null) {
+                    recorder.classDefined(name, resource);
+                }
+                return defined;
             }
         }
         return getParent().loadClass(name);
@@ -159,45 +187,28 @@ private Class<?> defineClass(String name, byte[] data, ClassLoadingResource reso
         }
     }
 
-    private void accessingResource(final ClassLoadingResource resource) {
-        final ClassLoadingResource toEvict;
-        synchronized (this.currentlyBufferedResources) {
-            if (!postBootPhase) {
-                //We only want to limit the jar buffers after the initial bootstrap has been completed
-                return;
-            }
-            // This is not a cache aiming to accurately retain the most hot resources:
-            // it's too small to benefit from traditional hit metrics,
-            // we rather prefer to keep it very light.
-            if (currentlyBufferedResources[0] == resource) {
-                //it's already on the head of the cache: nothing to be done.
-                return;
-            }
-
-            for (int i = 1; i < currentlyBufferedResources.length; i++) {
-                final ClassLoadingResource currentI = currentlyBufferedResources[i];
-                if (currentI == resource || currentI == null) {
-                    //it was already cached, or we found an empty slot: bubble it up by one position to give it a boost
-                    bubbleUpCachedResource(resource, i);
-                    return;
-                }
+    private Class<?> defineClass(String name, ByteBuffer data, ClassLoadingResource resource) {
+        try {
+            return defineClass(name, data, resource.getProtectionDomain());
+        } catch (LinkageError e) {
+            Class<?> loaded = findLoadedClass(name);
+            if (loaded != null) {
+                return loaded;
             }
-
-            // else, we drop one element from the cache,
-            // and inserting the latest resource on the tail:
-            toEvict = currentlyBufferedResources[currentlyBufferedResources.length - 1];
-            bubbleUpCachedResource(resource, currentlyBufferedResources.length - 1);
+            throw e;
         }
-
-        // Finally, release the cache for the dropped element:
-        toEvict.resetInternalCaches();
     }
 
-    private void bubbleUpCachedResource(ClassLoadingResource resource, int i) {
-        for (int j = i; j > 0; j--) {
-            currentlyBufferedResources[j] = currentlyBufferedResources[j - 1];
+    private void accessingResource(final ClassLoadingResource resource) {
+        if (!postBootPhase) {
+            //We only want to limit the jar buffers after the initial bootstrap has been completed
+            return;
+        }
+        final ClassLoadingResource toEvict = currentlyBufferedResources.access(resource);
+        if (toEvict != null) {
+            // Finally, release the cache for the dropped element:
+            toEvict.resetInternalCaches();
         }
-        currentlyBufferedResources[0] = resource;
     }
 
     @Override
@@ -213,6 +224,9 @@ protected URL findResource(String name) {
             accessingResource(resource);
             URL data = resource.getResourceURL(name);
             if (data != null) {
+                if (recorder != null) {
+                    recorder.resourceFound(name);
+                }
                 return data;
             }
         }
@@ -227,7 +241,7 @@ private String sanitizeName(final String name) {
     }
 
     private ClassLoadingResource[] getClassLoadingResources(final String name) {
-        ClassLoadingResource[] resources = directlyIndexedResourcesIndexMap.get(name);
+        ClassLoadingResource[] resources = directlyIndexedResourcesIndex.get(name);
         if (resources != null) {
             return resources;
         }
@@ -237,16 +251,16 @@ private ClassLoadingResource[] getClassLoadingResources(final String name) {
         }
         if (!dirName.equals(name) && fullyIndexedDirectories.contains(dirName)) {
             if (dirName.isEmpty()) {
-                return resourceDirectoryMap.get(name);
+                return resourceDirectoryIndex.get(name);
             }
             // If we arrive here, we know that resource being queried belongs to one of the fully indexed directories
-            // Had that resource existed however, it would have been present in directlyIndexedResourcesIndexMap
+            // Had that resource existed however, it would have been present in directlyIndexedResourcesIndex
             return null;
         }
-        resources = resourceDirectoryMap.get(dirName);
+        resources = resourceDirectoryIndex.get(dirName);
         if (resources == null) {
             // the resource could itself be a directory
-            resources = resourceDirectoryMap.get(name);
+            resources = resourceDirectoryIndex.get(name);
         }
         return resources;
     }
@@ -268,6 +282,9 @@ protected Enumeration<URL> findResources(String name) {
                 urls.add(data);
             }
         }
+        if (recorder != null && !urls.isEmpty()) {
+            recorder.resourceFound(name);
+        }
         return Collections.enumeration(urls);
     }
 
@@ -310,35 +327,41 @@ protected Class<?> findClass(String moduleName, String name) {
         }
     }
 
+    /**
+     * Starts preloading the classes of the class loading profile, if there is one.
+     */
+    void preloadProfiledClasses() {
+        if (profile != null) {
+            profile.preload(this);
+        }
+    }
+
     public void close() {
-        for (Map.Entry<String, ClassLoadingResource[]> entry : resourceDirectoryMap.entrySet()) {
-            for (ClassLoadingResource i : entry.getValue()) {
-                i.close();
-            }
+        for (ClassLoadingResource i : allResources) {
+            i.close();
         }
     }
 
     public void resetInternalCaches() {
-        synchronized (this.currentlyBufferedResources) {
-            for (Map.Entry<String, ClassLoadingResource[]> entry : resourceDirectoryMap.entrySet()) {
-                for (ClassLoadingResource i : entry.getValue()) {
-                    i.resetInternalCaches();
-                }
-            }
-            this.postBootPhase = true;
+        for (ClassLoadingResource i : allResources) {
+            i.resetInternalCaches();
         }
+        this.postBootPhase = true;
+    }
+
+    private static ClassLoadingResource[] distinctResources(Map<String, ClassLoadingResource[]> resourceDirectoryMap) {
+        Set<ClassLoadingResource> resources = new LinkedHashSet<>();
+        for (ClassLoadingResource[] i : resourceDirectoryMap.values()) {
+            Collections.addAll(resources, i);
+        }
+        return resources.toArray(new ClassLoadingResource[0]);
     }
 
     class CracResource implements Resource {
         @Override
         public void beforeCheckpoint(Context<? extends Resource> ctx) {
-            synchronized (currentlyBufferedResources) {
-                for (int i = 0; i < currentlyBufferedResources.length; ++i) {
-                    if (currentlyBufferedResources[i] != null) {
-                        currentlyBufferedResources[i].resetInternalCaches();
-                        currentlyBufferedResources[i] = null;
-                    }
-                }
+            for (ClassLoadingResource i : currentlyBufferedResources.clear()) {
+                i.resetInternalCaches();
             }
         }
 
@@ -3,17 +3,18 @@
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.FileVisitResult;
 import java.nio.file.FileVisitor;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Enumeration;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -38,10 +39,7 @@ public class SerializedApplication {
     private static final List<String> FULLY_INDEXED_PATHS = List.of("", "META-INF/services");
 
     private static final int MAGIC = 0XF0315432;
-    private static final int VERSION = 2;
-
-    private static final ClassLoadingResource[] EMPTY_ARRAY = new ClassLoadingResource[0];
-    private static final JarResource SENTINEL = new JarResource(null, Path.of("wqxehxivam"));
+    private static final int VERSION = 3;
 
     private final RunnerClassLoader runnerClassLoader;
     private final String mainClass;
@@ -67,14 +65,24 @@ public static void write(OutputStream outputStream, String mainClass, Path appli
             data.writeInt(VERSION);
             data.writeUTF(mainClass);
             data.writeShort(classPath.size());
+            Map<String, List<Integer>> resourceDirectoriesToCPJarIndex = new LinkedHashMap<>();
             Map<String, List<Integer>> directlyIndexedResourcesToCPJarIndex = new LinkedHashMap<>();
             for (int i = 0; i < classPath.size(); i++) {
                 Path jar = classPath.get(i);
                 String relativePath = applicationRoot.relativize(jar).toString().replace('\\', '/');
                 data.writeUTF(relativePath);
-                Collection<String> resources = writeJar(data, jar);
+                Set<String> dirs = new LinkedHashSet<>();
+                Collection<String> resources = writeJar(data, jar, dirs);
+                for (String dir : dirs) {
+                    int j = dir.indexOf('/');
+                    while (j >= 0) {
+                        addIndex(resourceDirectoriesToCPJarIndex, dir.substring(0, j), i);
+                        j = dir.indexOf('/', j + 1);
+                    }
+                    addIndex(resourceDirectoriesToCPJarIndex, dir, i);
+                }
                 for (String resource : resources) {
-                    directlyIndexedResourcesToCPJarIndex.computeIfAbsent(resource, s -> new ArrayList<>()).add(i);
+                    addIndex(directlyIndexedResourcesToCPJarIndex, resource, i);
                 }
             }
             Set<String> parentFirstPackages = new HashSet<>();
@@ -90,82 +98,88 @@ public static void write(OutputStream outputStream, String mainClass, Path appli
             for (String nonExistentResource : nonExistentResources) {
                 data.writeUTF(nonExistentResource);
             }
-            data.writeShort(directlyIndexedResourcesToCPJarIndex.size());
-            for (Map.Entry<String, List<Integer>> entry : directlyIndexedResourcesToCPJarIndex.entrySet()) {
-                data.writeUTF(entry.getKey());
-                data.writeShort(entry.getValue().size());
-                for (Integer index : entry.getValue()) {
-                    data.writeShort(index);
-                }
-            }
+            MappedClassLoadingResourceIndex.write(data, resourceDirectoriesToCPJarIndex);
+            MappedClassLoadingResourceIndex.write(data, directlyIndexedResourcesToCPJarIndex);
             data.flush();
         }
     }
 
-    public static SerializedApplication read(InputStream inputStream, Path appRoot) throws IOException {
-        try (DataInputStream in = new DataInputStream(inputStream)) {
-            if (in.readInt() != MAGIC) {
-                throw new RuntimeException("Wrong magic number");
-            }
-            if (in.readInt() != VERSION) {
-                throw new RuntimeException("Wrong class path version");
-            }
-            String mainClass = in.readUTF();
-            ResourceDirectoryTracker resourceDirectoryTracker = new ResourceDirectoryTracker();
-            Set<String> parentFirstPackages = new HashSet<>();
-            int numPaths = in.readUnsignedShort();
-            ClassLoadingResource[] allClassLoadingResources = new ClassLoadingResource[numPaths];
-            for (int pathCount = 0; pathCount < numPaths; pathCount++) {
-                String path = in.readUTF();
-                boolean hasManifest = in.readBoolean();
-                ManifestInfo info = null;
-                if (hasManifest) {
-                    info = new ManifestInfo(readNullableString(in), readNullableString(in), readNullableString(in),
-                            readNullableString(in), readNullableString(in), readNullableString(in));
-                }
-                JarResource resource = new JarResource(info, appRoot.resolve(path));
-                allClassLoadingResources[pathCount] = resource;
-                int numDirs = in.readUnsignedShort();
-                for (int i = 0; i < numDirs; ++i) {
-                    String dir = in.readUTF();
-                    int j = dir.indexOf('/');
-                    while (j >= 0) {
-                        resourceDirectoryTracker.addResourceDir(dir.substring(0, j), resource);
-                        j = dir.indexOf('/', j + 1);
-                    }
-                    resourceDirectoryTracker.addResourceDir(dir, resource);
-                }
-            }
-            int packages = in.readUnsignedShort();
-            for (int i = 0; i < packages; ++i) {
-                parentFirstPackages.add(in.readUTF());
-            }
-            Set<String> nonExistentResources = new HashSet<>();
-            int nonExistentResourcesSize = in.readUnsignedShort();
-            for (int i = 0; i < nonExistentResourcesSize; i++) {
-                nonExistentResources.add(in.readUTF());
-            }
-            // this map is populated correctly because the JarResource entries are added to allClassLoadingResources
-            // in the same order as the classpath was written during the writing of the index
-            Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap = new HashMap<>();
-            int directlyIndexedSize = in.readUnsignedShort();
-            for (int i = 0; i < directlyIndexedSize; i++) {
-                String resource = in.readUTF();
-                int indexesSize = in.readUnsignedShort();
-                ClassLoadingResource[] matchingResources = new ClassLoadingResource[indexesSize];
-                for (int j = 0; j < indexesSize; j++) {
-                    matchingResources[j] = allClassLoadingResources[in.readUnsignedShort()];
-                }
-                directlyIndexedResourcesIndexMap.put(resource, matchingResources);
-            }
-            RunnerClassLoader runnerClassLoader = new RunnerClassLoader(ClassLoader.getSystemClassLoader(),
-                    resourceDirectoryTracker.getResult(), parentFirstPackages,
-                    nonExistentResources, FULLY_INDEXED_PATHS, directlyIndexedResourcesIndexMap);
-            for (ClassLoadingResource classLoadingResource : allClassLoadingResources) {
-                classLoadingResource.init();
+    private static void addIndex(Map<String, List<Integer>> index, String key, int jarIndex) {
+        List<Integer> jarIndexes = index.computeIfAbsent(key, k -> new ArrayList<>(1));
+        // the jars are processed in order, so a duplicate can only be the last element
+        if (jarIndexes.isEmpty() || jarIndexes.get(jarIndexes.size() - 1) != jarIndex) {
+            jarIndexes.add(jarIndex);
+        }
+    }
+
+    /**
+     * Reads the application data from a file, which is memory mapped so that the class loading resource indexes are
+     * looked up directly in the file.
+     */
+    public static SerializedApplication read(Path file, Path appRoot) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // the mapping remains valid after the channel is closed
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), appRoot,
+                    appRoot.resolve(QuarkusEntryPoint.QUARKUS_CLASS_LOADING_PROFILE_DAT));
+        }
+    }
+
+    private static SerializedApplication read(ByteBuffer buffer, Path appRoot, Path profileFile) throws IOException {
+        // DataInputStream doesn't buffer, so the position of the buffer is right after the last value read
+        DataInputStream in = new DataInputStream(new ByteBufferInputStream(buffer));
+        if (in.readInt() != MAGIC) {
+            throw new RuntimeException("Wrong magic number");
+        }
+        if (in.readInt() != VERSION) {
+            throw new RuntimeException("Wrong class path version");
+        }
+        String mainClass = in.readUTF();
+        Set<String> parentFirstPackages = new HashSet<>();
+        int numPaths = in.readUnsignedShort();
+        ClassLoadingResource[] allClassLoadingResources = new ClassLoadingResource[numPaths];
+        ClassLoadingResource[][] singleClassLoadingResources = new ClassLoadingResource[numPaths][];
+        for (int pathCount = 0; pathCount < numPaths; pathCount++) {
+            String path = in.readUTF();
+            boolean hasManifest = in.readBoolean();
+            ManifestInfo info = null;
+            if (hasManifest) {
+                info = new ManifestInfo(readNullableString(in), readNullableString(in), readNullableString(in),
+                        readNullableString(in), readNullableString(in), readNullableString(in));
             }
-            return new SerializedApplication(runnerClassLoader, mainClass);
+            JarResource resource = new JarResource(info, appRoot.resolve(path));
+            allClassLoadingResources[pathCount] = resource;
+            singleClassLoadingResources[pathCount] = new ClassLoadingResource[] { resource };
+        }
+        int packages = in.readUnsignedShort();
+        for (int i = 0; i < packages; ++i) {
+            parentFirstPackages.add(in.readUTF());
+        }
+        Set<String> nonExistentResources = new HashSet<>();
+        int nonExistentResourcesSize = in.readUnsignedShort();
+        for (int i = 0; i < nonExistentResourcesSize; i++) {
+            nonExistentResources.add(in.readUTF());
+        }
+        // the indexes refer to the jars by their position in the class path, which is the order in which the JarResource
+        // entries were added to allClassLoadingResources
+        ClassLoadingResourceIndex resourceDirectoryIndex = MappedClassLoadingResourceIndex.read(buffer,
+                allClassLoadingResources, singleClassLoadingResources);
+        ClassLoadingResourceIndex directlyIndexedResourcesIndex = MappedClassLoadingResourceIndex.read(buffer,
+                allClassLoadingResources, singleClassLoadingResources);
+        ClassLoadingProfile profile = null;
+        ClassLoadingProfile.Recorder recorder = null;
+        String trace = System.getProperty(ClassLoadingProfile.RECORD_PROPERTY);
+        if (trace != null) {
+            recorder = new ClassLoadingProfile.Recorder(Path.of(trace), appRoot, allClassLoadingResources);
+        } else if (Files.exists(profileFile)) {
+            profile = ClassLoadingProfile.read(profileFile, appRoot, allClassLoadingResources);
         }
+        RunnerClassLoader runnerClassLoader = new RunnerClassLoader(ClassLoader.getSystemClassLoader(),
+                resourceDirectoryIndex, parentFirstPackages, nonExistentResources, FULLY_INDEXED_PATHS,
+                directlyIndexedResourcesIndex, allClassLoadingResources, profile, recorder);
+        for (ClassLoadingResource classLoadingResource : allClassLoadingResources) {
+            classLoadingResource.init();
+        }
+        return new SerializedApplication(runnerClassLoader, mainClass);
     }
 
     private static String readNullableString(DataInputStream in) throws IOException {
@@ -179,7 +193,7 @@ private static String readNullableString(DataInputStream in) throws IOException
      * @return a List of all resources that exist in the paths that we desire to have fully indexed
      *         (configured via {@code FULLY_INDEXED_PATHS})
      */
-    private static List<String> writeJar(DataOutputStream out, Path jar) throws IOException {
+    private static List<String> writeJar(DataOutputStream out, Path jar, Set<String> dirs) throws IOException {
         try (JarFile zip = new JarFile(jar.toFile())) {
             Manifest manifest = zip.getManifest();
             if (manifest == null) {
@@ -200,7 +214,6 @@ private static List<String> writeJar(DataOutputStream out, Path jar) throws IOEx
                 }
             }
 
-            Set<String> dirs = new LinkedHashSet<>();
             Map<String, List<String>> fullyIndexedPaths = new LinkedHashMap<>();
             Enumeration<? extends ZipEntry> entries = zip.entries();
             boolean hasDefaultPackage = false;
@@ -248,10 +261,6 @@ private static List<String> writeJar(DataOutputStream out, Path jar) throws IOEx
             if (hasDefaultPackage) {
                 dirs.add("");
             }
-            out.writeShort(dirs.size());
-            for (String i : dirs) {
-                out.writeUTF(i);
-            }
             List<String> result = new ArrayList<>();
             for (List<String> values : fullyIndexedPaths.values()) {
                 result.addAll(values);
@@ -317,58 +326,4 @@ private static void writeNullableString(DataOutputStream out, String string) thr
             out.writeUTF(string);
         }
     }
-
-    /**
-     * This class is to build up the final directory to Resource map
-     * The idea here is that directories will only be contained by a single resource, so we optimistically
-     * create a single item array when we encounter a directory for the first time.
-     * However, when a resource is added for the same directory, we switch to using a Set to track the resources
-     * of that directory and then at the end use those sets to override to create the final array of resources.
-     * The reason for doing it this way to only create Sets when needed (which is only a fraction of the cases)
-     */
-    private static class ResourceDirectoryTracker {
-        private final Map<String, ClassLoadingResource[]> result = new HashMap<>();
-        private final Map<String, Set<ClassLoadingResource>> overrides = new HashMap<>();
-
-        void addResourceDir(String dir, JarResource resource) {
-            ClassLoadingResource[] existing = result.get(dir);
-            if (existing == null) {
-                // this is the first the dir was ever tracked
-                result.put(dir, new JarResource[] { resource });
-            } else {
-                ClassLoadingResource existingResource = existing[0];
-                if (existingResource.equals(resource)) {
-                    // we don't need to do anything as the resource has already been tracked and an attempt
-                    // to add it again was made
-                } else {
-                    Set<ClassLoadingResource> dirOverrides = overrides.get(dir);
-                    if (dirOverrides == null) {
-                        // we need to create the override set as this is the first time we find a resource for the dir
-                        // that is not the same as the one in the array
-                        dirOverrides = new LinkedHashSet<>(2);
-                        dirOverrides.add(existingResource);
-                        dirOverrides.add(resource);
-                        overrides.put(dir, dirOverrides);
-
-                        //replace the value in the original array with a sentinel in order to allow for quick comparisons
-                        existing[0] = SENTINEL;
-                    } else {
-                        // in this case, overrides has already been created in a previous invocation so all we need to
-                        // do is add the new resource
-                        dirOverrides.add(resource);
-                    }
-                }
-            }
-        }
-
-        Map<String, ClassLoadingResource[]> getResult() {
-            overrides.forEach(this::addToResult);
-            return result;
-        }
-
-        private void addToResult(String dir, Set<? extends ClassLoadingResource> jarResources) {
-            result.put(dir, jarResources.toArray(EMPTY_ARRAY));
-        }
-    }
-
 }
@@ -0,0 +1,88 @@
+package io.quarkus.bootstrap.runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class OpenResourceCacheTest {
+
+    @Test
+    public void testClockEviction() {
+        OpenResourceCache cache = new OpenResourceCache(2);
+        ClassLoadingResource a = resource("a");
+        ClassLoadingResource b = resource("b");
+        ClassLoadingResource c = resource("c");
+
+        assertNull(cache.access(a));
+        assertNull(cache.access(b));
+        assertNull(cache.access(a));
+        // a was accessed again, so it gets a second chance and b is evicted
+        assertSame(b, cache.access(c));
+        assertNull(cache.access(a));
+        // a lost its reference bit in the previous sweep but was accessed since, c was not
+        assertSame(c, cache.access(b));
+        assertEquals(Set.of(a, b), Set.copyOf(cache.clear()));
+        assertTrue(cache.clear().isEmpty());
+    }
+
+    @Test
+    public void testHotResourcesAreNotEvicted() {
+        OpenResourceCache cache = new OpenResourceCache(8);
+        // any resource may take any slot, i.e. the hot jars can't collide whatever their identity hash codes
+        List<ClassLoadingResource> hot = List.of(resource("a"), resource("b"), resource("c"), resource("d"),
+                resource("e"), resource("f"), resource("g"));
+        for (int i = 0; i < 1_000; i++) {
+            for (ClassLoadingResource resource : hot) {
+                cache.access(resource);
+            }
+            // a jar that is only accessed once in a while
+            ClassLoadingResource evicted = cache.access(resource("cold" + i));
+            assertTrue(evicted == null || !hot.contains(evicted), "Evicted a hot jar: " + evicted);
+        }
+        assertTrue(cache.clear().containsAll(hot));
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        OpenResourceCache cache = new OpenResourceCache(8);
+        List<ClassLoadingResource> resources = List.of(resource("a"), resource("b"), resource("c"), resource("d"),
+                resource("e"), resource("f"), resource("g"), resource("h"), resource("i"), resource("j"));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] futures = new Future<?>[8];
+            for (int t = 0; t < futures.length; t++) {
+                int offset = t;
+                futures[t] = executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        ClassLoadingResource resource = resources.get((i * 7 + offset) % resources.size());
+                        cache.access(resource);
+                    }
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        // the cache is bounded, and a resource is never cached twice
+        List<ClassLoadingResource> cached = cache.clear();
+        assertTrue(cached.size() <= 8);
+        assertEquals(cached.size(), Set.copyOf(cached).size());
+    }
+
+    private static ClassLoadingResource resource(String name) {
+        return new JarResource(null, Path.of(name + ".jar"));
+    }
+}
@@ -0,0 +1,157 @@
+package io.quarkus.bootstrap.runner;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SerializedApplicationTest {
+
+    @TempDir
+    Path appRoot;
+
+    @Test
+    public void testWriteAndRead() throws Exception {
+        Path lib = Files.createDirectories(appRoot.resolve("lib"));
+        List<Path> classPath = new ArrayList<>();
+        for (String jar : List.of("simple-project-1.0.jar", "empty-project-a-1.0.jar", "easy-project-1.0.jar")) {
+            Path target = lib.resolve(jar);
+            Files.copy(Path.of("src/test/resources/jars").resolve(jar), target);
+            classPath.add(target);
+        }
+        Path dat = appRoot.resolve("quarkus-application.dat");
+        try (OutputStream out = Files.newOutputStream(dat)) {
+            SerializedApplication.write(out, "org.simple.SimplePojo1", appRoot, classPath, Collections.emptyList(),
+                    Collections.emptyList());
+        }
+
+        SerializedApplication app = SerializedApplication.read(dat, appRoot);
+        assertEquals("org.simple.SimplePojo1", app.getMainClass());
+        RunnerClassLoader runnerClassLoader = app.getRunnerClassLoader();
+        try {
+            assertSame(runnerClassLoader, runnerClassLoader.loadClass("org.simple.SimplePojo2").getClassLoader());
+            assertSame(runnerClassLoader, runnerClassLoader.loadClass("org.easy.EasyPojo").getClassLoader());
+            // the parent directories are indexed too
+            assertEquals(3, Collections.list(runnerClassLoader.getResources("META-INF/maven/org.mario")).size());
+            assertNull(runnerClassLoader.getResource("org/easy/Missing.class"));
+        } finally {
+            runnerClassLoader.close();
+        }
+    }
+
+    @Test
+    public void testClassLoadingProfile() throws Exception {
+        Path lib = Files.createDirectories(appRoot.resolve("lib"));
+        List<Path> classPath = new ArrayList<>();
+        for (String jar : List.of("simple-project-1.0.jar", "easy-project-1.0.jar")) {
+            Path target = lib.resolve(jar);
+            Files.copy(Path.of("src/test/resources/jars").resolve(jar), target);
+            classPath.add(target);
+        }
+        Path dat = appRoot.resolve(QuarkusEntryPoint.QUARKUS_APPLICATION_DAT);
+        Files.createDirectories(dat.getParent());
+        try (OutputStream out = Files.newOutputStream(dat)) {
+            SerializedApplication.write(out, "org.simple.SimplePojo1", appRoot, classPath, Collections.emptyList(),
+                    Collections.emptyList());
+        }
+        Path trace = appRoot.resolve("class-loading-profile.trace");
+        Files.write(trace, List.of("J lib/simple-project-1.0.jar", "J lib/easy-project-1.0.jar", "C 1 org.easy.EasyPojo",
+                "C 0 org.simple.SimplePojo1", "R META-INF/maven/org.mario/easy-project/pom.xml"));
+        try (OutputStream out = Files.newOutputStream(appRoot.resolve(QuarkusEntryPoint.QUARKUS_CLASS_LOADING_PROFILE_DAT))) {
+            ClassLoadingProfile.write(trace, appRoot, out);
+        }
+
+        ClassLoadingResource[] resources = new ClassLoadingResource[] { new JarResource(null, classPath.get(0)),
+                new JarResource(null, classPath.get(1)) };
+        ClassLoadingProfile profile = ClassLoadingProfile.read(
+                appRoot.resolve(QuarkusEntryPoint.QUARKUS_CLASS_LOADING_PROFILE_DAT), appRoot, resources);
+        assertNotNull(profile, "profile");
+        assertSame(resources[1], profile.get("org.easy.EasyPojo").resource());
+        assertNull(profile.get("org.simple.SimplePojo2"));
+        // a profile recorded with a different class path is ignored
+        assertNull(ClassLoadingProfile.read(appRoot.resolve(QuarkusEntryPoint.QUARKUS_CLASS_LOADING_PROFILE_DAT), appRoot,
+                new ClassLoadingResource[] { resources[1], resources[0] }));
+
+        RunnerClassLoader runnerClassLoader = SerializedApplication.read(dat, appRoot).getRunnerClassLoader();
+        try {
+            Class<?> easyPojo = runnerClassLoader.loadClass("org.easy.EasyPojo");
+            assertSame(runnerClassLoader, easyPojo.getClassLoader());
+            assertEquals(classPath.get(1).toUri().toURL(), easyPojo.getProtectionDomain().getCodeSource().getLocation());
+            assertSame(runnerClassLoader, runnerClassLoader.loadClass("org.simple.SimplePojo2").getClassLoader());
+        } finally {
+            runnerClassLoader.close();
+        }
+
+        // a profile is ignored once a jar was rebuilt
+        Files.setLastModifiedTime(classPath.get(1),
+                FileTime.fromMillis(Files.getLastModifiedTime(classPath.get(1)).toMillis() + 1000));
+        assertNull(ClassLoadingProfile.read(appRoot.resolve(QuarkusEntryPoint.QUARKUS_CLASS_LOADING_PROFILE_DAT), appRoot,
+                resources));
+    }
+
+    @Test
+    public void testIndex() throws Exception {
+        ClassLoadingResource[] resources = new ClassLoadingResource[3];
+        ClassLoadingResource[][] singleResources = new ClassLoadingResource[resources.length][];
+        for (int i = 0; i < resources.length; i++) {
+            resources[i] = new JarResource(null, Path.of("lib" + i + ".jar"));
+            singleResources[i] = new ClassLoadingResource[] { resources[i] };
+        }
+        Map<String, List<Integer>> index = new LinkedHashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            index.put("org/acme/package" + i, i % 7 == 0 ? List.of(0, 2) : List.of(i % 3));
+        }
+        index.put("", List.of(1));
+        index.put("org/acme/caf\u00e9", List.of(2));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(42);
+            MappedClassLoadingResourceIndex.write(out, index);
+            out.writeInt(43);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        assertEquals(42, buffer.getInt());
+        ClassLoadingResourceIndex read = MappedClassLoadingResourceIndex.read(buffer, resources, singleResources);
+        assertEquals(43, buffer.getInt());
+
+        for (Map.Entry<String, List<Integer>> entry : index.entrySet()) {
+            ClassLoadingResource[] found = read.get(entry.getKey());
+            assertNotNull(found, entry.getKey());
+            assertArrayEquals(entry.getValue().stream().map(i -> resources[i]).toArray(), found);
+        }
+        assertNull(read.get("org/acme/package10000"));
+        assertNull(read.get("org/acme/cafe"));
+        assertNull(read.get("org/acme"));
+    }
+
+    @Test
+    public void testEmptyIndex() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            MappedClassLoadingResourceIndex.write(out, Collections.emptyMap());
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        ClassLoadingResourceIndex read = MappedClassLoadingResourceIndex.read(buffer, new ClassLoadingResource[0],
+                new ClassLoadingResource[0][]);
+        assertEquals(bytes.size(), buffer.position());
+        assertNull(read.get(""));
+    }
+}
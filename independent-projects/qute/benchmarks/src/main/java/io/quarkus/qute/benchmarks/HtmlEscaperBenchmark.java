@@ -0,0 +1,54 @@
+package io.quarkus.qute.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.qute.HtmlEscaper;
+import io.quarkus.qute.Variant;
+
+/**
+ * Escapes the typical values of an HTML page; most values don't contain any char that needs to be escaped.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class HtmlEscaperBenchmark {
+
+    @Param({ "Product 42", "Fast and light running shoe for everyday training, available in all sizes",
+            "Fast & light <b>running</b> shoe, \"size\" 42", "Běžecká bota, velikost 42" })
+    public String value;
+
+    private final HtmlEscaper escaper = new HtmlEscaper(List.of(Variant.TEXT_HTML));
+
+    private final Integer number = 42;
+
+    @Benchmark
+    public String escapeString() {
+        return escaper.map(value, null);
+    }
+
+    @Benchmark
+    public String escapeInteger() {
+        return escaper.map(number, null);
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { HtmlEscaperBenchmark.class.getSimpleName(), "-prof", "gc" });
+    }
+
+}
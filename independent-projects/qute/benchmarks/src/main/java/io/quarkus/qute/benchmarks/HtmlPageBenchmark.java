@@ -0,0 +1,138 @@
+package io.quarkus.qute.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.HtmlEscaper;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.Utf8Consumer;
+import io.quarkus.qute.Variant;
+
+/**
+ * Renders a product listing page and encodes the result in UTF-8, i.e. the work done for every response of a web
+ * application.
+ * <p>
+ * {@link #renderToBytes(Blackhole)} renders the page to a {@link String} and encodes it afterwards,
+ * {@link #consumeStrings(Blackhole)} encodes every chunk and {@link #consumeUtf8(Blackhole)} uses the static text encoded
+ * when the template was parsed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class HtmlPageBenchmark {
+
+    static final String PAGE = """
+            <!DOCTYPE html>
+            <html lang="en">
+            <head>
+              <meta charset="UTF-8">
+              <title>{title}</title>
+              <link rel="stylesheet" href="/css/main.css">
+            </head>
+            <body>
+              <header class="navbar">
+                <a class="brand" href="/">Shop</a>
+                <span class="user">Signed in as {user}</span>
+              </header>
+              <main class="container">
+                <h1>{title}</h1>
+                <table class="table table-striped">
+                  <thead>
+                    <tr><th>#</th><th>Name</th><th>Description</th><th>Price</th></tr>
+                  </thead>
+                  <tbody>
+                  {#for item in items}
+                    <tr class="{#if item_odd}odd{#else}even{/if}">
+                      <td>{item_count}</td>
+                      <td><a href="/products/{item.id}">{item.name}</a></td>
+                      <td>{item.description}</td>
+                      <td class="price">{item.price}</td>
+                    </tr>
+                  {/for}
+                  </tbody>
+                </table>
+              </main>
+              <footer class="footer">
+                <p>&copy; 2024 Shop Inc. All rights reserved.</p>
+              </footer>
+            </body>
+            </html>
+            """;
+
+    @Param({ "10", "100" })
+    public int items;
+
+    @Param({ "false", "true" })
+    public boolean escapable;
+
+    private Template template;
+    private Map<String, Object> data;
+
+    @Setup
+    public void setup() {
+        Engine engine = Engine.builder().addDefaults()
+                .addResultMapper(new HtmlEscaper(List.of(Variant.TEXT_HTML)))
+                .build();
+        template = engine.parse(PAGE, Variant.forContentType(Variant.TEXT_HTML));
+        List<Map<String, Object>> list = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            String description = escapable ? "Fast & light <b>running</b> shoe, \"size\" " + i
+                    : "Fast and light running shoe, size " + i;
+            list.add(Map.of("id", i, "name", "Product " + i, "description", description, "price", 10 + i * 1.5));
+        }
+        data = Map.of("title", "Products", "user", "Čolek", "items", list);
+    }
+
+    @Benchmark
+    public void renderToBytes(Blackhole blackhole) {
+        blackhole.consume(template.render(data).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public void consumeStrings(Blackhole blackhole) {
+        template.instance().data(data).consume(chunk -> blackhole.consume(chunk.getBytes(StandardCharsets.UTF_8)))
+                .toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public void consumeUtf8(Blackhole blackhole) {
+        template.instance().data(data).consume(new Utf8Consumer() {
+
+            @Override
+            public void accept(String chunk) {
+                blackhole.consume(chunk.getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public void acceptUtf8(byte[] bytes) {
+                blackhole.consume(bytes);
+            }
+        }).toCompletableFuture().join();
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { HtmlPageBenchmark.class.getSimpleName(), "-prof", "gc" });
+    }
+
+}
@@ -25,7 +25,8 @@ String escape(String value) {
                 return doEscape(value, i, builder);
             }
         }
-        return value.toString();
+        // Nothing to replace - return the input unchanged
+        return value;
     }
 
     private String doEscape(String value, int index, StringBuilder builder) {
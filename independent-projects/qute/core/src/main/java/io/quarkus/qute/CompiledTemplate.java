@@ -0,0 +1,144 @@
+package io.quarkus.qute;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+/**
+ * A template compiled to bytecode, usually generated at build time.
+ * <p>
+ * A compiled template renders the nodes of a template without the {@link Evaluator}; it reads the data, invokes the
+ * getters and appends the results directly. It is registered for a template id, and it's only used if it was compiled
+ * from the same node tree, i.e. if its {@link #getFingerprint()} matches the fingerprint of the parsed template.
+ * <p>
+ * If the data does not match what the template was compiled for, e.g. a data key is missing or a property resolves to
+ * {@code null}, the rendering falls back to the interpreted template. Therefore, a compiled template must not have any
+ * side effects other than invoking the getters of the data.
+ * <p>
+ * The output of a compiled template is buffered until the rendering completes. Hence it's only used by the methods that
+ * return the whole output, i.e. {@link TemplateInstance#render()}, {@link TemplateInstance#renderAsync()} and
+ * {@link TemplateInstance#createUni()}. {@link TemplateInstance#consume(java.util.function.Consumer)} and
+ * {@link TemplateInstance#createMulti()} always use the interpreted template, which emits the output in chunks.
+ *
+ * @see EngineBuilder#addCompiledTemplate(String, CompiledTemplate)
+ */
+public interface CompiledTemplate {
+
+    /**
+     *
+     * @return the fingerprint of the template this template was compiled from
+     * @see #fingerprint(List)
+     */
+    String getFingerprint();
+
+    /**
+     *
+     * @param context
+     */
+    void render(Context context);
+
+    /**
+     * The fingerprint covers the text, the expressions and the sections of a template.
+     *
+     * @param nodes the child nodes of the root node
+     * @return the fingerprint of the node tree
+     * @see Template#getNodes()
+     */
+    static String fingerprint(List<TemplateNode> nodes) {
+        StringBuilder builder = new StringBuilder();
+        appendNodes(nodes, builder);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(builder.toString().getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void appendNodes(List<TemplateNode> nodes, StringBuilder builder) {
+        for (TemplateNode node : nodes) {
+            switch (node.kind()) {
+                case TEXT:
+                    String text = node.asText().getValue();
+                    builder.append('T').append(text.length()).append(':').append(text);
+                    break;
+                case EXPRESSION:
+                    String expression = node.asExpression().expression.toOriginalString();
+                    builder.append('E').append(expression.length()).append(':').append(expression);
+                    break;
+                case SECTION:
+                    SectionNode section = node.asSection();
+                    builder.append('S').append(section.getName()).append('{');
+                    for (SectionBlock block : section.getBlocks()) {
+                        builder.append('B').append(block.label).append('(');
+                        for (Entry<String, String> param : new TreeMap<>(block.parameters).entrySet()) {
+                            builder.append(param.getKey()).append('=').append(param.getValue()).append(';');
+                        }
+                        builder.append(')');
+                        appendNodes(block.nodes, builder);
+                    }
+                    builder.append('}');
+                    break;
+                case PARAM_DECLARATION:
+                    builder.append('P');
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported node: " + node);
+            }
+        }
+    }
+
+    /**
+     * The context of a rendering.
+     * <p>
+     * If a method of the context cannot proceed, e.g. a data key is not found, it aborts the rendering and the interpreted
+     * template is used instead.
+     */
+    interface Context {
+
+        /**
+         *
+         * @param key
+         * @return the value of the given data key, may be {@code null}
+         */
+        Object data(String key);
+
+        /**
+         * Aborts the rendering, the interpreted template is used instead.
+         */
+        void fallback();
+
+        /**
+         *
+         * @param text
+         */
+        void append(String text);
+
+        /**
+         * Appends the result of an expression in the same way as the interpreted template does, i.e. an {@code Optional} is
+         * unwrapped, a {@code null} value is ignored and the engine result mappers are applied.
+         *
+         * @param value
+         * @param expressionIndex the index of the expression in {@link Template#getExpressions()}
+         */
+        void append(Object value, int expressionIndex);
+
+        /**
+         *
+         * @param value
+         * @return {@code true} if the value is not falsy
+         * @see Booleans#isFalsy(Object)
+         */
+        boolean isTruthy(Object value);
+
+    }
+
+}
@@ -0,0 +1,111 @@
+package io.quarkus.qute;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletionStage;
+
+import io.quarkus.qute.TemplateInstanceBase.DataMap;
+
+final class CompiledTemplateContextImpl implements CompiledTemplate.Context {
+
+    private final Object data;
+    private final StringBuilder builder;
+    private final Engine engine;
+    private final List<Expression> expressions;
+    private final boolean hasEngineResultMappers;
+
+    CompiledTemplateContextImpl(Object data, StringBuilder builder, Engine engine, List<Expression> expressions) {
+        this.data = data;
+        this.builder = builder;
+        this.engine = engine;
+        this.expressions = expressions;
+        this.hasEngineResultMappers = !engine.getResultMappers().isEmpty();
+    }
+
+    @Override
+    public Object data(String key) {
+        if (data instanceof DataMap) {
+            DataMap dataMap = (DataMap) data;
+            if (dataMap.appliesTo(key)) {
+                return dataMap.get(key);
+            }
+        } else if (data instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) data;
+            if (map.containsKey(key)) {
+                return map.get(key);
+            }
+        }
+        throw Fallback.INSTANCE;
+    }
+
+    @Override
+    public void fallback() {
+        throw Fallback.INSTANCE;
+    }
+
+    @Override
+    public void append(String text) {
+        builder.append(text);
+    }
+
+    @Override
+    public void append(Object value, int expressionIndex) {
+        // See SingleResultNode
+        value = extractValue(value);
+        if (value != null) {
+            if (hasEngineResultMappers) {
+                builder.append(engine.mapResult(value, expressions.get(expressionIndex)));
+            } else {
+                builder.append(value.toString());
+            }
+        }
+    }
+
+    @Override
+    public boolean isTruthy(Object value) {
+        if (value instanceof CompletionStage) {
+            // The interpreted template would wait for the result
+            throw Fallback.INSTANCE;
+        }
+        return !Booleans.isFalsy(value);
+    }
+
+    private static Object extractValue(Object value) {
+        if (value instanceof CompletionStage || value instanceof ResultNode) {
+            throw Fallback.INSTANCE;
+        }
+        if (value instanceof Optional) {
+            return ((Optional<?>) value).orElse(null);
+        }
+        if (value instanceof OptionalInt) {
+            return ((OptionalInt) value).orElse(0);
+        }
+        if (value instanceof OptionalDouble) {
+            return ((OptionalDouble) value).orElse(0D);
+        }
+        if (value instanceof OptionalLong) {
+            return ((OptionalLong) value).orElse(0L);
+        }
+        return value;
+    }
+
+    /**
+     * Signals that the interpreted template must be used.
+     */
+    static final class Fallback extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        static final Fallback INSTANCE = new Fallback();
+
+        private Fallback() {
+            super(null, null, false, false);
+        }
+
+    }
+
+}
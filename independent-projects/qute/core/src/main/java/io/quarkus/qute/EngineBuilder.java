@@ -43,6 +43,7 @@ public final class EngineBuilder {
     long timeout;
     boolean useAsyncTimeout;
     final List<EngineListener> listeners;
+    final Map<String, CompiledTemplate> compiledTemplates;
 
     EngineBuilder() {
         this.sectionHelperFactories = new HashMap<>();
@@ -58,6 +59,7 @@ public final class EngineBuilder {
         this.timeout = 10_000;
         this.useAsyncTimeout = true;
         this.listeners = new ArrayList<>();
+        this.compiledTemplates = new HashMap<>();
     }
 
     /**
@@ -336,6 +338,20 @@ public EngineBuilder addEngineListener(EngineListener listener) {
         return this;
     }
 
+    /**
+     * The compiled template is used to render the template with the given id, unless the parsed template does not match the
+     * template it was compiled from.
+     *
+     * @param templateId
+     * @param template
+     * @return self
+     * @see CompiledTemplate
+     */
+    public EngineBuilder addCompiledTemplate(String templateId, CompiledTemplate template) {
+        this.compiledTemplates.put(Objects.requireNonNull(templateId), Objects.requireNonNull(template));
+        return this;
+    }
+
     /**
      *
      * @return a new engine instance
@@ -39,6 +39,7 @@ class EngineImpl implements Engine {
     final boolean removeStandaloneLines;
     private final long timeout;
     private final boolean useAsyncTimeout;
+    private final Map<String, CompiledTemplate> compiledTemplates;
 
     EngineImpl(EngineBuilder builder) {
         this.sectionHelperFactories = Map.copyOf(builder.sectionHelperFactories);
@@ -55,6 +56,7 @@ class EngineImpl implements Engine {
         this.initializers = ImmutableList.copyOf(builder.initializers);
         this.timeout = builder.timeout;
         this.useAsyncTimeout = builder.useAsyncTimeout;
+        this.compiledTemplates = Map.copyOf(builder.compiledTemplates);
     }
 
     @Override
@@ -116,6 +118,10 @@ public String mapResult(Object result, Expression expression) {
         return val;
     }
 
+    CompiledTemplate getCompiledTemplate(String templateId) {
+        return compiledTemplates.get(templateId);
+    }
+
     public Template putTemplate(String id, Template template) {
         if (!Identifiers.isValid(id)) {
             throw new IllegalArgumentException("Invalid identifier found: [" + id + "]");
@@ -8,6 +8,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 import org.jboss.logging.Logger;
@@ -15,6 +16,7 @@
 import io.quarkus.qute.Expression.Part;
 import io.quarkus.qute.ExpressionImpl.PartImpl;
 import io.quarkus.qute.Results.NotFound;
+import io.smallrye.mutiny.operators.AbstractUni;
 
 class EvaluatorImpl implements Evaluator {
 
@@ -74,9 +76,15 @@ public CompletionStage<Object> evaluate(Expression expression, ResolutionContext
                     : new NamespaceEvalContextImpl(resolutionContext, part);
             if (matching.length == 1) {
                 // Very often a single matching resolver will be found
-                return matching[0].resolve(context).thenCompose(r -> (parts.size() > 1)
-                        ? resolveReference(false, r, parts, resolutionContext, expression, 1)
-                        : CompletionStageSupport.toCompletionStage(r));
+                CompletionStage<Object> resolved = matching[0].resolve(context);
+                Object r = getNow(resolved);
+                if (r == resolved) {
+                    return resolved.thenCompose(v -> (parts.size() > 1)
+                            ? resolveReference(false, v, parts, resolutionContext, expression, 1)
+                            : CompletionStageSupport.toCompletionStage(v));
+                }
+                return (parts.size() > 1) ? resolveReference(false, r, parts, resolutionContext, expression, 1)
+                        : CompletedStage.of(r);
             } else {
                 // Multiple namespace resolvers match
                 return resolveNamespace(context, resolutionContext, parts, matching, 0, expression);
@@ -121,35 +129,65 @@ private CompletionStage<Object> resolveNamespace(EvalContext context, Resolution
         });
     }
 
+    @SuppressWarnings("unchecked")
     private CompletionStage<Object> resolveReference(boolean tryParent, Object ref, List<Part> parts,
             ResolutionContext resolutionContext, final Expression expression, int partIndex) {
-        Part part = parts.get(partIndex);
-        EvalContextImpl evalContext = tryParent ? new EvalContextImpl(ref, resolutionContext, part)
-                : new TerminalEvalContextImpl(ref, resolutionContext, part);
-        if (partIndex + 1 >= parts.size()) {
-            // The last part - no need to compose
-            return resolve(evalContext, null, true, expression, true, partIndex);
-        } else {
+        // Resolve the parts synchronously as long as the results are already available
+        while (true) {
+            Part part = parts.get(partIndex);
+            EvalContextImpl evalContext = tryParent ? new EvalContextImpl(ref, resolutionContext, part)
+                    : new TerminalEvalContextImpl(ref, resolutionContext, part);
+            boolean isLastPart = partIndex + 1 >= parts.size();
+            Object result = resolve(evalContext, null, true, expression, isLastPart, partIndex);
+            if (result instanceof CompletionStage) {
+                CompletionStage<Object> stage = (CompletionStage<Object>) result;
+                if (isLastPart) {
+                    // The last part - no need to compose
+                    return stage;
+                }
+                // Next part - no need to try the parent context/outer scope
+                int nextPartIndex = partIndex + 1;
+                return stage.thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, nextPartIndex));
+            }
+            if (isLastPart) {
+                return CompletedStage.of(result);
+            }
             // Next part - no need to try the parent context/outer scope
-            return resolve(evalContext, null, true, expression, false, partIndex)
-                    .thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, partIndex + 1));
+            ref = result;
+            tryParent = false;
+            partIndex++;
         }
     }
 
-    private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<ValueResolver> resolvers,
+    /**
+     * The resolution is synchronous as long as the resolvers return a completed stage; i.e. the built-in and generated
+     * value resolvers never allocate a {@link CompletionStage} for the intermediate results. A stage is only composed at a
+     * true asynchronous boundary.
+     *
+     * @return the resolved value, or a {@link CompletionStage} if the result is not available synchronously or if the
+     *         resolution failed; a resolved value is never a {@link CompletionStage}
+     */
+    private Object resolve(EvalContextImpl evalContext, Iterator<ValueResolver> resolvers,
             boolean tryCachedResolver, final Expression expression, boolean isLastPart, int partIndex) {
 
         if (tryCachedResolver) {
             // Try the cached resolver first
             ValueResolver cached = evalContext.getCachedResolver();
             if (cached != null && cached.appliesTo(evalContext)) {
-                return cached.resolve(evalContext).thenCompose(r -> {
-                    if (Results.isNotFound(r)) {
-                        return resolve(evalContext, null, false, expression, isLastPart, partIndex);
-                    } else {
-                        return CompletionStageSupport.toCompletionStage(r);
-                    }
-                });
+                CompletionStage<Object> resolved = cached.resolve(evalContext);
+                Object r = getNow(resolved);
+                if (r == resolved) {
+                    return resolved.thenCompose(v -> {
+                        if (Results.isNotFound(v)) {
+                            return toCompletionStage(resolve(evalContext, null, false, expression, isLastPart, partIndex));
+                        } else {
+                            return CompletionStageSupport.toCompletionStage(v);
+                        }
+                    });
+                }
+                if (!Results.isNotFound(r)) {
+                    return r;
+                }
             }
         }
 
@@ -158,66 +196,114 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
             resolvers = this.resolvers.iterator();
         }
 
-        ValueResolver applicableResolver = null;
-        while (applicableResolver == null && resolvers.hasNext()) {
-            ValueResolver next = resolvers.next();
-            if (next.appliesTo(evalContext)) {
-                applicableResolver = next;
-            }
-        }
-        if (applicableResolver == null) {
-            ResolutionContext parent = evalContext.resolutionContext.getParent();
-            if (parent != null && evalContext.tryParent()) {
-                // Continue with parent context
-                return resolve(
-                        new EvalContextImpl(parent.getData(), parent,
-                                evalContext.part),
-                        null, false, expression, isLastPart, partIndex);
+        while (true) {
+            ValueResolver applicableResolver = null;
+            while (applicableResolver == null && resolvers.hasNext()) {
+                ValueResolver next = resolvers.next();
+                if (next.appliesTo(evalContext)) {
+                    applicableResolver = next;
+                }
             }
-            LOG.tracef("Unable to resolve %s", evalContext);
-            Object notFound;
-            if (Results.isNotFound(evalContext.getBase())) {
-                // If the base is "not found" then just return it
-                notFound = evalContext.getBase();
-            } else {
-                // If the next part matches the ValueResolvers.orResolver() we can just use the empty NotFound constant
-                // and avoid unnecessary allocations
-                // This optimization should be ok in 99% of cases, for the rest an incomplete NotFound is an acceptable loss
-                Part nextPart = isLastPart ? null : expression.getParts().get(partIndex + 1);
-                if (nextPart != null
-                        // is virtual method with a single param
-                        && nextPart.isVirtualMethod()
-                        && nextPart.asVirtualMethod().getParameters().size() == 1
-                        // name has less than 3 chars
-                        && nextPart.getName().length() < 3
-                        // name is "?:", "or" or ":"
-                        && (nextPart.getName().equals(ValueResolvers.ELVIS)
-                                || nextPart.getName().equals(ValueResolvers.OR)
-                                || nextPart.getName().equals(ValueResolvers.COLON))) {
-                    notFound = Results.NotFound.EMPTY;
-                } else {
-                    notFound = Results.NotFound.from(evalContext);
+            if (applicableResolver == null) {
+                ResolutionContext parent = evalContext.resolutionContext.getParent();
+                if (parent != null && evalContext.tryParent()) {
+                    // Continue with parent context
+                    return resolve(
+                            new EvalContextImpl(parent.getData(), parent,
+                                    evalContext.part),
+                            null, false, expression, isLastPart, partIndex);
                 }
+                return notFound(evalContext, expression, isLastPart, partIndex);
             }
-            // If in strict mode then just fail
-            if (strictRendering && isLastPart) {
-                return CompletedStage.failure(propertyNotFound(notFound, expression));
+
+            final Iterator<ValueResolver> remainingResolvers = resolvers;
+            final ValueResolver foundResolver = applicableResolver;
+            CompletionStage<Object> resolved = applicableResolver.resolve(evalContext);
+            Object r = getNow(resolved);
+            if (r == resolved) {
+                return resolved.thenCompose(v -> {
+                    if (Results.isNotFound(v)) {
+                        // Result not found - try the next resolver
+                        return toCompletionStage(
+                                resolve(evalContext, remainingResolvers, false, expression, isLastPart, partIndex));
+                    } else {
+                        // Cache the first resolver where a result is found
+                        evalContext.setCachedResolver(foundResolver.getCachedResolver(evalContext));
+                        return CompletionStageSupport.toCompletionStage(v);
+                    }
+                });
             }
-            return CompletedStage.of(notFound);
+            if (!Results.isNotFound(r)) {
+                // Cache the first resolver where a result is found
+                evalContext.setCachedResolver(foundResolver.getCachedResolver(evalContext));
+                return r;
+            }
+            // Result not found - try the next resolver
         }
+    }
 
-        final Iterator<ValueResolver> remainingResolvers = resolvers;
-        final ValueResolver foundResolver = applicableResolver;
-        return applicableResolver.resolve(evalContext).thenCompose(r -> {
-            if (Results.isNotFound(r)) {
-                // Result not found - try the next resolver
-                return resolve(evalContext, remainingResolvers, false, expression, isLastPart, partIndex);
+    private Object notFound(EvalContextImpl evalContext, Expression expression, boolean isLastPart, int partIndex) {
+        LOG.tracef("Unable to resolve %s", evalContext);
+        Object notFound;
+        if (Results.isNotFound(evalContext.getBase())) {
+            // If the base is "not found" then just return it
+            notFound = evalContext.getBase();
+        } else {
+            // If the next part matches the ValueResolvers.orResolver() we can just use the empty NotFound constant
+            // and avoid unnecessary allocations
+            // This optimization should be ok in 99% of cases, for the rest an incomplete NotFound is an acceptable loss
+            Part nextPart = isLastPart ? null : expression.getParts().get(partIndex + 1);
+            if (nextPart != null
+                    // is virtual method with a single param
+                    && nextPart.isVirtualMethod()
+                    && nextPart.asVirtualMethod().getParameters().size() == 1
+                    // name has less than 3 chars
+                    && nextPart.getName().length() < 3
+                    // name is "?:", "or" or ":"
+                    && (nextPart.getName().equals(ValueResolvers.ELVIS)
+                            || nextPart.getName().equals(ValueResolvers.OR)
+                            || nextPart.getName().equals(ValueResolvers.COLON))) {
+                notFound = Results.NotFound.EMPTY;
             } else {
-                // Cache the first resolver where a result is found
-                evalContext.setCachedResolver(foundResolver.getCachedResolver(evalContext));
-                return CompletionStageSupport.toCompletionStage(r);
+                notFound = Results.NotFound.from(evalContext);
             }
-        });
+        }
+        // If in strict mode then just fail
+        if (strictRendering && isLastPart) {
+            return CompletedStage.failure(propertyNotFound(notFound, expression));
+        }
+        return notFound;
+    }
+
+    /**
+     *
+     * @param stage
+     * @return the value if the stage is already completed normally and the value itself is not a stage, or the given stage
+     *         otherwise
+     */
+    private static Object getNow(CompletionStage<Object> stage) {
+        Object value;
+        if (stage instanceof CompletedStage<?> completed) {
+            if (completed.isFailure()) {
+                return stage;
+            }
+            value = completed.get();
+        } else if (stage instanceof CompletableFuture<?> future) {
+            if (!future.isDone() || future.isCompletedExceptionally()) {
+                return stage;
+            }
+            value = future.join();
+        } else {
+            return stage;
+        }
+        // A nested stage is handled asynchronously, i.e. in the same way as CompletionStageSupport#toCompletionStage() does
+        return value instanceof CompletionStage || value instanceof AbstractUni ? stage : value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CompletionStage<Object> toCompletionStage(Object result) {
+        // See the contract of EvaluatorImpl#resolve()
+        return result instanceof CompletionStage ? (CompletionStage<Object>) result : CompletedStage.of(result);
     }
 
     private TemplateException propertyNotFound(Object result, Expression expression) {
@@ -90,6 +90,56 @@ private boolean requiresDefaultEscaping(Variant variant) {
         return false;
     }
 
+    @Override
+    public String map(Object result, Expression expression) {
+        if (isSafe(result)) {
+            // The string representation of these types never contains a char that needs to be escaped
+            return result.toString();
+        }
+        return super.map(result, expression);
+    }
+
+    @Override
+    String escape(String value) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c <= 255 && getLatinReplacementId(LATIN_REPLACEMENT_ID_TABLE, c) != 0) {
+                return escape(value, i);
+            }
+        }
+        return value;
+    }
+
+    private static String escape(String value, int index) {
+        int length = value.length();
+        // Most values contain just a few chars that need to be escaped
+        StringBuilder builder = new StringBuilder(length + 16);
+        int last = 0;
+        for (int i = index; i < length; i++) {
+            String replacement = replacementOf(value.charAt(i));
+            if (replacement != null) {
+                // Append the unescaped chars in bulk
+                builder.append(value, last, i);
+                builder.append(replacement);
+                last = i + 1;
+            }
+        }
+        builder.append(value, last, length);
+        return builder.toString();
+    }
+
+    private static boolean isSafe(Object result) {
+        // All these classes are final
+        return result instanceof Integer
+                || result instanceof Long
+                || result instanceof Boolean
+                || result instanceof Double
+                || result instanceof Float
+                || result instanceof Short
+                || result instanceof Byte;
+    }
+
     @Override
     protected String replacementFor(char c) {
         return replacementOf(c);
@@ -40,6 +40,10 @@ class TemplateImpl implements Template {
     // The initial capacity of the StringBuilder used to render the template
     final Capacity capacity;
 
+    // May be null
+    private final CompiledTemplate compiledTemplate;
+    private final List<Expression> compiledTemplateExpressions;
+
     TemplateImpl(EngineImpl engine, SectionNode root, String templateId, String generatedId, Optional<Variant> variant) {
         this.engine = engine;
         this.root = root;
@@ -51,6 +55,8 @@ class TemplateImpl implements Template {
         // Use a lazily initialized map to avoid unnecessary performance costs during parsing
         this.fragments = initFragments(root);
         this.capacity = new Capacity();
+        this.compiledTemplate = initCompiledTemplate(root);
+        this.compiledTemplateExpressions = compiledTemplate != null ? root.getExpressions() : null;
     }
 
     @Override
@@ -124,6 +130,19 @@ public SectionNode getRootNode() {
         return root;
     }
 
+    private CompiledTemplate initCompiledTemplate(SectionNode section) {
+        if (!section.name.equals(Parser.ROOT_HELPER_NAME)) {
+            // Fragments are never compiled
+            return null;
+        }
+        CompiledTemplate compiled = engine.getCompiledTemplate(templateId);
+        if (compiled != null && !compiled.getFingerprint().equals(CompiledTemplate.fingerprint(getNodes()))) {
+            LOG.debugf("Compiled template ignored - %s does not match the template it was compiled from", this);
+            return null;
+        }
+        return compiled;
+    }
+
     private LazyValue<Map<String, Fragment>> initFragments(SectionNode section) {
         if (section.name.equals(Parser.ROOT_HELPER_NAME)) {
             // Initialize the lazy map for root sections only
@@ -241,7 +260,18 @@ protected Engine engine() {
 
         private CompletionStage<String> renderAsyncNoTimeout() {
             StringBuilder builder = new StringBuilder(getCapacity());
-            return renderData(data(), builder::append).thenApply(v -> {
+            if (compiledTemplate != null) {
+                CompletionStage<Void> compiled = renderCompiled(data(), builder);
+                if (compiled != null) {
+                    return compiled.thenApply(v -> {
+                        String str = builder.toString();
+                        capacity.update(str.length());
+                        return str;
+                    });
+                }
+            }
+            // The compiled template fell back or there is none - do not try it again
+            return renderInterpreted(data(), builder::append).thenApply(v -> {
                 String str = builder.toString();
                 capacity.update(str.length());
                 return str;
@@ -269,6 +299,12 @@ private int getCapacityAttributeValue() {
         }
 
         private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
+            // The compiled template is not used here: it buffers the whole output, so that nothing is consumed before a
+            // possible fallback, whereas the interpreted template passes the result of each node to the consumer
+            return renderInterpreted(data, consumer);
+        }
+
+        private CompletionStage<Void> renderInterpreted(Object data, Consumer<String> consumer) {
             CompletableFuture<Void> result = new CompletableFuture<>();
             ResolutionContext rootContext = new ResolutionContextImpl(data,
                     engine.getEvaluator(), null, this);
@@ -285,22 +321,46 @@ private CompletionStage<Void> renderData(Object data, Consumer<String> consumer)
                     } catch (Throwable e) {
                         result.completeExceptionally(e);
                     } finally {
-                        if (renderedActions != null) {
-                            for (Runnable action : renderedActions) {
-                                try {
-                                    action.run();
-                                } catch (Throwable e) {
-                                    LOG.error("Unable to perform an action when rendering finished", e);
-                                }
-                            }
-                        }
-
+                        runRenderedActions();
                     }
                 }
             });
             return result;
         }
 
+        /**
+         *
+         * @param data
+         * @param builder
+         * @return the completed stage, or {@code null} if the interpreted template must be used
+         */
+        private CompletionStage<Void> renderCompiled(Object data, StringBuilder builder) {
+            try {
+                compiledTemplate.render(new CompiledTemplateContextImpl(data, builder, engine, compiledTemplateExpressions));
+            } catch (CompiledTemplateContextImpl.Fallback e) {
+                // Nothing was consumed yet
+                builder.setLength(0);
+                return null;
+            } catch (Throwable e) {
+                runRenderedActions();
+                return CompletedStage.failure(e);
+            }
+            runRenderedActions();
+            return CompletedStage.ofVoid();
+        }
+
+        private void runRenderedActions() {
+            if (renderedActions != null) {
+                for (Runnable action : renderedActions) {
+                    try {
+                        action.run();
+                    } catch (Throwable e) {
+                        LOG.error("Unable to perform an action when rendering finished", e);
+                    }
+                }
+            }
+        }
+
         @Override
         public Template getTemplate() {
             return TemplateImpl.this;
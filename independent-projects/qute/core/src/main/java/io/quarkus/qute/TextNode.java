@@ -1,5 +1,6 @@
 package io.quarkus.qute;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
@@ -11,6 +12,8 @@ public class TextNode extends ResultNode implements TemplateNode {
     private final CompletedStage<ResultNode> result;
     private final String value;
     private final Origin origin;
+    // encoded lazily, most templates are never rendered to a Utf8Consumer
+    private volatile byte[] utf8Bytes;
 
     public TextNode(String value, Origin origin) {
         this.result = CompletedStage.of(this);
@@ -42,9 +45,29 @@ public String getValue() {
         return value;
     }
 
+    /**
+     * The value is encoded when this method is called for the first time.
+     *
+     * @return the value encoded in UTF-8, must not be modified
+     * @see Utf8Consumer
+     */
+    public byte[] getUtf8Bytes() {
+        byte[] bytes = utf8Bytes;
+        if (bytes == null) {
+            // Concurrent renderings may encode the value more than once, the result is always the same
+            bytes = value.getBytes(StandardCharsets.UTF_8);
+            utf8Bytes = bytes;
+        }
+        return bytes;
+    }
+
     @Override
     public void process(Consumer<String> consumer) {
-        consumer.accept(value);
+        if (consumer instanceof Utf8Consumer utf8Consumer) {
+            utf8Consumer.acceptUtf8(getUtf8Bytes());
+        } else {
+            consumer.accept(value);
+        }
     }
 
     @Override
@@ -0,0 +1,23 @@
+package io.quarkus.qute;
+
+import java.util.function.Consumer;
+
+/**
+ * A consumer of the chunks of a rendered template that also accepts the static text of the template as UTF-8 encoded
+ * bytes.
+ * <p>
+ * The static text of a template is encoded once, the first time the template is rendered to such a consumer. If the
+ * consumer passed to {@link TemplateInstance#consume(Consumer)} implements this interface then the encoded bytes are used
+ * instead of the {@link String} value, i.e. the text does not need to be encoded again for every rendering.
+ *
+ * @see TextNode#getUtf8Bytes()
+ */
+public interface Utf8Consumer extends Consumer<String> {
+
+    /**
+     *
+     * @param bytes the UTF-8 encoded chunk, must not be modified
+     */
+    void acceptUtf8(byte[] bytes);
+
+}
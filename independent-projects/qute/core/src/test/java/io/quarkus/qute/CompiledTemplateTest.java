@@ -0,0 +1,128 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class CompiledTemplateTest {
+
+    static final String HELLO = "Hello {name}!";
+
+    @Test
+    public void testCompiledTemplate() {
+        HelloCompiled compiled = new HelloCompiled(fingerprint(HELLO));
+        Engine engine = Engine.builder().addDefaults().addCompiledTemplate("hello", compiled).build();
+        Template hello = engine.parse(HELLO, null, "hello");
+
+        AtomicBoolean rendered = new AtomicBoolean();
+        assertEquals("Hello Joe!", hello.data("name", "Joe").onRendered(() -> rendered.set(true)).render());
+        assertEquals(1, compiled.renders.get());
+        assertTrue(rendered.get());
+        assertEquals("Hello Jim!", hello.instance().data(Map.of("name", "Jim")).render());
+        assertEquals(2, compiled.renders.get());
+        assertEquals("Hello Bob!", hello.data("name", "Bob").createUni().await().indefinitely());
+        assertEquals(3, compiled.renders.get());
+        // The interpreted template is used to consume the output in chunks
+        List<String> consumed = new ArrayList<>();
+        hello.data("name", "Alice").consume(consumed::add).toCompletableFuture().join();
+        assertEquals(List.of("Hello ", "Alice", "!"), consumed);
+        assertEquals(List.of("Hello ", "Bob", "!"),
+                hello.data("name", "Bob").createMulti().collect().asList().await().indefinitely());
+        assertEquals(3, compiled.renders.get());
+        // The compiled template is not used for a different template id
+        assertEquals("Hello Joe!", engine.parse(HELLO).data("name", "Joe").render());
+        assertEquals(3, compiled.renders.get());
+    }
+
+    @Test
+    public void testFallback() {
+        HelloCompiled compiled = new HelloCompiled(fingerprint(HELLO));
+        Engine engine = Engine.builder().addDefaults().addCompiledTemplate("hello", compiled).build();
+        Template hello = engine.parse(HELLO, null, "hello");
+
+        // The interpreted template renders the output from scratch
+        assertEquals("Hello fallback!", hello.data("name", "fallback").render());
+        // Missing data key
+        assertThrows(TemplateException.class, () -> hello.instance().render());
+        assertEquals(2, compiled.renders.get());
+    }
+
+    @Test
+    public void testFingerprintMismatch() {
+        HelloCompiled compiled = new HelloCompiled(fingerprint("Hi {name}!"));
+        Engine engine = Engine.builder().addDefaults().addCompiledTemplate("hello", compiled).build();
+        assertEquals("Hello Joe!", engine.parse(HELLO, null, "hello").data("name", "Joe").render());
+        assertEquals(0, compiled.renders.get());
+    }
+
+    @Test
+    public void testResultMappers() {
+        HelloCompiled compiled = new HelloCompiled(fingerprint(HELLO));
+        Engine engine = Engine.builder().addDefaults().addResultMapper(new HtmlEscaper(List.of(Variant.TEXT_HTML)))
+                .addCompiledTemplate("hello", compiled).build();
+        Template hello = engine.parse(HELLO, Variant.forContentType(Variant.TEXT_HTML), "hello");
+        assertEquals("Hello &lt;b&gt;Joe&lt;/b&gt;!", hello.data("name", "<b>Joe</b>").render());
+        assertEquals(1, compiled.renders.get());
+    }
+
+    @Test
+    public void testException() {
+        CompiledTemplate compiled = new CompiledTemplate() {
+
+            @Override
+            public String getFingerprint() {
+                return fingerprint(HELLO);
+            }
+
+            @Override
+            public void render(Context context) {
+                throw new IllegalStateException("Foo!");
+            }
+        };
+        Engine engine = Engine.builder().addDefaults().addCompiledTemplate("hello", compiled).build();
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> engine.parse(HELLO, null, "hello").data("name", "Joe").render());
+        assertEquals("Foo!", e.getMessage());
+    }
+
+    static String fingerprint(String content) {
+        return CompiledTemplate.fingerprint(Engine.builder().addDefaults().build().parse(content).getNodes());
+    }
+
+    static class HelloCompiled implements CompiledTemplate {
+
+        private final String fingerprint;
+        final AtomicInteger renders = new AtomicInteger();
+
+        HelloCompiled(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        @Override
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        @Override
+        public void render(Context context) {
+            renders.incrementAndGet();
+            context.append("Hello ");
+            Object name = context.data("name");
+            context.append(name, 0);
+            if ("fallback".equals(name)) {
+                context.fallback();
+            }
+            context.append("!");
+        }
+
+    }
+
+}
@@ -0,0 +1,66 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class EvaluatorTest {
+
+    @Test
+    public void testSynchronousResolution() {
+        Engine engine = Engine.builder().addDefaults().build();
+        CompletionStage<Object> result = evaluate(engine, "foo.bar.size", Map.of("foo", Map.of("bar", List.of(1, 2, 3))));
+        assertTrue(result instanceof CompletedStage);
+        assertEquals(3, ((CompletedStage<Object>) result).get());
+        // Resolved with the cached resolvers
+        result = evaluate(engine, "foo.bar.size", Map.of("foo", Map.of("bar", List.of(1))));
+        assertTrue(result instanceof CompletedStage);
+        assertEquals(1, ((CompletedStage<Object>) result).get());
+        // Not found - strict rendering is enabled by default
+        result = evaluate(engine, "foo.qux.size", Map.of("foo", Map.of("bar", List.of())));
+        assertTrue(result instanceof CompletedStage);
+        assertTrue(((CompletedStage<Object>) result).isFailure());
+        // Not found - lenient rendering
+        engine = Engine.builder().addDefaults().strictRendering(false).build();
+        result = evaluate(engine, "foo.qux.size", Map.of("foo", Map.of("bar", List.of())));
+        assertTrue(result instanceof CompletedStage);
+        assertTrue(Results.isNotFound(((CompletedStage<Object>) result).get()));
+    }
+
+    @Test
+    public void testAsynchronousBoundary() throws Exception {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        Engine engine = Engine.builder().addDefaults().addValueResolver(ValueResolver.builder().applyToName("async")
+                .resolveAsync(ec -> future).build()).build();
+        CompletionStage<Object> result = evaluate(engine, "foo.async.size", Map.of("foo", "bar"));
+        assertFalse(result.toCompletableFuture().isDone());
+        future.complete(List.of(1, 2));
+        assertEquals(2, result.toCompletableFuture().get(1, TimeUnit.SECONDS));
+        // The future is already completed
+        result = evaluate(engine, "foo.async.size", Map.of("foo", "bar"));
+        assertTrue(result instanceof CompletedStage);
+        assertEquals(2, ((CompletedStage<Object>) result).get());
+    }
+
+    @Test
+    public void testNestedStage() throws Exception {
+        Engine engine = Engine.builder().addDefaults().build();
+        CompletionStage<Object> result = evaluate(engine, "foo.size", Map.of("foo", CompletedStage.of(List.of(1))));
+        assertEquals(1, result.toCompletableFuture().get(1, TimeUnit.SECONDS));
+        assertEquals("alpha", evaluate(engine, "foo", Map.of("foo", CompletedStage.of("alpha"))).toCompletableFuture().get());
+    }
+
+    private static CompletionStage<Object> evaluate(Engine engine, String expression, Object data) {
+        Evaluator evaluator = engine.getEvaluator();
+        return evaluator.evaluate(ExpressionImpl.from(expression), new ResolutionContextImpl(data, evaluator, null, null));
+    }
+
+}
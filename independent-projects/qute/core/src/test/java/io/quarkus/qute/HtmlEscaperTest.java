@@ -2,6 +2,7 @@
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
@@ -59,6 +60,15 @@ public void testEscaping() throws IOException {
         assertEquals("Čolek", html.escape("Čolek"));
         assertEquals("&lt;strong&gt;Čolek&lt;/strong&gt;", html.escape("<strong>Čolek</strong>"));
         assertEquals("&lt;a&gt;&amp;link&quot;&#39;&lt;/a&gt;", html.escape("<a>&link\"'</a>"));
+        assertEquals("a &amp;&amp; b", html.escape("a && b"));
+        assertEquals("&gt;", html.escape(">"));
+        assertEquals("", html.escape(""));
+        String noEscape = "Nothing to escape here, not even Čolek";
+        assertSame(noEscape, html.escape(noEscape));
+        assertSame(noEscape, html.map(noEscape, null));
+        assertEquals("10", html.map(10, null));
+        assertEquals("true", html.map(true, null));
+        assertEquals("&lt;", html.map('<', null));
     }
 
 }
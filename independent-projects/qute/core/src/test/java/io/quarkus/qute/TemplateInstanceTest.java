@@ -4,10 +4,13 @@
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -112,6 +115,29 @@ public void testCapacity() {
         assertCapacity(engine, "{foo}", 10, Capacity.LIMIT, Map.of("foo", "b".repeat(70_000)));
     }
 
+    @Test
+    public void testUtf8Consumer() {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template hello = engine.parse("Ahoj {name}! {#each items}<li>{it}</li>{/each}");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AtomicInteger textChunks = new AtomicInteger();
+        hello.data("name", "Čolek").data("items", List.of(1, 2)).consume(new Utf8Consumer() {
+
+            @Override
+            public void accept(String chunk) {
+                out.writeBytes(chunk.getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public void acceptUtf8(byte[] bytes) {
+                textChunks.incrementAndGet();
+                out.writeBytes(bytes);
+            }
+        }).toCompletableFuture().join();
+        assertEquals("Ahoj Čolek! <li>1</li><li>2</li>", out.toString(StandardCharsets.UTF_8));
+        assertEquals(6, textChunks.get());
+    }
+
     private void assertCapacity(Engine engine, String val, int expectedComputed, int expectedMax, Map<String, Object> data) {
         TemplateImpl template = (TemplateImpl) engine.parse(val);
         assertEquals(expectedComputed, template.capacity.computed);
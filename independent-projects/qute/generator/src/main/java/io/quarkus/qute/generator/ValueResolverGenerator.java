@@ -1105,7 +1105,7 @@ public static boolean isSynthetic(int mod) {
         return (mod & 0x00001000) != 0;
     }
 
-    static boolean isGetterName(String name, Type returnType) {
+    public static boolean isGetterName(String name, Type returnType) {
         if (name.startsWith(GET_PREFIX)) {
             return true;
         }
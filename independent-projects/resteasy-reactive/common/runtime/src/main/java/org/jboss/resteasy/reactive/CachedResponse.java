@@ -0,0 +1,44 @@
+package org.jboss.resteasy.reactive;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * When placed on a {@code GET} resource method, or on a resource class to apply it to all its {@code GET} methods,
+ * successful responses are kept in memory fully encoded and served again without invoking the method nor
+ * serializing its result, until they expire.
+ * <p>
+ * Responses are cached per request path, query and {@code Accept} header, so this is only meant for methods whose
+ * response doesn't depend on anything else, such as the user making the request. Request filters still run for
+ * every request, response filters only run when the response is produced.
+ * <p>
+ * Responses that set a cookie, that have a {@code private} or {@code no-store} {@code Cache-Control} directive, or
+ * whose {@code Vary} header names any request header other than {@code Accept}, e.g. {@code Accept-Encoding}, are
+ * never cached.
+ * <p>
+ * Cached responses get an {@code ETag} header, unless the method sets its own one, and requests with a matching
+ * {@code If-None-Match} header get a {@code 304} response.
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CachedResponse {
+
+    /**
+     * How long, in seconds, a response is served from the cache.
+     */
+    int ttl() default 60;
+
+    /**
+     * The maximum number of responses cached for the method. Responses that don't fit are not cached until
+     * cached ones expire.
+     */
+    int maxEntries() default 1000;
+
+    /**
+     * The maximum size, in bytes, of a cached response body. Larger responses are sent as they are written and
+     * not cached.
+     */
+    int maxSize() default 1024 * 1024;
+}
@@ -0,0 +1,87 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jboss.jandex.Index;
+import org.jboss.resteasy.reactive.server.core.reflection.ReflectiveContextInjectedBeanFactory;
+import org.jboss.resteasy.reactive.server.handlers.RestInitialHandler;
+import org.jboss.resteasy.reactive.server.processor.ResteasyReactiveDeploymentManager;
+import org.jboss.resteasy.reactive.server.processor.generation.converters.GeneratedConvertersFeature;
+import org.jboss.resteasy.reactive.server.processor.util.GeneratedClass;
+import org.jboss.resteasy.reactive.server.spi.DefaultRuntimeConfiguration;
+
+/**
+ * Deploys a set of resource and provider classes the same way the RESTEasy Reactive unit tests do, but serves
+ * {@link BenchmarkExchange}s instead of Vert.x requests.
+ */
+public class BenchmarkApplication implements AutoCloseable {
+
+    private final ResteasyReactiveDeploymentManager.RunnableApplication application;
+    private final RestInitialHandler initialHandler;
+    private final ClassLoader originalClassLoader;
+
+    public BenchmarkApplication(Class<?>... classes) throws IOException, ClassNotFoundException {
+        originalClassLoader = Thread.currentThread().getContextClassLoader();
+        ResteasyReactiveDeploymentManager.ScanStep scanStep = ResteasyReactiveDeploymentManager.start(Index.of(classes));
+        scanStep.addFeatureScanner(new GeneratedConvertersFeature());
+        ResteasyReactiveDeploymentManager.ScanResult scanned = scanStep.scan();
+
+        GeneratedClassLoader classLoader = new GeneratedClassLoader(BenchmarkApplication.class.getClassLoader(),
+                scanned.getGeneratedClasses());
+        Thread.currentThread().setContextClassLoader(classLoader);
+        ResteasyReactiveDeploymentManager.PreparedApplication prepared = scanned.prepare(classLoader,
+                ReflectiveContextInjectedBeanFactory.STRING_FACTORY);
+        prepared.addScannedSerializers();
+        prepared.addBuiltinSerializers();
+        DefaultRuntimeConfiguration runtimeConfiguration = new DefaultRuntimeConfiguration(Duration.ofMinutes(1), true,
+                System.getProperty("java.io.tmpdir"), List.of(), StandardCharsets.UTF_8, Optional.empty(), 2048, 1000);
+        // blocking endpoints run on the calling thread, so only the handler chain itself is measured
+        application = prepared.createApplication(runtimeConfiguration, new BenchmarkRequestContextFactory(),
+                BenchmarkRequestContext.CALLER_THREAD);
+        initialHandler = application.getInitialHandler();
+    }
+
+    /**
+     * Processes the exchange on the calling thread. The response is complete when this method returns.
+     */
+    public BenchmarkExchange handle(BenchmarkExchange exchange) {
+        initialHandler.beginProcessing(exchange);
+        return exchange;
+    }
+
+    @Override
+    public void close() {
+        try {
+            application.close();
+        } finally {
+            Thread.currentThread().setContextClassLoader(originalClassLoader);
+        }
+    }
+
+    static final class GeneratedClassLoader extends ClassLoader {
+
+        private final Map<String, byte[]> generatedClasses = new HashMap<>();
+
+        GeneratedClassLoader(ClassLoader parent, List<GeneratedClass> generatedClasses) {
+            super(parent);
+            for (GeneratedClass i : generatedClasses) {
+                this.generatedClasses.put(i.getName(), i.getData());
+            }
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] data = generatedClasses.get(name);
+            if (data == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, data, 0, data.length);
+        }
+    }
+}
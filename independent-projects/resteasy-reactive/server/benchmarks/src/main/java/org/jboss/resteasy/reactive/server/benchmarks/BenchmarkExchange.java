@@ -0,0 +1,77 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.jboss.resteasy.reactive.common.util.CaseInsensitiveMap;
+
+/**
+ * An in-memory HTTP exchange, standing in for the Vert.x request and response so that the handler chain can be
+ * benchmarked without any network or event loop noise.
+ */
+public final class BenchmarkExchange {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    final String method;
+    final String path;
+    final String query;
+    final CaseInsensitiveMap<String> requestHeaders;
+    final byte[] requestBody;
+
+    int status = 200;
+    final CaseInsensitiveMap<String> responseHeaders = new CaseInsensitiveMap<>();
+    private byte[] responseBody = EMPTY;
+    private int responseLength;
+    boolean ended;
+
+    /**
+     * @param method the HTTP method
+     * @param path the path, without the query string
+     * @param query the raw query string, or {@code null}
+     * @param requestHeaders the request headers, shared between exchanges and never modified
+     * @param requestBody the request body, or {@code null}
+     */
+    public BenchmarkExchange(String method, String path, String query, CaseInsensitiveMap<String> requestHeaders,
+            byte[] requestBody) {
+        this.method = method;
+        this.path = path;
+        this.query = query;
+        this.requestHeaders = requestHeaders;
+        this.requestBody = requestBody == null ? EMPTY : requestBody;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getResponseHeader(String name) {
+        return responseHeaders.getFirst(name);
+    }
+
+    public boolean isEnded() {
+        return ended;
+    }
+
+    public byte[] getResponseBody() {
+        return responseLength == responseBody.length ? responseBody : Arrays.copyOf(responseBody, responseLength);
+    }
+
+    public String getResponseBodyAsString() {
+        return new String(responseBody, 0, responseLength, StandardCharsets.UTF_8);
+    }
+
+    void append(byte[] data, int offset, int length) {
+        if (responseLength == 0 && offset == 0 && length == data.length) {
+            // the common case of a single write, no need to copy
+            responseBody = data;
+            responseLength = length;
+            return;
+        }
+        if (responseLength + length > responseBody.length) {
+            responseBody = Arrays.copyOf(responseBody, Math.max(responseBody.length * 2, responseLength + length));
+        }
+        System.arraycopy(data, offset, responseBody, responseLength, length);
+        responseLength += length;
+    }
+}
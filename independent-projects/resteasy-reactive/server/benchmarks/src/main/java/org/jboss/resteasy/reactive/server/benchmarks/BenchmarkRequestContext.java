@@ -0,0 +1,427 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import org.jboss.resteasy.reactive.server.core.Deployment;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
+
+/**
+ * A request context backed by a {@link BenchmarkExchange}.
+ * <p>
+ * It behaves like the Vert.x one when the request arrives on the event loop with its body already available:
+ * everything runs on the calling thread, and the request has finished processing when {@link #run()} returns.
+ */
+public class BenchmarkRequestContext extends ResteasyReactiveRequestContext
+        implements ServerHttpRequest, ServerHttpResponse {
+
+    static final Executor CALLER_THREAD = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
+    private final BenchmarkExchange exchange;
+    private Map<String, List<String>> queryParams;
+    private Consumer<ResteasyReactiveRequestContext> preCommitTask;
+
+    public BenchmarkRequestContext(Deployment deployment, BenchmarkExchange exchange, ThreadSetupAction requestContext,
+            ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
+        super(deployment, requestContext, handlerChain, abortHandlerChain);
+        this.exchange = exchange;
+    }
+
+    @Override
+    public ServerHttpRequest serverRequest() {
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse serverResponse() {
+        return this;
+    }
+
+    @Override
+    protected Executor getEventLoop() {
+        return CALLER_THREAD;
+    }
+
+    @Override
+    public Runnable registerTimer(long millis, Runnable task) {
+        throw new UnsupportedOperationException("Timers are not supported by the benchmark request context");
+    }
+
+    @Override
+    public boolean resumeExternalProcessing() {
+        // there is nothing after RESTEasy Reactive, so behave like the Vert.x router would
+        exchange.status = 404;
+        exchange.ended = true;
+        return true;
+    }
+
+    @Override
+    protected void setQueryParamsFrom(String uri) {
+        int index = uri.indexOf('?');
+        queryParams = parseQuery(index == -1 ? null : uri.substring(index + 1));
+    }
+
+    private Map<String, List<String>> queryParams() {
+        if (queryParams == null) {
+            queryParams = parseQuery(exchange.query);
+        }
+        return queryParams;
+    }
+
+    private static Map<String, List<String>> parseQuery(String query) {
+        if (query == null || query.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, List<String>> result = new LinkedHashMap<>();
+        int start = 0;
+        while (start <= query.length()) {
+            int end = query.indexOf('&', start);
+            if (end == -1) {
+                end = query.length();
+            }
+            if (end > start) {
+                int equals = query.indexOf('=', start);
+                String name;
+                String value;
+                if (equals == -1 || equals > end) {
+                    name = URLDecoder.decode(query.substring(start, end), StandardCharsets.UTF_8);
+                    value = "";
+                } else {
+                    name = URLDecoder.decode(query.substring(start, equals), StandardCharsets.UTF_8);
+                    value = URLDecoder.decode(query.substring(equals + 1, end), StandardCharsets.UTF_8);
+                }
+                result.computeIfAbsent(name, k -> new ArrayList<>(1)).add(value);
+            }
+            start = end + 1;
+        }
+        return result;
+    }
+
+    @Override
+    public String getRequestHeader(CharSequence name) {
+        return exchange.requestHeaders.getFirst(name.toString());
+    }
+
+    @Override
+    public Iterable<Map.Entry<String, String>> getAllRequestHeaders() {
+        return flatten(exchange.requestHeaders);
+    }
+
+    @Override
+    public List<String> getAllRequestHeaders(String name) {
+        List<String> values = exchange.requestHeaders.get(name);
+        return values == null ? Collections.emptyList() : values;
+    }
+
+    @Override
+    public boolean containsRequestHeader(CharSequence accept) {
+        return exchange.requestHeaders.containsKey(accept.toString());
+    }
+
+    @Override
+    public String getRequestPath() {
+        return exchange.path;
+    }
+
+    @Override
+    public String getRequestMethod() {
+        return exchange.method;
+    }
+
+    @Override
+    public String getRequestNormalisedPath() {
+        return exchange.path;
+    }
+
+    @Override
+    public String getRequestAbsoluteUri() {
+        return exchange.query == null ? "http://localhost:8080" + exchange.path
+                : "http://localhost:8080" + exchange.path + "?" + exchange.query;
+    }
+
+    @Override
+    public String getRequestScheme() {
+        return "http";
+    }
+
+    @Override
+    public String getRequestHost() {
+        return "localhost:8080";
+    }
+
+    @Override
+    public void closeConnection() {
+        exchange.ended = true;
+    }
+
+    @Override
+    public String getQueryParam(String name) {
+        List<String> values = queryParams().get(name);
+        return values == null ? null : values.get(0);
+    }
+
+    @Override
+    public Map<String, List<String>> getQueryParamsMap() {
+        return new HashMap<>(queryParams());
+    }
+
+    @Override
+    public List<String> getAllQueryParams(String name) {
+        List<String> values = queryParams().get(name);
+        return values == null ? Collections.emptyList() : values;
+    }
+
+    @Override
+    public String query() {
+        return exchange.query;
+    }
+
+    @Override
+    public Collection<String> queryParamNames() {
+        return queryParams().keySet();
+    }
+
+    @Override
+    public boolean isRequestEnded() {
+        // the body is delivered through the read listener, like a Vert.x request that was paused on arrival
+        return false;
+    }
+
+    @Override
+    public InputStream createInputStream(ByteBuffer existingData) {
+        if (existingData == null) {
+            return createInputStream();
+        }
+        byte[] data = new byte[existingData.remaining()];
+        existingData.get(data);
+        return new ByteArrayInputStream(data);
+    }
+
+    @Override
+    public InputStream createInputStream() {
+        return new ByteArrayInputStream(exchange.requestBody);
+    }
+
+    @Override
+    public ServerHttpResponse pauseRequestInput() {
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse resumeRequestInput() {
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse setReadListener(ReadCallback callback) {
+        if (exchange.requestBody.length > 0) {
+            callback.data(ByteBuffer.wrap(exchange.requestBody));
+        }
+        callback.done();
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T unwrap(Class<T> theType) {
+        if (theType == BenchmarkExchange.class) {
+            return (T) exchange;
+        } else if (theType == ResteasyReactiveRequestContext.class) {
+            return (T) this;
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isOnIoThread() {
+        return true;
+    }
+
+    @Override
+    public ServerHttpResponse setStatusCode(int code) {
+        if (!exchange.ended) {
+            exchange.status = code;
+        }
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse end() {
+        if (!exchange.ended) {
+            commit();
+            exchange.ended = true;
+        }
+        return this;
+    }
+
+    @Override
+    public boolean headWritten() {
+        return exchange.ended;
+    }
+
+    @Override
+    public ServerHttpResponse end(byte[] data) {
+        commit();
+        exchange.append(data, 0, data.length);
+        exchange.ended = true;
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse end(String data) {
+        return end(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public ServerHttpResponse addResponseHeader(CharSequence name, CharSequence value) {
+        exchange.responseHeaders.add(name.toString(), value.toString());
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse setResponseHeader(CharSequence name, CharSequence value) {
+        exchange.responseHeaders.putSingle(name.toString(), value.toString());
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse setResponseHeader(CharSequence name, Iterable<CharSequence> values) {
+        List<String> list = new ArrayList<>();
+        for (CharSequence value : values) {
+            list.add(value.toString());
+        }
+        exchange.responseHeaders.put(name.toString(), list);
+        return this;
+    }
+
+    @Override
+    public Iterable<Map.Entry<String, String>> getAllResponseHeaders() {
+        return flatten(exchange.responseHeaders);
+    }
+
+    @Override
+    public String getResponseHeader(String name) {
+        return exchange.responseHeaders.getFirst(name);
+    }
+
+    @Override
+    public void removeResponseHeader(String name) {
+        exchange.responseHeaders.remove(name);
+    }
+
+    @Override
+    public boolean closed() {
+        return exchange.ended;
+    }
+
+    @Override
+    public ServerHttpResponse setChunked(boolean chunked) {
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse write(byte[] data, Consumer<Throwable> asyncResultHandler) {
+        commit();
+        exchange.append(data, 0, data.length);
+        asyncResultHandler.accept(null);
+        return this;
+    }
+
+    @Override
+    public CompletionStage<Void> write(byte[] data) {
+        commit();
+        exchange.append(data, 0, data.length);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public ServerHttpResponse sendFile(String path, long offset, long length) {
+        throw new UnsupportedOperationException("Sending files is not supported by the benchmark request context");
+    }
+
+    @Override
+    public OutputStream createResponseOutputStream() {
+        return new OutputStream() {
+            @Override
+            public void write(int b) {
+                write(new byte[] { (byte) b }, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                commit();
+                exchange.append(b, off, len);
+            }
+
+            @Override
+            public void close() {
+                end();
+            }
+        };
+    }
+
+    @Override
+    public void setPreCommitListener(Consumer<ResteasyReactiveRequestContext> task) {
+        preCommitTask = task;
+    }
+
+    @Override
+    public ServerHttpResponse addCloseHandler(Runnable onClose) {
+        return this;
+    }
+
+    @Override
+    public boolean isWriteQueueFull() {
+        return false;
+    }
+
+    @Override
+    public ServerHttpResponse addDrainHandler(Runnable onDrain) {
+        return this;
+    }
+
+    /**
+     * Runs the pre-commit listener before the first byte is written, which is when Vert.x would send the headers.
+     */
+    private void commit() {
+        if (preCommitTask != null) {
+            Consumer<ResteasyReactiveRequestContext> task = preCommitTask;
+            preCommitTask = null;
+            task.accept(this);
+        }
+    }
+
+    private static Iterable<Map.Entry<String, String>> flatten(Map<String, List<String>> headers) {
+        List<Map.Entry<String, String>> result = new ArrayList<>();
+        for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+            for (String value : entry.getValue()) {
+                result.add(Map.entry(entry.getKey(), value));
+            }
+        }
+        return result;
+    }
+}
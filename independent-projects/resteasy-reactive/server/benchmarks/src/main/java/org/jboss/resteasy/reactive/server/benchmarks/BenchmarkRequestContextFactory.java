@@ -0,0 +1,17 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import org.jboss.resteasy.reactive.server.core.Deployment;
+import org.jboss.resteasy.reactive.server.core.RequestContextFactory;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
+
+public class BenchmarkRequestContextFactory implements RequestContextFactory {
+    @Override
+    public ResteasyReactiveRequestContext createContext(Deployment deployment,
+            Object context, ThreadSetupAction requestContext,
+            ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
+        return new BenchmarkRequestContext(deployment, (BenchmarkExchange) context,
+                requestContext, handlerChain, abortHandlerChain);
+    }
+}
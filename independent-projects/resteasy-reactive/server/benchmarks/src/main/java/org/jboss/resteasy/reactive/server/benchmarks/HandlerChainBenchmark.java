@@ -0,0 +1,120 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.resteasy.reactive.common.util.CaseInsensitiveMap;
+import org.jboss.resteasy.reactive.server.benchmarks.app.BenchmarkRequestFilter;
+import org.jboss.resteasy.reactive.server.benchmarks.app.BenchmarkResource;
+import org.jboss.resteasy.reactive.server.benchmarks.app.BenchmarkResponseFilter;
+import org.jboss.resteasy.reactive.server.benchmarks.app.Filtered;
+import org.jboss.resteasy.reactive.server.benchmarks.app.Item;
+import org.jboss.resteasy.reactive.server.benchmarks.app.JsonProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Runs requests through the whole server handler chain: {@code RestInitialHandler}, {@code ClassRoutingHandler},
+ * {@code ParameterHandler}, {@code InvocationHandler}, {@code ResponseWriterHandler} and whatever the deployment
+ * adds in between, on an in-memory {@link BenchmarkExchange} in place of a Vert.x request.
+ * <p>
+ * Every benchmark checks the response status, so that a deployment problem can't go unnoticed as a very fast 404.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class HandlerChainBenchmark {
+
+    private static final CaseInsensitiveMap<String> NO_HEADERS = new CaseInsensitiveMap<>();
+    private static final CaseInsensitiveMap<String> PARAM_HEADERS = new CaseInsensitiveMap<>();
+    private static final CaseInsensitiveMap<String> JSON_HEADERS = new CaseInsensitiveMap<>();
+    private static final CaseInsensitiveMap<String> FILTER_HEADERS = new CaseInsensitiveMap<>();
+
+    static {
+        PARAM_HEADERS.putSingle("X-Tenant", "acme");
+        JSON_HEADERS.putSingle(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
+        JSON_HEADERS.putSingle(HttpHeaders.ACCEPT, MediaType.TEXT_PLAIN);
+        FILTER_HEADERS.putSingle(HttpHeaders.AUTHORIZATION, "Bearer benchmark");
+    }
+
+    private static final byte[] ITEM_JSON = "{\"id\":42,\"name\":\"benchmark\",\"price\":9.99,\"tags\":[\"a\",\"b\",\"c\"]}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private BenchmarkApplication application;
+
+    @Setup
+    public void setup() throws IOException, ClassNotFoundException {
+        application = new BenchmarkApplication(BenchmarkResource.class, Item.class, JsonProvider.class, Filtered.class,
+                BenchmarkRequestFilter.class, BenchmarkResponseFilter.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        application.close();
+    }
+
+    /**
+     * Routing and writing a plain text response, without any parameter.
+     */
+    @Benchmark
+    public BenchmarkExchange routing() {
+        return expect(200, application.handle(new BenchmarkExchange("GET", "/items/hello", null, NO_HEADERS, null)));
+    }
+
+    /**
+     * Path, query and header parameters, including conversion to primitives and a list.
+     */
+    @Benchmark
+    public BenchmarkExchange parameters() {
+        return expect(200, application.handle(new BenchmarkExchange("GET", "/items/books/42", "limit=20&tag=a&tag=b",
+                PARAM_HEADERS, null)));
+    }
+
+    @Benchmark
+    public BenchmarkExchange jsonRead() {
+        return expect(200, application.handle(new BenchmarkExchange("POST", "/items", null, JSON_HEADERS, ITEM_JSON)));
+    }
+
+    @Benchmark
+    public BenchmarkExchange jsonWrite() {
+        return expect(200, application.handle(new BenchmarkExchange("GET", "/items/42", null, NO_HEADERS, null)));
+    }
+
+    /**
+     * A name bound request and response filter around a plain text response.
+     */
+    @Benchmark
+    public BenchmarkExchange filters() {
+        return expect(200,
+                application.handle(new BenchmarkExchange("GET", "/items/filtered", null, FILTER_HEADERS, null)));
+    }
+
+    private static BenchmarkExchange expect(int status, BenchmarkExchange exchange) {
+        if (exchange.getStatus() != status || !exchange.isEnded()) {
+            throw new IllegalStateException("Unexpected response " + exchange.getStatus() + ": "
+                    + exchange.getResponseBodyAsString());
+        }
+        return exchange;
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { "-prof", "gc", HandlerChainBenchmark.class.getSimpleName() });
+    }
+
+}
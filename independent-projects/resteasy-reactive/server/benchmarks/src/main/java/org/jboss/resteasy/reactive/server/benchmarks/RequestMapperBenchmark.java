@@ -0,0 +1,97 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper;
+import org.jboss.resteasy.reactive.server.mapping.URITemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the trie based {@link RequestMapper} with the one trying the templates of a stem one after the other.
+ * <p>
+ * The templates mimic a large application: every resource has the usual collection, item and sub-resource
+ * methods. With {@code tenantPrefix} all resources are below a path parameter, so all templates share the same
+ * stem, otherwise every resource has its own stem.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RequestMapperBenchmark {
+
+    private static final String[] METHOD_TEMPLATES = {
+            "",
+            "/{id}",
+            "/{id}/items",
+            "/{id}/items/{itemId}",
+            "/{id}/items/{itemId}/history",
+            "/{id}/status",
+            "/{id}/owner",
+            "/search",
+            "/count",
+            "/{id}/attachments/{name:.+}",
+    };
+
+    @Param({ "60" })
+    public int resources;
+
+    @Param({ "false", "true" })
+    public boolean tenantPrefix;
+
+    @Param({ "true", "false" })
+    public boolean compiled;
+
+    private RequestMapper<String> mapper;
+    private String[] paths;
+
+    @Setup
+    public void setup() {
+        String prefix = tenantPrefix ? "/api/{tenant}/resource" : "/api/resource";
+        ArrayList<RequestMapper.RequestPath<String>> templates = new ArrayList<>();
+        for (int i = 0; i < resources; i++) {
+            for (String method : METHOD_TEMPLATES) {
+                String template = prefix + i + method;
+                templates.add(new RequestMapper.RequestPath<>(false, new URITemplate(template, false), template));
+            }
+        }
+        mapper = new RequestMapper<>(templates, compiled);
+        String pathPrefix = tenantPrefix ? "/api/acme/resource" : "/api/resource";
+        paths = new String[] {
+                pathPrefix + "7",
+                pathPrefix + "13/42",
+                pathPrefix + "21/42/items",
+                pathPrefix + "34/42/items/7",
+                pathPrefix + "42/42/items/7/history",
+                pathPrefix + "55/search",
+                pathPrefix + "3/42/attachments/docs/report.pdf",
+                pathPrefix + "999/42",
+        };
+    }
+
+    @Benchmark
+    public void map(Blackhole blackhole) {
+        for (String path : paths) {
+            blackhole.consume(mapper.map(path));
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { "-prof", "gc", RequestMapperBenchmark.class.getSimpleName() });
+    }
+
+}
@@ -0,0 +1,61 @@
+package org.jboss.resteasy.reactive.server.benchmarks.app;
+
+import java.util.List;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+
+import io.smallrye.common.annotation.NonBlocking;
+
+@Path("/items")
+@NonBlocking
+public class BenchmarkResource {
+
+    private static final Item ITEM = new Item(42, "benchmark", 9.99, List.of("a", "b", "c"));
+
+    @GET
+    @Path("/hello")
+    @Produces(MediaType.TEXT_PLAIN)
+    public String hello() {
+        return "hello";
+    }
+
+    @GET
+    @Path("/{category}/{id}")
+    @Produces(MediaType.TEXT_PLAIN)
+    public String params(@PathParam("category") String category, @PathParam("id") long id,
+            @QueryParam("limit") @DefaultValue("10") int limit, @QueryParam("tag") List<String> tags,
+            @HeaderParam("X-Tenant") String tenant) {
+        return category;
+    }
+
+    @GET
+    @Path("/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Item get(@PathParam("id") long id) {
+        return ITEM;
+    }
+
+    @POST
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.TEXT_PLAIN)
+    public String create(Item item) {
+        return item.name;
+    }
+
+    @GET
+    @Path("/filtered")
+    @Produces(MediaType.TEXT_PLAIN)
+    @Filtered
+    public String filtered() {
+        return "filtered";
+    }
+}
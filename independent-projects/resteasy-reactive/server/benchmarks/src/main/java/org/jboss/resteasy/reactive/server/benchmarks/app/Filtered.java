@@ -0,0 +1,18 @@
+package org.jboss.resteasy.reactive.server.benchmarks.app;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.ws.rs.NameBinding;
+
+/**
+ * Binds {@link BenchmarkRequestFilter} and {@link BenchmarkResponseFilter}, so that only the filter benchmark pays
+ * for them.
+ */
+@NameBinding
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Filtered {
+}
@@ -0,0 +1,21 @@
+package org.jboss.resteasy.reactive.server.benchmarks.app;
+
+import java.util.List;
+
+public class Item {
+
+    public long id;
+    public String name;
+    public double price;
+    public List<String> tags;
+
+    public Item() {
+    }
+
+    public Item(long id, String name, double price, List<String> tags) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.tags = tags;
+    }
+}
@@ -0,0 +1,58 @@
+package org.jboss.resteasy.reactive.server.processor.scanning;
+
+import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.GET;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.resteasy.reactive.CachedResponse;
+import org.jboss.resteasy.reactive.common.processor.EndpointIndexer;
+import org.jboss.resteasy.reactive.common.processor.transformation.AnnotationStore;
+import org.jboss.resteasy.reactive.server.handlers.CachedResponseHandler;
+import org.jboss.resteasy.reactive.server.model.FixedHandlerChainCustomizer;
+import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer;
+
+public class CachedResponseScanner implements MethodScanner {
+
+    private static final DotName CACHED_RESPONSE = DotName.createSimple(CachedResponse.class.getName());
+
+    @Override
+    public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
+            Map<String, Object> methodContext) {
+        AnnotationStore annotationStore = (AnnotationStore) methodContext.get(EndpointIndexer.METHOD_CONTEXT_ANNOTATION_STORE);
+        AnnotationInstance cachedResponse = annotationStore.getAnnotation(method, CACHED_RESPONSE);
+        if (cachedResponse != null) {
+            if (annotationStore.getAnnotation(method, GET) == null) {
+                throw new IllegalStateException(
+                        "'@CachedResponse' can only be used on '@GET' resource methods. Offending method is '"
+                                + method.name() + "' of class '" + method.declaringClass().name() + "'");
+            }
+        } else {
+            cachedResponse = annotationStore.getAnnotation(actualEndpointClass, CACHED_RESPONSE);
+            if (cachedResponse == null && !actualEndpointClass.equals(method.declaringClass())) {
+                cachedResponse = annotationStore.getAnnotation(method.declaringClass(), CACHED_RESPONSE);
+            }
+            if (cachedResponse == null || annotationStore.getAnnotation(method, GET) == null) {
+                return Collections.emptyList();
+            }
+        }
+
+        CachedResponseHandler handler = new CachedResponseHandler();
+        handler.setTtl(intValue(cachedResponse, "ttl", 60));
+        handler.setMaxEntries(intValue(cachedResponse, "maxEntries", 1000));
+        handler.setMaxSize(intValue(cachedResponse, "maxSize", 1024 * 1024));
+        return Collections.singletonList(new FixedHandlerChainCustomizer(handler,
+                HandlerChainCustomizer.Phase.BEFORE_METHOD_INVOKE));
+    }
+
+    private static int intValue(AnnotationInstance instance, String name, int defaultValue) {
+        AnnotationValue value = instance.value(name);
+        return value == null ? defaultValue : value.asInt();
+    }
+}
@@ -830,9 +830,7 @@ public Object getHeader(String name, boolean single) {
                 }
             }
             // empty collections must not be turned to null
-            return serverRequest().getAllRequestHeaders(name).stream()
-                    .filter(h -> !h.isEmpty())
-                    .toList();
+            return withoutEmptyValues(serverRequest().getAllRequestHeaders(name));
         } else {
             if (single) {
                 String header = httpHeaders.getMutableHeaders().getFirst(name);
@@ -847,13 +845,41 @@ public Object getHeader(String name, boolean single) {
             if (list == null) {
                 return Collections.emptyList();
             } else {
-                return list.stream()
-                        .filter(h -> !h.isEmpty())
-                        .toList();
+                return withoutEmptyValues(list);
             }
         }
     }
 
+    /**
+     * Returns an unmodifiable view of the given values without the empty ones. This runs for every multi-valued
+     * header and query parameter, so the common case of no empty value doesn't copy the list. The Vert.x and servlet
+     * implementations of {@link ServerHttpRequest#getAllRequestHeaders(String)} and
+     * {@link ServerHttpRequest#getAllQueryParams(String)} create a new list for each call, i.e. the view is not affected
+     * by later changes to the request.
+     */
+    static List<String> withoutEmptyValues(List<String> values) {
+        int size = values.size();
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+        for (int i = 0; i < size; i++) {
+            if (values.get(i).isEmpty()) {
+                List<String> result = new ArrayList<>(size - 1);
+                for (int j = 0; j < i; j++) {
+                    result.add(values.get(j));
+                }
+                for (int j = i + 1; j < size; j++) {
+                    String value = values.get(j);
+                    if (!value.isEmpty()) {
+                        result.add(value);
+                    }
+                }
+                return Collections.unmodifiableList(result);
+            }
+        }
+        return Collections.unmodifiableList(values);
+    }
+
     public Object getQueryParameter(String name, boolean single, boolean encoded) {
         return getQueryParameter(name, single, encoded, null);
     }
@@ -872,11 +898,9 @@ public Object getQueryParameter(String name, boolean single, boolean encoded, St
         }
 
         // empty collections must not be turned to null
-        List<String> strings = serverRequest().getAllQueryParams(name).stream()
-                .filter(p -> !p.isEmpty())
-                .toList();
+        List<String> strings = withoutEmptyValues(serverRequest().getAllQueryParams(name));
         if (encoded) {
-            List<String> newStrings = new ArrayList<>();
+            List<String> newStrings = new ArrayList<>(strings.size());
             for (String i : strings) {
                 newStrings.add(Encode.encodeQueryParam(i));
             }
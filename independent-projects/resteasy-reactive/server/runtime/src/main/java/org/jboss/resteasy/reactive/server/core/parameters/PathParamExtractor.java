@@ -1,8 +1,7 @@
 package org.jboss.resteasy.reactive.server.core.parameters;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.jboss.resteasy.reactive.common.util.Encode;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
@@ -25,10 +24,15 @@ public Object extractParameter(ResteasyReactiveRequestContext context) {
         if (single) {
             return encoded ? pathParam : Encode.decodePath(pathParam);
         } else {
-            return encoded
-                    ? List.of(pathParam.split("/"))
-                    : Arrays.stream(pathParam.split("/")).map(Encode::decodePath)
-                            .collect(Collectors.toList());
+            String[] segments = pathParam.split("/");
+            if (encoded) {
+                return List.of(segments);
+            }
+            List<String> result = new ArrayList<>(segments.length);
+            for (String segment : segments) {
+                result.add(Encode.decodePath(segment));
+            }
+            return result;
         }
     }
 }
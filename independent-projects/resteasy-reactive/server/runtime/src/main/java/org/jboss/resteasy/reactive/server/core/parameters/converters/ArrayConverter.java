@@ -12,6 +12,8 @@ public class ArrayConverter implements ParameterConverter {
 
     private final ParameterConverter delegate;
     private final String elementType;
+    // loaded on first use rather than on every conversion
+    private Class<?> elementTypeClass;
 
     public ArrayConverter(ParameterConverter delegate, String elementType) {
         this.delegate = delegate;
@@ -20,13 +22,23 @@ public ArrayConverter(ParameterConverter delegate, String elementType) {
 
     @Override
     public Object convert(Object parameter) {
-        Class<?> elementTypeClass = DeploymentUtils.loadClass(elementType);
+        Class<?> elementTypeClass = this.elementTypeClass;
+        if (elementTypeClass == null) {
+            this.elementTypeClass = elementTypeClass = DeploymentUtils.loadClass(elementType);
+        }
         if (parameter == null) {
             return Array.newInstance(elementTypeClass, 0);
         }
         if (parameter instanceof List) {
             List<?> parameterAsList = (List<?>) parameter;
             Object result = Array.newInstance(elementTypeClass, parameterAsList.size());
+            if (!elementTypeClass.isPrimitive()) {
+                Object[] array = (Object[]) result;
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = delegate == null ? parameterAsList.get(i) : delegate.convert(parameterAsList.get(i));
+                }
+                return result;
+            }
             for (int i = 0; i < parameterAsList.size(); i++) {
                 Array.set(result, i, delegate == null ? parameterAsList.get(i) : delegate.convert(parameterAsList.get(i)));
             }
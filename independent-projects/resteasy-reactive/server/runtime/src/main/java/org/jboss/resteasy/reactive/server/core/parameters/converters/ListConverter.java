@@ -22,10 +22,10 @@ public Object convert(Object parameter) {
             if (delegate == null) {
                 return parameter;
             }
-            List<Object> ret = new ArrayList<>();
             List<String> values = (List<String>) parameter;
-            for (String val : values) {
-                ret.add(delegate.convert(val));
+            List<Object> ret = new ArrayList<>(values.size());
+            for (int i = 0; i < values.size(); i++) {
+                ret.add(delegate.convert(values.get(i)));
             }
             return ret;
         } else if (parameter == null) {
@@ -0,0 +1,303 @@
+package org.jboss.resteasy.reactive.server.handlers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.server.core.LazyResponse;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * Serves the encoded responses of a {@code @CachedResponse} method from memory, and captures them when they are not
+ * cached yet.
+ * <p>
+ * This runs just before the method is invoked. On a hit the cached status, headers and body are written out and the
+ * rest of the handler chain is skipped. On a miss the response is written to a buffer installed as the output stream
+ * of the request, so that it can be cached once the entity has been serialized.
+ * <p>
+ * Responses that are meant for a single client, i.e. that set a cookie or have a {@code private} or {@code no-store}
+ * {@code Cache-Control} directive, are not cached. Neither are the responses that vary on a request header that is not
+ * part of the key, such as {@code Accept-Encoding} or {@code Cookie}.
+ */
+public class CachedResponseHandler implements ServerRestHandler {
+
+    private static final String GET = "GET";
+    private static final ServerRestHandler[] NO_HANDLERS = new ServerRestHandler[0];
+
+    // make mutable to allow for bytecode serialization
+    private int ttl;
+    private int maxEntries;
+    private int maxSize;
+
+    private final ConcurrentMap<String, Entry> cache = new ConcurrentHashMap<>();
+
+    public CachedResponseHandler() {
+    }
+
+    public int getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(int ttl) {
+        this.ttl = ttl;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        ServerHttpRequest request = requestContext.serverRequest();
+        if (!GET.equals(request.getRequestMethod())) {
+            // HEAD requests are also served by GET methods, but don't have a body to cache
+            return;
+        }
+        String key = key(request);
+        Entry entry = cache.get(key);
+        if (entry != null) {
+            if (entry.expiresAt - System.nanoTime() > 0) {
+                entry.send(requestContext);
+                // the response is complete, there is nothing left to run
+                requestContext.restart(NO_HANDLERS, true);
+                return;
+            }
+            cache.remove(key, entry);
+        }
+        requestContext.setOutputStream(new CachingOutputStream(requestContext, key));
+    }
+
+    private static String key(ServerHttpRequest request) {
+        String path = request.getRequestNormalisedPath();
+        String query = request.query();
+        String accept = request.getRequestHeader(HttpHeaders.ACCEPT);
+        if (query == null && accept == null) {
+            return path;
+        }
+        StringBuilder key = new StringBuilder(path);
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        if (accept != null) {
+            // a line break can't be part of the path or query, so keys can't collide
+            key.append('\n').append(accept);
+        }
+        return key.toString();
+    }
+
+    private void store(String key, Entry entry) {
+        if (cache.size() >= maxEntries) {
+            long now = System.nanoTime();
+            cache.values().removeIf(e -> e.expiresAt - now <= 0);
+            if (cache.size() >= maxEntries) {
+                return;
+            }
+        }
+        cache.put(key, entry);
+    }
+
+    private static String eTag(byte[] body) {
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return "\"" + Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(body.length) + "\"";
+    }
+
+    private static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaqueTag = opaqueTag(eTag);
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.equals("*") || opaqueTag(tag).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // If-None-Match uses the weak comparison, which ignores whether tags are weak
+    private static String opaqueTag(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private static final class Entry {
+
+        private final Map<String, List<CharSequence>> headers;
+        private final byte[] body;
+        private final String eTag;
+        private final long expiresAt;
+
+        Entry(Map<String, List<CharSequence>> headers, byte[] body, String eTag, long expiresAt) {
+            this.headers = headers;
+            this.body = body;
+            this.eTag = eTag;
+            this.expiresAt = expiresAt;
+        }
+
+        void send(ResteasyReactiveRequestContext requestContext) {
+            ServerHttpResponse response = requestContext.serverResponse();
+            for (Map.Entry<String, List<CharSequence>> header : headers.entrySet()) {
+                response.setResponseHeader(header.getKey(), header.getValue());
+            }
+            if (eTag != null && matches(requestContext.serverRequest().getRequestHeader(HttpHeaders.IF_NONE_MATCH), eTag)) {
+                response.setStatusCode(Response.Status.NOT_MODIFIED.getStatusCode()).end();
+            } else {
+                response.setStatusCode(Response.Status.OK.getStatusCode()).end(body);
+            }
+        }
+    }
+
+    private final class CachingOutputStream extends OutputStream {
+
+        private final ResteasyReactiveRequestContext requestContext;
+        private final String key;
+        // headers set before RESTEasy Reactive handled the request don't belong to the cached response
+        private final Set<String> existingHeaders;
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private OutputStream overflow;
+        private boolean closed;
+
+        CachingOutputStream(ResteasyReactiveRequestContext requestContext, String key) {
+            this.requestContext = requestContext;
+            this.key = key;
+            this.existingHeaders = headerNames(requestContext.serverResponse());
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (closed) {
+                throw new IOException("Stream is closed");
+            }
+            if (overflow != null) {
+                overflow.write(b, off, len);
+            } else if (buffer.size() + len > maxSize) {
+                // too large to be cached, send what we have and stream the rest
+                overflow = requestContext.serverResponse().createResponseOutputStream();
+                buffer.writeTo(overflow);
+                buffer = null;
+                overflow.write(b, off, len);
+            } else {
+                buffer.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (overflow != null) {
+                overflow.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (overflow != null) {
+                overflow.close();
+                return;
+            }
+            ServerHttpResponse response = requestContext.serverResponse();
+            if (response.headWritten()) {
+                // the response was sent without an entity, so without this stream
+                return;
+            }
+            byte[] body = buffer.toByteArray();
+            buffer = null;
+            LazyResponse lazyResponse = requestContext.getResponse();
+            boolean cacheable = (!lazyResponse.isCreated()
+                    || lazyResponse.get().getStatus() == Response.Status.OK.getStatusCode())
+                    && isShared(response);
+            if (cacheable && !(lazyResponse.isCreated() && lazyResponse.get().getHeaders().containsKey(HttpHeaders.ETAG))) {
+                response.setResponseHeader(HttpHeaders.ETAG, eTag(body));
+            }
+            // this also writes the headers of the response
+            response.end(body);
+            if (cacheable) {
+                Map<String, List<CharSequence>> headers = new LinkedHashMap<>();
+                for (Map.Entry<String, String> header : response.getAllResponseHeaders()) {
+                    String name = header.getKey().toLowerCase(Locale.ROOT);
+                    if (!existingHeaders.contains(name) && !name.equals("content-length")
+                            && !name.equals("transfer-encoding")) {
+                        headers.computeIfAbsent(name, k -> new ArrayList<>(1)).add(header.getValue());
+                    }
+                }
+                store(key, new Entry(headers, body, response.getResponseHeader(HttpHeaders.ETAG),
+                        System.nanoTime() + TimeUnit.SECONDS.toNanos(ttl)));
+            }
+        }
+
+        private boolean isShared(ServerHttpResponse response) {
+            for (Map.Entry<String, String> header : response.getAllResponseHeaders()) {
+                String name = header.getKey().toLowerCase(Locale.ROOT);
+                if (name.equals("set-cookie")) {
+                    return false;
+                }
+                if (name.equals("cache-control")) {
+                    for (String directive : header.getValue().split(",")) {
+                        directive = directive.trim().toLowerCase(Locale.ROOT);
+                        if (directive.equals("no-store") || directive.startsWith("private")) {
+                            return false;
+                        }
+                    }
+                } else if (name.equals("vary")) {
+                    for (String varyingHeader : header.getValue().split(",")) {
+                        // the Accept header is the only one that is part of the key
+                        if (!varyingHeader.trim().equalsIgnoreCase(HttpHeaders.ACCEPT)) {
+                            return false;
+                        }
+                    }
+                }
+            }
+            return true;
+        }
+
+        private Set<String> headerNames(ServerHttpResponse response) {
+            Set<String> names = null;
+            for (Map.Entry<String, String> header : response.getAllResponseHeaders()) {
+                if (names == null) {
+                    names = new HashSet<>();
+                }
+                names.add(header.getKey().toLowerCase(Locale.ROOT));
+            }
+            return names == null ? Collections.emptySet() : names;
+        }
+    }
+}
@@ -54,6 +54,31 @@ PathMatch<T> match(String path) {
         return defaultMatch(path);
     }
 
+    /**
+     * Same as {@link #match(String)}, but only returns the value, without allocating a {@link PathMatch}.
+     *
+     * @param path The relative path to match
+     * @return The value of the longest matching prefix, or the default handler if none matched
+     */
+    T matchValue(String path) {
+        int length = path.length();
+        final int[] lengths = this.lengths;
+        for (int i = 0; i < lengths.length; ++i) {
+            int pathLength = lengths[i];
+            if (pathLength <= length) {
+                SubstringMap.SubstringMatch<T> next = paths.get(path, pathLength);
+                if (next != null) {
+                    return next.getValue();
+                }
+            }
+        }
+        return defaultHandler;
+    }
+
+    T defaultValue() {
+        return defaultHandler;
+    }
+
     PathMatch<T> defaultMatch(String path) {
         return new PathMatch<>("/", path, defaultHandler);
     }
@@ -15,11 +15,26 @@
 
     private final PathMatcher<ArrayList<RequestPath<T>>> requestPaths;
     private final PathMatcher.Builder<ArrayList<RequestPath<T>>> pathMatcherBuilder;
+    /**
+     * The same paths as {@link #requestPaths}, but with the templates of each stem compiled into a trie, or
+     * {@code null} if the templates are matched one by one.
+     */
+    private final PathMatcher<RequestPathTrie<T>> compiledPaths;
     private final ArrayList<RequestPath<T>> templates;
     final int maxParams;
 
     public RequestMapper(ArrayList<RequestPath<T>> templates) {
+        this(templates, true);
+    }
+
+    /**
+     * @param templates the templates to map
+     * @param compiled whether the templates sharing a stem are compiled into a trie that matches them in a single
+     *        pass, or tried one after the other
+     */
+    public RequestMapper(ArrayList<RequestPath<T>> templates, boolean compiled) {
         pathMatcherBuilder = new PathMatcher.Builder<>();
+        PathMatcher.Builder<RequestPathTrie<T>> compiledPathsBuilder = compiled ? new PathMatcher.Builder<>() : null;
         this.templates = templates;
         int max = 0;
         Map<String, ArrayList<RequestPath<T>>> aggregates = new HashMap<>();
@@ -36,13 +51,24 @@ public RequestMapper(ArrayList<RequestPath<T>> templates) {
             public void accept(String stem, ArrayList<RequestPath<T>> list) {
                 Collections.sort(list);
                 pathMatcherBuilder.addPrefixPath(stem, list);
+                if (compiledPathsBuilder != null) {
+                    compiledPathsBuilder.addPrefixPath(stem, new RequestPathTrie<>(list));
+                }
             }
         });
         maxParams = max;
         requestPaths = pathMatcherBuilder.build();
+        compiledPaths = compiled ? compiledPathsBuilder.build() : null;
     }
 
     public RequestMatch<T> map(String path) {
+        if (compiledPaths != null) {
+            var result = mapFromTrie(path, compiledPaths.matchValue(path));
+            if (result != null) {
+                return result;
+            }
+            return mapFromTrie(path, compiledPaths.defaultValue());
+        }
         var result = mapFromPathMatcher(path, requestPaths.match(path));
         if (result != null) {
             return result;
@@ -58,92 +84,115 @@ private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<Ar
         if (initialMatch.getValue() == null) {
             return null;
         }
-        int pathLength = path.length();
+        int matchPos = initialMatch.getMatched().length();
         for (int index = 0; index < ((List<RequestPath<T>>) value).size(); index++) {
-            RequestPath<T> potentialMatch = ((List<RequestPath<T>>) value).get(index);
-            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
-            int paramCount = 0;
-            boolean matched = true;
-            boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatch.getMatched().length();
-            for (int i = 1; i < potentialMatch.template.components.length; ++i) {
-                URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
-                if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
-                    // exclude any path end slash when matching a subdir, but include it in the matched length
-                    boolean endSlash = matchPos < path.length() && path.charAt(path.length() - 1) == '/';
-                    Matcher matcher = segment.pattern.matcher(
-                            endSlash ? path.substring(0, path.length() - 1) : path);
-                    matched = matcher.find(matchPos);
-                    if (!matched || matcher.start() != matchPos) {
-                        break;
-                    }
-                    matchPos = matcher.end();
-                    if (endSlash) {
-                        matchPos++;
-                    }
-                    for (String group : segment.groups) {
-                        params[paramCount++] = matcher.group(group);
-                    }
-                } else if (segment.type == URITemplate.Type.LITERAL) {
-                    //make sure the literal text is the same
-                    if (matchPos + segment.literalText.length() > pathLength) {
-                        matched = false;
-                        break; //too long
-                    }
-                    for (int pos = 0; pos < segment.literalText.length(); ++pos) {
-                        if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
-                            matched = false;
-                            break;
-                        }
-                    }
-                    if (!matched) {
-                        break;
-                    }
-                } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
-                    if (matchPos == pathLength) {
-                        matched = false;
-                        break;
-                    }
-                    int start = matchPos;
-                    while (matchPos < pathLength && path.charAt(matchPos) != '/') {
-                        matchPos++;
+            RequestMatch<T> result = matchTemplate(path, matchPos, ((List<RequestPath<T>>) value).get(index));
+            if (result != null) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    private RequestMatch<T> mapFromTrie(String path, RequestPathTrie<T> trie) {
+        if (trie == null) {
+            return null;
+        }
+        int index = trie.find(path, this);
+        if (index == -1) {
+            return null;
+        }
+        // the trie only tells us which template matches, the parameters are extracted from the winning template
+        return matchTemplate(path, trie.stemLength, trie.templates.get(index));
+    }
+
+    /**
+     * Matches a single template against the path, the stem of the template having already been matched.
+     *
+     * @return the match, or {@code null} if the template does not match
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    RequestMatch<T> matchTemplate(String path, int matchPos, RequestPath<T> potentialMatch) {
+        int pathLength = path.length();
+        String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+        int paramCount = 0;
+        for (int i = 1; i < potentialMatch.template.components.length; ++i) {
+            URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
+            if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
+                // exclude any path end slash when matching a subdir, but include it in the matched length
+                boolean endSlash = matchPos < path.length() && path.charAt(path.length() - 1) == '/';
+                Matcher matcher = segment.pattern.matcher(
+                        endSlash ? path.substring(0, path.length() - 1) : path);
+                if (!matcher.find(matchPos)) {
+                    return null;
+                }
+                if (matcher.start() != matchPos) {
+                    break;
+                }
+                matchPos = matcher.end();
+                if (endSlash) {
+                    matchPos++;
+                }
+                for (String group : segment.groups) {
+                    params[paramCount++] = matcher.group(group);
+                }
+            } else if (segment.type == URITemplate.Type.LITERAL) {
+                //make sure the literal text is the same
+                if (matchPos + segment.literalText.length() > pathLength) {
+                    return null; //too long
+                }
+                for (int pos = 0; pos < segment.literalText.length(); ++pos) {
+                    if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
+                        return null;
                     }
-                    params[paramCount++] = path.substring(start, matchPos);
                 }
-            }
-            if (!matched) {
-                continue;
-            }
-            if (paramCount < params.length) {
-                params[paramCount] = null;
-            }
-            boolean fullMatch = matchPos == pathLength;
-            boolean doPrefixMatch = false;
-            if (!fullMatch) {
-                //according to the spec every template ends with (/.*)?
-                if (matchPos == 1) { //matchPos == 1 corresponds to '/' as a root level match
-                    doPrefixMatch = prefixAllowed || pathLength == 1; //if prefix is allowed, or we've matched the whole thing
-                } else if (path.charAt(matchPos) == '/') {
-                    doPrefixMatch = prefixAllowed || matchPos == pathLength - 1; //if prefix is allowed, or the remainder is only a trailing /
+            } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
+                if (matchPos == pathLength) {
+                    return null;
+                }
+                int start = matchPos;
+                while (matchPos < pathLength && path.charAt(matchPos) != '/') {
+                    matchPos++;
                 }
+                params[paramCount++] = path.substring(start, matchPos);
             }
-            if (fullMatch || doPrefixMatch) {
-                String remaining;
-                if (fullMatch) {
-                    remaining = "";
+        }
+        if (paramCount < params.length) {
+            params[paramCount] = null;
+        }
+        if (isEndOfMatch(path, matchPos, potentialMatch.prefixTemplate)) {
+            String remaining;
+            if (matchPos == pathLength) {
+                remaining = "";
+            } else {
+                if (matchPos == 1) {
+                    remaining = path;
                 } else {
-                    if (matchPos == 1) {
-                        remaining = path;
-                    } else {
-                        remaining = path.substring(matchPos);
-                    }
+                    remaining = path.substring(matchPos);
                 }
-                return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
             }
+            return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
         }
         return null;
     }
 
+    /**
+     * Checks whether a template whose components all matched up to {@code matchPos} matches the whole path.
+     */
+    static boolean isEndOfMatch(String path, int matchPos, boolean prefixAllowed) {
+        int pathLength = path.length();
+        if (matchPos == pathLength) {
+            return true;
+        }
+        //according to the spec every template ends with (/.*)?
+        if (matchPos == 1) { //matchPos == 1 corresponds to '/' as a root level match
+            return prefixAllowed || pathLength == 1; //if prefix is allowed, or we've matched the whole thing
+        } else if (path.charAt(matchPos) == '/') {
+            return prefixAllowed || matchPos == pathLength - 1; //if prefix is allowed, or the remainder is only a trailing /
+        }
+        return false;
+    }
+
     public static class RequestPath<T> implements Dumpable, Comparable<RequestPath<T>> {
         public final boolean prefixTemplate;
         public final URITemplate template;
@@ -0,0 +1,232 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A radix trie over the templates that share a stem.
+ * <p>
+ * Each template is inserted as the sequence of its literal characters and path parameters, so literal text is
+ * compared once for all templates sharing it, and a path parameter is consumed once for all templates that have a
+ * parameter at the same position. Matching walks the trie without allocating and returns the index of the first
+ * template (in the order of the sorted list) that matches, which gives the same result as trying every template in
+ * turn.
+ * <p>
+ * Templates ending with a custom regex can't be represented in the trie, they are attached to the node where the
+ * regex starts and are tried in order.
+ */
+@SuppressWarnings("ForLoopReplaceableByForEach")
+final class RequestPathTrie<T> {
+
+    private static final int[] EMPTY_INT_ARRAY = new int[0];
+
+    final List<RequestMapper.RequestPath<T>> templates;
+    final int stemLength;
+    private final Node root;
+
+    RequestPathTrie(List<RequestMapper.RequestPath<T>> templates) {
+        this.templates = templates;
+        this.stemLength = templates.get(0).template.stem.length();
+        NodeBuilder root = new NodeBuilder();
+        for (int rank = 0; rank < templates.size(); ++rank) {
+            URITemplate.TemplateComponent[] components = templates.get(rank).template.components;
+            NodeBuilder current = root;
+            boolean regex = false;
+            for (int i = 1; i < components.length; ++i) {
+                URITemplate.TemplateComponent component = components[i];
+                if (component.type == URITemplate.Type.LITERAL) {
+                    current = current.literal(component.literalText);
+                } else if (component.type == URITemplate.Type.DEFAULT_REGEX) {
+                    if (current.param == null) {
+                        current.param = new NodeBuilder();
+                    }
+                    current = current.param;
+                } else {
+                    // a custom regex is always the last component
+                    current.regex.add(rank);
+                    regex = true;
+                    break;
+                }
+            }
+            if (!regex) {
+                current.terminals.add(rank);
+            }
+        }
+        this.root = root.build();
+    }
+
+    /**
+     * Finds the first template that matches the given path.
+     *
+     * @param path the request path, the stem of which has already been matched
+     * @param mapper the mapper used to evaluate templates that end with a custom regex
+     * @return the index of the matching template, or -1 if none matches
+     */
+    int find(String path, RequestMapper<T> mapper) {
+        int best = find(root, path, stemLength, Integer.MAX_VALUE, mapper);
+        return best == Integer.MAX_VALUE ? -1 : best;
+    }
+
+    private int find(Node node, String path, int matchPos, int best, RequestMapper<T> mapper) {
+        if (node.minRank >= best) {
+            return best;
+        }
+        int pathLength = path.length();
+        int[] terminals = node.terminals;
+        for (int i = 0; i < terminals.length; ++i) {
+            int rank = terminals[i];
+            if (rank >= best) {
+                break;
+            }
+            if (RequestMapper.isEndOfMatch(path, matchPos, templates.get(rank).prefixTemplate)) {
+                best = rank;
+                break;
+            }
+        }
+        int[] regex = node.regex;
+        for (int i = 0; i < regex.length; ++i) {
+            int rank = regex[i];
+            if (rank >= best) {
+                break;
+            }
+            if (mapper.matchTemplate(path, stemLength, templates.get(rank)) != null) {
+                best = rank;
+                break;
+            }
+        }
+        if (matchPos == pathLength) {
+            // both literals and parameters need at least one more character
+            return best;
+        }
+        char c = path.charAt(matchPos);
+        char[] firstChars = node.firstChars;
+        for (int i = 0; i < firstChars.length; ++i) {
+            if (firstChars[i] == c) {
+                String label = node.labels[i];
+                if (path.regionMatches(matchPos, label, 0, label.length())) {
+                    best = find(node.children[i], path, matchPos + label.length(), best, mapper);
+                }
+                break;
+            }
+        }
+        if (node.param != null) {
+            int end = path.indexOf('/', matchPos);
+            best = find(node.param, path, end == -1 ? pathLength : end, best, mapper);
+        }
+        return best;
+    }
+
+    private static final class Node {
+        final char[] firstChars;
+        final String[] labels;
+        final Node[] children;
+        final Node param;
+        final int[] terminals;
+        final int[] regex;
+        /**
+         * The lowest rank of all the templates reachable from this node, used to prune branches that can't
+         * improve on a match that has already been found.
+         */
+        final int minRank;
+
+        Node(char[] firstChars, String[] labels, Node[] children, Node param, int[] terminals, int[] regex,
+                int minRank) {
+            this.firstChars = firstChars;
+            this.labels = labels;
+            this.children = children;
+            this.param = param;
+            this.terminals = terminals;
+            this.regex = regex;
+            this.minRank = minRank;
+        }
+    }
+
+    private static final class NodeBuilder {
+        final List<String> labels = new ArrayList<>();
+        final List<NodeBuilder> children = new ArrayList<>();
+        NodeBuilder param;
+        final List<Integer> terminals = new ArrayList<>();
+        final List<Integer> regex = new ArrayList<>();
+
+        /**
+         * Returns the node reached after the given literal, splitting existing edges where needed so that the
+         * labels of all edges leaving a node start with a different character.
+         */
+        NodeBuilder literal(String text) {
+            NodeBuilder current = this;
+            while (!text.isEmpty()) {
+                int edge = current.edgeStartingWith(text.charAt(0));
+                if (edge == -1) {
+                    NodeBuilder child = new NodeBuilder();
+                    current.labels.add(text);
+                    current.children.add(child);
+                    return child;
+                }
+                String label = current.labels.get(edge);
+                int common = 1;
+                while (common < label.length() && common < text.length()
+                        && label.charAt(common) == text.charAt(common)) {
+                    common++;
+                }
+                if (common < label.length()) {
+                    NodeBuilder split = new NodeBuilder();
+                    split.labels.add(label.substring(common));
+                    split.children.add(current.children.get(edge));
+                    current.labels.set(edge, label.substring(0, common));
+                    current.children.set(edge, split);
+                }
+                current = current.children.get(edge);
+                text = text.substring(common);
+            }
+            return current;
+        }
+
+        private int edgeStartingWith(char c) {
+            for (int i = 0; i < labels.size(); ++i) {
+                if (labels.get(i).charAt(0) == c) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        Node build() {
+            int size = labels.size();
+            char[] firstChars = new char[size];
+            String[] labelArray = new String[size];
+            Node[] childArray = new Node[size];
+            int minRank = Integer.MAX_VALUE;
+            for (int i = 0; i < size; ++i) {
+                labelArray[i] = labels.get(i);
+                firstChars[i] = labelArray[i].charAt(0);
+                childArray[i] = children.get(i).build();
+                minRank = Math.min(minRank, childArray[i].minRank);
+            }
+            Node paramNode = param == null ? null : param.build();
+            if (paramNode != null) {
+                minRank = Math.min(minRank, paramNode.minRank);
+            }
+            int[] terminalArray = toArray(terminals);
+            int[] regexArray = toArray(regex);
+            if (terminalArray.length > 0) {
+                minRank = Math.min(minRank, terminalArray[0]);
+            }
+            if (regexArray.length > 0) {
+                minRank = Math.min(minRank, regexArray[0]);
+            }
+            return new Node(firstChars, labelArray, childArray, paramNode, terminalArray, regexArray, minRank);
+        }
+
+        private static int[] toArray(List<Integer> list) {
+            if (list.isEmpty()) {
+                return EMPTY_INT_ARRAY;
+            }
+            // ranks are added in increasing order
+            int[] result = new int[list.size()];
+            for (int i = 0; i < result.length; ++i) {
+                result[i] = list.get(i);
+            }
+            return result;
+        }
+    }
+}
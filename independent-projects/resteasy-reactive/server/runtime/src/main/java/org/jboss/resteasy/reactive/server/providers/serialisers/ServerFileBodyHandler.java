@@ -4,18 +4,25 @@
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.reactive.common.providers.serialisers.FileBodyHandler;
+import org.jboss.resteasy.reactive.common.util.DateUtil;
+import org.jboss.resteasy.reactive.server.core.LazyResponse;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.core.ServerSerialisers;
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
 import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
 import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
 
@@ -23,6 +30,13 @@
 @Consumes("*/*")
 public class ServerFileBodyHandler extends FileBodyHandler implements ServerMessageBodyWriter<File> {
 
+    private static final Logger log = Logger.getLogger(ServerFileBodyHandler.class);
+
+    private static final String RANGE = "Range";
+    private static final String IF_RANGE = "If-Range";
+    private static final String ACCEPT_RANGES = "Accept-Ranges";
+    private static final String CONTENT_RANGE = "Content-Range";
+
     @Override
     public long getSize(File o, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
         return o.length();
@@ -40,27 +54,100 @@ public void writeResponse(File o, Type genericType, ServerRequestContext context
 
     static void sendFile(File file, ServerRequestContext context) {
         ResteasyReactiveRequestContext ctx = ((ResteasyReactiveRequestContext) context);
-        Object rangeObj = ctx.getHeader("Range", true);
-        ByteRange byteRange = rangeObj == null ? null : ByteRange.parse(rangeObj.toString());
+        ServerHttpResponse response = context.serverResponse();
+        String path = file.getAbsolutePath();
         long fileLength = file.length();
-        if ((byteRange != null) && (byteRange.ranges.size() == 1)) {
+        // write the status and headers of the resource method now rather than when the file starts being sent,
+        // otherwise they would override the status and headers we set for conditional and range requests
+        ServerSerialisers.encodeResponseHeaders(ctx);
+        response.setPreCommitListener(null);
+        LazyResponse lazyResponse = ctx.getResponse();
+        if (lazyResponse.isCreated() && lazyResponse.get().getStatus() != Response.Status.OK.getStatusCode()) {
+            response.sendFile(path, 0, fileLength);
+            return;
+        }
+
+        long lastModified = file.lastModified();
+        String eTag = response.getResponseHeader(HttpHeaders.ETAG);
+        if (eTag == null) {
+            eTag = "\"" + Long.toHexString(fileLength) + "-" + Long.toHexString(lastModified) + "\"";
+            response.setResponseHeader(HttpHeaders.ETAG, eTag);
+        }
+        if (lastModified > 0 && response.getResponseHeader(HttpHeaders.LAST_MODIFIED) == null) {
+            response.setResponseHeader(HttpHeaders.LAST_MODIFIED, DateUtil.formatDate(new Date(lastModified)));
+        }
+        response.setResponseHeader(ACCEPT_RANGES, "bytes");
+
+        if (hasPreconditions(ctx)) {
+            Response.ResponseBuilder failed = evaluatePreconditions(ctx, eTag, lastModified);
+            if (failed != null) {
+                response.setStatusCode(failed.build().getStatus()).end();
+                return;
+            }
+        }
+
+        Object rangeObj = ctx.getHeader(RANGE, true);
+        ByteRange byteRange = rangeObj == null ? null : ByteRange.parse(rangeObj.toString());
+        if ((byteRange != null) && (byteRange.ranges.size() == 1)
+                && ifRangeMatches(ctx.getHeader(IF_RANGE, true), eTag, lastModified)) {
             ByteRange.Range range = byteRange.ranges.get(0);
 
+            // a suffix range longer than the file selects the whole file
             ByteRange.Range fileRange = (range.getStart() == -1)
-                    ? new ByteRange.Range(fileLength - range.getEnd(), fileLength - 1)
+                    ? new ByteRange.Range(Math.max(0, fileLength - range.getEnd()), fileLength - 1)
                     : new ByteRange.Range(range.getStart(), Math.min(fileLength - 1, range.getEnd()));
 
             if ((fileRange.getStart() >= 0) && (fileRange.getStart() <= fileRange.getEnd())) {
                 String contentRange = "bytes " + fileRange.getStart() + "-" + fileRange.getEnd() + "/" + fileLength;
                 long length = fileRange.getEnd() - fileRange.getStart() + 1;
-                context.serverResponse()
-                        .setStatusCode(Response.Status.PARTIAL_CONTENT.getStatusCode())
-                        .setResponseHeader("Content-Range", contentRange)
-                        .sendFile(file.getAbsolutePath(), fileRange.getStart(), length);
+                response.setStatusCode(Response.Status.PARTIAL_CONTENT.getStatusCode())
+                        .setResponseHeader(CONTENT_RANGE, contentRange)
+                        .sendFile(path, fileRange.getStart(), length);
                 return;
             }
         }
-        context.serverResponse().sendFile(file.getAbsolutePath(), 0, fileLength);
+        response.sendFile(path, 0, fileLength);
+    }
+
+    private static boolean hasPreconditions(ResteasyReactiveRequestContext ctx) {
+        return ctx.getHeader(HttpHeaders.IF_NONE_MATCH, true) != null
+                || ctx.getHeader(HttpHeaders.IF_MODIFIED_SINCE, true) != null
+                || ctx.getHeader(HttpHeaders.IF_MATCH, true) != null
+                || ctx.getHeader(HttpHeaders.IF_UNMODIFIED_SINCE, true) != null;
+    }
+
+    private static Response.ResponseBuilder evaluatePreconditions(ResteasyReactiveRequestContext ctx, String eTag,
+            long lastModified) {
+        try {
+            EntityTag entityTag = EntityTag.valueOf(eTag);
+            if (lastModified > 0) {
+                return ctx.getRequest().evaluatePreconditions(new Date(lastModified), entityTag);
+            }
+            return ctx.getRequest().evaluatePreconditions(entityTag);
+        } catch (IllegalArgumentException | DateUtil.DateParseException e) {
+            // invalid validators, either ours or the client's, must not prevent the file from being sent
+            log.debugf(e, "Ignoring preconditions for %s", ctx.getPath());
+            return null;
+        }
+    }
+
+    /**
+     * An {@code If-Range} header only lets the range through if the file is still the one the client has part of,
+     * which requires a strong entity tag or the exact modification date.
+     */
+    private static boolean ifRangeMatches(Object ifRange, String eTag, long lastModified) {
+        if (ifRange == null) {
+            return true;
+        }
+        String value = ifRange.toString();
+        if (value.startsWith("\"") || value.startsWith("W/")) {
+            return !eTag.startsWith("W/") && value.equals(eTag);
+        }
+        try {
+            return DateUtil.parseDate(value).getTime() == (lastModified / 1000) * 1000;
+        } catch (DateUtil.DateParseException e) {
+            return false;
+        }
     }
 
     /**
@@ -0,0 +1,35 @@
+package org.jboss.resteasy.reactive.server.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ResteasyReactiveRequestContextTest {
+
+    @Test
+    public void testWithoutEmptyValuesReturnsView() {
+        List<String> values = new ArrayList<>(List.of("a", "b"));
+        List<String> result = ResteasyReactiveRequestContext.withoutEmptyValues(values);
+        assertEquals(List.of("a", "b"), result);
+        assertThrows(UnsupportedOperationException.class, () -> result.add("d"));
+        // The values are not copied
+        values.set(0, "z");
+        assertEquals(List.of("z", "b"), result);
+    }
+
+    @Test
+    public void testWithoutEmptyValuesDropsEmptyValues() {
+        List<String> values = new ArrayList<>(List.of("", "a", "", "b"));
+        List<String> result = ResteasyReactiveRequestContext.withoutEmptyValues(values);
+        assertEquals(List.of("a", "b"), result);
+        values.add("c");
+        assertEquals(List.of("a", "b"), result);
+        assertThrows(UnsupportedOperationException.class, () -> result.add("d"));
+        assertEquals(List.of(), ResteasyReactiveRequestContext.withoutEmptyValues(new ArrayList<>(List.of(""))));
+    }
+
+}
@@ -0,0 +1,249 @@
+package org.jboss.resteasy.reactive.server.vertx.test.cache;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.NewCookie;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.CachedResponse;
+import org.jboss.resteasy.reactive.server.processor.ResteasyReactiveDeploymentManager;
+import org.jboss.resteasy.reactive.server.processor.scanning.CachedResponseScanner;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.restassured.RestAssured;
+
+public class CachedResponseTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .addScanCustomizer(new Consumer<ResteasyReactiveDeploymentManager.ScanStep>() {
+                @Override
+                public void accept(ResteasyReactiveDeploymentManager.ScanStep scanStep) {
+                    scanStep.addMethodScanner(new CachedResponseScanner());
+                }
+            })
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(CachedResource.class);
+                }
+            });
+
+    @BeforeEach
+    public void reset() {
+        CachedResource.INVOCATIONS.set(0);
+    }
+
+    @Test
+    public void testCachedUntilExpired() {
+        RestAssured.get("/cached/short/1")
+                .then()
+                .statusCode(200)
+                .body(equalTo("1-1"));
+        RestAssured.get("/cached/short/1")
+                .then()
+                .statusCode(200)
+                .body(equalTo("1-1"));
+        // Served from the cache until the entry expires
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> RestAssured.get("/cached/short/1")
+                .then()
+                .statusCode(200)
+                .body(equalTo("1-2")));
+    }
+
+    @Test
+    public void testKeyedByPathAndQuery() {
+        RestAssured.get("/cached/query?value=a")
+                .then()
+                .statusCode(200)
+                .body(equalTo("a-1"));
+        RestAssured.get("/cached/query?value=b")
+                .then()
+                .statusCode(200)
+                .body(equalTo("b-2"));
+        RestAssured.get("/cached/query?value=a")
+                .then()
+                .statusCode(200)
+                .body(equalTo("a-1"));
+    }
+
+    @Test
+    public void testNotModified() {
+        String eTag = RestAssured.get("/cached/query?value=etag")
+                .then()
+                .statusCode(200)
+                .header(HttpHeaders.ETAG, notNullValue())
+                .extract().header(HttpHeaders.ETAG);
+        RestAssured.given().header(HttpHeaders.IF_NONE_MATCH, eTag).get("/cached/query?value=etag")
+                .then()
+                .statusCode(304)
+                .header(HttpHeaders.ETAG, eTag);
+        RestAssured.given().header(HttpHeaders.IF_NONE_MATCH, "\"other\"").get("/cached/query?value=etag")
+                .then()
+                .statusCode(200)
+                .body(equalTo("etag-1"));
+    }
+
+    @Test
+    public void testErrorsNotCached() {
+        RestAssured.get("/cached/query?value=missing")
+                .then()
+                .statusCode(404);
+        RestAssured.get("/cached/query?value=missing")
+                .then()
+                .statusCode(404);
+        RestAssured.get("/cached/invocations")
+                .then()
+                .statusCode(200)
+                .body(equalTo("2"));
+    }
+
+    @Test
+    public void testPerUserResponsesNotCached() {
+        RestAssured.get("/cached/user?name=alice")
+                .then()
+                .statusCode(200)
+                .cookie("user", "alice")
+                .body(equalTo("1"));
+        RestAssured.get("/cached/user?name=bob")
+                .then()
+                .statusCode(200)
+                .cookie("user", "bob")
+                .body(equalTo("2"));
+        RestAssured.get("/cached/user?name=alice")
+                .then()
+                .statusCode(200)
+                .cookie("user", "alice")
+                .body(equalTo("3"));
+        RestAssured.get("/cached/cache-control?value=private")
+                .then()
+                .statusCode(200)
+                .body(equalTo("4"));
+        RestAssured.get("/cached/cache-control?value=private")
+                .then()
+                .statusCode(200)
+                .body(equalTo("5"));
+        RestAssured.get("/cached/cache-control?value=no-store")
+                .then()
+                .statusCode(200)
+                .body(equalTo("6"));
+        RestAssured.get("/cached/cache-control?value=no-store")
+                .then()
+                .statusCode(200)
+                .body(equalTo("7"));
+    }
+
+    @Test
+    public void testVaryingResponsesNotCached() {
+        RestAssured.given().header(HttpHeaders.ACCEPT_ENCODING, "gzip").get("/cached/vary?value=Accept-Encoding")
+                .then()
+                .statusCode(200)
+                .body(equalTo("1"));
+        RestAssured.given().header(HttpHeaders.ACCEPT_ENCODING, "identity").get("/cached/vary?value=Accept-Encoding")
+                .then()
+                .statusCode(200)
+                .body(equalTo("2"));
+        // the Accept header is part of the key
+        RestAssured.get("/cached/vary?value=Accept")
+                .then()
+                .statusCode(200)
+                .body(equalTo("3"));
+        RestAssured.get("/cached/vary?value=Accept")
+                .then()
+                .statusCode(200)
+                .body(equalTo("3"));
+    }
+
+    @Test
+    public void testUncachedMethod() {
+        RestAssured.get("/cached/uncached")
+                .then()
+                .statusCode(200)
+                .header(HttpHeaders.ETAG, nullValue())
+                .body(equalTo("1"));
+        RestAssured.get("/cached/uncached")
+                .then()
+                .statusCode(200)
+                .body(equalTo("2"));
+    }
+
+    @Path("cached")
+    public static class CachedResource {
+
+        static final AtomicInteger INVOCATIONS = new AtomicInteger();
+
+        @Path("short/{id}")
+        @GET
+        @CachedResponse(ttl = 1)
+        public String shortLived(@PathParam("id") String id) {
+            return id + "-" + INVOCATIONS.incrementAndGet();
+        }
+
+        @Path("query")
+        @GET
+        @CachedResponse
+        public String query(@QueryParam("value") String value) {
+            int invocation = INVOCATIONS.incrementAndGet();
+            if (value.equals("missing")) {
+                throw new NotFoundException();
+            }
+            return value + "-" + invocation;
+        }
+
+        @Path("user")
+        @GET
+        @CachedResponse
+        public Response user(@QueryParam("name") String name) {
+            return Response.ok(String.valueOf(INVOCATIONS.incrementAndGet()))
+                    .cookie(new NewCookie.Builder("user").value(name).build()).build();
+        }
+
+        @Path("cache-control")
+        @GET
+        @CachedResponse
+        public Response cacheControl(@QueryParam("value") String value) {
+            return Response.ok(String.valueOf(INVOCATIONS.incrementAndGet()))
+                    .header(HttpHeaders.CACHE_CONTROL, value).build();
+        }
+
+        @Path("vary")
+        @GET
+        @CachedResponse
+        public Response vary(@QueryParam("value") String value) {
+            return Response.ok(String.valueOf(INVOCATIONS.incrementAndGet()))
+                    .header(HttpHeaders.VARY, value).build();
+        }
+
+        @Path("invocations")
+        @GET
+        public String invocations() {
+            return String.valueOf(INVOCATIONS.get());
+        }
+
+        @Path("uncached")
+        @GET
+        public String uncached() {
+            return String.valueOf(INVOCATIONS.incrementAndGet());
+        }
+    }
+}
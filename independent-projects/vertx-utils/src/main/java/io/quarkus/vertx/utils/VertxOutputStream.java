@@ -247,6 +247,23 @@ public void close() throws IOException {
         }
     }
 
+    /**
+     * Releases the buffered bytes without writing them and closes the stream, e.g. once the response was reset.
+     */
+    public void discard() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        ByteBuf buffered = appendBuffer.clear();
+        if (buffered != null) {
+            buffered.release();
+        }
+        synchronized (request.connection()) {
+            overflow = null;
+        }
+    }
+
     private static class DrainHandler implements Handler<Void> {
         private final VertxOutputStream out;
 